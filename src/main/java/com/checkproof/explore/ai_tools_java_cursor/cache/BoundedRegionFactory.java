@@ -0,0 +1,79 @@
+package com.checkproof.explore.ai_tools_java_cursor.cache;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Hibernate second-level cache provider keeping every region in this process, bounded in size
+ * and in age by {@link BoundedStorageAccess}. Handed to Hibernate as an instance, so that the
+ * regions it creates stay reachable for statistics.
+ */
+public class BoundedRegionFactory extends RegionFactoryTemplate {
+
+    private final int maxEntriesPerRegion;
+    private final Duration ttl;
+    private final LongSupplier nanoTime;
+    private final Map<String, BoundedStorageAccess> regions = new ConcurrentHashMap<>();
+
+    public BoundedRegionFactory(int maxEntriesPerRegion, Duration ttl) {
+        this(maxEntriesPerRegion, ttl, System::nanoTime);
+    }
+
+    BoundedRegionFactory(int maxEntriesPerRegion, Duration ttl, LongSupplier nanoTime) {
+        if (maxEntriesPerRegion < 1) {
+            throw new IllegalArgumentException("A cache region must hold at least one entry");
+        }
+        this.maxEntriesPerRegion = maxEntriesPerRegion;
+        this.ttl = ttl;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * The entity and collection regions created so far
+     */
+    public List<BoundedStorageAccess> getRegions() {
+        return List.copyOf(regions.values());
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return regions.computeIfAbsent(regionConfig.getRegionName(), this::storage);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return storage(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        // A missing timestamp reads as "never written", so this region is never evicted
+        return new BoundedStorageAccess(regionName, Integer.MAX_VALUE, Duration.ofNanos(Long.MAX_VALUE), nanoTime);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        regions.values().forEach(BoundedStorageAccess::release);
+        regions.clear();
+    }
+
+    private BoundedStorageAccess storage(String regionName) {
+        return new BoundedStorageAccess(regionName, maxEntriesPerRegion, ttl, nanoTime);
+    }
+}
@@ -0,0 +1,98 @@
+package com.checkproof.explore.ai_tools_java_cursor.cache;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Storage of one second-level cache region: a least-recently-used map of at most maxEntries
+ * entries, each of which expires a fixed time after it was stored. Entries dropped for either
+ * reason are counted as evictions.
+ */
+public class BoundedStorageAccess implements DomainDataStorageAccess {
+
+    private final String regionName;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<Object, Entry> entries;
+    private long evictions;
+
+    BoundedStorageAccess(String regionName, int maxEntries, Duration ttl, LongSupplier nanoTime) {
+        this.regionName = regionName;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        Entry entry = live(key);
+        return entry == null ? null : entry.value();
+    }
+
+    @Override
+    public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        entries.put(key, new Entry(value, nanoTime.getAsLong()));
+    }
+
+    @Override
+    public synchronized boolean contains(Object key) {
+        return live(key) != null;
+    }
+
+    @Override
+    public synchronized void evictData() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized void evictData(Object key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void release() {
+        evictData();
+    }
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Entries dropped because the region was full or they had expired
+     */
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    private Entry live(Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null && nanoTime.getAsLong() - entry.storedAt() >= ttlNanos) {
+            entries.remove(key);
+            evictions++;
+            return null;
+        }
+        return entry;
+    }
+
+    private record Entry(Object value, long storedAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.checkproof.explore.ai_tools_java_cursor.config;
+
+import com.checkproof.explore.ai_tools_java_cursor.cache.BoundedRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfiguration {
+
+    @Bean
+    BoundedRegionFactory boundedRegionFactory(@Value("${calendar.cache.max-entries-per-region:10000}") int maxEntriesPerRegion,
+                                              @Value("${calendar.cache.ttl:PT10M}") Duration ttl) {
+        return new BoundedRegionFactory(maxEntriesPerRegion, ttl);
+    }
+
+    // Passed as an instance rather than a class name, so that its regions can be inspected
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(BoundedRegionFactory boundedRegionFactory) {
+        return properties -> properties.put(AvailableSettings.CACHE_REGION_FACTORY, boundedRegionFactory);
+    }
+}
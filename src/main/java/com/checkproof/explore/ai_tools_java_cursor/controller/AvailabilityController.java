@@ -0,0 +1,66 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.FreeSlotDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.ParticipantNotFoundException;
+import com.checkproof.explore.ai_tools_java_cursor.service.AvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/availability")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Availability", description = "APIs for finding free time across participants")
+public class AvailabilityController {
+
+    private final AvailabilityService availabilityService;
+
+    @GetMapping("/free-slots")
+    @Operation(summary = "Find shared free slots",
+               description = "Find the first free slots of a given length in which all participants are available")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Free slots retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid search parameters"),
+        @ApiResponse(responseCode = "404", description = "Participant not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<FreeSlotDto>> findFreeSlots(
+            @Parameter(description = "Participant IDs that must all be free", required = true)
+            @RequestParam Set<Long> participantIds,
+            @Parameter(description = "Slot length in minutes", required = true)
+            @RequestParam int durationMinutes,
+            @Parameter(description = "Search start (ISO format), defaults to now")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Search end (ISO format), defaults to 14 days after the start")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of slots to return")
+            @RequestParam(defaultValue = "5") int limit,
+            @Parameter(description = "Only return slots within business hours")
+            @RequestParam(defaultValue = "false") boolean businessHoursOnly) {
+
+        log.info("Finding free slots for participants: {}", participantIds);
+        try {
+            List<FreeSlotDto> freeSlots = availabilityService.findFreeSlots(
+                participantIds, from, to, durationMinutes, limit, businessHoursOnly);
+            return ResponseEntity.ok(freeSlots);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected free slot search: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (ParticipantNotFoundException e) {
+            log.warn("Free slot search for unknown participants: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.CacheRegionStatisticsDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Cache", description = "APIs for inspecting the second-level entity cache")
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    @GetMapping("/statistics")
+    @Operation(summary = "Get cache statistics",
+               description = "Hits, misses, puts, evictions and size of every cached entity and collection region")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<CacheRegionStatisticsDto>> getStatistics() {
+        return ResponseEntity.ok(cacheService.getRegionStatistics());
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear the cache",
+               description = "Drop every cached entity and collection, for example after changing the database directly")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Cache cleared successfully"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Void> evictAll() {
+        log.info("Clearing the second-level cache");
+        cacheService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -4,8 +4,12 @@ import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.ConflictCheckResponse;
+import com.checkproof.explore.ai_tools_java_cursor.dto.BatchConflictCheckResponse;
+import com.checkproof.explore.ai_tools_java_cursor.dto.CandidateConflictResult;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TimeSlotAvailabilityResponse;
 import com.checkproof.explore.ai_tools_java_cursor.dto.EventStatisticsResponse;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidEventException;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
@@ -187,6 +191,9 @@ public class EventController {
             @Valid PaginationRequestDto paginationRequest) {
         
         log.info("Fetching all events with pagination: {}", paginationRequest);
+        if (!paginationRequest.isCursorValid()) {
+            return ResponseEntity.badRequest().build();
+        }
         PaginatedResponseDto<EventDto> response = eventService.getAllEvents(paginationRequest);
         return ResponseEntity.ok(response);
     }
@@ -242,6 +249,9 @@ public class EventController {
             @Valid PaginationRequestDto paginationRequest) {
         
         log.info("Fetching events in date range: {} to {}", start, end);
+        if (!paginationRequest.isCursorValid()) {
+            return ResponseEntity.badRequest().build();
+        }
         PaginatedResponseDto<EventDto> response = eventService.getEventsByDateRange(start, end, paginationRequest);
         return ResponseEntity.ok(response);
     }
@@ -261,6 +271,9 @@ public class EventController {
             @Valid PaginationRequestDto paginationRequest) {
         
         log.info("Fetching events by category: {}", category);
+        if (!paginationRequest.isCursorValid()) {
+            return ResponseEntity.badRequest().build();
+        }
         PaginatedResponseDto<EventDto> response = eventService.getEventsByCategory(category, paginationRequest);
         return ResponseEntity.ok(response);
     }
@@ -359,6 +372,32 @@ public class EventController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/check-conflicts/batch")
+    @Operation(summary = "Check conflicts for multiple events", 
+               description = "Check a batch of candidate events against existing events and against each other")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Batch conflict check completed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid event data"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<BatchConflictCheckResponse> checkConflictsBatch(
+            @Parameter(description = "Candidate events to check for conflicts", required = true)
+            @RequestBody List<EventDto> candidates) {
+        
+        log.info("Checking conflicts for {} candidate events", candidates.size());
+        List<CandidateConflictResult> results;
+        try {
+            results = eventService.checkConflictsBatch(candidates);
+        } catch (InvalidEventException | IllegalArgumentException e) {
+            log.warn("Rejected batch conflict check: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        int conflictingCandidates = (int) results.stream().filter(CandidateConflictResult::isHasConflict).count();
+        
+        BatchConflictCheckResponse response = new BatchConflictCheckResponse(results.size(), conflictingCandidates, results);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/time-slot-available")
     @Operation(summary = "Check time slot availability", 
                description = "Check if a specific time slot is available")
@@ -393,14 +432,26 @@ public class EventController {
     public ResponseEntity<EventStatisticsResponse> getEventStatistics() {
         log.info("Fetching event statistics");
         
-        EventStatisticsResponse statistics = new EventStatisticsResponse(
-            eventService.getUpcomingEventCount(),
-            eventService.getTodayEventCount(),
-            eventService.getEventCountByCategory(Event.EventCategory.MEETING),
-            eventService.getEventCountByCategory(Event.EventCategory.CONFERENCE),
-            eventService.getEventCountByCategory(Event.EventCategory.WORKSHOP)
-        );
-        
+        EventStatisticsResponse statistics = eventService.getEventStatistics();
         return ResponseEntity.ok(statistics);
     }
+
+    @GetMapping("/statistics/breakdown")
+    @Operation(summary = "Get event statistics by dimension",
+               description = "Count events, upcoming events and today's events per category, month or participant type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event statistics retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown dimension")
+    })
+    public ResponseEntity<List<StatisticsGroupDto>> getEventStatisticsBreakdown(
+            @Parameter(description = "Dimension: category, month or participantType", required = true)
+            @RequestParam String by) {
+        log.info("Fetching event statistics by {}", by);
+        try {
+            return ResponseEntity.ok(eventService.getEventStatisticsBreakdown(by));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected event statistics breakdown: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
 } 
\ No newline at end of file
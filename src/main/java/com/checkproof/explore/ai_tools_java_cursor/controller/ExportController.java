@@ -0,0 +1,81 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Export", description = "APIs for streaming full exports as NDJSON")
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    @GetMapping("/events")
+    @Operation(summary = "Export events",
+               description = "Stream events in date order as NDJSON, one event per line, without a size limit")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Events streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @Parameter(description = "Only events starting at or after this time (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only events starting before this time (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Exporting events from {} to {}", from, to);
+        return stream("events.ndjson", out -> exportService.exportEvents(from, to, out));
+    }
+
+    @GetMapping("/tasks")
+    @Operation(summary = "Export tasks",
+               description = "Stream tasks in start date order as NDJSON, one task per line, without a size limit")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Only tasks starting at or after this time (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only tasks starting before this time (ISO format)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        if (from != null && to != null && !from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Exporting tasks from {} to {}", from, to);
+        return stream("tasks.ndjson", out -> exportService.exportTasks(from, to, out));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,113 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportResultDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.ImportService;
+import com.checkproof.explore.ai_tools_java_cursor.util.ImportRecordReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiFunction;
+
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Import", description = "APIs for streaming bulk imports from NDJSON or CSV")
+public class ImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String JSONL = "application/jsonl";
+    private static final String CSV = "text/csv";
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/events", consumes = {NDJSON, JSONL, CSV})
+    @Operation(summary = "Import events",
+               description = "Import events from NDJSON or CSV, rejecting rows that conflict with stored events or earlier rows")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, with any rejected rows listed"),
+        @ApiResponse(responseCode = "400", description = "Unreadable CSV header"),
+        @ApiResponse(responseCode = "415", description = "Unsupported import format"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ImportResultDto> importEvents(
+            @Parameter(description = "Content type of the body", required = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "One event per NDJSON line or CSV row", required = true)
+            InputStream body) {
+
+        return runImport(contentType, body, importService::importEvents);
+    }
+
+    @PostMapping(value = "/tasks", consumes = {NDJSON, JSONL, CSV})
+    @Operation(summary = "Import tasks",
+               description = "Import single tasks from NDJSON or CSV, rejecting rows that overlap tasks of the same participants")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, with any rejected rows listed"),
+        @ApiResponse(responseCode = "400", description = "Unreadable CSV header"),
+        @ApiResponse(responseCode = "415", description = "Unsupported import format"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ImportResultDto> importTasks(
+            @Parameter(description = "Content type of the body", required = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "One task per NDJSON line or CSV row", required = true)
+            InputStream body) {
+
+        return runImport(contentType, body, importService::importTasks);
+    }
+
+    @PostMapping(value = "/participants", consumes = {NDJSON, JSONL, CSV})
+    @Operation(summary = "Import participants",
+               description = "Import participants from NDJSON or CSV, rejecting rows whose email is already in use")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, with any rejected rows listed"),
+        @ApiResponse(responseCode = "400", description = "Unreadable CSV header"),
+        @ApiResponse(responseCode = "415", description = "Unsupported import format"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<ImportResultDto> importParticipants(
+            @Parameter(description = "Content type of the body", required = true)
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(description = "One participant per NDJSON line or CSV row", required = true)
+            InputStream body) {
+
+        return runImport(contentType, body, importService::importParticipants);
+    }
+
+    /**
+     * Decode the body with the charset of its content type, UTF-8 by default, and run the import
+     */
+    private ResponseEntity<ImportResultDto> runImport(String contentType, InputStream body,
+            BiFunction<Reader, ImportRecordReader.Format, ImportResultDto> importer) {
+        ImportRecordReader.Format format = ImportRecordReader.Format.fromMediaType(contentType);
+        if (format == null) {
+            return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).build();
+        }
+        Charset charset = MediaType.parseMediaType(contentType).getCharset();
+        Reader reader = new InputStreamReader(body, charset != null ? charset : StandardCharsets.UTF_8);
+
+        log.info("Importing {} body", format);
+        try {
+            return ResponseEntity.ok(importer.apply(reader, format));
+        } catch (IllegalArgumentException e) {
+            log.warn("Import rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
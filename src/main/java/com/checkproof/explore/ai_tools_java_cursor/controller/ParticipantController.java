@@ -0,0 +1,80 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.ParticipantService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/participants")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Participants", description = "APIs for looking up participants")
+public class ParticipantController {
+
+    // Most suggestions returned for one keystroke
+    static final int MAX_TYPEAHEAD_LIMIT = 50;
+
+    private final ParticipantService participantService;
+
+    @GetMapping("/search")
+    @Operation(summary = "Search participants by name, phone number or bio",
+               description = "Search for participants whose name, phone number or bio contains the specified text")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "No search term given"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<ParticipantDto>> searchParticipants(
+            @Parameter(description = "Search term for participant name", required = false)
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Search term for participant phone number", required = false)
+            @RequestParam(required = false) String phone,
+            @Parameter(description = "Search term for participant bio", required = false)
+            @RequestParam(required = false) String bio) {
+
+        log.info("Searching participants - name: {}, phone: {}, bio: {}", name, phone, bio);
+
+        if (name != null && !name.trim().isEmpty()) {
+            return ResponseEntity.ok(participantService.searchByName(name));
+        } else if (phone != null && !phone.trim().isEmpty()) {
+            return ResponseEntity.ok(participantService.searchByPhoneNumber(phone));
+        } else if (bio != null && !bio.trim().isEmpty()) {
+            return ResponseEntity.ok(participantService.searchByBio(bio));
+        } else {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/typeahead")
+    @Operation(summary = "Suggest participants for a typed fragment",
+               description = "Return the best participants whose name, phone number or bio contains the fragment, "
+                       + "names starting with it first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<ParticipantDto>> typeahead(
+            @Parameter(description = "Fragment typed so far")
+            @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Maximum number of suggestions (1 to 50)")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Also suggest inactive participants")
+            @RequestParam(defaultValue = "false") boolean includeInactive) {
+
+        if (limit < 1 || limit > MAX_TYPEAHEAD_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(participantService.typeahead(q, limit, includeInactive));
+    }
+}
@@ -2,6 +2,7 @@ package com.checkproof.explore.ai_tools_java_cursor.controller;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskStatisticsDto;
 import com.checkproof.explore.ai_tools_java_cursor.model.Task;
@@ -47,6 +48,9 @@ public class TaskController {
             @Valid PaginationRequestDto paginationRequest) {
         
         log.info("Fetching all tasks with pagination: {}", paginationRequest);
+        if (!paginationRequest.isCursorValid()) {
+            return ResponseEntity.badRequest().build();
+        }
         PaginatedResponseDto<TaskDto> response = taskService.getAllTasks(paginationRequest);
         return ResponseEntity.ok(response);
     }
@@ -239,6 +243,25 @@ public class TaskController {
         return ResponseEntity.ok(statistics);
     }
 
+    @GetMapping("/statistics/breakdown")
+    @Operation(summary = "Get task statistics by dimension",
+               description = "Count tasks, overdue tasks and upcoming tasks per status, priority, month or participant type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task statistics retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unknown dimension")
+    })
+    public ResponseEntity<List<StatisticsGroupDto>> getTaskStatisticsBreakdown(
+            @Parameter(description = "Dimension: status, priority, month or participantType", required = true)
+            @RequestParam String by) {
+        log.info("Fetching task statistics by {}", by);
+        try {
+            return ResponseEntity.ok(taskService.getTaskStatisticsBreakdown(by));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected task statistics breakdown: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // Additional endpoints for task status management
     @PatchMapping("/{id}/status/{status}")
     @Operation(summary = "Update task status", 
@@ -326,4 +349,88 @@ public class TaskController {
         TaskDto onHoldTask = taskService.putTaskOnHold(id);
         return ResponseEntity.ok(onHoldTask);
     }
+
+    // Recurring task series endpoints
+    @PostMapping("/series")
+    @Operation(summary = "Create a recurring task series", 
+               description = "Create a series master whose occurrences are expanded when tasks are read")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Task series created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid task data or recurrence pattern"),
+        @ApiResponse(responseCode = "409", description = "Task conflicts with existing tasks"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskDto> createTaskSeries(
+            @Parameter(description = "Task details including the recurrence pattern", required = true)
+            @Valid @RequestBody TaskDto taskDto) {
+        
+        log.info("Creating new task series: {}", taskDto.getTitle());
+        TaskDto createdSeries = taskService.createTaskSeries(taskDto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdSeries);
+    }
+
+    @PutMapping("/series/{seriesId}/occurrences")
+    @Operation(summary = "Update a single occurrence of a task series", 
+               description = "Store an override for one occurrence, identified by its original start date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occurrence updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid task data or occurrence"),
+        @ApiResponse(responseCode = "404", description = "Task series not found"),
+        @ApiResponse(responseCode = "409", description = "Task conflicts with existing tasks"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskDto> updateSeriesOccurrence(
+            @Parameter(description = "Series master task ID", required = true)
+            @PathVariable Long seriesId,
+            @Parameter(description = "Original start date of the occurrence (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartDate,
+            @Parameter(description = "Updated task details", required = true)
+            @Valid @RequestBody TaskDto taskDto) {
+        
+        log.info("Updating occurrence {} of task series {}", originalStartDate, seriesId);
+        TaskDto updatedTask = taskService.updateSeriesOccurrence(seriesId, originalStartDate, taskDto);
+        return ResponseEntity.ok(updatedTask);
+    }
+
+    @PatchMapping("/series/{seriesId}/occurrences/status/{status}")
+    @Operation(summary = "Update the status of a single occurrence of a task series", 
+               description = "Store an override for one occurrence with the new status")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Occurrence status updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid occurrence or status transition"),
+        @ApiResponse(responseCode = "404", description = "Task series not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<TaskDto> updateSeriesOccurrenceStatus(
+            @Parameter(description = "Series master task ID", required = true)
+            @PathVariable Long seriesId,
+            @Parameter(description = "Original start date of the occurrence (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartDate,
+            @Parameter(description = "New task status", required = true)
+            @PathVariable Task.TaskStatus status) {
+        
+        log.info("Updating occurrence {} of task series {} status to: {}", originalStartDate, seriesId, status);
+        TaskDto updatedTask = taskService.updateSeriesOccurrenceStatus(seriesId, originalStartDate, status);
+        return ResponseEntity.ok(updatedTask);
+    }
+
+    @DeleteMapping("/series/{seriesId}/occurrences")
+    @Operation(summary = "Cancel a single occurrence of a task series", 
+               description = "Exclude one occurrence, identified by its original start date, from the series")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Occurrence cancelled successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid occurrence"),
+        @ApiResponse(responseCode = "404", description = "Task series not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<Void> cancelSeriesOccurrence(
+            @Parameter(description = "Series master task ID", required = true)
+            @PathVariable Long seriesId,
+            @Parameter(description = "Original start date of the occurrence (ISO format)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime originalStartDate) {
+        
+        log.info("Cancelling occurrence {} of task series {}", originalStartDate, seriesId);
+        taskService.cancelSeriesOccurrence(seriesId, originalStartDate);
+        return ResponseEntity.noContent().build();
+    }
 } 
\ No newline at end of file
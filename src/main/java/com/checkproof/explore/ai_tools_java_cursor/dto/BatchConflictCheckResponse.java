@@ -0,0 +1,19 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch event conflict checking
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchConflictCheckResponse {
+    private int totalCandidates;
+    private int conflictingCandidates;
+    private List<CandidateConflictResult> results;
+}
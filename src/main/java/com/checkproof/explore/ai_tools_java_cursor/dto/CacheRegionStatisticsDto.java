@@ -0,0 +1,21 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheRegionStatisticsDto {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+    private int size;
+    private double hitRatio;
+}
@@ -0,0 +1,21 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Conflict details for a single candidate of a batch conflict check
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateConflictResult {
+    private int candidateIndex;
+    private String name;
+    private boolean hasConflict;
+    private List<EventDto> conflictingEvents;
+    private List<Integer> conflictingCandidates;
+}
@@ -0,0 +1,13 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of one participant of an event, selected without loading either entity
+ */
+public record EventParticipantRow(Long eventId, Long id, String name, String email, String phoneNumber, String bio,
+                                  Participant.ParticipantType type, Boolean isActive,
+                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,12 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of an event's own columns, selected without loading the entity
+ */
+public record EventRow(Long id, String name, String description, LocalDateTime eventDate, Integer durationMinutes,
+                       Event.EventCategory category, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
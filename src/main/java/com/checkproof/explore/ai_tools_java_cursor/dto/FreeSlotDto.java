@@ -0,0 +1,18 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A time slot in which every requested participant is free
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSlotDto {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,34 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first rejected rows are listed so that the response stays
+ * small for any file; the counts cover every row.
+ */
+@Data
+@NoArgsConstructor
+public class ImportResultDto {
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private int batches;
+    private boolean errorsTruncated;
+    private List<ImportRowErrorDto> errors = new ArrayList<>();
+
+    /**
+     * Record a rejected row, listing it while fewer than maxErrors are listed
+     */
+    public void reject(long line, String message, int maxErrors) {
+        rejected++;
+        if (errors.size() < maxErrors) {
+            errors.add(new ImportRowErrorDto(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A rejected import row: the line it starts on and why it was not imported
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+    private long line;
+    private String message;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -40,6 +41,28 @@ public class PaginatedResponseDto<T> {
                 .build();
     }
 
+    /**
+     * Create paginated response from a Spring Data Slice; totals are -1 as they were not counted
+     */
+    public static <T> PaginatedResponseDto<T> fromSlice(Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return fromPage(page);
+        }
+        return PaginatedResponseDto.<T>builder()
+                .content(slice.getContent())
+                .pagination(PaginationMetadataDto.builder()
+                        .pageNumber(slice.getNumber())
+                        .pageSize(slice.getSize())
+                        .totalElements(-1)
+                        .totalPages(-1)
+                        .first(slice.isFirst())
+                        .last(slice.isLast())
+                        .hasNext(slice.hasNext())
+                        .hasPrevious(slice.hasPrevious())
+                        .build())
+                .build();
+    }
+
     /**
      * Create paginated response from list with manual pagination info
      */
@@ -61,6 +84,29 @@ public class PaginatedResponseDto<T> {
                 .build();
     }
 
+    /**
+     * Create keyset paginated response; totalElements and totalPages are -1 when not counted
+     */
+    public static <T> PaginatedResponseDto<T> fromCursor(List<T> content, int pageSize, String nextCursor,
+                                                         boolean hasPrevious, long totalElements) {
+        int totalPages = totalElements < 0 ? -1 : (int) Math.ceil((double) totalElements / pageSize);
+
+        return PaginatedResponseDto.<T>builder()
+                .content(content)
+                .pagination(PaginationMetadataDto.builder()
+                        .pageNumber(0)
+                        .pageSize(pageSize)
+                        .totalElements(totalElements)
+                        .totalPages(totalPages)
+                        .first(!hasPrevious)
+                        .last(nextCursor == null)
+                        .hasNext(nextCursor != null)
+                        .hasPrevious(hasPrevious)
+                        .nextCursor(nextCursor)
+                        .build())
+                .build();
+    }
+
     /**
      * Create empty paginated response
      */
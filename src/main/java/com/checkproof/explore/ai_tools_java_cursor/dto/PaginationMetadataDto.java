@@ -23,6 +23,11 @@ public class PaginationMetadataDto {
     private boolean hasNext;
     private boolean hasPrevious;
 
+    /**
+     * Cursor of the next keyset page, null when there is none or in page mode
+     */
+    private String nextCursor;
+
     /**
      * Get the starting index of the current page (0-based)
      */
@@ -31,9 +36,12 @@ public class PaginationMetadataDto {
     }
 
     /**
-     * Get the ending index of the current page (0-based, exclusive)
+     * Get the ending index of the current page (0-based, exclusive); a full page when the total was not counted
      */
     public long getEndIndex() {
+        if (totalElements < 0) {
+            return getStartIndex() + pageSize;
+        }
         return Math.min((long) (pageNumber + 1) * pageSize, totalElements);
     }
 
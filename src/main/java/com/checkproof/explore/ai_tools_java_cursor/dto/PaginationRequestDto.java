@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCursor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -30,6 +31,36 @@ public class PaginationRequestDto {
     private String sortBy;
     private String sortDirection = "ASC";
 
+    /**
+     * Keyset mode: the nextCursor of the previous page, or an empty string for the first page.
+     * Pages are then ordered by date and id, and page and sorting are ignored.
+     */
+    private String cursor;
+
+    /**
+     * Older form of countStrategy: true stands for EXACT and false for NONE. Only read when
+     * countStrategy is not set.
+     *
+     * @deprecated use countStrategy, which wins when both are given
+     */
+    @Deprecated
+    private Boolean includeTotal;
+
+    /**
+     * How the total is obtained; exact for page mode and none for keyset mode unless set.
+     * Takes precedence over includeTotal.
+     */
+    private CountStrategy countStrategy;
+
+    public enum CountStrategy {
+        // Count on every request
+        EXACT,
+        // Reuse a recent count of the same query until it expires or the entity is written
+        CACHED,
+        // Skip the count; only whether a next page exists is known
+        NONE
+    }
+
     /**
      * Convert to Spring Data Pageable
      */
@@ -64,6 +95,41 @@ public class PaginationRequestDto {
         return sortBy != null && !sortBy.trim().isEmpty();
     }
 
+    /**
+     * Check if keyset (cursor) pagination is requested
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * Position to continue after, or null for the first keyset page
+     */
+    public PageCursor getCursorPosition() {
+        return cursor == null || cursor.isEmpty() ? null : PageCursor.decode(cursor);
+    }
+
+    /**
+     * Count strategy to apply: countStrategy when set, otherwise the one includeTotal stands
+     * for, otherwise the default of the pagination mode
+     */
+    public CountStrategy getEffectiveCountStrategy() {
+        if (countStrategy != null) {
+            return countStrategy;
+        }
+        if (includeTotal != null) {
+            return includeTotal ? CountStrategy.EXACT : CountStrategy.NONE;
+        }
+        return isCursorMode() ? CountStrategy.NONE : CountStrategy.EXACT;
+    }
+
+    /**
+     * Check that the cursor, if any, is one this API produced
+     */
+    public boolean isCursorValid() {
+        return cursor == null || cursor.isEmpty() || PageCursor.isValid(cursor);
+    }
+
     /**
      * Get sort direction as enum
      */
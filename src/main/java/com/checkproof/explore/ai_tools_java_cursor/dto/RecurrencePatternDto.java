@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -45,6 +46,15 @@ public class RecurrencePatternDto {
     @Min(value = 1, message = "Month of year must be between 1 and 12")
     private Integer monthOfYear;
 
+    @Size(max = 500, message = "RRULE cannot exceed 500 characters")
+    private String rrule;
+
+    @Size(max = 4000, message = "Excluded dates cannot exceed 4000 characters")
+    private String exdates;
+
+    @Size(max = 4000, message = "Additional dates cannot exceed 4000 characters")
+    private String rdates;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -73,6 +83,9 @@ public class RecurrencePatternDto {
                 .dayOfMonth(pattern.getDayOfMonth())
                 .weekOfMonth(pattern.getWeekOfMonth())
                 .monthOfYear(pattern.getMonthOfYear())
+                .rrule(pattern.getRrule())
+                .exdates(pattern.getExdates())
+                .rdates(pattern.getRdates())
                 .createdAt(pattern.getCreatedAt())
                 .updatedAt(pattern.getUpdatedAt())
                 .build();
@@ -91,6 +104,9 @@ public class RecurrencePatternDto {
                 .dayOfMonth(dayOfMonth)
                 .weekOfMonth(weekOfMonth)
                 .monthOfYear(monthOfYear)
+                .rrule(rrule)
+                .exdates(exdates)
+                .rdates(rdates)
                 .build();
     }
 } 
\ No newline at end of file
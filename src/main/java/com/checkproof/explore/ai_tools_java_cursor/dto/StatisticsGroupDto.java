@@ -0,0 +1,23 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One group of a statistics breakdown: its key, the number of items in it and the number of
+ * those matching each measure. Items with no value for the dimension have a null key.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsGroupDto {
+
+    private String key;
+    private long count;
+    private Map<String, Long> measures;
+}
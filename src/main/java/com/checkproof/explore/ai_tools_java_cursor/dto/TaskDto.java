@@ -44,6 +44,12 @@ public class TaskDto {
 
     private Set<ParticipantDto> participants;
 
+    private boolean seriesMaster;
+
+    private Long seriesId;
+
+    private LocalDateTime originalStartDate;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
@@ -77,11 +83,26 @@ public class TaskDto {
                     task.getParticipants().stream()
                         .map(ParticipantDto::fromEntity)
                         .collect(Collectors.toSet()) : null)
+                .seriesMaster(task.isSeriesMaster())
+                .seriesId(task.getSeriesId())
+                .originalStartDate(task.getOriginalStartDate())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .build();
     }
 
+    // Static factory method to create the DTO of a virtual occurrence expanded from a series master
+    public static TaskDto occurrenceOf(Task master, LocalDateTime startDate, LocalDateTime endDate) {
+        TaskDto occurrence = fromEntity(master);
+        occurrence.setId(null);
+        occurrence.setStartDate(startDate);
+        occurrence.setEndDate(endDate);
+        occurrence.setSeriesMaster(false);
+        occurrence.setSeriesId(master.getId());
+        occurrence.setOriginalStartDate(startDate);
+        return occurrence;
+    }
+
     // Method to convert DTO to entity
     public Task toEntity() {
         return Task.builder()
@@ -0,0 +1,144 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory interval index over every event's [eventDate, eventDate + duration) slot.
+ * Answers conflict and availability questions without touching the database; the event
+ * service keeps it in sync on create, update and delete.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventConflictIndex {
+
+    private final EventRepository eventRepository;
+
+    private final IntervalTree tree = new IntervalTree();
+    private final Map<Long, Long> startById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Rebuild the index from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<EventSlot> slots = eventRepository.findAllEventSlots();
+        lock.writeLock().lock();
+        try {
+            tree.clear();
+            startById.clear();
+            for (EventSlot slot : slots) {
+                insert(slot.id(), slot.eventDate(), slot.durationMinutes());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Event conflict index rebuilt with {} events", slots.size());
+    }
+
+    /**
+     * Add or replace the slot of an event
+     */
+    public void put(Long eventId, LocalDateTime eventDate, Integer durationMinutes) {
+        lock.writeLock().lock();
+        try {
+            delete(eventId);
+            insert(eventId, eventDate, durationMinutes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an event from the index
+     */
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            delete(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check if any indexed event overlaps [start, end), optionally ignoring one event
+     */
+    public boolean hasOverlap(LocalDateTime start, LocalDateTime end, Long excludeEventId) {
+        lock.readLock().lock();
+        try {
+            return tree.anyOverlap(toEpochSecond(start), toEpochSecond(end), excludeEventId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the ids of events overlapping [start, end), ordered by event date
+     */
+    public List<Long> findOverlappingIds(LocalDateTime start, LocalDateTime end, Long excludeEventId) {
+        lock.readLock().lock();
+        try {
+            return tree.findOverlappingIds(toEpochSecond(start), toEpochSecond(end), excludeEventId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit every event overlapping [start, end) in event date order, with bounds in epoch seconds
+     */
+    public void forEachOverlapping(LocalDateTime start, LocalDateTime end, IntervalTree.IntervalVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            tree.forEachOverlapping(toEpochSecond(start), toEpochSecond(end), visitor);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Long eventId, LocalDateTime eventDate, Integer durationMinutes) {
+        if (eventId == null || eventDate == null) {
+            return;
+        }
+        long start = toEpochSecond(eventDate);
+        long end = durationMinutes != null ? start + durationMinutes * 60L : start;
+        tree.insert(eventId, start, end);
+        startById.put(eventId, start);
+    }
+
+    private void delete(Long eventId) {
+        Long start = startById.remove(eventId);
+        if (start != null) {
+            tree.remove(eventId, start);
+        }
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,9 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal projection of an event's time slot used to (re)build the in-memory indexes
+ */
+public record EventSlot(Long id, LocalDateTime eventDate, Integer durationMinutes) {
+}
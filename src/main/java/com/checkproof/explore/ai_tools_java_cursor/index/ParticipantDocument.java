@@ -0,0 +1,16 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+
+/**
+ * Projection of the participant columns kept in memory by the participant search index, enough
+ * to answer typeahead lookups without reading the row
+ */
+public record ParticipantDocument(Long id, String name, String email, String phoneNumber, String bio,
+                                  Participant.ParticipantType type, Boolean isActive) {
+
+    public static ParticipantDocument of(Participant participant) {
+        return new ParticipantDocument(participant.getId(), participant.getName(), participant.getEmail(),
+                participant.getPhoneNumber(), participant.getBio(), participant.getType(), participant.getIsActive());
+    }
+}
@@ -0,0 +1,9 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of an event's time slot for one of its participants
+ */
+public record ParticipantEventSlot(Long participantId, LocalDateTime eventDate, Integer durationMinutes) {
+}
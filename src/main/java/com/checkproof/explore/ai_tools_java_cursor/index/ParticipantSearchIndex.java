@@ -0,0 +1,208 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.util.NGramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory trigram index over participant names, phone numbers and bios. Substring lookups
+ * and typeahead are answered from posting lists instead of leading-wildcard LIKE scans;
+ * {@link ParticipantSearchIndexListener} keeps it in sync with every write.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantSearchIndex {
+
+    // Typeahead ranks, best first
+    private static final int NAME_PREFIX = 0;
+    private static final int NAME_WORD_PREFIX = 1;
+    private static final int NAME_INFIX = 2;
+    private static final int PHONE_NUMBER = 3;
+    private static final int BIO = 4;
+
+    private final ParticipantRepository participantRepository;
+
+    private final NGramIndex names = new NGramIndex();
+    private final NGramIndex phoneNumbers = new NGramIndex();
+    private final NGramIndex bios = new NGramIndex();
+    private final Map<Long, ParticipantDocument> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // The lower-cased name is the indexed text, so ordering by it allocates nothing
+    private record Ranked(int rank, String name, ParticipantDocument document) {
+    }
+
+    /**
+     * Rebuild the index from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<ParticipantDocument> all = participantRepository.findAllSearchDocuments();
+        lock.writeLock().lock();
+        try {
+            names.clear();
+            phoneNumbers.clear();
+            bios.clear();
+            documents.clear();
+            all.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Participant search index rebuilt with {} participants", all.size());
+    }
+
+    /**
+     * Add or replace a participant
+     */
+    public void put(ParticipantDocument document) {
+        if (document.id() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            insert(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long participantId) {
+        lock.writeLock().lock();
+        try {
+            documents.remove(participantId);
+            names.remove(participantId);
+            phoneNumbers.remove(participantId);
+            bios.remove(participantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the participants whose name contains the fragment, ignoring case, ordered by name
+     */
+    public List<Long> searchByName(String fragment) {
+        return search(names, fragment);
+    }
+
+    /**
+     * Ids of the participants whose phone number contains the fragment, ordered by name
+     */
+    public List<Long> searchByPhoneNumber(String fragment) {
+        return search(phoneNumbers, fragment);
+    }
+
+    /**
+     * Ids of the participants whose bio contains the fragment, ignoring case, ordered by name
+     */
+    public List<Long> searchByBio(String fragment) {
+        return search(bios, fragment);
+    }
+
+    /**
+     * The best participants for a typed fragment: names starting with it, then names with a word
+     * starting with it, then names, phone numbers and bios containing it, each by name
+     */
+    public List<ParticipantDocument> typeahead(String fragment, int limit, boolean includeInactive) {
+        String normalized = NGramIndex.normalize(fragment).strip();
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Comparator<Ranked> ranking = Comparator.comparingInt(Ranked::rank)
+                .thenComparing(Ranked::name)
+                .thenComparing(ranked -> ranked.document().id());
+        PriorityQueue<Ranked> top = new PriorityQueue<>(ranking.reversed());
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>(names.search(normalized));
+            candidates.addAll(phoneNumbers.search(normalized));
+            candidates.addAll(bios.search(normalized));
+            for (Long id : candidates) {
+                ParticipantDocument document = documents.get(id);
+                if (!includeInactive && !Boolean.TRUE.equals(document.isActive())) {
+                    continue;
+                }
+                top.add(new Ranked(rank(id, normalized), nameOf(id), document));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Ranked> ranked = new ArrayList<>(top);
+        ranked.sort(ranking);
+        return ranked.stream().map(Ranked::document).collect(Collectors.toList());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(ParticipantDocument document) {
+        documents.put(document.id(), document);
+        names.put(document.id(), document.name());
+        phoneNumbers.put(document.id(), document.phoneNumber());
+        bios.put(document.id(), document.bio());
+    }
+
+    private List<Long> search(NGramIndex index, String fragment) {
+        lock.readLock().lock();
+        try {
+            // Same order as the LIKE queries: by name as stored, then by id to keep it stable
+            return index.search(fragment).stream()
+                    .sorted(Comparator.<Long, String>comparing(id -> documents.get(id).name())
+                            .thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private String nameOf(Long id) {
+        String name = names.text(id);
+        return name == null ? "" : name;
+    }
+
+    private int rank(Long id, String fragment) {
+        String name = nameOf(id);
+        int first = name.indexOf(fragment);
+        if (first == 0) {
+            return NAME_PREFIX;
+        }
+        if (first > 0) {
+            for (int at = first; at >= 0; at = name.indexOf(fragment, at + 1)) {
+                if (!Character.isLetterOrDigit(name.charAt(at - 1))) {
+                    return NAME_WORD_PREFIX;
+                }
+            }
+            return NAME_INFIX;
+        }
+        String phoneNumber = phoneNumbers.text(id);
+        return phoneNumber != null && phoneNumber.contains(fragment) ? PHONE_NUMBER : BIO;
+    }
+}
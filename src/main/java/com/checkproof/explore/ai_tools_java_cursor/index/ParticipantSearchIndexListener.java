@@ -0,0 +1,34 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.util.TransactionUtil;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener updating the participant search index once a write to a participant commits
+ */
+@Component
+@RequiredArgsConstructor
+public class ParticipantSearchIndexListener {
+
+    // Looked up on use: the index needs the repository, which needs this listener's entity manager
+    private final ObjectProvider<ParticipantSearchIndex> participantSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    void index(Participant participant) {
+        ParticipantDocument document = ParticipantDocument.of(participant);
+        TransactionUtil.afterCommit(() -> participantSearchIndex.getObject().put(document));
+    }
+
+    @PostRemove
+    void remove(Participant participant) {
+        Long id = participant.getId();
+        TransactionUtil.afterCommit(() -> participantSearchIndex.getObject().remove(id));
+    }
+}
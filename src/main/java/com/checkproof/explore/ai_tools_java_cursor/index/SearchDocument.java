@@ -0,0 +1,7 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+/**
+ * Minimal projection of the text of an event or task used to (re)build the search index
+ */
+public record SearchDocument(Long id, String title, String description) {
+}
@@ -0,0 +1,9 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal projection of a task's time slot for one of its participants
+ */
+public record TaskSlot(Long taskId, Long participantId, LocalDateTime startDate, LocalDateTime endDate) {
+}
@@ -0,0 +1,187 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import com.checkproof.explore.ai_tools_java_cursor.util.IntervalTree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-participant interval index over the time slots of non-cancelled tasks.
+ * An overlap check for a task costs one O(log n) probe per participant instead of
+ * loading every task in the window together with its participants.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskTimelineIndex {
+
+    // Tasks without an end date occupy one hour, matching the task overlap rules
+    private static final long DEFAULT_DURATION_SECONDS = 3600;
+
+    private final TaskRepository taskRepository;
+
+    private final Map<Long, IntervalTree> timelines = new HashMap<>();
+    private final Map<Long, IndexedTask> tasksById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record IndexedTask(long start, Set<Long> participantIds) {
+    }
+
+    /**
+     * Rebuild the index from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<TaskSlot> slots = taskRepository.findActiveTaskSlots();
+        lock.writeLock().lock();
+        try {
+            timelines.clear();
+            tasksById.clear();
+            for (TaskSlot slot : slots) {
+                insert(slot.taskId(), slot.startDate(), slot.endDate(), Set.of(slot.participantId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task timeline index rebuilt with {} task slots", slots.size());
+    }
+
+    /**
+     * Add or replace a task; cancelled tasks are removed from the index
+     */
+    public void put(Long taskId, LocalDateTime startDate, LocalDateTime endDate,
+                    Task.TaskStatus status, Collection<Long> participantIds) {
+        lock.writeLock().lock();
+        try {
+            delete(taskId);
+            if (status != Task.TaskStatus.CANCELLED) {
+                insert(taskId, startDate, endDate, participantIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a task from the index
+     */
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            delete(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether any of the participants already has a task overlapping [startDate, endDate)
+     */
+    public boolean hasOverlap(Collection<Long> participantIds, LocalDateTime startDate,
+                              LocalDateTime endDate, Long excludeTaskId) {
+        long start = toEpochSecond(startDate);
+        long end = toEpochSecond(endDate);
+        lock.readLock().lock();
+        try {
+            for (Long participantId : participantIds) {
+                IntervalTree timeline = timelines.get(participantId);
+                if (timeline != null && timeline.anyOverlap(start, end, excludeTaskId)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Check whether any of the participants already has a task overlapping [startDate, endDate)
+     * other than the excluded ones
+     */
+    public boolean hasOverlapExcluding(Collection<Long> participantIds, LocalDateTime startDate,
+                                       LocalDateTime endDate, Set<Long> excludeTaskIds) {
+        long start = toEpochSecond(startDate);
+        long end = toEpochSecond(endDate);
+        lock.readLock().lock();
+        try {
+            for (Long participantId : participantIds) {
+                IntervalTree timeline = timelines.get(participantId);
+                if (timeline != null && timeline.findOverlappingIds(start, end, null).stream()
+                        .anyMatch(id -> !excludeTaskIds.contains(id))) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit the task slots of a participant overlapping [startDate, endDate)
+     */
+    public void forEachOverlapping(Long participantId, LocalDateTime startDate, LocalDateTime endDate,
+                                   IntervalTree.IntervalVisitor visitor) {
+        lock.readLock().lock();
+        try {
+            IntervalTree timeline = timelines.get(participantId);
+            if (timeline != null) {
+                timeline.forEachOverlapping(toEpochSecond(startDate), toEpochSecond(endDate), visitor);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(Long taskId, LocalDateTime startDate, LocalDateTime endDate, Collection<Long> participantIds) {
+        if (taskId == null || startDate == null || participantIds.isEmpty()) {
+            return;
+        }
+        long start = toEpochSecond(startDate);
+        long end = endDate != null ? toEpochSecond(endDate) : start + DEFAULT_DURATION_SECONDS;
+
+        IndexedTask indexed = tasksById.computeIfAbsent(taskId, id -> new IndexedTask(start, new HashSet<>()));
+        for (Long participantId : participantIds) {
+            if (participantId != null && indexed.participantIds().add(participantId)) {
+                timelines.computeIfAbsent(participantId, id -> new IntervalTree())
+                        .insert(taskId, start, Math.max(start, end));
+            }
+        }
+    }
+
+    private void delete(Long taskId) {
+        IndexedTask indexed = tasksById.remove(taskId);
+        if (indexed == null) {
+            return;
+        }
+        for (Long participantId : indexed.participantIds()) {
+            IntervalTree timeline = timelines.get(participantId);
+            if (timeline != null) {
+                timeline.remove(taskId, indexed.start());
+                if (timeline.isEmpty()) {
+                    timelines.remove(participantId);
+                }
+            }
+        }
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
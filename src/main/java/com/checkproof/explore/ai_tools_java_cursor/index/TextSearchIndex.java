@@ -0,0 +1,165 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import com.checkproof.explore.ai_tools_java_cursor.util.InvertedIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory full-text index over event names and descriptions and task titles and
+ * descriptions. Searches are answered from posting lists instead of scanning every row with
+ * LIKE; {@link TextSearchIndexListener} keeps it in sync with every write.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TextSearchIndex {
+
+    // Field positions in event and task documents
+    public static final int TITLE = 0;
+    public static final int DESCRIPTION = 1;
+
+    // A match in the name or title counts twice as much as one in the description
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+
+    private final InvertedIndex events = new InvertedIndex(TITLE_WEIGHT, DESCRIPTION_WEIGHT);
+    private final InvertedIndex tasks = new InvertedIndex(TITLE_WEIGHT, DESCRIPTION_WEIGHT);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Rebuild the index from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<SearchDocument> eventDocuments = eventRepository.findAllSearchDocuments();
+        List<SearchDocument> taskDocuments = taskRepository.findAllSearchDocuments();
+        lock.writeLock().lock();
+        try {
+            load(events, eventDocuments);
+            load(tasks, taskDocuments);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Text search index rebuilt with {} events and {} tasks", eventDocuments.size(), taskDocuments.size());
+    }
+
+    /**
+     * Add or replace the text of an event
+     */
+    public void putEvent(Long eventId, String name, String description) {
+        put(events, eventId, name, description);
+    }
+
+    public void removeEvent(Long eventId) {
+        remove(events, eventId);
+    }
+
+    /**
+     * Ids of the events matching every term of the query in the given fields (all when none
+     * are given), best match first
+     */
+    public List<Long> searchEvents(String query, int... fields) {
+        return idsOf(searchEventHits(query, fields));
+    }
+
+    /**
+     * Scored hits of the events matching every term of the query in the given fields, in
+     * {@link InvertedIndex#RANKING} order
+     */
+    public List<InvertedIndex.Hit> searchEventHits(String query, int... fields) {
+        return search(events, query, fields);
+    }
+
+    /**
+     * Add or replace the text of a task
+     */
+    public void putTask(Long taskId, String title, String description) {
+        put(tasks, taskId, title, description);
+    }
+
+    public void removeTask(Long taskId) {
+        remove(tasks, taskId);
+    }
+
+    /**
+     * Ids of the tasks matching every term of the query in the given fields (all when none
+     * are given), best match first
+     */
+    public List<Long> searchTasks(String query, int... fields) {
+        return idsOf(search(tasks, query, fields));
+    }
+
+    public int eventCount() {
+        lock.readLock().lock();
+        try {
+            return events.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int taskCount() {
+        lock.readLock().lock();
+        try {
+            return tasks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(InvertedIndex index, Long id, String title, String description) {
+        if (id == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.put(id, title, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(InvertedIndex index, Long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<InvertedIndex.Hit> search(InvertedIndex index, String query, int... fields) {
+        lock.readLock().lock();
+        try {
+            return index.search(query, 0, fields);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> idsOf(List<InvertedIndex.Hit> hits) {
+        return hits.stream()
+                .map(InvertedIndex.Hit::id)
+                .collect(Collectors.toList());
+    }
+
+    private static void load(InvertedIndex index, List<SearchDocument> documents) {
+        index.clear();
+        for (SearchDocument document : documents) {
+            index.put(document.id(), document.title(), document.description());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.util.TransactionUtil;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener updating the text search index once a write to an event or task commits
+ */
+@Component
+@RequiredArgsConstructor
+public class TextSearchIndexListener {
+
+    // Looked up on use: the index needs the repositories, which need this listener's entity manager
+    private final ObjectProvider<TextSearchIndex> textSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    void index(Object entity) {
+        if (entity instanceof Event event) {
+            Long id = event.getId();
+            String name = event.getName();
+            String description = event.getDescription();
+            TransactionUtil.afterCommit(() -> textSearchIndex.getObject().putEvent(id, name, description));
+        } else if (entity instanceof Task task) {
+            Long id = task.getId();
+            String title = task.getTitle();
+            String description = task.getDescription();
+            TransactionUtil.afterCommit(() -> textSearchIndex.getObject().putTask(id, title, description));
+        }
+    }
+
+    @PostRemove
+    void remove(Object entity) {
+        if (entity instanceof Event event) {
+            Long id = event.getId();
+            TransactionUtil.afterCommit(() -> textSearchIndex.getObject().removeEvent(id));
+        } else if (entity instanceof Task task) {
+            Long id = task.getId();
+            TransactionUtil.afterCommit(() -> textSearchIndex.getObject().removeTask(id));
+        }
+    }
+}
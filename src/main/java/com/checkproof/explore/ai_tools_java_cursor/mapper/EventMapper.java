@@ -1,6 +1,8 @@
 package com.checkproof.explore.ai_tools_java_cursor.mapper;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventParticipantRow;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventRow;
 import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -91,6 +94,29 @@ public class EventMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Convert projected event rows to EventDto objects, attaching each event's participant rows
+     */
+    public List<EventDto> toDtoList(List<EventRow> rows, List<EventParticipantRow> participantRows) {
+        Map<Long, List<ParticipantDto>> participantsByEvent = participantRows.stream()
+                .collect(Collectors.groupingBy(EventParticipantRow::eventId,
+                        Collectors.mapping(this::toParticipantDto, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> EventDto.builder()
+                        .id(row.id())
+                        .name(row.name())
+                        .description(row.description())
+                        .eventDate(row.eventDate())
+                        .durationMinutes(row.durationMinutes())
+                        .category(row.category())
+                        .participants(participantsByEvent.getOrDefault(row.id(), List.of()))
+                        .createdAt(row.createdAt())
+                        .updatedAt(row.updatedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * Convert list of EventDto objects to list of Event entities
      */
@@ -168,6 +194,23 @@ public class EventMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Map a projected participant row to DTO
+     */
+    private ParticipantDto toParticipantDto(EventParticipantRow row) {
+        return ParticipantDto.builder()
+                .id(row.id())
+                .name(row.name())
+                .email(row.email())
+                .phoneNumber(row.phoneNumber())
+                .bio(row.bio())
+                .type(row.type())
+                .isActive(row.isActive())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
     /**
      * Map participants from DTO to entity
      */
@@ -200,6 +243,10 @@ public class EventMapper {
         if (eventDto.getCategory() == null) {
             throw new IllegalArgumentException("Event category is required");
         }
+
+        if (eventDto.getDurationMinutes() != null && eventDto.getDurationMinutes() > Event.MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("Event duration cannot exceed 24 hours");
+        }
     }
 
     /**
@@ -1,10 +1,14 @@
 package com.checkproof.explore.ai_tools_java_cursor.model;
 
+import com.checkproof.explore.ai_tools_java_cursor.index.TextSearchIndexListener;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCountCacheListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,14 +21,19 @@ import java.util.Set;
 
 @Entity
 @Table(name = "events")
+@EntityListeners({PageCountCacheListener.class, TextSearchIndexListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Event {
 
+    // Longest duration accepted for an event; free-slot searches rely on it to bound their lookback
+    public static final int MAX_DURATION_MINUTES = 1440;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Event name is required")
@@ -55,6 +64,7 @@ public class Event {
         joinColumns = @JoinColumn(name = "event_id"),
         inverseJoinColumns = @JoinColumn(name = "participant_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<Participant> participants = new HashSet<>();
 
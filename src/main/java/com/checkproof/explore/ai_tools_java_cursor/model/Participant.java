@@ -1,13 +1,18 @@
 package com.checkproof.explore.ai_tools_java_cursor.model;
 
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantSearchIndexListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -15,6 +20,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "participants")
+@EntityListeners(ParticipantSearchIndexListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +30,8 @@ import java.util.Set;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_seq")
+    @SequenceGenerator(name = "participants_seq", sequenceName = "participants_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Name is required")
@@ -52,12 +61,17 @@ public class Participant {
     @Builder.Default
     private Boolean isActive = true;
 
+    // Inverse sides stay out of equals and hashCode so that hashing a participant never loads them
     @ManyToMany(mappedBy = "participants", fetch = FetchType.LAZY)
     @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Task> tasks = new HashSet<>();
 
     @ManyToMany(mappedBy = "participants", fetch = FetchType.LAZY)
     @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Event> events = new HashSet<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -1,8 +1,11 @@
 package com.checkproof.explore.ai_tools_java_cursor.model;
 
+import com.checkproof.explore.ai_tools_java_cursor.util.RecurrenceRuleCacheListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +18,9 @@ import java.util.Set;
 
 @Entity
 @Table(name = "recurrence_patterns")
+@EntityListeners(RecurrenceRuleCacheListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +28,8 @@ import java.util.Set;
 public class RecurrencePattern {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurrence_patterns_seq")
+    @SequenceGenerator(name = "recurrence_patterns_seq", sequenceName = "recurrence_patterns_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Recurrence type is required")
@@ -31,7 +38,7 @@ public class RecurrencePattern {
     private RecurrenceType recurrenceType;
 
     @Min(value = 1, message = "Interval must be at least 1")
-    @Column(nullable = false)
+    @Column(name = "interval_value", nullable = false)
     @Builder.Default
     private Integer interval = 1;
 
@@ -46,6 +53,7 @@ public class RecurrencePattern {
     private Integer maxOccurrences;
 
     @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(
         name = "recurrence_pattern_days_of_week",
         joinColumns = @JoinColumn(name = "recurrence_pattern_id")
@@ -67,6 +75,18 @@ public class RecurrencePattern {
     @Min(value = 1, message = "Month of year must be between 1 and 12")
     private Integer monthOfYear;
 
+    // RFC 5545 rule; when present it drives expansion instead of the fields above
+    @Column(name = "rrule", length = 500)
+    private String rrule;
+
+    // Comma-separated local date-times removed from the rule's occurrences
+    @Column(name = "exdates", length = 4000)
+    private String exdates;
+
+    // Comma-separated local date-times added to the rule's occurrences
+    @Column(name = "rdates", length = 4000)
+    private String rdates;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     @Builder.Default
     private java.time.LocalDateTime createdAt = java.time.LocalDateTime.now();
@@ -1,9 +1,13 @@
 package com.checkproof.explore.ai_tools_java_cursor.model;
 
+import com.checkproof.explore.ai_tools_java_cursor.index.TextSearchIndexListener;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCountCacheListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,6 +20,7 @@ import java.util.Set;
 
 @Entity
 @Table(name = "tasks")
+@EntityListeners({PageCountCacheListener.class, TextSearchIndexListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,7 +28,8 @@ import java.util.Set;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Task title is required")
@@ -58,12 +64,41 @@ public class Task {
     @JoinColumn(name = "recurrence_pattern_id")
     private RecurrencePattern recurrencePattern;
 
+    // Series masters stand for every occurrence of their recurrence pattern and are expanded at read time
+    @Column(name = "series_master", nullable = false)
+    @Builder.Default
+    private boolean seriesMaster = false;
+
+    // Set on series masters whose occurrences are stored as rows over a rolling horizon; other series stay virtual
+    @Column(name = "materialized", nullable = false)
+    @Builder.Default
+    private boolean materialized = false;
+
+    // Set on override rows: the master they belong to and the occurrence they replace
+    @Column(name = "series_id")
+    private Long seriesId;
+
+    @Column(name = "original_start_date")
+    private LocalDateTime originalStartDate;
+
+    // Set on series masters: occurrences starting in [materializedFrom, materializedUntil) are stored as rows
+    @Column(name = "materialized_from")
+    private LocalDateTime materializedFrom;
+
+    @Column(name = "materialized_until")
+    private LocalDateTime materializedUntil;
+
+    // Set on series masters: occurrences that are overridden or cancelled, one bit per day from the start date
+    @Column(name = "exception_days")
+    private byte[] exceptionDays;
+
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "task_participants",
         joinColumns = @JoinColumn(name = "task_id"),
         inverseJoinColumns = @JoinColumn(name = "participant_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @Builder.Default
     private Set<Participant> participants = new HashSet<>();
 
@@ -90,6 +125,11 @@ public class Task {
         return recurrencePattern != null;
     }
 
+    // Helper method to check if task overrides one occurrence of a series
+    public boolean isSeriesOverride() {
+        return seriesId != null;
+    }
+
     public enum Priority {
         LOW, MEDIUM, HIGH, URGENT
     }
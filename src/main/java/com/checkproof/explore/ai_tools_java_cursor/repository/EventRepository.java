@@ -1,42 +1,64 @@
 package com.checkproof.explore.ai_tools_java_cursor.repository;
 
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventParticipantRow;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventRow;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventSlot;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantEventSlot;
+import com.checkproof.explore.ai_tools_java_cursor.index.SearchDocument;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
 
-    // Find events by date range
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :startDate AND :endDate ORDER BY e.eventDate ASC")
+    // Columns selected into EventRow, in constructor order
+    String EVENT_ROW_COLUMNS = "e.id, e.name, e.description, e.eventDate, e.durationMinutes, e.category, e.createdAt, e.updatedAt";
+
+    // Rows the driver fetches per round trip while an export scrolls
+    String EXPORT_FETCH_SIZE = "500";
+
+    // Find events starting in [startDate, endDate)
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findEventsByDateRange(@Param("startDate") LocalDateTime startDate, 
                                      @Param("endDate") LocalDateTime endDate);
 
-    // Find events by date range with pagination
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :startDate AND :endDate ORDER BY e.eventDate ASC")
+    // Find events starting in [startDate, endDate) with pagination
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC")
     Page<Event> findEventsByDateRange(@Param("startDate") LocalDateTime startDate, 
                                      @Param("endDate") LocalDateTime endDate, 
                                      Pageable pageable);
 
     // Find upcoming events within next 7 days
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :now AND :sevenDaysLater ORDER BY e.eventDate ASC")
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :now AND e.eventDate < :sevenDaysLater ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findUpcomingEvents(@Param("now") LocalDateTime now, 
                                   @Param("sevenDaysLater") LocalDateTime sevenDaysLater);
 
     // Find upcoming events with pagination
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :now AND :sevenDaysLater ORDER BY e.eventDate ASC")
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :now AND e.eventDate < :sevenDaysLater ORDER BY e.eventDate ASC")
     Page<Event> findUpcomingEvents(@Param("now") LocalDateTime now, 
                                   @Param("sevenDaysLater") LocalDateTime sevenDaysLater, 
                                   Pageable pageable);
 
     // Find events by category
+    @EntityGraph(attributePaths = "participants")
     List<Event> findByCategoryOrderByEventDateAsc(Event.EventCategory category);
 
     // Find events by category with pagination
@@ -44,6 +66,7 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Find events by duration range
     @Query("SELECT e FROM Event e WHERE e.durationMinutes BETWEEN :minDuration AND :maxDuration ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findEventsByDurationRange(@Param("minDuration") Integer minDuration, 
                                          @Param("maxDuration") Integer maxDuration);
 
@@ -63,6 +86,7 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Find events by name containing (case-insensitive)
     @Query("SELECT e FROM Event e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findByNameContainingIgnoreCase(@Param("name") String name);
 
     // Find events by name containing with pagination
@@ -71,38 +95,25 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Find events by description containing (case-insensitive)
     @Query("SELECT e FROM Event e WHERE LOWER(e.description) LIKE LOWER(CONCAT('%', :description, '%')) ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findByDescriptionContainingIgnoreCase(@Param("description") String description);
 
     // Find events by description containing with pagination
     @Query("SELECT e FROM Event e WHERE LOWER(e.description) LIKE LOWER(CONCAT('%', :description, '%')) ORDER BY e.eventDate ASC")
     Page<Event> findByDescriptionContainingIgnoreCase(@Param("description") String description, Pageable pageable);
 
-    // Find today's events
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :startOfDay AND :endOfDay ORDER BY e.eventDate ASC")
-    List<Event> findTodaysEvents(@Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
+    // Find today's events, from the start of today to the start of tomorrow
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startOfDay AND e.eventDate < :startOfNextDay ORDER BY e.eventDate ASC")
+    @EntityGraph(attributePaths = "participants")
+    List<Event> findTodaysEvents(@Param("startOfDay") LocalDateTime startOfDay, @Param("startOfNextDay") LocalDateTime startOfNextDay);
 
     // Find today's events with pagination
-    @Query("SELECT e FROM Event e WHERE e.eventDate BETWEEN :startOfDay AND :endOfDay ORDER BY e.eventDate ASC")
-    Page<Event> findTodaysEvents(@Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay, Pageable pageable);
-
-    // Find events for a specific day
-    @Query("SELECT e FROM Event e WHERE DATE(e.eventDate) = DATE(:date) ORDER BY e.eventDate ASC")
-    List<Event> findEventsByDate(@Param("date") LocalDateTime date);
-
-    // Find events for a specific day with pagination
-    @Query("SELECT e FROM Event e WHERE DATE(e.eventDate) = DATE(:date) ORDER BY e.eventDate ASC")
-    Page<Event> findEventsByDate(@Param("date") LocalDateTime date, Pageable pageable);
-
-    // Find events for a specific month and year
-    @Query("SELECT e FROM Event e WHERE YEAR(e.eventDate) = :year AND MONTH(e.eventDate) = :month ORDER BY e.eventDate ASC")
-    List<Event> findEventsByMonthAndYear(@Param("year") int year, @Param("month") int month);
-
-    // Find events for a specific month and year with pagination
-    @Query("SELECT e FROM Event e WHERE YEAR(e.eventDate) = :year AND MONTH(e.eventDate) = :month ORDER BY e.eventDate ASC")
-    Page<Event> findEventsByMonthAndYear(@Param("year") int year, @Param("month") int month, Pageable pageable);
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startOfDay AND e.eventDate < :startOfNextDay ORDER BY e.eventDate ASC")
+    Page<Event> findTodaysEvents(@Param("startOfDay") LocalDateTime startOfDay, @Param("startOfNextDay") LocalDateTime startOfNextDay, Pageable pageable);
 
     // Find past events
     @Query("SELECT e FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC")
+    @EntityGraph(attributePaths = "participants")
     List<Event> findPastEvents(@Param("now") LocalDateTime now);
 
     // Find past events with pagination
@@ -113,14 +124,122 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     long countByCategory(Event.EventCategory category);
 
     // Count upcoming events
-    @Query("SELECT COUNT(e) FROM Event e WHERE e.eventDate BETWEEN :now AND :sevenDaysLater")
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.eventDate >= :now AND e.eventDate < :sevenDaysLater")
     long countUpcomingEvents(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater);
 
-    // Count today's events
-    @Query("SELECT COUNT(e) FROM Event e WHERE DATE(e.eventDate) = DATE(:today)")
-    long countTodaysEvents(@Param("today") LocalDateTime today);
-
-    // Count events for a specific month and year
-    @Query("SELECT COUNT(e) FROM Event e WHERE YEAR(e.eventDate) = :year AND MONTH(e.eventDate) = :month")
-    long countEventsByMonthAndYear(@Param("year") int year, @Param("month") int month);
-} 
\ No newline at end of file
+    // Count events starting in [startDate, endDate)
+    @Query("SELECT COUNT(e) FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate")
+    long countEventsByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Load every event's time slot for the in-memory conflict index
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.EventSlot(e.id, e.eventDate, e.durationMinutes) FROM Event e")
+    List<EventSlot> findAllEventSlots();
+
+    // Load the name and description of every event for the text search index
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.SearchDocument(e.id, e.name, e.description) FROM Event e")
+    List<SearchDocument> findAllSearchDocuments();
+
+    // Load the time slots of the given participants' events starting in [earliestStart, endDate)
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.ParticipantEventSlot(p.id, e.eventDate, e.durationMinutes) " +
+           "FROM Event e JOIN e.participants p WHERE p.id IN :participantIds AND e.eventDate >= :earliestStart AND e.eventDate < :endDate")
+    List<ParticipantEventSlot> findParticipantEventSlots(@Param("participantIds") Collection<Long> participantIds,
+                                                         @Param("earliestStart") LocalDateTime earliestStart,
+                                                         @Param("endDate") LocalDateTime endDate);
+
+    // Keyset pagination: first page of all events ordered by (eventDate, id)
+    @Query("SELECT e FROM Event e ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPage(Limit limit);
+
+    // Keyset pagination: events after the (afterDate, afterId) position
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :afterDate AND (e.eventDate > :afterDate OR e.id > :afterId) " +
+           "ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPageAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId, Limit limit);
+
+    // Keyset pagination: first page of events starting in [startDate, endDate)
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPageByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+                                         Limit limit);
+
+    // Keyset pagination: events before endDate after the (afterDate, afterId) position
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :afterDate AND e.eventDate < :endDate " +
+           "AND (e.eventDate > :afterDate OR e.id > :afterId) ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPageByDateRangeAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId,
+                                              @Param("endDate") LocalDateTime endDate, Limit limit);
+
+    // Keyset pagination: first page of events in a category
+    @Query("SELECT e FROM Event e WHERE e.category = :category ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPageByCategory(@Param("category") Event.EventCategory category, Limit limit);
+
+    // Keyset pagination: events in a category after the (afterDate, afterId) position
+    @Query("SELECT e FROM Event e WHERE e.category = :category AND e.eventDate >= :afterDate " +
+           "AND (e.eventDate > :afterDate OR e.id > :afterId) ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findEventPageByCategoryAfter(@Param("category") Event.EventCategory category,
+                                             @Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId,
+                                             Limit limit);
+
+    // Slice of all events, without a count query
+    @Query("SELECT e FROM Event e")
+    Slice<Event> findEventSlice(Pageable pageable);
+
+    // Slice of upcoming events, without a count query
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :now AND e.eventDate < :sevenDaysLater ORDER BY e.eventDate ASC")
+    Slice<Event> findUpcomingEventSlice(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater,
+                                        Pageable pageable);
+
+    // Slice of events starting in [startDate, endDate), without a count query
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC")
+    Slice<Event> findEventSliceByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+                                           Pageable pageable);
+
+    // Slice of events in a category, without a count query
+    @Query("SELECT e FROM Event e WHERE e.category = :category ORDER BY e.eventDate ASC")
+    Slice<Event> findEventSliceByCategory(@Param("category") Event.EventCategory category, Pageable pageable);
+
+    // Slice of events whose name contains the given text, without a count query
+    @Query("SELECT e FROM Event e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY e.eventDate ASC")
+    Slice<Event> findEventSliceByName(@Param("name") String name, Pageable pageable);
+
+    // Read-only rows of events starting in [startDate, endDate)
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.dto.EventRow(" + EVENT_ROW_COLUMNS + ") " +
+           "FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC")
+    List<EventRow> findEventRowsByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Read-only rows of the first upcoming events within the next 7 days
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.dto.EventRow(" + EVENT_ROW_COLUMNS + ") " +
+           "FROM Event e WHERE e.eventDate >= :now AND e.eventDate < :sevenDaysLater ORDER BY e.eventDate ASC")
+    List<EventRow> findUpcomingEventRows(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater,
+                                         Limit limit);
+
+    // Read-only rows of the latest past events
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.dto.EventRow(" + EVENT_ROW_COLUMNS + ") " +
+           "FROM Event e WHERE e.eventDate < :now ORDER BY e.eventDate DESC")
+    List<EventRow> findPastEventRows(@Param("now") LocalDateTime now, Limit limit);
+
+    // Read-only rows of the given events, in no particular order
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.dto.EventRow(" + EVENT_ROW_COLUMNS + ") " +
+           "FROM Event e WHERE e.id IN :ids")
+    List<EventRow> findEventRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // Read-only participant rows of the given events
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.dto.EventParticipantRow(e.id, p.id, p.name, p.email, " +
+           "p.phoneNumber, p.bio, p.type, p.isActive, p.createdAt, p.updatedAt) " +
+           "FROM Event e JOIN e.participants p WHERE e.id IN :eventIds")
+    List<EventParticipantRow> findParticipantRowsByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // Stream all events ordered by (eventDate, id) for export, read forward-only and never dirty checked
+    @Query("SELECT e FROM Event e ORDER BY e.eventDate ASC, e.id ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamAllForExport();
+
+    // Stream events starting in [startDate, endDate) ordered by (eventDate, id) for export
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :startDate AND e.eventDate < :endDate ORDER BY e.eventDate ASC, e.id ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Event> streamForExportByDateRange(@Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate);
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.checkproof.explore.ai_tools_java_cursor.repository;
 
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantDocument;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -83,6 +85,15 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     // Check if email exists (case-insensitive)
     boolean existsByEmailIgnoreCase(String email);
 
+    // Find which of the given emails are already in use
+    @Query("SELECT p.email FROM Participant p WHERE p.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Load the searchable columns of every participant for the participant search index
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.ParticipantDocument("
+            + "p.id, p.name, p.email, p.phoneNumber, p.bio, p.type, p.isActive) FROM Participant p")
+    List<ParticipantDocument> findAllSearchDocuments();
+
     // Check if phone number exists
     boolean existsByPhoneNumber(String phoneNumber);
 } 
\ No newline at end of file
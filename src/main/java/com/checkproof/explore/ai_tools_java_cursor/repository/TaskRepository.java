@@ -1,48 +1,89 @@
 package com.checkproof.explore.ai_tools_java_cursor.repository;
 
+import com.checkproof.explore.ai_tools_java_cursor.index.SearchDocument;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskSlot;
 import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    // Find tasks by date range
-    @Query("SELECT t FROM Task t WHERE t.startDate BETWEEN :startDate AND :endDate ORDER BY t.startDate ASC")
+    // Rows the driver fetches per round trip while an export scrolls
+    String EXPORT_FETCH_SIZE = "500";
+
+    // Find tasks by date range, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate BETWEEN :startDate AND :endDate ORDER BY t.startDate ASC")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findTasksByDateRange(@Param("startDate") LocalDateTime startDate, 
                                    @Param("endDate") LocalDateTime endDate);
 
-    // Find tasks by date range with pagination
-    @Query("SELECT t FROM Task t WHERE t.startDate BETWEEN :startDate AND :endDate ORDER BY t.startDate ASC")
+    // Find tasks by date range with pagination, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate BETWEEN :startDate AND :endDate ORDER BY t.startDate ASC")
     Page<Task> findTasksByDateRange(@Param("startDate") LocalDateTime startDate, 
                                    @Param("endDate") LocalDateTime endDate, 
                                    Pageable pageable);
 
-    // Find upcoming tasks within next 7 days
-    @Query("SELECT t FROM Task t WHERE t.startDate BETWEEN :now AND :sevenDaysLater ORDER BY t.startDate ASC")
+    // First rows of a date range in the requested order, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate BETWEEN :startDate AND :endDate")
+    List<Task> findTasksByDateRange(@Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate,
+                                   Sort sort, Limit limit);
+
+    // Count tasks in a date range, excluding series masters
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.seriesMaster = false AND t.startDate BETWEEN :startDate AND :endDate")
+    long countTasksByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Find upcoming tasks within next 7 days, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate >= :now AND t.startDate < :sevenDaysLater ORDER BY t.startDate ASC")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findUpcomingTasks(@Param("now") LocalDateTime now, 
                                 @Param("sevenDaysLater") LocalDateTime sevenDaysLater);
 
-    // Find upcoming tasks with pagination
-    @Query("SELECT t FROM Task t WHERE t.startDate BETWEEN :now AND :sevenDaysLater ORDER BY t.startDate ASC")
+    // Find upcoming tasks with pagination, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate >= :now AND t.startDate < :sevenDaysLater ORDER BY t.startDate ASC")
     Page<Task> findUpcomingTasks(@Param("now") LocalDateTime now, 
                                 @Param("sevenDaysLater") LocalDateTime sevenDaysLater, 
                                 Pageable pageable);
 
+    // First upcoming rows in the requested order, excluding series masters
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate >= :now AND t.startDate < :sevenDaysLater")
+    List<Task> findUpcomingTasks(@Param("now") LocalDateTime now,
+                                @Param("sevenDaysLater") LocalDateTime sevenDaysLater,
+                                Sort sort, Limit limit);
+
+    // Count upcoming tasks, excluding series masters
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.seriesMaster = false AND t.startDate >= :now AND t.startDate < :sevenDaysLater")
+    long countUpcomingTasksExcludingMasters(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater);
+
     // Find tasks by priority
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findByPriorityOrderByStartDateAsc(Task.Priority priority);
 
     // Find tasks by status
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findByStatusOrderByStartDateAsc(Task.TaskStatus status);
 
     // Find tasks by priority and status
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findByPriorityAndStatusOrderByStartDateAsc(Task.Priority priority, Task.TaskStatus status);
 
     // Find tasks by priority and status with pagination
@@ -52,6 +93,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     // Find overdue tasks (tasks with end date in the past and not completed)
     @Query("SELECT t FROM Task t WHERE t.endDate < :now AND t.status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY t.endDate ASC")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findOverdueTasks(@Param("now") LocalDateTime now);
 
     // Find overdue tasks with pagination
@@ -60,6 +102,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     // Find recurring tasks
     @Query("SELECT t FROM Task t WHERE t.recurrencePattern IS NOT NULL ORDER BY t.startDate ASC")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findRecurringTasks();
 
     // Find recurring tasks with pagination
@@ -76,6 +119,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     // Find tasks by title containing (case-insensitive)
     @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) ORDER BY t.startDate ASC")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
     List<Task> findByTitleContainingIgnoreCase(@Param("title") String title);
 
     // Find tasks by title containing with pagination
@@ -93,6 +137,84 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     long countOverdueTasks(@Param("now") LocalDateTime now);
 
     // Count upcoming tasks
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.startDate BETWEEN :now AND :sevenDaysLater")
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.startDate >= :now AND t.startDate < :sevenDaysLater")
     long countUpcomingTasks(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater);
+
+    // Load the participant time slots of every non-cancelled task for the timeline index
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.TaskSlot(t.id, p.id, t.startDate, t.endDate) " +
+           "FROM Task t JOIN t.participants p WHERE t.status <> 'CANCELLED' AND t.seriesMaster = false")
+    List<TaskSlot> findActiveTaskSlots();
+
+    // Load the title and description of every task for the text search index
+    @Query("SELECT new com.checkproof.explore.ai_tools_java_cursor.index.SearchDocument(t.id, t.title, t.description) FROM Task t")
+    List<SearchDocument> findAllSearchDocuments();
+
+    // Find the given tasks with participants and patterns, in no particular order
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    @EntityGraph(attributePaths = {"participants", "recurrencePattern"})
+    List<Task> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Find series masters that can recur in a window: first occurrence not after its end and the
+    // pattern not ended before its first day. An RRULE carries its own end, so those always qualify.
+    @Query("SELECT t FROM Task t JOIN FETCH t.recurrencePattern rp WHERE t.seriesMaster = true AND t.startDate <= :endDate " +
+           "AND (rp.endDate IS NULL OR rp.endDate >= :startDay OR rp.rrule IS NOT NULL) ORDER BY t.startDate ASC")
+    List<Task> findSeriesMastersInWindow(@Param("startDay") LocalDate startDay, @Param("endDate") LocalDateTime endDate);
+
+    // Find non-cancelled series masters shared with any of the given participants
+    @Query("SELECT DISTINCT t FROM Task t JOIN FETCH t.recurrencePattern JOIN t.participants p " +
+           "WHERE t.seriesMaster = true AND t.status <> 'CANCELLED' AND p.id IN :participantIds")
+    List<Task> findActiveSeriesMastersByParticipantIds(@Param("participantIds") Collection<Long> participantIds);
+
+    // Find the override rows of the given series
+    List<Task> findBySeriesIdIn(Collection<Long> seriesIds);
+
+    // Find active materialized series masters starting before the horizon whose stored occurrences end before it
+    @Query("SELECT t FROM Task t JOIN FETCH t.recurrencePattern rp WHERE t.seriesMaster = true AND t.materialized = true " +
+           "AND t.startDate < :horizon " +
+           "AND (rp.endDate IS NULL OR rp.endDate >= :today) " +
+           "AND (t.materializedUntil IS NULL OR t.materializedUntil < :horizon) ORDER BY t.id ASC")
+    List<Task> findSeriesMastersToMaterialize(@Param("today") LocalDate today, @Param("horizon") LocalDateTime horizon, Pageable pageable);
+
+    // Find the override row of one occurrence of a series
+    Optional<Task> findBySeriesIdAndOriginalStartDate(Long seriesId, LocalDateTime originalStartDate);
+
+    // Keyset pagination: first page of all tasks ordered by (startDate, id)
+    @Query("SELECT t FROM Task t ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findTaskPage(Limit limit);
+
+    // Keyset pagination: tasks after the (afterDate, afterId) position
+    @Query("SELECT t FROM Task t WHERE t.startDate >= :afterDate AND (t.startDate > :afterDate OR t.id > :afterId) " +
+           "ORDER BY t.startDate ASC, t.id ASC")
+    List<Task> findTaskPageAfter(@Param("afterDate") LocalDateTime afterDate, @Param("afterId") Long afterId, Limit limit);
+
+    // Slice of all tasks, without a count query
+    @Query("SELECT t FROM Task t")
+    Slice<Task> findTaskSlice(Pageable pageable);
+
+    // Slice of occurrences and single tasks in a date range, without a count query
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate BETWEEN :startDate AND :endDate ORDER BY t.startDate ASC")
+    Slice<Task> findTaskSliceByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+                                         Pageable pageable);
+
+    // Slice of upcoming occurrences and single tasks, without a count query
+    @Query("SELECT t FROM Task t WHERE t.seriesMaster = false AND t.startDate >= :now AND t.startDate < :sevenDaysLater ORDER BY t.startDate ASC")
+    Slice<Task> findUpcomingTaskSlice(@Param("now") LocalDateTime now, @Param("sevenDaysLater") LocalDateTime sevenDaysLater,
+                                      Pageable pageable);
+
+    // Stream all tasks, series masters included, ordered by (startDate, id) for export
+    @Query("SELECT t FROM Task t ORDER BY t.startDate ASC, t.id ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAllForExport();
+
+    // Stream tasks starting in [startDate, endDate) ordered by (startDate, id) for export
+    @Query("SELECT t FROM Task t WHERE t.startDate >= :startDate AND t.startDate < :endDate ORDER BY t.startDate ASC, t.id ASC")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamForExportByDateRange(@Param("startDate") LocalDateTime startDate,
+                                            @Param("endDate") LocalDateTime endDate);
 } 
\ No newline at end of file
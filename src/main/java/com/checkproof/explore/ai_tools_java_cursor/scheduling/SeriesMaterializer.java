@@ -0,0 +1,44 @@
+package com.checkproof.explore.ai_tools_java_cursor.scheduling;
+
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a rolling window of stored occurrences for every active task series. Each run extends
+ * the series batch by batch, one transaction per batch, so requests find the occurrences as
+ * rows instead of expanding them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeriesMaterializer {
+
+    private final TaskService taskService;
+
+    @Value("${calendar.recurrence.materialize-batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${calendar.recurrence.materialize-initial-delay:PT1M}",
+               fixedDelayString = "${calendar.recurrence.materialize-interval:PT1H}")
+    public void extendHorizon() {
+        int total = 0;
+        try {
+            int extended;
+            do {
+                extended = taskService.materializeSeries(batchSize);
+                total += extended;
+            } while (extended == batchSize);
+        } catch (RuntimeException e) {
+            // The failed batch was rolled back and is retried on the next run
+            log.error("Series materialization stopped after {} series", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("Extended {} task series to the materialization horizon", total);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.checkproof.explore.ai_tools_java_cursor.service;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.FreeSlotDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service interface for participant availability lookups
+ */
+public interface AvailabilityService {
+
+    /**
+     * Find the first free slots of the given length shared by all participants.
+     * A null start defaults to now and a null end to the default horizon.
+     */
+    List<FreeSlotDto> findFreeSlots(Set<Long> participantIds, LocalDateTime from, LocalDateTime to,
+                                    int durationMinutes, int limit, boolean businessHoursOnly);
+}
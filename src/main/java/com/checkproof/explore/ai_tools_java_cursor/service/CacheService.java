@@ -0,0 +1,21 @@
+package com.checkproof.explore.ai_tools_java_cursor.service;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.CacheRegionStatisticsDto;
+
+import java.util.List;
+
+/**
+ * Service interface for inspecting and clearing the second-level entity cache
+ */
+public interface CacheService {
+
+    /**
+     * Hits, misses, puts, evictions and size of every entity and collection region, by region name
+     */
+    List<CacheRegionStatisticsDto> getRegionStatistics();
+
+    /**
+     * Drop every cached entity and collection
+     */
+    void evictAll();
+}
@@ -1,8 +1,11 @@
 package com.checkproof.explore.ai_tools_java_cursor.service;
 
+import com.checkproof.explore.ai_tools_java_cursor.dto.CandidateConflictResult;
 import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventStatisticsResponse;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 
@@ -35,6 +38,7 @@ public interface EventService {
     // Event Conflict Detection
     boolean hasTimeConflict(EventDto eventDto);
     List<EventDto> findConflictingEvents(EventDto eventDto);
+    List<CandidateConflictResult> checkConflictsBatch(List<EventDto> candidates);
     boolean isTimeSlotAvailable(LocalDateTime startTime, LocalDateTime endTime, Long excludeEventId);
     
     // Participant Management
@@ -60,6 +64,8 @@ public interface EventService {
     List<EventDto> getEventsWithUpcomingReminders(LocalDateTime from, LocalDateTime to);
     
     // Statistics and Analytics
+    EventStatisticsResponse getEventStatistics();
+    List<StatisticsGroupDto> getEventStatisticsBreakdown(String dimension);
     long getEventCountByCategory(Event.EventCategory category);
     long getUpcomingEventCount();
     long getTodayEventCount();
@@ -0,0 +1,22 @@
+package com.checkproof.explore.ai_tools_java_cursor.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for streaming exports. Rows are written as NDJSON while they are read, so
+ * the size of an export is not bounded by memory.
+ */
+public interface ExportService {
+
+    /**
+     * Write events in date order, all of them or those starting in [from, to), and return how many were written
+     */
+    long exportEvents(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
+
+    /**
+     * Write tasks in start date order, all of them or those starting in [from, to), and return how many were written
+     */
+    long exportTasks(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException;
+}
@@ -0,0 +1,28 @@
+package com.checkproof.explore.ai_tools_java_cursor.service;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportResultDto;
+import com.checkproof.explore.ai_tools_java_cursor.util.ImportRecordReader;
+
+import java.io.Reader;
+
+/**
+ * Service interface for streaming bulk imports. Records are read one at a time and written in
+ * batches, each committed on its own, so that a rejected row never stops the rows after it.
+ */
+public interface ImportService {
+
+    /**
+     * Import events, rejecting rows that conflict with stored events or with earlier rows
+     */
+    ImportResultDto importEvents(Reader body, ImportRecordReader.Format format);
+
+    /**
+     * Import single tasks, rejecting rows that overlap other tasks of the same participants
+     */
+    ImportResultDto importTasks(Reader body, ImportRecordReader.Format format);
+
+    /**
+     * Import participants, rejecting rows whose email is already taken
+     */
+    ImportResultDto importParticipants(Reader body, ImportRecordReader.Format format);
+}
@@ -0,0 +1,33 @@
+package com.checkproof.explore.ai_tools_java_cursor.service;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+
+import java.util.List;
+
+/**
+ * Service interface for participant lookups. Substring searches and typeahead are answered from
+ * an in-memory trigram index rather than leading-wildcard LIKE scans.
+ */
+public interface ParticipantService {
+
+    /**
+     * Participants whose name contains the fragment, ignoring case, ordered by name
+     */
+    List<ParticipantDto> searchByName(String name);
+
+    /**
+     * Participants whose phone number contains the fragment, ordered by name
+     */
+    List<ParticipantDto> searchByPhoneNumber(String phoneNumber);
+
+    /**
+     * Participants whose bio contains the fragment, ignoring case, ordered by name
+     */
+    List<ParticipantDto> searchByBio(String bio);
+
+    /**
+     * At most limit participants matching a typed fragment by name, phone number or bio, best
+     * match first; inactive participants are left out unless asked for
+     */
+    List<ParticipantDto> typeahead(String fragment, int limit, boolean includeInactive);
+}
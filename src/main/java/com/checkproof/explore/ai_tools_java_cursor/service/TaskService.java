@@ -1,6 +1,7 @@
 package com.checkproof.explore.ai_tools_java_cursor.service;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskStatisticsDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
@@ -68,10 +69,37 @@ public interface TaskService {
     // ==================== Recurring Task Logic ====================
 
     /**
-     * Create recurring tasks based on recurrence pattern
+     * Create recurring tasks based on recurrence pattern. The tasks are stored as a series whose
+     * occurrences up to the materialization horizon are created now.
      */
     List<TaskDto> createRecurringTasks(TaskDto baseTaskDto, RecurrencePattern pattern);
 
+    /**
+     * Create a recurring series stored as a single master task, expanded at read time
+     */
+    TaskDto createTaskSeries(TaskDto taskDto);
+
+    /**
+     * Store the occurrences of up to batchSize active series up to the materialization horizon,
+     * returning the number of series extended
+     */
+    int materializeSeries(int batchSize);
+
+    /**
+     * Cancel one occurrence of a series, removing its stored row if there is one
+     */
+    void cancelSeriesOccurrence(Long seriesId, LocalDateTime originalStartDate);
+
+    /**
+     * Edit one occurrence of a series, storing it as an override row
+     */
+    TaskDto updateSeriesOccurrence(Long seriesId, LocalDateTime originalStartDate, TaskDto taskDto);
+
+    /**
+     * Change the status of one occurrence of a series, storing it as an override row
+     */
+    TaskDto updateSeriesOccurrenceStatus(Long seriesId, LocalDateTime originalStartDate, Task.TaskStatus newStatus);
+
     // ==================== Status Management ====================
 
     /**
@@ -137,4 +165,12 @@ public interface TaskService {
      * Get task statistics
      */
     TaskStatisticsDto getTaskStatistics();
+
+    /**
+     * Count tasks, overdue tasks and upcoming tasks per group of a dimension: status, priority,
+     * month (of the start date) or participantType
+     *
+     * @throws IllegalArgumentException when the dimension is not one of these
+     */
+    List<StatisticsGroupDto> getTaskStatisticsBreakdown(String dimension);
 } 
\ No newline at end of file
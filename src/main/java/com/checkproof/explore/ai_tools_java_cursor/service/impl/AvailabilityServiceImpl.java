@@ -0,0 +1,168 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.FreeSlotDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.ParticipantNotFoundException;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantEventSlot;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.service.AvailabilityService;
+import com.checkproof.explore.ai_tools_java_cursor.util.BusyBitmap;
+import com.checkproof.explore.ai_tools_java_cursor.validation.BusinessHours;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int DEFAULT_HORIZON_DAYS = 14;
+
+    private static final long BUSINESS_DAY_START_SECONDS =
+        BusinessHours.DEFAULT_START_HOUR * 3600L + BusinessHours.DEFAULT_START_MINUTE * 60L;
+    private static final long BUSINESS_DAY_END_SECONDS =
+        BusinessHours.DEFAULT_END_HOUR * 3600L + BusinessHours.DEFAULT_END_MINUTE * 60L;
+
+    private final ParticipantRepository participantRepository;
+    private final EventRepository eventRepository;
+    private final TaskTimelineIndex taskTimelineIndex;
+
+    @Value("${calendar.availability.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${calendar.availability.max-horizon-days:90}")
+    private int maxHorizonDays;
+
+    @Override
+    public List<FreeSlotDto> findFreeSlots(Set<Long> participantIds, LocalDateTime from, LocalDateTime to,
+                                           int durationMinutes, int limit, boolean businessHoursOnly) {
+        LocalDateTime searchStart = from != null ? from : LocalDateTime.now();
+        LocalDateTime searchEnd = to != null ? to : searchStart.plusDays(DEFAULT_HORIZON_DAYS);
+        log.info("Finding {} free slots of {} minutes for participants {} between {} and {}",
+            limit, durationMinutes, participantIds, searchStart, searchEnd);
+
+        validateRequest(participantIds, searchStart, searchEnd, durationMinutes, limit);
+        verifyParticipantsExist(participantIds);
+
+        long slotSeconds = slotMinutes * 60L;
+        long origin = Math.ceilDiv(toEpochSecond(searchStart), slotSeconds) * slotSeconds;
+        long horizonEnd = Math.floorDiv(toEpochSecond(searchEnd), slotSeconds) * slotSeconds;
+        if (horizonEnd <= origin) {
+            return List.of();
+        }
+        int slotCount = (int) ((horizonEnd - origin) / slotSeconds);
+        LocalDateTime windowStart = toLocalDateTime(origin);
+        LocalDateTime windowEnd = toLocalDateTime(horizonEnd);
+
+        Map<Long, BusyBitmap> busyByParticipant = new HashMap<>();
+        for (Long participantId : participantIds) {
+            BusyBitmap bitmap = new BusyBitmap(slotCount);
+            taskTimelineIndex.forEachOverlapping(participantId, windowStart, windowEnd,
+                (taskId, start, end) -> markBusy(bitmap, origin, slotSeconds, start, end));
+            busyByParticipant.put(participantId, bitmap);
+        }
+
+        // Events are validated to last at most a day, so older events cannot reach into the window
+        List<ParticipantEventSlot> eventSlots = eventRepository.findParticipantEventSlots(
+            participantIds, windowStart.minusMinutes(Event.MAX_DURATION_MINUTES), windowEnd);
+        for (ParticipantEventSlot slot : eventSlots) {
+            long start = toEpochSecond(slot.eventDate());
+            long end = slot.durationMinutes() != null ? start + slot.durationMinutes() * 60L : start;
+            markBusy(busyByParticipant.get(slot.participantId()), origin, slotSeconds, start, end);
+        }
+
+        BusyBitmap combined = new BusyBitmap(slotCount);
+        busyByParticipant.values().forEach(combined::or);
+        if (businessHoursOnly) {
+            combined.or(outsideBusinessHours(origin, horizonEnd, slotSeconds, slotCount));
+        }
+
+        int runLength = (int) Math.ceilDiv(durationMinutes * 60L, slotSeconds);
+        List<FreeSlotDto> freeSlots = new ArrayList<>();
+        int slot = combined.nextFreeRun(0, runLength);
+        while (slot >= 0 && freeSlots.size() < limit) {
+            LocalDateTime startTime = toLocalDateTime(origin + slot * slotSeconds);
+            freeSlots.add(new FreeSlotDto(startTime, startTime.plusMinutes(durationMinutes)));
+            slot = combined.nextFreeRun(slot + runLength, runLength);
+        }
+        return freeSlots;
+    }
+
+    private void validateRequest(Set<Long> participantIds, LocalDateTime searchStart, LocalDateTime searchEnd,
+                                 int durationMinutes, int limit) {
+        if (participantIds == null || participantIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one participant is required");
+        }
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (!searchEnd.isAfter(searchStart)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        if (searchEnd.isAfter(searchStart.plusDays(maxHorizonDays))) {
+            throw new IllegalArgumentException("Search horizon cannot exceed " + maxHorizonDays + " days");
+        }
+    }
+
+    private void verifyParticipantsExist(Set<Long> participantIds) {
+        Set<Long> foundIds = participantRepository.findAllById(participantIds).stream()
+            .map(Participant::getId)
+            .collect(Collectors.toSet());
+        if (foundIds.size() != participantIds.size()) {
+            Set<Long> missingIds = new HashSet<>(participantIds);
+            missingIds.removeAll(foundIds);
+            throw new ParticipantNotFoundException("Participants not found with IDs: " + missingIds);
+        }
+    }
+
+    /**
+     * Mark every slot touched by [start, end) as busy, rounding outwards to slot boundaries
+     */
+    private static void markBusy(BusyBitmap bitmap, long origin, long slotSeconds, long start, long end) {
+        if (end <= start) {
+            return;
+        }
+        long fromSlot = Math.floorDiv(start - origin, slotSeconds);
+        long toSlot = Math.ceilDiv(end - origin, slotSeconds);
+        int slotCount = bitmap.slotCount();
+        bitmap.markBusy((int) Math.min(Math.max(fromSlot, 0), slotCount), (int) Math.min(Math.max(toSlot, 0), slotCount));
+    }
+
+    private static BusyBitmap outsideBusinessHours(long origin, long horizonEnd, long slotSeconds, int slotCount) {
+        BusyBitmap mask = new BusyBitmap(slotCount);
+        for (long day = Math.floorDiv(origin, SECONDS_PER_DAY) * SECONDS_PER_DAY; day < horizonEnd; day += SECONDS_PER_DAY) {
+            markBusy(mask, origin, slotSeconds, day, day + BUSINESS_DAY_START_SECONDS);
+            markBusy(mask, origin, slotSeconds, day + BUSINESS_DAY_END_SECONDS, day + SECONDS_PER_DAY);
+        }
+        return mask;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,59 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.cache.BoundedRegionFactory;
+import com.checkproof.explore.ai_tools_java_cursor.cache.BoundedStorageAccess;
+import com.checkproof.explore.ai_tools_java_cursor.dto.CacheRegionStatisticsDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.CacheService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Hits, misses and puts come from Hibernate's statistics, which count lookups of cached
+ * entities and collections only; size and evictions come from the region storage.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CacheServiceImpl implements CacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final BoundedRegionFactory boundedRegionFactory;
+
+    @Override
+    public List<CacheRegionStatisticsDto> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return boundedRegionFactory.getRegions().stream()
+                .sorted(Comparator.comparing(BoundedStorageAccess::getRegionName))
+                .map(region -> toDto(region, statistics.getDomainDataRegionStatistics(region.getRegionName())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void evictAll() {
+        log.info("Evicting all second-level cache regions");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private static CacheRegionStatisticsDto toDto(BoundedStorageAccess region, CacheRegionStatistics statistics) {
+        long hits = statistics == null ? 0 : statistics.getHitCount();
+        long misses = statistics == null ? 0 : statistics.getMissCount();
+        return CacheRegionStatisticsDto.builder()
+                .region(region.getRegionName())
+                .hits(hits)
+                .misses(misses)
+                .puts(statistics == null ? 0 : statistics.getPutCount())
+                .evictions(region.evictionCount())
+                .size(region.size())
+                .hitRatio(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .build();
+    }
+}
@@ -1,30 +1,59 @@
 package com.checkproof.explore.ai_tools_java_cursor.service.impl;
 
+import com.checkproof.explore.ai_tools_java_cursor.dto.CandidateConflictResult;
 import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventRow;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventStatisticsResponse;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
-import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationMetadataDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.exception.EventNotFoundException;
 import com.checkproof.explore.ai_tools_java_cursor.exception.EventOverlapException;
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidEventException;
 import com.checkproof.explore.ai_tools_java_cursor.exception.ParticipantNotFoundException;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TextSearchIndex;
 import com.checkproof.explore.ai_tools_java_cursor.mapper.EventMapper;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
 import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
 import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.Dimension;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.GroupedCounts;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsEngine;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsGroups;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsQuery;
+import com.checkproof.explore.ai_tools_java_cursor.util.IntervalSweep;
+import com.checkproof.explore.ai_tools_java_cursor.util.InvertedIndex;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCountCache;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCursor;
+import com.checkproof.explore.ai_tools_java_cursor.util.ScoreCursor;
+import com.checkproof.explore.ai_tools_java_cursor.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,37 +62,57 @@ import java.util.stream.Collectors;
 @Transactional
 public class EventServiceImpl implements EventService {
 
+    // Statistics measures and the dimensions events can be broken down by
+    static final String UPCOMING = "upcoming";
+    static final String TODAY = "today";
+    private static final Dimension<Event> CATEGORY_DIMENSION = Dimension.attribute("category", "category");
+    private static final List<Dimension<Event>> STATISTICS_DIMENSIONS = List.of(
+            CATEGORY_DIMENSION,
+            Dimension.month("month", "eventDate"),
+            Dimension.joined("participantType", "participants", "type"));
+
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
     private final EventMapper eventMapper;
+    private final EventConflictIndex eventConflictIndex;
+    private final PageCountCache pageCountCache;
+    private final TextSearchIndex textSearchIndex;
+    private final StatisticsEngine statisticsEngine;
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsForMonth(int year, int month) {
         log.info("Fetching events for month: {}/{}", month, year);
         
-        List<Event> events = eventRepository.findEventsByMonthAndYear(year, month);
-        return eventMapper.toDtoList(events);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(
+            yearMonth.atDay(1).atStartOfDay(),
+            yearMonth.plusMonths(1).atDay(1).atStartOfDay()
+        );
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsForWeek(LocalDate startDate) {
         log.info("Fetching events for week starting: {}", startDate);
         
         LocalDate endDate = startDate.plusDays(6);
-        List<Event> events = eventRepository.findEventsByDateRange(
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(
             startDate.atStartOfDay(), 
-            endDate.atTime(23, 59, 59)
+            endDate.plusDays(1).atStartOfDay()
         );
         
-        return eventMapper.toDtoList(events);
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsForDay(LocalDate date) {
         log.info("Fetching events for day: {}", date);
         
-        List<Event> events = eventRepository.findEventsByDate(date.atStartOfDay());
-        return eventMapper.toDtoList(events);
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        return toDtoList(rows);
     }
 
     @Override
@@ -83,6 +132,7 @@ public class EventServiceImpl implements EventService {
         
         // Save the event
         Event savedEvent = eventRepository.save(event);
+        indexAfterCommit(savedEvent);
         
         log.info("Event created successfully with ID: {}", savedEvent.getId());
         return eventMapper.toDto(savedEvent);
@@ -109,6 +159,7 @@ public class EventServiceImpl implements EventService {
         
         // Save the updated event
         Event updatedEvent = eventRepository.save(existingEvent);
+        indexAfterCommit(updatedEvent);
         
         log.info("Event updated successfully with ID: {}", updatedEvent.getId());
         return eventMapper.toDto(updatedEvent);
@@ -123,48 +174,48 @@ public class EventServiceImpl implements EventService {
         }
         
         eventRepository.deleteById(id);
+        TransactionUtil.afterCommit(() -> eventConflictIndex.remove(id));
         log.info("Event deleted successfully with ID: {}", id);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> searchEventsByName(String name) {
         log.info("Searching events by name: {}", name);
         
-        List<Event> events = eventRepository.findByNameContainingIgnoreCase(name);
-        return eventMapper.toDtoList(events);
+        List<Long> eventIds = textSearchIndex.searchEvents(name, TextSearchIndex.TITLE);
+        return toDtoList(findEventRowsInOrder(eventIds));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> searchEventsByDescription(String description) {
         log.info("Searching events by description: {}", description);
         
-        List<Event> events = eventRepository.findByDescriptionContainingIgnoreCase(description);
-        return eventMapper.toDtoList(events);
+        List<Long> eventIds = textSearchIndex.searchEvents(description, TextSearchIndex.DESCRIPTION);
+        return toDtoList(findEventRowsInOrder(eventIds));
     }
 
     @Override
     public PaginatedResponseDto<EventDto> getAllEvents(PaginationRequestDto paginationRequest) {
         log.info("Fetching all events with pagination: {}", paginationRequest);
         
+        if (paginationRequest.isCursorMode()) {
+            PageCursor after = paginationRequest.getCursorPosition();
+            Limit limit = Limit.of(paginationRequest.getSize() + 1);
+            List<Event> events = after == null
+                ? eventRepository.findEventPage(limit)
+                : eventRepository.findEventPageAfter(after.date(), after.id(), limit);
+            return keysetPage(events, paginationRequest, "all", eventRepository::count);
+        }
+        
         Pageable pageable = PageRequest.of(
             paginationRequest.getPage(), 
             paginationRequest.getSize()
         );
         
-        Page<Event> eventPage = eventRepository.findAll(pageable);
-        
-        List<EventDto> eventDtos = eventMapper.toDtoList(eventPage.getContent());
-        
-        PaginationMetadataDto metadata = PaginationMetadataDto.builder()
-            .pageNumber(paginationRequest.getPage())
-            .pageSize(paginationRequest.getSize())
-            .totalElements(eventPage.getTotalElements())
-            .totalPages(eventPage.getTotalPages())
-            .hasNext(eventPage.hasNext())
-            .hasPrevious(eventPage.hasPrevious())
-            .build();
-        
-        return new PaginatedResponseDto<>(eventDtos, metadata);
+        return countedPage(paginationRequest, "all", pageable,
+            eventRepository::findAll, eventRepository::findEventSlice);
     }
 
     @Override
@@ -189,74 +240,61 @@ public class EventServiceImpl implements EventService {
             paginationRequest.getSize()
         );
         
-        Page<Event> eventPage = eventRepository.findUpcomingEvents(now, endOfWeek, pageable);
-        
-        List<EventDto> eventDtos = eventMapper.toDtoList(eventPage.getContent());
-        
-        PaginationMetadataDto metadata = PaginationMetadataDto.builder()
-            .pageNumber(paginationRequest.getPage())
-            .pageSize(paginationRequest.getSize())
-            .totalElements(eventPage.getTotalElements())
-            .totalPages(eventPage.getTotalPages())
-            .hasNext(eventPage.hasNext())
-            .hasPrevious(eventPage.hasPrevious())
-            .build();
-        
-        return new PaginatedResponseDto<>(eventDtos, metadata);
+        // The window moves with the clock; a cached count is only as stale as its time to live
+        return countedPage(paginationRequest, "upcoming", pageable,
+            p -> eventRepository.findUpcomingEvents(now, endOfWeek, p),
+            p -> eventRepository.findUpcomingEventSlice(now, endOfWeek, p));
     }
 
     @Override
     public PaginatedResponseDto<EventDto> getEventsByDateRange(LocalDate startDate, LocalDate endDate, PaginationRequestDto paginationRequest) {
         log.info("Fetching events in date range: {} to {}", startDate, endDate);
         
+        if (paginationRequest.isCursorMode()) {
+            PageCursor after = paginationRequest.getCursorPosition();
+            LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+            Limit limit = Limit.of(paginationRequest.getSize() + 1);
+            List<Event> events = after == null
+                ? eventRepository.findEventPageByDateRange(startDate.atStartOfDay(), end, limit)
+                : eventRepository.findEventPageByDateRangeAfter(after.date(), after.id(), end, limit);
+            return keysetPage(events, paginationRequest, "dateRange:" + startDate.atStartOfDay() + "/" + end,
+                () -> eventRepository.countEventsByDateRange(startDate.atStartOfDay(), end));
+        }
+        
         Pageable pageable = PageRequest.of(
             paginationRequest.getPage(), 
             paginationRequest.getSize()
         );
         
-        Page<Event> eventPage = eventRepository.findEventsByDateRange(
-            startDate.atStartOfDay(), 
-            endDate.atTime(23, 59, 59), 
-            pageable
-        );
-        
-        List<EventDto> eventDtos = eventMapper.toDtoList(eventPage.getContent());
-        
-        PaginationMetadataDto metadata = PaginationMetadataDto.builder()
-            .pageNumber(paginationRequest.getPage())
-            .pageSize(paginationRequest.getSize())
-            .totalElements(eventPage.getTotalElements())
-            .totalPages(eventPage.getTotalPages())
-            .hasNext(eventPage.hasNext())
-            .hasPrevious(eventPage.hasPrevious())
-            .build();
-        
-        return new PaginatedResponseDto<>(eventDtos, metadata);
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        return countedPage(paginationRequest, "dateRange:" + start + "/" + end, pageable,
+            p -> eventRepository.findEventsByDateRange(start, end, p),
+            p -> eventRepository.findEventSliceByDateRange(start, end, p));
     }
 
     @Override
     public PaginatedResponseDto<EventDto> getEventsByCategory(Event.EventCategory category, PaginationRequestDto paginationRequest) {
         log.info("Fetching events by category: {}", category);
         
+        if (paginationRequest.isCursorMode()) {
+            PageCursor after = paginationRequest.getCursorPosition();
+            Limit limit = Limit.of(paginationRequest.getSize() + 1);
+            List<Event> events = after == null
+                ? eventRepository.findEventPageByCategory(category, limit)
+                : eventRepository.findEventPageByCategoryAfter(category, after.date(), after.id(), limit);
+            return keysetPage(events, paginationRequest, "category:" + category,
+                () -> eventRepository.countByCategory(category));
+        }
+        
         Pageable pageable = PageRequest.of(
             paginationRequest.getPage(), 
             paginationRequest.getSize()
         );
         
-        Page<Event> eventPage = eventRepository.findByCategoryOrderByEventDateAsc(category, pageable);
-        
-        List<EventDto> eventDtos = eventMapper.toDtoList(eventPage.getContent());
-        
-        PaginationMetadataDto metadata = PaginationMetadataDto.builder()
-            .pageNumber(paginationRequest.getPage())
-            .pageSize(paginationRequest.getSize())
-            .totalElements(eventPage.getTotalElements())
-            .totalPages(eventPage.getTotalPages())
-            .hasNext(eventPage.hasNext())
-            .hasPrevious(eventPage.hasPrevious())
-            .build();
-        
-        return new PaginatedResponseDto<>(eventDtos, metadata);
+        return countedPage(paginationRequest, "category:" + category, pageable,
+            p -> eventRepository.findByCategoryOrderByEventDateAsc(category, p),
+            p -> eventRepository.findEventSliceByCategory(category, p));
     }
 
     @Override
@@ -305,7 +343,8 @@ public class EventServiceImpl implements EventService {
     public List<EventDto> getEventsByParticipant(Long participantId) {
         log.info("Fetching events for participant: {}", participantId);
         
-        if (!participantRepository.existsById(participantId)) {
+        // Looked up by id rather than counted, so that a cached participant needs no query
+        if (participantRepository.findById(participantId).isEmpty()) {
             throw new ParticipantNotFoundException("Participant not found with ID: " + participantId);
         }
         
@@ -320,8 +359,7 @@ public class EventServiceImpl implements EventService {
         LocalDateTime startTime = eventDto.getEventDate();
         LocalDateTime endTime = startTime.plusMinutes(eventDto.getDurationMinutes());
         
-        List<Event> conflictingEvents = eventRepository.findEventsByDateRange(startTime, endTime);
-        return !conflictingEvents.isEmpty();
+        return eventConflictIndex.hasOverlap(startTime, endTime, null);
     }
 
     @Override
@@ -331,23 +369,151 @@ public class EventServiceImpl implements EventService {
         LocalDateTime startTime = eventDto.getEventDate();
         LocalDateTime endTime = startTime.plusMinutes(eventDto.getDurationMinutes());
         
-        List<Event> conflictingEvents = eventRepository.findEventsByDateRange(startTime, endTime);
-        return eventMapper.toDtoList(conflictingEvents);
+        List<Long> conflictingIds = eventConflictIndex.findOverlappingIds(startTime, endTime, null);
+        return eventMapper.toDtoList(loadEventsInDateOrder(conflictingIds));
     }
 
     @Override
-    public boolean isTimeSlotAvailable(LocalDateTime startTime, LocalDateTime endTime, Long excludeEventId) {
-        log.info("Checking time slot availability: {} to {}", startTime, endTime);
+    @Transactional(readOnly = true)
+    public List<CandidateConflictResult> checkConflictsBatch(List<EventDto> candidates) {
+        log.info("Checking conflicts for {} candidate events", candidates.size());
         
-        List<Event> conflictingEvents = eventRepository.findEventsByDateRange(startTime, endTime);
+        int candidateCount = candidates.size();
+        if (candidateCount == 0) {
+            return List.of();
+        }
+        
+        long[] candidateStarts = new long[candidateCount];
+        long[] candidateEnds = new long[candidateCount];
+        Set<Long> candidateEventIds = new HashSet<>();
+        LocalDateTime windowStart = null;
+        LocalDateTime windowEnd = null;
+        for (int i = 0; i < candidateCount; i++) {
+            EventDto candidate = candidates.get(i);
+            if (candidate.getEventDate() == null) {
+                throw new InvalidEventException("Event date is required for candidate " + i);
+            }
+            LocalDateTime startTime = candidate.getEventDate();
+            LocalDateTime endTime = candidate.getDurationMinutes() != null
+                ? startTime.plusMinutes(candidate.getDurationMinutes())
+                : startTime;
+            candidateStarts[i] = EventConflictIndex.toEpochSecond(startTime);
+            candidateEnds[i] = EventConflictIndex.toEpochSecond(endTime);
+            windowStart = windowStart == null || startTime.isBefore(windowStart) ? startTime : windowStart;
+            windowEnd = windowEnd == null || endTime.isAfter(windowEnd) ? endTime : windowEnd;
+            if (candidate.getId() != null) {
+                candidateEventIds.add(candidate.getId());
+            }
+        }
         
-        if (excludeEventId != null) {
-            conflictingEvents = conflictingEvents.stream()
-                .filter(event -> !event.getId().equals(excludeEventId))
-                .collect(Collectors.toList());
+        // Existing events touching the union window, skipping the ones being rescheduled by a candidate
+        List<long[]> existingSlots = new ArrayList<>();
+        eventConflictIndex.forEachOverlapping(windowStart, windowEnd, (id, start, end) -> {
+            if (!candidateEventIds.contains(id)) {
+                existingSlots.add(new long[]{id, start, end});
+            }
+        });
+        
+        int total = candidateCount + existingSlots.size();
+        long[] starts = Arrays.copyOf(candidateStarts, total);
+        long[] ends = Arrays.copyOf(candidateEnds, total);
+        boolean[] existing = new boolean[total];
+        for (int i = candidateCount; i < total; i++) {
+            long[] slot = existingSlots.get(i - candidateCount);
+            starts[i] = slot[1];
+            ends[i] = slot[2];
+            existing[i] = true;
         }
         
-        return conflictingEvents.isEmpty();
+        List<List<Integer>> conflicts = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            conflicts.add(new ArrayList<>());
+        }
+        IntervalSweep.findOverlaps(starts, ends, existing, (first, second) -> {
+            if (first < candidateCount) {
+                conflicts.get(first).add(second);
+            }
+            if (second < candidateCount) {
+                conflicts.get(second).add(first);
+            }
+        });
+        
+        // Load every conflicting event in one query
+        Set<Long> conflictingIds = new HashSet<>();
+        conflicts.forEach(indexes -> indexes.stream()
+            .filter(index -> index >= candidateCount)
+            .forEach(index -> conflictingIds.add(existingSlots.get(index - candidateCount)[0])));
+        Map<Long, EventDto> conflictingEvents = conflictingIds.isEmpty() ? Map.of()
+            : eventRepository.findAllById(conflictingIds).stream()
+                .collect(Collectors.toMap(Event::getId, eventMapper::toDto));
+        
+        List<CandidateConflictResult> results = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            List<Integer> indexes = conflicts.get(i);
+            indexes.sort(Comparator.<Integer>comparingLong(index -> starts[index]).thenComparingInt(index -> index));
+            
+            List<EventDto> events = new ArrayList<>();
+            List<Integer> otherCandidates = new ArrayList<>();
+            for (int index : indexes) {
+                if (index < candidateCount) {
+                    otherCandidates.add(index);
+                } else {
+                    EventDto event = conflictingEvents.get(existingSlots.get(index - candidateCount)[0]);
+                    if (event != null) {
+                        events.add(event);
+                    }
+                }
+            }
+            Collections.sort(otherCandidates);
+            results.add(new CandidateConflictResult(i, candidates.get(i).getName(),
+                !indexes.isEmpty(), events, otherCandidates));
+        }
+        return results;
+    }
+
+    @Override
+    public boolean isTimeSlotAvailable(LocalDateTime startTime, LocalDateTime endTime, Long excludeEventId) {
+        log.info("Checking time slot availability: {} to {}", startTime, endTime);
+        
+        return !eventConflictIndex.hasOverlap(startTime, endTime, excludeEventId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventStatisticsResponse getEventStatistics() {
+        // One grouped pass instead of a count query per figure
+        GroupedCounts counts = statisticsEngine.run(eventStatisticsQuery(LocalDateTime.now())
+                .groupBy(CATEGORY_DIMENSION));
+        return new EventStatisticsResponse(
+                counts.total(UPCOMING),
+                counts.total(TODAY),
+                counts.count(Event.EventCategory.MEETING),
+                counts.count(Event.EventCategory.CONFERENCE),
+                counts.count(Event.EventCategory.WORKSHOP));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsGroupDto> getEventStatisticsBreakdown(String dimension) {
+        Dimension<Event> groupBy = StatisticsGroups.dimension(STATISTICS_DIMENSIONS, dimension);
+        return StatisticsGroups.toDtos(statisticsEngine.run(eventStatisticsQuery(LocalDateTime.now()).groupBy(groupBy)));
+    }
+
+    /**
+     * Upcoming: starting in the next seven days; today: starting today. The same conditions as
+     * getUpcomingEventCount and getTodayEventCount.
+     */
+    private static StatisticsQuery<Event> eventStatisticsQuery(LocalDateTime now) {
+        LocalDateTime endOfWeek = now.plusDays(7);
+        LocalDateTime todayStart = now.toLocalDate().atStartOfDay();
+        LocalDateTime tomorrowStart = todayStart.plusDays(1);
+        return StatisticsQuery.of(Event.class)
+                .countIf(UPCOMING, (event, query, cb) -> cb.and(
+                        cb.greaterThanOrEqualTo(event.get("eventDate"), now),
+                        cb.lessThan(event.get("eventDate"), endOfWeek)))
+                .countIf(TODAY, (event, query, cb) -> cb.and(
+                        cb.greaterThanOrEqualTo(event.get("eventDate"), todayStart),
+                        cb.lessThan(event.get("eventDate"), tomorrowStart)));
     }
 
     @Override
@@ -359,7 +525,8 @@ public class EventServiceImpl implements EventService {
 
     @Override
     public long getTodayEventCount() {
-        return eventRepository.countTodaysEvents(LocalDateTime.now());
+        LocalDate today = LocalDate.now();
+        return eventRepository.countEventsByDateRange(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
     }
 
     @Override
@@ -377,82 +544,74 @@ public class EventServiceImpl implements EventService {
     public PaginatedResponseDto<EventDto> searchEvents(String searchTerm, PaginationRequestDto paginationRequest) {
         log.info("Searching events with term: {}", searchTerm);
         
-        Pageable pageable = PageRequest.of(
-            paginationRequest.getPage(), 
-            paginationRequest.getSize()
-        );
-        
-        Page<Event> eventPage = eventRepository.findByNameContainingIgnoreCase(searchTerm, pageable);
-        
-        List<EventDto> eventDtos = eventMapper.toDtoList(eventPage.getContent());
-        
-        PaginationMetadataDto metadata = PaginationMetadataDto.builder()
-            .pageNumber(paginationRequest.getPage())
-            .pageSize(paginationRequest.getSize())
-            .totalElements(eventPage.getTotalElements())
-            .totalPages(eventPage.getTotalPages())
-            .hasNext(eventPage.hasNext())
-            .hasPrevious(eventPage.hasPrevious())
-            .build();
+        // Both modes page the index ranking; the index knows the total, so no count strategy applies
+        List<InvertedIndex.Hit> hits = textSearchIndex.searchEventHits(searchTerm, TextSearchIndex.TITLE);
+        if (paginationRequest.isCursorMode()) {
+            return searchPage(hits, paginationRequest);
+        }
         
-        return new PaginatedResponseDto<>(eventDtos, metadata);
+        int from = (int) Math.min((long) paginationRequest.getPage() * paginationRequest.getSize(), hits.size());
+        int to = Math.min(from + paginationRequest.getSize(), hits.size());
+        List<EventDto> content = toDtoList(findEventRowsInOrder(idsOf(hits.subList(from, to))));
+        return PaginatedResponseDto.fromList(content, paginationRequest.getPage(), paginationRequest.getSize(), hits.size());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getUpcomingEvents(int limit) {
         log.info("Fetching upcoming events with limit: {}", limit);
         
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime endOfWeek = now.plusDays(7);
         
-        List<Event> events = eventRepository.findUpcomingEvents(now, endOfWeek);
-        
-        return events.stream()
-            .limit(limit)
-            .map(eventMapper::toDto)
-            .collect(Collectors.toList());
+        List<EventRow> rows = eventRepository.findUpcomingEventRows(now, endOfWeek, Limit.of(limit));
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getPastEvents(int limit) {
         log.info("Fetching past events with limit: {}", limit);
         
         LocalDateTime now = LocalDateTime.now();
-        List<Event> events = eventRepository.findPastEvents(now);
-        
-        return events.stream()
-            .limit(limit)
-            .map(eventMapper::toDto)
-            .collect(Collectors.toList());
+        List<EventRow> rows = eventRepository.findPastEventRows(now, Limit.of(limit));
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsByDate(LocalDate date) {
         log.info("Fetching events for date: {}", date);
         
-        List<Event> events = eventRepository.findEventsByDate(date.atStartOfDay());
-        return eventMapper.toDtoList(events);
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsByWeek(LocalDate weekStart) {
         log.info("Fetching events for week starting: {}", weekStart);
         
         LocalDate weekEnd = weekStart.plusDays(6);
-        List<Event> events = eventRepository.findEventsByDateRange(
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(
             weekStart.atStartOfDay(), 
-            weekEnd.atTime(23, 59, 59)
+            weekEnd.plusDays(1).atStartOfDay()
         );
         
-        return eventMapper.toDtoList(events);
+        return toDtoList(rows);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<EventDto> getEventsByMonth(int year, int month) {
         log.info("Fetching events for month: {}/{}", month, year);
         
-        List<Event> events = eventRepository.findEventsByMonthAndYear(year, month);
-        return eventMapper.toDtoList(events);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        List<EventRow> rows = eventRepository.findEventRowsByDateRange(
+            yearMonth.atDay(1).atStartOfDay(),
+            yearMonth.plusMonths(1).atDay(1).atStartOfDay()
+        );
+        return toDtoList(rows);
     }
 
     @Override
@@ -478,16 +637,136 @@ public class EventServiceImpl implements EventService {
     @Override
     public long getEventCountByMonth(int year, int month) {
         log.info("Counting events for month: {}/{}", month, year);
-        return eventRepository.countEventsByMonthAndYear(year, month);
+        YearMonth yearMonth = YearMonth.of(year, month);
+        return eventRepository.countEventsByDateRange(
+            yearMonth.atDay(1).atStartOfDay(),
+            yearMonth.plusMonths(1).atDay(1).atStartOfDay()
+        );
+    }
+
+    /**
+     * DTOs of projected event rows with their participants, loaded in one more query and never
+     * attached to the persistence context
+     */
+    private List<EventDto> toDtoList(List<EventRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> eventIds = rows.stream().map(EventRow::id).collect(Collectors.toList());
+        return eventMapper.toDtoList(rows, eventRepository.findParticipantRowsByEventIds(eventIds));
+    }
+
+    /**
+     * Rows of the given events in the order of the ids
+     */
+    private List<EventRow> findEventRowsInOrder(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventRow> rowsById = eventRepository.findEventRowsByIds(eventIds).stream()
+            .collect(Collectors.toMap(EventRow::id, Function.identity()));
+        return eventIds.stream()
+            .map(rowsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Build a keyset page over ranked search hits, continuing after the (score, id) of the cursor
+     */
+    private PaginatedResponseDto<EventDto> searchPage(List<InvertedIndex.Hit> hits, PaginationRequestDto paginationRequest) {
+        int size = paginationRequest.getSize();
+        String token = paginationRequest.getCursor();
+        ScoreCursor after = token.isEmpty() ? null : ScoreCursor.decode(token);
+        int from = 0;
+        if (after != null) {
+            int position = Collections.binarySearch(hits, after.toHit(), InvertedIndex.RANKING);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = Math.min(from + size, hits.size());
+        List<InvertedIndex.Hit> page = hits.subList(from, to);
+        String nextCursor = to < hits.size() ? ScoreCursor.of(hits.get(to - 1)).encode() : null;
+        return PaginatedResponseDto.fromCursor(toDtoList(findEventRowsInOrder(idsOf(page))), size, nextCursor,
+            after != null, hits.size());
+    }
+
+    private static List<Long> idsOf(List<InvertedIndex.Hit> hits) {
+        return hits.stream()
+            .map(InvertedIndex.Hit::id)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Build a keyset page from up to size + 1 events; the extra one only shows that another page follows
+     */
+    private PaginatedResponseDto<EventDto> keysetPage(List<Event> events, PaginationRequestDto paginationRequest,
+                                                      String countKey, LongSupplier count) {
+        int size = paginationRequest.getSize();
+        boolean hasNext = events.size() > size;
+        List<Event> page = hasNext ? events.subList(0, size) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = page.get(size - 1);
+            nextCursor = new PageCursor(last.getEventDate(), last.getId()).encode();
+        }
+        return PaginatedResponseDto.fromCursor(eventMapper.toDtoList(page), size, nextCursor,
+            paginationRequest.getCursorPosition() != null,
+            total(paginationRequest, countKey, count));
+    }
+
+    /**
+     * Fetch a page with the requested count strategy: exact runs the count query, cached reuses a
+     * recent total of the same query, and none fetches a slice that only knows whether more follow
+     */
+    private PaginatedResponseDto<EventDto> countedPage(PaginationRequestDto paginationRequest, String countKey,
+                                                       Pageable pageable, Function<Pageable, Page<Event>> pageQuery,
+                                                       Function<Pageable, Slice<Event>> sliceQuery) {
+        Slice<Event> events;
+        switch (paginationRequest.getEffectiveCountStrategy()) {
+            case NONE:
+                events = sliceQuery.apply(pageable);
+                break;
+            case CACHED:
+                events = pageCountCache.getPage(Event.class, countKey, pageable, pageQuery, sliceQuery);
+                break;
+            default:
+                events = pageQuery.apply(pageable);
+        }
+        return PaginatedResponseDto.fromSlice(events.map(eventMapper::toDto));
+    }
+
+    private long total(PaginationRequestDto paginationRequest, String countKey, LongSupplier count) {
+        switch (paginationRequest.getEffectiveCountStrategy()) {
+            case NONE:
+                return -1;
+            case CACHED:
+                return pageCountCache.getOrCount(Event.class, countKey, count);
+            default:
+                return count.getAsLong();
+        }
     }
 
     private boolean hasTimeConflictExcludingEvent(EventDto eventDto, Long excludeEventId) {
         LocalDateTime startTime = eventDto.getEventDate();
         LocalDateTime endTime = startTime.plusMinutes(eventDto.getDurationMinutes());
         
-        List<Event> conflictingEvents = eventRepository.findEventsByDateRange(startTime, endTime);
+        return eventConflictIndex.hasOverlap(startTime, endTime, excludeEventId);
+    }
+
+    private void indexAfterCommit(Event event) {
+        Long eventId = event.getId();
+        LocalDateTime eventDate = event.getEventDate();
+        Integer durationMinutes = event.getDurationMinutes();
+        TransactionUtil.afterCommit(() -> eventConflictIndex.put(eventId, eventDate, durationMinutes));
+    }
+
+    private List<Event> loadEventsInDateOrder(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
         
-        return conflictingEvents.stream()
-            .anyMatch(event -> !event.getId().equals(excludeEventId));
+        return eventRepository.findAllById(eventIds).stream()
+            .sorted(Comparator.comparing(Event::getEventDate).thenComparing(Event::getId))
+            .collect(Collectors.toList());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.mapper.EventMapper;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import com.checkproof.explore.ai_tools_java_cursor.service.ExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Scrolls the rows forward-only and writes them in chunks of {@code calendar.export.chunk-size}.
+ * The participants and patterns of a chunk are batch fetched together, then the chunk is
+ * detached, so the persistence context never holds more than one chunk.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportServiceImpl implements ExportService {
+
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public ExportServiceImpl(EventRepository eventRepository,
+                             TaskRepository taskRepository,
+                             EventMapper eventMapper,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${calendar.export.chunk-size:500}") int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.taskRepository = taskRepository;
+        this.eventMapper = eventMapper;
+        this.entityManager = entityManager;
+        // ISO dates, as the import endpoints read them, and the response stream is left to its owner
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n");
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public long exportEvents(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        log.info("Exporting events from {} to {}", from, to);
+        try (Stream<Event> events = from == null && to == null
+                ? eventRepository.streamAllForExport()
+                : eventRepository.streamForExportByDateRange(orMin(from), orMax(to))) {
+            return write(events, eventMapper::toDto, out);
+        }
+    }
+
+    @Override
+    public long exportTasks(LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        log.info("Exporting tasks from {} to {}", from, to);
+        try (Stream<Task> tasks = from == null && to == null
+                ? taskRepository.streamAllForExport()
+                : taskRepository.streamForExportByDateRange(orMin(from), orMax(to))) {
+            return write(tasks, TaskDto::fromEntity, out);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, Function<T, ?> toDto, OutputStream out) throws IOException {
+        long written = 0;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        try (SequenceWriter sequence = writer.writeValues(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    for (T row : chunk) {
+                        sequence.write(toDto.apply(row));
+                    }
+                    written += chunk.size();
+                    chunk.clear();
+                    sequence.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        if (written > 0) {
+            // NDJSON ends every line, the last one included
+            out.write('\n');
+        }
+        out.flush();
+        log.info("Exported {} rows", written);
+        return written;
+    }
+
+    private static LocalDateTime orMin(LocalDateTime from) {
+        return from != null ? from : LocalDateTime.of(1, 1, 1, 0, 0);
+    }
+
+    private static LocalDateTime orMax(LocalDateTime to) {
+        return to != null ? to : LocalDateTime.of(9999, 12, 31, 23, 59);
+    }
+}
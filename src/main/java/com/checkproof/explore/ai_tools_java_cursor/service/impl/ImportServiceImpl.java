@@ -0,0 +1,492 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.CandidateConflictResult;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportResultDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportRowErrorDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidTaskException;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.mapper.EventMapper;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.service.ImportService;
+import com.checkproof.explore.ai_tools_java_cursor.util.ImportRecordReader;
+import com.checkproof.explore.ai_tools_java_cursor.util.IntervalSweep;
+import com.checkproof.explore.ai_tools_java_cursor.util.TaskUtil;
+import com.checkproof.explore.ai_tools_java_cursor.util.TransactionUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams import records into batches of {@code calendar.import.batch-size} rows. Each batch is
+ * validated, checked for conflicts as a whole and written in its own transaction, after which
+ * the persistence context is cleared, so memory stays flat however large the file is.
+ */
+@Service
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private final EventService eventService;
+    private final EventRepository eventRepository;
+    private final TaskRepository taskRepository;
+    private final ParticipantRepository participantRepository;
+    private final EventMapper eventMapper;
+    private final EventConflictIndex eventConflictIndex;
+    private final TaskTimelineIndex taskTimelineIndex;
+    private final TaskUtil taskUtil;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public ImportServiceImpl(EventService eventService,
+                             EventRepository eventRepository,
+                             TaskRepository taskRepository,
+                             ParticipantRepository participantRepository,
+                             EventMapper eventMapper,
+                             EventConflictIndex eventConflictIndex,
+                             TaskTimelineIndex taskTimelineIndex,
+                             TaskUtil taskUtil,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${calendar.import.batch-size:500}") int batchSize,
+                             @Value("${calendar.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.eventService = eventService;
+        this.eventRepository = eventRepository;
+        this.taskRepository = taskRepository;
+        this.participantRepository = participantRepository;
+        this.eventMapper = eventMapper;
+        this.eventConflictIndex = eventConflictIndex;
+        this.taskTimelineIndex = taskTimelineIndex;
+        this.taskUtil = taskUtil;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * A parsed row waiting for its batch
+     */
+    private record Row<T>(long line, T value, Set<Long> participantIds) {
+    }
+
+    /**
+     * Parses one record, throwing IllegalArgumentException with the reason it is rejected
+     */
+    @FunctionalInterface
+    private interface RowParser<T> {
+        Row<T> parse(ImportRecordReader.ImportRecord record);
+    }
+
+    /**
+     * Writes the acceptable rows of a batch, adding the others to rejected, and returns how many were written
+     */
+    @FunctionalInterface
+    private interface BatchWriter<T> {
+        int write(List<Row<T>> rows, List<ImportRowErrorDto> rejected);
+    }
+
+    @Override
+    public ImportResultDto importEvents(Reader body, ImportRecordReader.Format format) {
+        log.info("Importing events from {}", format);
+        return importRecords(body, format, this::parseEvent, this::writeEvents);
+    }
+
+    @Override
+    public ImportResultDto importTasks(Reader body, ImportRecordReader.Format format) {
+        log.info("Importing tasks from {}", format);
+        return importRecords(body, format, this::parseTask, this::writeTasks);
+    }
+
+    @Override
+    public ImportResultDto importParticipants(Reader body, ImportRecordReader.Format format) {
+        log.info("Importing participants from {}", format);
+        return importRecords(body, format, this::parseParticipant, this::writeParticipants);
+    }
+
+    private <T> ImportResultDto importRecords(Reader body, ImportRecordReader.Format format,
+                                              RowParser<T> parser, BatchWriter<T> writer) {
+        ImportResultDto result = new ImportResultDto();
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        try (ImportRecordReader reader = new ImportRecordReader(body, format, objectMapper)) {
+            while (reader.hasNext()) {
+                ImportRecordReader.ImportRecord record = reader.next();
+                result.setRowsRead(result.getRowsRead() + 1);
+                if (!record.isValid()) {
+                    result.reject(record.line(), record.error(), maxReportedErrors);
+                    continue;
+                }
+                try {
+                    batch.add(parser.parse(record));
+                } catch (IllegalArgumentException | InvalidTaskException e) {
+                    result.reject(record.line(), e.getMessage(), maxReportedErrors);
+                }
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, writer, result);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, writer, result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        result.getErrors().sort(Comparator.comparingLong(ImportRowErrorDto::getLine));
+
+        log.info("Import finished: {} rows read, {} imported, {} rejected in {} batches",
+                result.getRowsRead(), result.getImported(), result.getRejected(), result.getBatches());
+        return result;
+    }
+
+    private <T> void writeBatch(List<Row<T>> batch, BatchWriter<T> writer, ImportResultDto result) {
+        List<ImportRowErrorDto> rejected = new ArrayList<>();
+        try {
+            Integer written = transactionTemplate.execute(status -> writer.write(batch, rejected));
+            result.setImported(result.getImported() + (written != null ? written : 0));
+            rejected.forEach(error -> result.reject(error.getLine(), error.getMessage(), maxReportedErrors));
+        } catch (DataAccessException e) {
+            // The whole batch was rolled back, so none of its rows were imported
+            log.warn("Import batch of {} rows rolled back: {}", batch.size(), e.getMessage());
+            rejectBatch(batch, "Batch rolled back: " + e.getMostSpecificCause().getMessage(), result);
+        } catch (RuntimeException e) {
+            // Any other failure also rolls the batch back; report its rows and go on with the next batch
+            log.error("Import batch of {} rows failed", batch.size(), e);
+            rejectBatch(batch, "Batch failed: " + e.getMessage(), result);
+        } finally {
+            // Detach the written entities, which an open request session would otherwise keep
+            entityManager.clear();
+        }
+        result.setBatches(result.getBatches() + 1);
+    }
+
+    private <T> void rejectBatch(List<Row<T>> batch, String message, ImportResultDto result) {
+        batch.forEach(row -> result.reject(row.line(), message, maxReportedErrors));
+    }
+
+    // ==================== Events ====================
+
+    private Row<EventDto> parseEvent(ImportRecordReader.ImportRecord record) {
+        Map<String, String> fields = record.fields();
+        EventDto event = EventDto.builder()
+                .name(fields.get("name"))
+                .description(fields.get("description"))
+                .eventDate(dateTime(fields, "eventDate"))
+                .durationMinutes(integer(fields, "durationMinutes"))
+                .category(enumValue(Event.EventCategory.class, fields, "category", Event.EventCategory.GENERAL))
+                .build();
+        eventMapper.validateForCreation(event);
+        return new Row<>(record.line(), event, ids(fields, "participantIds"));
+    }
+
+    /**
+     * Accept rows in file order, each one only when it conflicts neither with a stored event nor
+     * with a row accepted before it, the rule createEvent applies one event at a time
+     */
+    private int writeEvents(List<Row<EventDto>> rows, List<ImportRowErrorDto> rejected) {
+        Map<Long, Participant> participants = loadParticipants(rows);
+        List<Row<EventDto>> candidates = new ArrayList<>(rows.size());
+        List<Set<Participant>> candidateParticipants = new ArrayList<>(rows.size());
+        for (Row<EventDto> row : rows) {
+            Set<Participant> resolved = resolveParticipants(row, participants, rejected);
+            if (resolved != null) {
+                candidates.add(row);
+                candidateParticipants.add(resolved);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<CandidateConflictResult> conflicts = eventService.checkConflictsBatch(
+                candidates.stream().map(Row::value).collect(Collectors.toList()));
+        boolean[] accepted = new boolean[candidates.size()];
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Row<EventDto> row = candidates.get(i);
+            CandidateConflictResult conflict = conflicts.get(i);
+            Integer earlier = conflict.getConflictingCandidates().stream()
+                    .filter(index -> accepted[index])
+                    .findFirst()
+                    .orElse(null);
+            if (!conflict.getConflictingEvents().isEmpty()) {
+                rejected.add(new ImportRowErrorDto(row.line(), "Event conflicts with existing events"));
+            } else if (earlier != null) {
+                rejected.add(new ImportRowErrorDto(row.line(),
+                        "Event conflicts with the event on line " + candidates.get(earlier).line()));
+            } else {
+                accepted[i] = true;
+                Event event = eventMapper.toEntityForCreation(row.value());
+                event.setParticipants(candidateParticipants.get(i));
+                events.add(event);
+            }
+        }
+
+        eventRepository.saveAll(events);
+        for (Event event : events) {
+            Long eventId = event.getId();
+            LocalDateTime eventDate = event.getEventDate();
+            Integer durationMinutes = event.getDurationMinutes();
+            TransactionUtil.afterCommit(() -> eventConflictIndex.put(eventId, eventDate, durationMinutes));
+        }
+        return events.size();
+    }
+
+    // ==================== Tasks ====================
+
+    private Row<Task> parseTask(ImportRecordReader.ImportRecord record) {
+        Map<String, String> fields = record.fields();
+        Task task = Task.builder()
+                .title(fields.get("title"))
+                .description(fields.get("description"))
+                .startDate(dateTime(fields, "startDate"))
+                .endDate(dateTime(fields, "endDate"))
+                .priority(enumValue(Task.Priority.class, fields, "priority", Task.Priority.MEDIUM))
+                .status(enumValue(Task.TaskStatus.class, fields, "status", Task.TaskStatus.PENDING))
+                .build();
+        taskUtil.validateTask(task);
+        return new Row<>(record.line(), task, ids(fields, "participantIds"));
+    }
+
+    /**
+     * Accept rows in file order, each one only when it overlaps neither a stored task nor a row
+     * accepted before it that shares a participant. Overlaps within the batch come from one sweep.
+     */
+    private int writeTasks(List<Row<Task>> rows, List<ImportRowErrorDto> rejected) {
+        Map<Long, Participant> participants = loadParticipants(rows);
+        List<Row<Task>> candidates = new ArrayList<>(rows.size());
+        for (Row<Task> row : rows) {
+            Set<Participant> resolved = resolveParticipants(row, participants, rejected);
+            if (resolved != null) {
+                row.value().setParticipants(resolved);
+                candidates.add(row);
+            }
+        }
+
+        int count = candidates.size();
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            Task task = candidates.get(i).value();
+            starts[i] = EventConflictIndex.toEpochSecond(task.getStartDate());
+            ends[i] = EventConflictIndex.toEpochSecond(endOf(task));
+        }
+        // For every row, the earlier rows it overlaps with a shared participant
+        List<List<Integer>> earlierOverlaps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            earlierOverlaps.add(new ArrayList<>());
+        }
+        IntervalSweep.findOverlaps(starts, ends, new boolean[count], (first, second) -> {
+            Set<Long> shared = new HashSet<>(candidates.get(first).participantIds());
+            shared.retainAll(candidates.get(second).participantIds());
+            if (!shared.isEmpty()) {
+                earlierOverlaps.get(Math.max(first, second)).add(Math.min(first, second));
+            }
+        });
+
+        boolean[] accepted = new boolean[count];
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Row<Task> row = candidates.get(i);
+            Task task = row.value();
+            Integer earlier = earlierOverlaps.get(i).stream()
+                    .filter(index -> accepted[index])
+                    .min(Integer::compare)
+                    .orElse(null);
+            if (taskTimelineIndex.hasOverlap(row.participantIds(), task.getStartDate(), endOf(task), null)) {
+                rejected.add(new ImportRowErrorDto(row.line(), "Task overlaps with existing tasks for the same participants"));
+            } else if (earlier != null) {
+                rejected.add(new ImportRowErrorDto(row.line(),
+                        "Task overlaps with the task on line " + candidates.get(earlier).line()));
+            } else {
+                accepted[i] = true;
+                tasks.add(task);
+            }
+        }
+
+        taskRepository.saveAll(tasks);
+        for (Task task : tasks) {
+            Long taskId = task.getId();
+            LocalDateTime startDate = task.getStartDate();
+            LocalDateTime endDate = task.getEndDate();
+            Task.TaskStatus status = task.getStatus();
+            Set<Long> participantIds = taskUtil.participantIdsOf(task);
+            TransactionUtil.afterCommit(() -> taskTimelineIndex.put(taskId, startDate, endDate, status, participantIds));
+        }
+        return tasks.size();
+    }
+
+    private static LocalDateTime endOf(Task task) {
+        return task.getEndDate() != null ? task.getEndDate() : task.getStartDate().plusHours(1);
+    }
+
+    // ==================== Participants ====================
+
+    private Row<Participant> parseParticipant(ImportRecordReader.ImportRecord record) {
+        Map<String, String> fields = record.fields();
+        String name = fields.get("name");
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Participant name is required");
+        }
+        String isActive = fields.getOrDefault("isActive", "true");
+        if (!isActive.equalsIgnoreCase("true") && !isActive.equalsIgnoreCase("false")) {
+            throw new IllegalArgumentException("Invalid isActive: " + isActive);
+        }
+        Participant participant = Participant.builder()
+                .name(name.trim())
+                .email(fields.get("email") != null ? fields.get("email").trim() : null)
+                .phoneNumber(fields.get("phoneNumber"))
+                .bio(fields.get("bio"))
+                .type(enumValue(Participant.ParticipantType.class, fields, "type", Participant.ParticipantType.INDIVIDUAL))
+                .isActive(Boolean.parseBoolean(isActive))
+                .build();
+        return new Row<>(record.line(), participant, Set.of());
+    }
+
+    /**
+     * Reject rows whose email is stored already or used by an earlier row, with one lookup per batch
+     */
+    private int writeParticipants(List<Row<Participant>> rows, List<ImportRowErrorDto> rejected) {
+        Set<String> emails = rows.stream()
+                .map(row -> row.value().getEmail())
+                .filter(email -> email != null)
+                .collect(Collectors.toSet());
+        Set<String> taken = emails.isEmpty() ? new HashSet<>()
+                : new HashSet<>(participantRepository.findExistingEmails(emails));
+
+        List<Participant> participants = new ArrayList<>();
+        for (Row<Participant> row : rows) {
+            String email = row.value().getEmail();
+            if (email != null && !taken.add(email)) {
+                rejected.add(new ImportRowErrorDto(row.line(), "Email is already in use: " + email));
+            } else {
+                participants.add(row.value());
+            }
+        }
+        participantRepository.saveAll(participants);
+        return participants.size();
+    }
+
+    // ==================== Shared Helpers ====================
+
+    /**
+     * Load every participant referenced by a batch in one query
+     */
+    private Map<Long, Participant> loadParticipants(List<? extends Row<?>> rows) {
+        Set<Long> ids = rows.stream()
+                .flatMap(row -> row.participantIds().stream())
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return participantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+    }
+
+    /**
+     * The participants of a row, or null when it references unknown ones and was rejected
+     */
+    private static Set<Participant> resolveParticipants(Row<?> row, Map<Long, Participant> participants,
+                                                        List<ImportRowErrorDto> rejected) {
+        Set<Participant> resolved = new HashSet<>();
+        Set<Long> unknown = new LinkedHashSet<>();
+        for (Long id : row.participantIds()) {
+            Participant participant = participants.get(id);
+            if (participant != null) {
+                resolved.add(participant);
+            } else {
+                unknown.add(id);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            rejected.add(new ImportRowErrorDto(row.line(), "Participant not found with ID: " + unknown));
+            return null;
+        }
+        return resolved;
+    }
+
+    private static LocalDateTime dateTime(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Integer integer(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, Map<String, String> fields,
+                                                   String name, E defaultValue) {
+        String value = fields.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Set<Long> ids(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (String id : value.split(ImportRecordReader.LIST_SEPARATOR)) {
+            try {
+                ids.add(Long.valueOf(id.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + name + ": " + value);
+            }
+        }
+        return ids;
+    }
+}
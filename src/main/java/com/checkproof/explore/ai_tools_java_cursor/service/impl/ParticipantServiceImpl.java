@@ -0,0 +1,85 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantDocument;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantSearchIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.service.ParticipantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ParticipantServiceImpl implements ParticipantService {
+
+    private final ParticipantRepository participantRepository;
+    private final ParticipantSearchIndex participantSearchIndex;
+
+    @Override
+    public List<ParticipantDto> searchByName(String name) {
+        log.info("Searching participants by name: {}", name);
+        return findInOrder(participantSearchIndex.searchByName(name));
+    }
+
+    @Override
+    public List<ParticipantDto> searchByPhoneNumber(String phoneNumber) {
+        log.info("Searching participants by phone number: {}", phoneNumber);
+        return findInOrder(participantSearchIndex.searchByPhoneNumber(phoneNumber));
+    }
+
+    @Override
+    public List<ParticipantDto> searchByBio(String bio) {
+        log.info("Searching participants by bio: {}", bio);
+        return findInOrder(participantSearchIndex.searchByBio(bio));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<ParticipantDto> typeahead(String fragment, int limit, boolean includeInactive) {
+        // Called on every keystroke, so answered from the index alone without reading any row
+        log.debug("Participant typeahead: {}", fragment);
+        return participantSearchIndex.typeahead(fragment, limit, includeInactive).stream()
+                .map(ParticipantServiceImpl::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Load the participants by id, keeping the order of the ids
+     */
+    private List<ParticipantDto> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Participant> byId = participantRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(ParticipantDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    private static ParticipantDto toDto(ParticipantDocument document) {
+        return ParticipantDto.builder()
+                .id(document.id())
+                .name(document.name())
+                .email(document.email())
+                .phoneNumber(document.phoneNumber())
+                .bio(document.bio())
+                .type(document.type())
+                .isActive(document.isActive())
+                .build();
+    }
+}
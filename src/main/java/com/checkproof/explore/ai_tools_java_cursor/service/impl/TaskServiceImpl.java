@@ -1,6 +1,7 @@
 package com.checkproof.explore.ai_tools_java_cursor.service.impl;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskStatisticsDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
@@ -8,23 +9,54 @@ import com.checkproof.explore.ai_tools_java_cursor.exception.TaskNotFoundExcepti
 import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidTaskException;
 import com.checkproof.explore.ai_tools_java_cursor.exception.TaskOverlapException;
 import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidStatusTransitionException;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TextSearchIndex;
 import com.checkproof.explore.ai_tools_java_cursor.model.Task;
 import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
-import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
 import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.Dimension;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.GroupedCounts;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsEngine;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsGroups;
+import com.checkproof.explore.ai_tools_java_cursor.statistics.StatisticsQuery;
+import com.checkproof.explore.ai_tools_java_cursor.util.OccurrenceBitmap;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCountCache;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCursor;
+import com.checkproof.explore.ai_tools_java_cursor.util.RRule;
 import com.checkproof.explore.ai_tools_java_cursor.util.RecurrenceUtil;
+import com.checkproof.explore.ai_tools_java_cursor.util.RecurrenceWindowExpander;
+import com.checkproof.explore.ai_tools_java_cursor.util.SeriesConflictDetector;
+import com.checkproof.explore.ai_tools_java_cursor.util.TaskUtil;
+import com.checkproof.explore.ai_tools_java_cursor.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,10 +65,31 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
+    // Fields a page merging stored rows with series occurrences can be sorted by
+    private static final Set<String> MERGED_SORT_FIELDS = Set.of("startDate", "endDate", "title", "priority", "status");
+
+    // Statistics measures and the dimensions tasks can be broken down by
+    static final String OVERDUE = "overdue";
+    static final String UPCOMING = "upcoming";
+    private static final Dimension<Task> STATUS_DIMENSION = Dimension.attribute("status", "status");
+    private static final List<Dimension<Task>> STATISTICS_DIMENSIONS = List.of(
+            STATUS_DIMENSION,
+            Dimension.attribute("priority", "priority"),
+            Dimension.month("month", "startDate"),
+            Dimension.joined("participantType", "participants", "type"));
+
     private final TaskRepository taskRepository;
     private final RecurrenceUtil recurrenceUtil;
+    private final RecurrenceWindowExpander recurrenceWindowExpander;
+    private final SeriesConflictDetector seriesConflictDetector;
+    private final TaskTimelineIndex taskTimelineIndex;
+    private final PageCountCache pageCountCache;
+    private final TextSearchIndex textSearchIndex;
+    private final StatisticsEngine statisticsEngine;
+    private final TaskUtil taskUtil;
 
-    private static final int DEFAULT_RECURRENCE_LIMIT = 100;
+    @Value("${calendar.recurrence.materialize-horizon-days:90}")
+    private int materializationHorizonDays;
 
     // ==================== CRUD Operations ====================
 
@@ -45,10 +98,11 @@ public class TaskServiceImpl implements TaskService {
         log.info("Creating new task: {}", taskDto.getTitle());
         
         Task task = taskDto.toEntity();
-        validateTask(task);
+        taskUtil.validateTask(task);
         validateNoOverlappingTasks(task);
         
         Task savedTask = taskRepository.save(task);
+        indexAfterCommit(savedTask);
         log.info("Task created successfully with ID: {}", savedTask.getId());
         
         return TaskDto.fromEntity(savedTask);
@@ -66,9 +120,16 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public PaginatedResponseDto<TaskDto> getAllTasks(PaginationRequestDto paginationRequest) {
         log.debug("Fetching all tasks with pagination: {}", paginationRequest);
+        if (paginationRequest.isCursorMode()) {
+            PageCursor after = paginationRequest.getCursorPosition();
+            Limit limit = Limit.of(paginationRequest.getSize() + 1);
+            List<Task> tasks = after == null
+                    ? taskRepository.findTaskPage(limit)
+                    : taskRepository.findTaskPageAfter(after.date(), after.id(), limit);
+            return keysetPage(tasks, paginationRequest);
+        }
         Pageable pageable = paginationRequest.toPageable("startDate");
-        Page<Task> page = taskRepository.findAll(pageable);
-        return PaginatedResponseDto.fromPage(page.map(TaskDto::fromEntity));
+        return countedPage(paginationRequest, "all", pageable, taskRepository::findAll, taskRepository::findTaskSlice);
     }
 
     @Override
@@ -79,8 +140,20 @@ public class TaskServiceImpl implements TaskService {
                 .orElseThrow(() -> new TaskNotFoundException(id));
         
         Task task = taskDto.toEntity();
-        validateTask(task);
-        validateNoOverlappingTasks(task, id);
+        taskUtil.validateTask(task);
+        // The stored occurrences of a series are replaced from its new rule below
+        List<Task> storedOccurrences = existingTask.isSeriesMaster() ? storedOccurrences(existingTask) : List.of();
+        Set<Long> replacedTaskIds = storedOccurrences.stream().map(Task::getId).collect(Collectors.toSet());
+        replacedTaskIds.add(id);
+        validateNoOverlappingTasksExcept(task, replacedTaskIds);
+        if (existingTask.isSeriesMaster() && task.getRecurrencePattern() != null) {
+            validateNoOverlappingSeries(task, id);
+        }
+        
+        // Exceptions of a series stay on their dates when its start moves
+        if (existingTask.isSeriesMaster() && existingTask.getExceptionDays() != null && task.getStartDate() != null) {
+            existingTask.setExceptionDays(exceptionsOf(existingTask).rebase(task.getStartDate().toLocalDate()).toBytes());
+        }
         
         // Update fields
         existingTask.setTitle(task.getTitle());
@@ -91,8 +164,15 @@ public class TaskServiceImpl implements TaskService {
         existingTask.setStatus(task.getStatus());
         existingTask.setRecurrencePattern(task.getRecurrencePattern());
         existingTask.setParticipants(task.getParticipants());
+        if (existingTask.isSeriesMaster()) {
+            discardStoredOccurrences(existingTask, storedOccurrences);
+        }
         
         Task updatedTask = taskRepository.save(existingTask);
+        indexAfterCommit(updatedTask);
+        if (updatedTask.isMaterialized() && updatedTask.getRecurrencePattern() != null) {
+            materialize(updatedTask, LocalDate.now(), materializationHorizon());
+        }
         log.info("Task updated successfully: {}", updatedTask.getId());
         
         return TaskDto.fromEntity(updatedTask);
@@ -106,7 +186,15 @@ public class TaskServiceImpl implements TaskService {
             throw new TaskNotFoundException(id);
         }
         
+        // Overrides of a series go together with their master
+        List<Task> overrides = taskRepository.findBySeriesIdIn(List.of(id));
+        if (!overrides.isEmpty()) {
+            taskRepository.deleteAll(overrides);
+            overrides.forEach(override -> TransactionUtil.afterCommit(() -> taskTimelineIndex.remove(override.getId())));
+        }
+        
         taskRepository.deleteById(id);
+        TransactionUtil.afterCommit(() -> taskTimelineIndex.remove(id));
         log.info("Task deleted successfully: {}", id);
     }
 
@@ -116,19 +204,23 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public PaginatedResponseDto<TaskDto> findTasksByDateRange(LocalDateTime startDate, LocalDateTime endDate, PaginationRequestDto paginationRequest) {
         log.debug("Finding tasks by date range: {} to {} with pagination: {}", startDate, endDate, paginationRequest);
-        Pageable pageable = paginationRequest.toPageable("startDate");
-        Page<Task> page = taskRepository.findTasksByDateRange(startDate, endDate, pageable);
-        return PaginatedResponseDto.fromPage(page.map(TaskDto::fromEntity));
+        List<TaskDto> occurrences = expandSeries(startDate, endDate);
+        if (occurrences.isEmpty()) {
+            Pageable pageable = paginationRequest.toPageable("startDate");
+            return countedPage(paginationRequest, "dateRange:" + startDate + "/" + endDate, pageable,
+                    p -> taskRepository.findTasksByDateRange(startDate, endDate, p),
+                    p -> taskRepository.findTaskSliceByDateRange(startDate, endDate, p));
+        }
+        return mergedPage(occurrences, paginationRequest, "dateRange:" + startDate + "/" + endDate,
+                (sort, limit) -> taskRepository.findTasksByDateRange(startDate, endDate, sort, limit),
+                () -> taskRepository.countTasksByDateRange(startDate, endDate));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskDto> findTasksByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
         log.debug("Finding tasks by date range: {} to {}", startDate, endDate);
-        return taskRepository.findTasksByDateRange(startDate, endDate)
-                .stream()
-                .map(TaskDto::fromEntity)
-                .collect(Collectors.toList());
+        return merge(toDtoList(taskRepository.findTasksByDateRange(startDate, endDate)), expandSeries(startDate, endDate));
     }
 
     @Override
@@ -137,10 +229,7 @@ public class TaskServiceImpl implements TaskService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime sevenDaysLater = now.plusDays(7);
         log.debug("Finding upcoming tasks between {} and {}", now, sevenDaysLater);
-        return taskRepository.findUpcomingTasks(now, sevenDaysLater)
-                .stream()
-                .map(TaskDto::fromEntity)
-                .collect(Collectors.toList());
+        return merge(toDtoList(taskRepository.findUpcomingTasks(now, sevenDaysLater)), expandSeries(now, sevenDaysLater));
     }
 
     @Override
@@ -149,9 +238,151 @@ public class TaskServiceImpl implements TaskService {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime sevenDaysLater = now.plusDays(7);
         log.debug("Finding upcoming tasks between {} and {} with pagination: {}", now, sevenDaysLater, paginationRequest);
-        Pageable pageable = paginationRequest.toPageable("startDate");
-        Page<Task> page = taskRepository.findUpcomingTasks(now, sevenDaysLater, pageable);
-        return PaginatedResponseDto.fromPage(page.map(TaskDto::fromEntity));
+        List<TaskDto> occurrences = expandSeries(now, sevenDaysLater);
+        if (occurrences.isEmpty()) {
+            Pageable pageable = paginationRequest.toPageable("startDate");
+            // The window moves with the clock; a cached count is only as stale as its time to live
+            return countedPage(paginationRequest, "upcoming", pageable,
+                    p -> taskRepository.findUpcomingTasks(now, sevenDaysLater, p),
+                    p -> taskRepository.findUpcomingTaskSlice(now, sevenDaysLater, p));
+        }
+        return mergedPage(occurrences, paginationRequest, "upcoming",
+                (sort, limit) -> taskRepository.findUpcomingTasks(now, sevenDaysLater, sort, limit),
+                () -> taskRepository.countUpcomingTasksExcludingMasters(now, sevenDaysLater));
+    }
+
+    private List<TaskDto> toDtoList(List<Task> tasks) {
+        return tasks.stream()
+                .map(TaskDto::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    private List<TaskDto> merge(List<TaskDto> tasks, List<TaskDto> occurrences) {
+        if (occurrences.isEmpty()) {
+            return tasks;
+        }
+        List<TaskDto> merged = new ArrayList<>(tasks);
+        merged.addAll(occurrences);
+        merged.sort(Comparator.comparing(TaskDto::getStartDate));
+        return merged;
+    }
+
+    /**
+     * Page over stored rows merged with virtual occurrences. Only the first offset + size + 1 rows
+     * in page order can reach the page or show that another follows, so no more are loaded. The
+     * total is the stored count under the requested count strategy plus the occurrences.
+     */
+    private PaginatedResponseDto<TaskDto> mergedPage(List<TaskDto> occurrences, PaginationRequestDto paginationRequest,
+                                                     String countKey, BiFunction<Sort, Limit, List<Task>> rowQuery,
+                                                     LongSupplier count) {
+        int fromIndex = (int) Math.min(paginationRequest.getOffset(), Integer.MAX_VALUE - 1L);
+        int toIndex = (int) Math.min((long) fromIndex + paginationRequest.getSize(), Integer.MAX_VALUE - 1L);
+        List<TaskDto> merged = new ArrayList<>(toDtoList(rowQuery.apply(mergedSort(paginationRequest), Limit.of(toIndex + 1))));
+        merged.addAll(occurrences);
+        merged.sort(taskOrder(paginationRequest));
+        
+        List<TaskDto> content = merged.subList(Math.min(fromIndex, merged.size()), Math.min(toIndex, merged.size()));
+        long total = total(paginationRequest, countKey, count);
+        if (total < 0) {
+            return PaginatedResponseDto.fromSlice(new SliceImpl<>(content,
+                    PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize()), merged.size() > toIndex));
+        }
+        return PaginatedResponseDto.fromList(content, paginationRequest.getPage(), paginationRequest.getSize(),
+                total + occurrences.size());
+    }
+
+    /**
+     * Build a keyset page from up to size + 1 tasks; the extra one only shows that another page follows
+     */
+    private PaginatedResponseDto<TaskDto> keysetPage(List<Task> tasks, PaginationRequestDto paginationRequest) {
+        int size = paginationRequest.getSize();
+        boolean hasNext = tasks.size() > size;
+        List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(size - 1);
+            nextCursor = new PageCursor(last.getStartDate(), last.getId()).encode();
+        }
+        return PaginatedResponseDto.fromCursor(toDtoList(page), size, nextCursor,
+                paginationRequest.getCursorPosition() != null,
+                total(paginationRequest, "all", taskRepository::count));
+    }
+
+    /**
+     * Fetch a page with the requested count strategy: exact runs the count query, cached reuses a
+     * recent total of the same query, and none fetches a slice that only knows whether more follow
+     */
+    private PaginatedResponseDto<TaskDto> countedPage(PaginationRequestDto paginationRequest, String countKey,
+                                                      Pageable pageable, Function<Pageable, Page<Task>> pageQuery,
+                                                      Function<Pageable, Slice<Task>> sliceQuery) {
+        Slice<Task> tasks;
+        switch (paginationRequest.getEffectiveCountStrategy()) {
+            case NONE:
+                tasks = sliceQuery.apply(pageable);
+                break;
+            case CACHED:
+                tasks = pageCountCache.getPage(Task.class, countKey, pageable, pageQuery, sliceQuery);
+                break;
+            default:
+                tasks = pageQuery.apply(pageable);
+        }
+        return PaginatedResponseDto.fromSlice(tasks.map(TaskDto::fromEntity));
+    }
+
+    private long total(PaginationRequestDto paginationRequest, String countKey, LongSupplier count) {
+        switch (paginationRequest.getEffectiveCountStrategy()) {
+            case NONE:
+                return -1;
+            case CACHED:
+                return pageCountCache.getOrCount(Task.class, countKey, count);
+            default:
+                return count.getAsLong();
+        }
+    }
+
+    /**
+     * Field a merged page is ordered by; fields without a comparator fall back to the start date
+     */
+    private static String mergedSortField(PaginationRequestDto paginationRequest) {
+        String sortBy = paginationRequest.hasSorting() ? paginationRequest.getSortBy() : "startDate";
+        return MERGED_SORT_FIELDS.contains(sortBy) ? sortBy : "startDate";
+    }
+
+    /**
+     * Database order of the rows behind a merged page. Nulls sort low, first ascending and last
+     * descending, stated explicitly since databases differ in where they put them
+     */
+    private static Sort mergedSort(PaginationRequestDto paginationRequest) {
+        Sort.Direction direction = paginationRequest.getSortDirectionEnum();
+        Sort.Order field = Sort.Order.by(mergedSortField(paginationRequest)).with(direction);
+        return Sort.by(direction.isAscending() ? field.nullsFirst() : field.nullsLast(),
+                Sort.Order.by("id").with(direction));
+    }
+
+    /**
+     * In-memory order of a merged page, matching mergedSort in the database: enums stored as
+     * strings compare by name, nulls sort low and ties are broken by id
+     */
+    private static Comparator<TaskDto> taskOrder(PaginationRequestDto paginationRequest) {
+        Comparator<TaskDto> order;
+        switch (mergedSortField(paginationRequest)) {
+            case "title":
+                order = Comparator.comparing(TaskDto::getTitle, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+                break;
+            case "endDate":
+                order = Comparator.comparing(TaskDto::getEndDate, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+                break;
+            case "priority":
+                order = Comparator.comparing(TaskDto::getPriority, Comparator.nullsFirst(Comparator.comparing(Task.Priority::name)));
+                break;
+            case "status":
+                order = Comparator.comparing(TaskDto::getStatus, Comparator.nullsFirst(Comparator.comparing(Task.TaskStatus::name)));
+                break;
+            default:
+                order = Comparator.comparing(TaskDto::getStartDate);
+        }
+        order = order.thenComparing(TaskDto::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+        return paginationRequest.getSortDirectionEnum() == Sort.Direction.DESC ? order.reversed() : order;
     }
 
     // ==================== Recurring Task Logic ====================
@@ -160,11 +391,13 @@ public class TaskServiceImpl implements TaskService {
     public List<TaskDto> createRecurringTasks(TaskDto baseTaskDto, RecurrencePattern pattern) {
         log.info("Creating recurring tasks for base task: {} with pattern: {}", baseTaskDto.getTitle(), pattern.getRecurrenceType());
         
-        Task baseTask = baseTaskDto.toEntity();
-        List<Task> recurringTasks = generateRecurringTasks(baseTask, pattern);
+        // Stored as a series; the first horizon is materialized now and the materializer extends it
+        Task master = baseTaskDto.toEntity();
+        master.setRecurrencePattern(pattern);
+        master.setMaterialized(true);
+        Task savedMaster = saveSeriesMaster(master);
         
-        // Save all recurring tasks
-        List<Task> savedTasks = taskRepository.saveAll(recurringTasks);
+        List<Task> savedTasks = materialize(savedMaster, LocalDate.now(), materializationHorizon());
         log.info("Created {} recurring tasks", savedTasks.size());
         
         return savedTasks.stream()
@@ -172,20 +405,302 @@ public class TaskServiceImpl implements TaskService {
                 .collect(Collectors.toList());
     }
 
-    private List<Task> generateRecurringTasks(Task baseTask, RecurrencePattern pattern) {
-        List<Task> tasks = new java.util.ArrayList<>();
-        LocalDateTime currentDate = baseTask.getStartDate();
+    @Override
+    public TaskDto createTaskSeries(TaskDto taskDto) {
+        log.info("Creating task series: {}", taskDto.getTitle());
+        
+        if (taskDto.getRecurrencePattern() == null) {
+            throw new InvalidTaskException("recurrencePattern", "Recurrence pattern is required for a task series");
+        }
+        
+        Task savedMaster = saveSeriesMaster(taskDto.toEntity());
+        log.info("Task series created successfully with ID: {}", savedMaster.getId());
+        
+        return TaskDto.fromEntity(savedMaster);
+    }
+
+    /**
+     * Validate and save a task as the master of a series
+     */
+    private Task saveSeriesMaster(Task master) {
+        master.setId(null);
+        master.setSeriesMaster(true);
+        
+        RecurrencePattern pattern = master.getRecurrencePattern();
+        pattern.setId(null);
+        if (pattern.getInterval() == null) {
+            pattern.setInterval(1);
+        }
+        if (pattern.getDaysOfWeek() == null) {
+            pattern.setDaysOfWeek(new HashSet<>());
+        }
+        if (pattern.getStartDate() == null && master.getStartDate() != null) {
+            pattern.setStartDate(master.getStartDate().toLocalDate());
+        }
+        
+        taskUtil.validateTask(master);
+        try {
+            if (pattern.getRrule() != null && pattern.getRecurrenceType() == null) {
+                pattern.setRecurrenceType(RRule.parse(pattern.getRrule()).getFrequency());
+            }
+            recurrenceUtil.validateRecurrencePattern(pattern);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTaskException("recurrencePattern", e.getMessage());
+        }
+        validateNoOverlappingTasks(master);
+        validateNoOverlappingSeries(master, null);
+        
+        // The master is never indexed; its occurrences are expanded at read time or materialized
+        return taskRepository.save(master);
+    }
+
+    @Override
+    public int materializeSeries(int batchSize) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime horizon = materializationHorizon();
+        List<Task> masters = taskRepository.findSeriesMastersToMaterialize(today, horizon, PageRequest.of(0, batchSize));
+        if (masters.isEmpty()) {
+            return 0;
+        }
         
-        // Generate recurrence dates using utility
-        List<LocalDateTime> recurrenceDates = recurrenceUtil.generateRecurrenceDates(
-            currentDate, pattern, DEFAULT_RECURRENCE_LIMIT); // Default max occurrences
+        int created = 0;
+        for (Task master : masters) {
+            created += materialize(master, today, horizon).size();
+        }
+        log.info("Materialized {} occurrences of {} task series up to {}", created, masters.size(), horizon);
+        return masters.size();
+    }
+
+    private LocalDateTime materializationHorizon() {
+        return LocalDate.now().plusDays(materializationHorizonDays).atStartOfDay();
+    }
+
+    /**
+     * Start of the range still to be materialized: where the last run stopped, or the later of the
+     * series start and today, so that past occurrences stay virtual
+     */
+    private static LocalDateTime materializationStart(Task master, LocalDate today) {
+        if (master.getMaterializedUntil() != null) {
+            return master.getMaterializedUntil();
+        }
+        LocalDateTime startOfToday = today.atStartOfDay();
+        return master.getStartDate().isAfter(startOfToday) ? master.getStartDate() : startOfToday;
+    }
+
+    /**
+     * Rows of a series that only store an occurrence of its rule; overrides are exceptions of
+     * the series and are kept
+     */
+    private List<Task> storedOccurrences(Task master) {
+        OccurrenceBitmap exceptions = exceptionsOf(master);
+        return taskRepository.findBySeriesIdIn(List.of(master.getId())).stream()
+                .filter(row -> !exceptions.contains(row.getOriginalStartDate()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Delete the stored occurrences of a master and clear its stored range, so that the next
+     * materialization stores them again from its current rule
+     */
+    private void discardStoredOccurrences(Task master, List<Task> storedOccurrences) {
+        if (!storedOccurrences.isEmpty()) {
+            taskRepository.deleteAll(storedOccurrences);
+            // Deletes must reach the database before rows for the same occurrences are inserted
+            taskRepository.flush();
+            storedOccurrences.forEach(row -> {
+                Long rowId = row.getId();
+                TransactionUtil.afterCommit(() -> taskTimelineIndex.remove(rowId));
+            });
+        }
+        master.setMaterializedFrom(null);
+        master.setMaterializedUntil(null);
+    }
+
+    /**
+     * Store the occurrences of a master in [materializationStart, horizon) as rows, leaving out
+     * its exceptions, and record the stored range on the master
+     */
+    private List<Task> materialize(Task master, LocalDate today, LocalDateTime horizon) {
+        LocalDateTime from = materializationStart(master, today);
+        List<Task> rows = new ArrayList<>();
+        for (LocalDateTime occurrence : recurrenceWindowExpander.expand(toSeries(master), from, horizon)) {
+            if (occurrence.isBefore(horizon)) {
+                rows.add(occurrenceRow(master, occurrence));
+            }
+        }
         
-        for (LocalDateTime startDate : recurrenceDates) {
-            Task recurringTask = createTaskInstance(baseTask, startDate);
-            tasks.add(recurringTask);
+        if (master.getMaterializedFrom() == null) {
+            master.setMaterializedFrom(from);
         }
+        master.setMaterializedUntil(horizon);
         
-        return tasks;
+        List<Task> savedRows = taskRepository.saveAll(rows);
+        savedRows.forEach(this::indexAfterCommit);
+        return savedRows;
+    }
+
+    @Override
+    public TaskDto updateSeriesOccurrence(Long seriesId, LocalDateTime originalStartDate, TaskDto taskDto) {
+        log.info("Updating occurrence {} of task series {}", originalStartDate, seriesId);
+        
+        Task override = findOrCreateOverride(seriesId, originalStartDate);
+        
+        Task task = taskDto.toEntity();
+        taskUtil.validateTask(task);
+        validateNoOverlappingTasks(task, override.getId());
+        
+        override.setTitle(task.getTitle());
+        override.setDescription(task.getDescription());
+        override.setStartDate(task.getStartDate());
+        override.setEndDate(task.getEndDate());
+        override.setPriority(task.getPriority());
+        override.setStatus(task.getStatus());
+        override.setParticipants(task.getParticipants());
+        
+        Task savedOverride = taskRepository.save(override);
+        indexAfterCommit(savedOverride);
+        log.info("Occurrence {} of task series {} stored as task {}", originalStartDate, seriesId, savedOverride.getId());
+        
+        return TaskDto.fromEntity(savedOverride);
+    }
+
+    @Override
+    public TaskDto updateSeriesOccurrenceStatus(Long seriesId, LocalDateTime originalStartDate, Task.TaskStatus newStatus) {
+        log.info("Updating status of occurrence {} of task series {} to {}", originalStartDate, seriesId, newStatus);
+        
+        Task override = findOrCreateOverride(seriesId, originalStartDate);
+        validateStatusTransition(override.getStatus(), newStatus);
+        override.setStatus(newStatus);
+        
+        Task savedOverride = taskRepository.save(override);
+        indexAfterCommit(savedOverride);
+        
+        return TaskDto.fromEntity(savedOverride);
+    }
+
+    @Override
+    public void cancelSeriesOccurrence(Long seriesId, LocalDateTime originalStartDate) {
+        log.info("Cancelling occurrence {} of task series {}", originalStartDate, seriesId);
+        
+        Task master = findSeriesMaster(seriesId);
+        Optional<Task> row = taskRepository.findBySeriesIdAndOriginalStartDate(seriesId, originalStartDate);
+        if (row.isPresent()) {
+            Long rowId = row.get().getId();
+            taskRepository.delete(row.get());
+            TransactionUtil.afterCommit(() -> taskTimelineIndex.remove(rowId));
+        } else {
+            requireOccurrence(master, originalStartDate);
+        }
+        
+        addException(master, originalStartDate);
+        log.info("Occurrence {} of task series {} cancelled", originalStartDate, seriesId);
+    }
+
+    /**
+     * Load the override row of an occurrence, or build one from the series master and record the
+     * occurrence as an exception of the series
+     */
+    private Task findOrCreateOverride(Long seriesId, LocalDateTime originalStartDate) {
+        Optional<Task> row = taskRepository.findBySeriesIdAndOriginalStartDate(seriesId, originalStartDate);
+        Task master = findSeriesMaster(seriesId);
+        if (row.isPresent()) {
+            // A stored occurrence becomes an override, which is kept when the series is re-materialized
+            addException(master, originalStartDate);
+            return row.get();
+        }
+        requireOccurrence(master, originalStartDate);
+        addException(master, originalStartDate);
+        return occurrenceRow(master, originalStartDate);
+    }
+
+    private Task findSeriesMaster(Long seriesId) {
+        return taskRepository.findById(seriesId)
+                .filter(Task::isSeriesMaster)
+                .orElseThrow(() -> new TaskNotFoundException("Task series not found with ID: " + seriesId));
+    }
+
+    private void requireOccurrence(Task master, LocalDateTime originalStartDate) {
+        if (seriesOccurrences(master, originalStartDate, originalStartDate).isEmpty()) {
+            throw new InvalidTaskException("originalStartDate",
+                    "Task series " + master.getId() + " has no occurrence at " + originalStartDate);
+        }
+    }
+
+    /**
+     * Exclude an occurrence from expansion; it is then either stored as a row or cancelled
+     */
+    private void addException(Task master, LocalDateTime originalStartDate) {
+        master.setExceptionDays(exceptionsOf(master).with(originalStartDate).toBytes());
+    }
+
+    private static OccurrenceBitmap exceptionsOf(Task master) {
+        return OccurrenceBitmap.fromBytes(master.getStartDate().toLocalDate(), master.getExceptionDays());
+    }
+
+    /**
+     * Build the stored row of one occurrence of a series
+     */
+    private Task occurrenceRow(Task master, LocalDateTime originalStartDate) {
+        Task row = createTaskInstance(master, originalStartDate);
+        row.setStatus(master.getStatus());
+        row.setParticipants(new HashSet<>(master.getParticipants()));
+        row.setSeriesId(master.getId());
+        row.setOriginalStartDate(originalStartDate);
+        return row;
+    }
+
+    /**
+     * Expand the virtual occurrences of every series master in [startDate, endDate], leaving
+     * out the exceptions of each series. Masters whose stored range covers the window are not
+     * expanded at all. The result is ordered by start date.
+     */
+    private List<TaskDto> expandSeries(LocalDateTime startDate, LocalDateTime endDate) {
+        List<Task> masters = taskRepository.findSeriesMastersInWindow(startDate.toLocalDate(), endDate).stream()
+                .filter(master -> !isMaterialized(master, startDate, endDate))
+                .collect(Collectors.toList());
+        if (masters.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Task> mastersById = new HashMap<>();
+        List<RecurrenceWindowExpander.Series> series = new ArrayList<>(masters.size());
+        for (Task master : masters) {
+            mastersById.put(master.getId(), master);
+            series.add(toSeries(master));
+        }
+        
+        List<TaskDto> occurrences = new ArrayList<>();
+        for (RecurrenceWindowExpander.Occurrence occurrence : recurrenceWindowExpander.expandWindow(series, startDate, endDate)) {
+            Task master = mastersById.get(occurrence.seriesId());
+            occurrences.add(TaskDto.occurrenceOf(master, occurrence.startDate(),
+                    recurrenceUtil.calculateEndDate(occurrence.startDate(), master.getStartDate(), master.getEndDate())));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Occurrences of a series master within [windowStart, windowEnd], bounded by the pattern's
+     * end date and maximum number of occurrences
+     */
+    private List<LocalDateTime> seriesOccurrences(Task master, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return recurrenceWindowExpander.expand(toSeries(master), windowStart, windowEnd);
+    }
+
+    /**
+     * Whether every occurrence of a master in [startDate, endDate] is stored as a row
+     */
+    private static boolean isMaterialized(Task master, LocalDateTime startDate, LocalDateTime endDate) {
+        return master.getMaterializedFrom() != null && master.getMaterializedUntil() != null
+                && !master.getMaterializedFrom().isAfter(startDate) && master.getMaterializedUntil().isAfter(endDate);
+    }
+
+    /**
+     * Compile a master on the calling thread, where its pattern can still be loaded
+     */
+    private RecurrenceWindowExpander.Series toSeries(Task master) {
+        return new RecurrenceWindowExpander.Series(master.getId(), master.getStartDate(),
+                recurrenceUtil.compile(master.getRecurrencePattern()), exceptionsOf(master),
+                master.getMaterializedFrom(), master.getMaterializedUntil());
     }
 
     private Task createTaskInstance(Task baseTask, LocalDateTime startDate) {
@@ -213,6 +728,7 @@ public class TaskServiceImpl implements TaskService {
         
         task.setStatus(newStatus);
         Task updatedTask = taskRepository.save(task);
+        indexAfterCommit(updatedTask);
         
         log.info("Task status updated successfully: taskId={}, status={}", taskId, newStatus);
         return TaskDto.fromEntity(updatedTask);
@@ -250,24 +766,6 @@ public class TaskServiceImpl implements TaskService {
 
     // ==================== Validation ====================
 
-    private void validateTask(Task task) {
-        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
-            throw new InvalidTaskException("title", "Task title is required");
-        }
-        
-        if (task.getStartDate() == null) {
-            throw new InvalidTaskException("startDate", "Task start date is required");
-        }
-        
-        if (task.getEndDate() != null && task.getEndDate().isBefore(task.getStartDate())) {
-            throw new InvalidTaskException("endDate", "Task end date cannot be before start date");
-        }
-        
-        if (task.getStartDate().isBefore(LocalDateTime.now().minusDays(1))) {
-            throw new InvalidTaskException("startDate", "Task start date cannot be in the past");
-        }
-    }
-
     private void validateNoOverlappingTasks(Task task) {
         validateNoOverlappingTasks(task, null);
     }
@@ -276,38 +774,66 @@ public class TaskServiceImpl implements TaskService {
         LocalDateTime startDate = task.getStartDate();
         LocalDateTime endDate = task.getEndDate() != null ? task.getEndDate() : startDate.plusHours(1);
         
-        List<Task> overlappingTasks = taskRepository.findTasksByDateRange(startDate, endDate);
-        
-        // Filter out the current task if updating
-        if (excludeTaskId != null) {
-            overlappingTasks = overlappingTasks.stream()
-                    .filter(t -> !t.getId().equals(excludeTaskId))
-                    .collect(Collectors.toList());
-        }
-        
-        // Check for overlapping tasks with same participants
-        Set<Long> taskParticipantIds = task.getParticipants().stream()
-                .map(Participant::getId)
-                .collect(Collectors.toSet());
-        
-        boolean hasOverlap = overlappingTasks.stream()
-                .anyMatch(existingTask -> {
-                    Set<Long> existingParticipantIds = existingTask.getParticipants().stream()
-                            .map(Participant::getId)
-                            .collect(Collectors.toSet());
-                    
-                    // Check if there are common participants
-                    boolean hasCommonParticipants = taskParticipantIds.stream()
-                            .anyMatch(existingParticipantIds::contains);
-                    
-                    return hasCommonParticipants && !existingTask.getStatus().equals(Task.TaskStatus.CANCELLED);
-                });
+        // Probe the timeline of each participant; cancelled tasks are never indexed
+        boolean hasOverlap = taskTimelineIndex.hasOverlap(taskUtil.participantIdsOf(task), startDate, endDate, excludeTaskId);
         
         if (hasOverlap) {
             throw new TaskOverlapException("Task overlaps with existing tasks for the same participants");
         }
     }
 
+    private void validateNoOverlappingTasksExcept(Task task, Set<Long> excludeTaskIds) {
+        LocalDateTime startDate = task.getStartDate();
+        LocalDateTime endDate = task.getEndDate() != null ? task.getEndDate() : startDate.plusHours(1);
+        
+        boolean hasOverlap = taskTimelineIndex.hasOverlapExcluding(taskUtil.participantIdsOf(task), startDate, endDate, excludeTaskIds);
+        
+        if (hasOverlap) {
+            throw new TaskOverlapException("Task overlaps with existing tasks for the same participants");
+        }
+    }
+
+    /**
+     * Check a series against the other series of its participants. Regular rules are compared
+     * arithmetically, so neither side is expanded even when it has no end.
+     */
+    private void validateNoOverlappingSeries(Task series, Long excludeSeriesId) {
+        Set<Long> participantIds = taskUtil.participantIdsOf(series);
+        if (participantIds.isEmpty()) {
+            return;
+        }
+        
+        RecurrenceWindowExpander.Series candidate = toSeries(series);
+        Duration duration = occurrenceDuration(series);
+        for (Task other : taskRepository.findActiveSeriesMastersByParticipantIds(participantIds)) {
+            if (other.getId().equals(excludeSeriesId)) {
+                continue;
+            }
+            LocalDateTime conflict = seriesConflictDetector.firstConflict(candidate, duration, toSeries(other), occurrenceDuration(other));
+            if (conflict != null) {
+                throw new TaskOverlapException("Task series overlaps with task series " + other.getId() + " at " + conflict);
+            }
+        }
+    }
+
+    private static Duration occurrenceDuration(Task task) {
+        return task.getEndDate() != null
+                ? Duration.between(task.getStartDate(), task.getEndDate())
+                : Duration.ofHours(1);
+    }
+
+    private void indexAfterCommit(Task task) {
+        if (task.isSeriesMaster()) {
+            return;
+        }
+        Long taskId = task.getId();
+        LocalDateTime startDate = task.getStartDate();
+        LocalDateTime endDate = task.getEndDate();
+        Task.TaskStatus status = task.getStatus();
+        Set<Long> participantIds = taskUtil.participantIdsOf(task);
+        TransactionUtil.afterCommit(() -> taskTimelineIndex.put(taskId, startDate, endDate, status, participantIds));
+    }
+
     // ==================== Additional Query Methods ====================
 
     @Override
@@ -364,8 +890,16 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     public List<TaskDto> searchTasksByTitle(String title) {
         log.debug("Searching tasks by title: {}", title);
-        return taskRepository.findByTitleContainingIgnoreCase(title)
-                .stream()
+        List<Long> taskIds = textSearchIndex.searchTasks(title, TextSearchIndex.TITLE);
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        // Keep the relevance order of the index
+        Map<Long, Task> tasksById = taskRepository.findWithDetailsByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return taskIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
                 .map(TaskDto::fromEntity)
                 .collect(Collectors.toList());
     }
@@ -377,17 +911,41 @@ public class TaskServiceImpl implements TaskService {
     public TaskStatisticsDto getTaskStatistics() {
         log.debug("Getting task statistics");
         
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime sevenDaysLater = now.plusDays(7);
+        // One grouped pass instead of a count query per figure
+        GroupedCounts counts = statisticsEngine.run(taskStatisticsQuery(LocalDateTime.now())
+                .groupBy(STATUS_DIMENSION));
         
         return TaskStatisticsDto.builder()
-                .totalTasks(taskRepository.count())
-                .pendingTasks(taskRepository.countByStatus(Task.TaskStatus.PENDING))
-                .inProgressTasks(taskRepository.countByStatus(Task.TaskStatus.IN_PROGRESS))
-                .completedTasks(taskRepository.countByStatus(Task.TaskStatus.COMPLETED))
-                .cancelledTasks(taskRepository.countByStatus(Task.TaskStatus.CANCELLED))
-                .overdueTasks(taskRepository.countOverdueTasks(now))
-                .upcomingTasks(taskRepository.countUpcomingTasks(now, sevenDaysLater))
+                .totalTasks(counts.total())
+                .pendingTasks(counts.count(Task.TaskStatus.PENDING))
+                .inProgressTasks(counts.count(Task.TaskStatus.IN_PROGRESS))
+                .completedTasks(counts.count(Task.TaskStatus.COMPLETED))
+                .cancelledTasks(counts.count(Task.TaskStatus.CANCELLED))
+                .overdueTasks(counts.total(OVERDUE))
+                .upcomingTasks(counts.total(UPCOMING))
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsGroupDto> getTaskStatisticsBreakdown(String dimension) {
+        log.debug("Getting task statistics by {}", dimension);
+        Dimension<Task> groupBy = StatisticsGroups.dimension(STATISTICS_DIMENSIONS, dimension);
+        return StatisticsGroups.toDtos(statisticsEngine.run(taskStatisticsQuery(LocalDateTime.now()).groupBy(groupBy)));
+    }
+
+    /**
+     * Overdue: ended before now and neither completed nor cancelled; upcoming: starting in the
+     * next seven days. The same conditions as the countOverdueTasks and countUpcomingTasks queries.
+     */
+    private static StatisticsQuery<Task> taskStatisticsQuery(LocalDateTime now) {
+        LocalDateTime sevenDaysLater = now.plusDays(7);
+        return StatisticsQuery.of(Task.class)
+                .countIf(OVERDUE, (task, query, cb) -> cb.and(
+                        cb.lessThan(task.get("endDate"), now),
+                        cb.not(task.get("status").in(Task.TaskStatus.COMPLETED, Task.TaskStatus.CANCELLED))))
+                .countIf(UPCOMING, (task, query, cb) -> cb.and(
+                        cb.greaterThanOrEqualTo(task.get("startDate"), now),
+                        cb.lessThan(task.get("startDate"), sevenDaysLater)));
+    }
+}
\ No newline at end of file
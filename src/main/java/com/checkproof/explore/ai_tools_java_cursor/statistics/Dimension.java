@@ -0,0 +1,78 @@
+package com.checkproof.explore.ai_tools_java_cursor.statistics;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * What a statistics query groups rows by: the expressions put in its GROUP BY and how their
+ * values make up the key of a group. A dimension over a collection counts an entity once in
+ * every group it falls in, and in a null group when the collection is empty.
+ */
+public final class Dimension<T> {
+
+    private final String name;
+    private final BiFunction<Root<T>, CriteriaBuilder, List<Expression<?>>> expressions;
+    private final Function<List<Object>, Object> key;
+    private final boolean multiValued;
+
+    private Dimension(String name, BiFunction<Root<T>, CriteriaBuilder, List<Expression<?>>> expressions,
+                      Function<List<Object>, Object> key, boolean multiValued) {
+        this.name = name;
+        this.expressions = expressions;
+        this.key = key;
+        this.multiValued = multiValued;
+    }
+
+    /**
+     * Group by the value of an attribute
+     */
+    public static <T> Dimension<T> attribute(String name, String attribute) {
+        return new Dimension<>(name, (root, cb) -> List.of(root.get(attribute)), values -> values.get(0), false);
+    }
+
+    /**
+     * Group by the calendar month of a date-time attribute; keys are {@link YearMonth}s
+     */
+    public static <T> Dimension<T> month(String name, String attribute) {
+        return new Dimension<>(name,
+                (root, cb) -> List.of(
+                        cb.function("year", Integer.class, root.get(attribute)),
+                        cb.function("month", Integer.class, root.get(attribute))),
+                values -> values.get(0) == null ? null
+                        : YearMonth.of(((Number) values.get(0)).intValue(), ((Number) values.get(1)).intValue()),
+                false);
+    }
+
+    /**
+     * Group by an attribute of the elements of a collection, such as the type of each participant
+     */
+    public static <T> Dimension<T> joined(String name, String collection, String attribute) {
+        return new Dimension<>(name,
+                (root, cb) -> List.of(root.join(collection, JoinType.LEFT).get(attribute)),
+                values -> values.get(0),
+                true);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    List<Expression<?>> expressions(Root<T> root, CriteriaBuilder cb) {
+        return expressions.apply(root, cb);
+    }
+
+    Object key(List<Object> values) {
+        return key.apply(values);
+    }
+
+    boolean isMultiValued() {
+        return multiValued;
+    }
+}
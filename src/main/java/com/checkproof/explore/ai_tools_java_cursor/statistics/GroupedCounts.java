@@ -0,0 +1,61 @@
+package com.checkproof.explore.ai_tools_java_cursor.statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of a {@link StatisticsQuery}: per group, the number of rows and of rows matching each
+ * measure. Groups that matched no row are absent and count as zero.
+ */
+public final class GroupedCounts {
+
+    private final List<String> measures;
+    // Per group: the row count, then one count per measure in query order
+    private final Map<Object, long[]> groups;
+
+    GroupedCounts(List<String> measures, Map<Object, long[]> groups) {
+        this.measures = List.copyOf(measures);
+        this.groups = Collections.unmodifiableMap(new LinkedHashMap<>(groups));
+    }
+
+    public Set<Object> groups() {
+        return groups.keySet();
+    }
+
+    public List<String> measures() {
+        return measures;
+    }
+
+    public long count(Object group) {
+        long[] counts = groups.get(group);
+        return counts == null ? 0 : counts[0];
+    }
+
+    public long count(Object group, String measure) {
+        long[] counts = groups.get(group);
+        return counts == null ? 0 : counts[column(measure)];
+    }
+
+    /**
+     * Rows over all groups; for a dimension over a collection an entity is counted once per group
+     */
+    public long total() {
+        return groups.values().stream().mapToLong(counts -> counts[0]).sum();
+    }
+
+    public long total(String measure) {
+        int column = column(measure);
+        return groups.values().stream().mapToLong(counts -> counts[column]).sum();
+    }
+
+    private int column(String measure) {
+        int index = measures.indexOf(measure);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown measure: " + measure);
+        }
+        return index + 1;
+    }
+}
@@ -0,0 +1,71 @@
+package com.checkproof.explore.ai_tools_java_cursor.statistics;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a {@link StatisticsQuery} as one grouped statement, so that any number of counts costs a
+ * single pass over the table: each measure is a conditional aggregate,
+ * {@code COUNT(CASE WHEN condition THEN id END)}, next to the row count of its group. Dimensions
+ * over a collection count distinct ids, so that the join does not count an entity twice.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsEngine {
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <T> GroupedCounts run(StatisticsQuery<T> query) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(query.getEntity());
+        Path<Long> id = root.get("id");
+        Dimension<T> dimension = query.getDimension();
+        boolean distinct = dimension != null && dimension.isMultiValued();
+
+        List<Expression<?>> keys = dimension == null ? List.of() : dimension.expressions(root, cb);
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        selections.add(distinct ? cb.countDistinct(id) : cb.count(id));
+        for (Specification<T> condition : query.getMeasures().values()) {
+            Expression<Long> matchingId = cb.<Long>selectCase()
+                    .when(condition.toPredicate(root, criteria, cb), id)
+                    .otherwise(cb.nullLiteral(Long.class));
+            selections.add(distinct ? cb.countDistinct(matchingId) : cb.count(matchingId));
+        }
+        criteria.multiselect(selections);
+        if (!keys.isEmpty()) {
+            criteria.groupBy(keys);
+        }
+
+        int measures = query.getMeasures().size();
+        Map<Object, long[]> groups = new LinkedHashMap<>();
+        for (Tuple row : entityManager.createQuery(criteria).getResultList()) {
+            List<Object> keyValues = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                keyValues.add(row.get(i));
+            }
+            long[] counts = new long[measures + 1];
+            for (int i = 0; i <= measures; i++) {
+                counts[i] = ((Number) row.get(keys.size() + i)).longValue();
+            }
+            groups.put(dimension == null ? null : dimension.key(keyValues), counts);
+        }
+        return new GroupedCounts(new ArrayList<>(query.getMeasures().keySet()), groups);
+    }
+}
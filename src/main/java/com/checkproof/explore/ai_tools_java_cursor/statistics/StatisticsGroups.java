@@ -0,0 +1,56 @@
+package com.checkproof.explore.ai_tools_java_cursor.statistics;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Turns grouped counts into breakdown DTOs, ordered by key with the null group last
+ */
+public final class StatisticsGroups {
+
+    private StatisticsGroups() {
+    }
+
+    public static List<StatisticsGroupDto> toDtos(GroupedCounts counts) {
+        return counts.groups().stream()
+                .sorted(Comparator.nullsLast(StatisticsGroups::compareKeys))
+                .map(group -> {
+                    Map<String, Long> measures = new LinkedHashMap<>();
+                    counts.measures().forEach(measure -> measures.put(measure, counts.count(group, measure)));
+                    return StatisticsGroupDto.builder()
+                            .key(group == null ? null : group.toString())
+                            .count(counts.count(group))
+                            .measures(measures)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolve a dimension by name
+     *
+     * @throws IllegalArgumentException when there is no dimension with that name
+     */
+    public static <T> Dimension<T> dimension(List<Dimension<T>> dimensions, String name) {
+        return dimensions.stream()
+                .filter(dimension -> dimension.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown statistics dimension: " + name
+                        + "; expected one of " + dimensions.stream().map(Dimension::getName).toList()));
+    }
+
+    // Keys of one dimension share a type: enums by declaration order, months chronologically
+    @SuppressWarnings("unchecked")
+    private static int compareKeys(Object left, Object right) {
+        if (left instanceof Comparable<?> comparable && left.getClass() == right.getClass()) {
+            return ((Comparable<Object>) comparable).compareTo(right);
+        }
+        return Objects.toString(left).compareTo(Objects.toString(right));
+    }
+}
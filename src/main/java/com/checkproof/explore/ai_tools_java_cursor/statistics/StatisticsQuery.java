@@ -0,0 +1,56 @@
+package com.checkproof.explore.ai_tools_java_cursor.statistics;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts to compute over one entity in a single statement: the rows of each group of an
+ * optional dimension, and for each named measure the rows of the group matching its condition
+ */
+public final class StatisticsQuery<T> {
+
+    private final Class<T> entity;
+    private Dimension<T> dimension;
+    private final Map<String, Specification<T>> measures = new LinkedHashMap<>();
+
+    private StatisticsQuery(Class<T> entity) {
+        this.entity = entity;
+    }
+
+    public static <T> StatisticsQuery<T> of(Class<T> entity) {
+        return new StatisticsQuery<>(entity);
+    }
+
+    /**
+     * Group the counts by a dimension; without one there is a single group with a null key
+     */
+    public StatisticsQuery<T> groupBy(Dimension<T> dimension) {
+        this.dimension = dimension;
+        return this;
+    }
+
+    /**
+     * Also count the rows matching a condition, under the given measure name
+     */
+    public StatisticsQuery<T> countIf(String measure, Specification<T> condition) {
+        if (measures.putIfAbsent(measure, condition) != null) {
+            throw new IllegalArgumentException("Duplicate measure: " + measure);
+        }
+        return this;
+    }
+
+    public Class<T> getEntity() {
+        return entity;
+    }
+
+    public Dimension<T> getDimension() {
+        return dimension;
+    }
+
+    public Map<String, Specification<T>> getMeasures() {
+        return Collections.unmodifiableMap(measures);
+    }
+}
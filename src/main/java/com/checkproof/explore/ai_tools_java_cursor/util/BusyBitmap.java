@@ -0,0 +1,126 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+/**
+ * Fixed-size bitmap of busy time slots, one bit per slot.
+ * A set bit marks the slot as busy; combining the calendars of several participants is a
+ * word-wide OR of their bitmaps, and free runs are located with word scans instead of bit loops.
+ */
+public class BusyBitmap {
+
+    private static final int WORD_BITS = 64;
+
+    private final long[] words;
+    private final int slotCount;
+
+    public BusyBitmap(int slotCount) {
+        if (slotCount < 0) {
+            throw new IllegalArgumentException("Slot count cannot be negative");
+        }
+        this.slotCount = slotCount;
+        this.words = new long[(slotCount + WORD_BITS - 1) / WORD_BITS];
+    }
+
+    public int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Mark the slots [fromSlot, toSlot) as busy; the range is clamped to the bitmap
+     */
+    public void markBusy(int fromSlot, int toSlot) {
+        int from = Math.max(fromSlot, 0);
+        int to = Math.min(toSlot, slotCount);
+        if (from >= to) {
+            return;
+        }
+
+        int firstWord = from / WORD_BITS;
+        int lastWord = (to - 1) / WORD_BITS;
+        long firstMask = -1L << (from % WORD_BITS);
+        long lastMask = -1L >>> (WORD_BITS - 1 - (to - 1) % WORD_BITS);
+        if (firstWord == lastWord) {
+            words[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+    }
+
+    public boolean isBusy(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " is outside the bitmap");
+        }
+        return (words[slot / WORD_BITS] & (1L << (slot % WORD_BITS))) != 0;
+    }
+
+    /**
+     * Merge the busy slots of another bitmap of the same size into this one
+     */
+    public void or(BusyBitmap other) {
+        if (other.slotCount != slotCount) {
+            throw new IllegalArgumentException("Bitmaps must have the same slot count");
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    /**
+     * Find the first run of at least runLength free slots starting at or after fromSlot.
+     * Returns the first slot of the run, or -1 if there is none.
+     */
+    public int nextFreeRun(int fromSlot, int runLength) {
+        if (runLength <= 0) {
+            throw new IllegalArgumentException("Run length must be positive");
+        }
+        int start = nextFreeSlot(Math.max(fromSlot, 0));
+        while (start >= 0 && start + runLength <= slotCount) {
+            int busy = nextBusySlot(start);
+            if (busy - start >= runLength) {
+                return start;
+            }
+            start = nextFreeSlot(busy);
+        }
+        return -1;
+    }
+
+    /**
+     * Index of the next free slot at or after fromSlot, or -1
+     */
+    public int nextFreeSlot(int fromSlot) {
+        if (fromSlot >= slotCount) {
+            return -1;
+        }
+        int wordIndex = fromSlot / WORD_BITS;
+        long word = ~words[wordIndex] & (-1L << (fromSlot % WORD_BITS));
+        while (word == 0) {
+            if (++wordIndex == words.length) {
+                return -1;
+            }
+            word = ~words[wordIndex];
+        }
+        int slot = wordIndex * WORD_BITS + Long.numberOfTrailingZeros(word);
+        return slot < slotCount ? slot : -1;
+    }
+
+    /**
+     * Index of the next busy slot at or after fromSlot, or the slot count if none
+     */
+    public int nextBusySlot(int fromSlot) {
+        if (fromSlot >= slotCount) {
+            return slotCount;
+        }
+        int wordIndex = fromSlot / WORD_BITS;
+        long word = words[wordIndex] & (-1L << (fromSlot % WORD_BITS));
+        while (word == 0) {
+            if (++wordIndex == words.length) {
+                return slotCount;
+            }
+            word = words[wordIndex];
+        }
+        return Math.min(wordIndex * WORD_BITS + Long.numberOfTrailingZeros(word), slotCount);
+    }
+}
@@ -0,0 +1,128 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+/**
+ * Immutable form of a RecurrencePattern used by RecurrenceUtil. The type may be null and the
+ * interval zero when the pattern was not valid. Days of week are a bitmask
+ * (bit 0 is Monday), the active period is kept as inclusive epoch-day bounds, and unset
+ * optional fields use sentinels so that no accessor boxes or touches the entity. Patterns with an
+ * RRULE also carry the parsed rule and their EXDATE and RDATE sets.
+ */
+public record CompiledRecurrenceRule(RecurrencePattern.RecurrenceType type,
+                                     int interval,
+                                     int daysOfWeekMask,
+                                     int dayOfMonth,
+                                     int weekOfMonth,
+                                     long startEpochDay,
+                                     long endEpochDay,
+                                     int maxOccurrences,
+                                     RRule rrule,
+                                     Set<LocalDateTime> exDates,
+                                     Set<LocalDateTime> rDates) {
+
+    public static final int NOT_SET = Integer.MIN_VALUE;
+
+    /**
+     * Rule used when no pattern is given: every day, without bounds
+     */
+    public static final CompiledRecurrenceRule DEFAULT_DAILY = new CompiledRecurrenceRule(
+        RecurrencePattern.RecurrenceType.DAILY, 1, 0, NOT_SET, NOT_SET, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE,
+        null, Set.of(), Set.of());
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    /**
+     * Compile a pattern; a null pattern compiles to DEFAULT_DAILY. An RRULE is parsed here and
+     * rejected with IllegalArgumentException when malformed.
+     */
+    public static CompiledRecurrenceRule compile(RecurrencePattern pattern) {
+        if (pattern == null) {
+            return DEFAULT_DAILY;
+        }
+        return new CompiledRecurrenceRule(
+            pattern.getRecurrenceType(),
+            pattern.getInterval() != null ? pattern.getInterval() : 0,
+            toMask(pattern.getDaysOfWeek()),
+            pattern.getDayOfMonth() != null ? pattern.getDayOfMonth() : NOT_SET,
+            pattern.getWeekOfMonth() != null ? pattern.getWeekOfMonth() : NOT_SET,
+            pattern.getStartDate() != null ? pattern.getStartDate().toEpochDay() : Long.MIN_VALUE,
+            pattern.getEndDate() != null ? pattern.getEndDate().toEpochDay() : Long.MAX_VALUE,
+            pattern.getMaxOccurrences() != null ? pattern.getMaxOccurrences() : Integer.MAX_VALUE,
+            pattern.getRrule() != null ? RRule.parse(pattern.getRrule()) : null,
+            RRule.parseDateTimeList(pattern.getExdates()),
+            RRule.parseDateTimeList(pattern.getRdates()));
+    }
+
+    private static int toMask(Set<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        if (daysOfWeek != null) {
+            for (DayOfWeek dayOfWeek : daysOfWeek) {
+                if (dayOfWeek != null) {
+                    mask |= 1 << (dayOfWeek.getValue() - 1);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Whether the rule has a type and a positive interval; validateRecurrencePattern rejects
+     * patterns for which this is false
+     */
+    public boolean isSteppable() {
+        return type != null && interval >= 1;
+    }
+
+    public boolean hasRRule() {
+        return rrule != null;
+    }
+
+    public boolean hasDaysOfWeek() {
+        return daysOfWeekMask != 0;
+    }
+
+    public boolean includes(DayOfWeek dayOfWeek) {
+        return (daysOfWeekMask & (1 << (dayOfWeek.getValue() - 1))) != 0;
+    }
+
+    /**
+     * Days from the given weekday to the next listed weekday, between 1 and 7. Rotates the mask so
+     * that bit j stands for the weekday j + 1 days later and takes the lowest set bit.
+     */
+    public int daysToNextListedDay(DayOfWeek from) {
+        int index = from.getValue() - 1;
+        int rotated = ((daysOfWeekMask >>> (index + 1)) | (daysOfWeekMask << (6 - index))) & 0x7F;
+        return Integer.numberOfTrailingZeros(rotated) + 1;
+    }
+
+    public boolean hasDayOfMonth() {
+        return dayOfMonth != NOT_SET;
+    }
+
+    public boolean hasWeekOfMonth() {
+        return weekOfMonth != NOT_SET;
+    }
+
+    public boolean hasEndDate() {
+        return endEpochDay != Long.MAX_VALUE;
+    }
+
+    public LocalDate endDate() {
+        return hasEndDate() ? LocalDate.ofEpochDay(endEpochDay) : null;
+    }
+
+    /**
+     * Whether the date falls on a day inside the active period
+     */
+    public boolean isActiveOn(LocalDateTime date) {
+        long epochDay = Math.floorDiv(date.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_DAY);
+        return epochDay >= startEpochDay && epochDay <= endEpochDay;
+    }
+}
@@ -0,0 +1,257 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Reads flat import records one at a time from NDJSON (one JSON object per line) or CSV (RFC 4180
+ * with a header row), so only the current record is held in memory. Malformed records are
+ * returned with an error instead of ending the import. List values are joined with ';', the
+ * separator CSV files use within a field.
+ */
+public class ImportRecordReader implements Iterator<ImportRecordReader.ImportRecord>, Closeable {
+
+    public static final String LIST_SEPARATOR = ";";
+
+    // Longest record accepted, so that a missing closing quote cannot buffer the rest of the file
+    static final int MAX_RECORD_CHARS = 1 << 16;
+
+    /**
+     * Supported import formats
+     */
+    public enum Format {
+        NDJSON,
+        CSV;
+
+        /**
+         * Format of a request body by its media type, or null when it is not supported
+         */
+        public static Format fromMediaType(String mediaType) {
+            if (mediaType == null) {
+                return null;
+            }
+            String type = mediaType.split(";", 2)[0].trim().toLowerCase();
+            switch (type) {
+                case "application/x-ndjson":
+                case "application/jsonl":
+                    return NDJSON;
+                case "text/csv":
+                    return CSV;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * One record: the line it starts on, its fields by name, and the reason it could not be read
+     */
+    public record ImportRecord(long line, Map<String, String> fields, String error) {
+
+        public boolean isValid() {
+            return error == null;
+        }
+    }
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private List<String> header;
+    private long line;
+    private ImportRecord next;
+
+    public ImportRecordReader(Reader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = format == Format.NDJSON ? readJsonRecord() : readCsvRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRecord record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private ImportRecord readJsonRecord() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        if (text.length() > MAX_RECORD_CHARS) {
+            return new ImportRecord(line, Map.of(), "Record exceeds " + MAX_RECORD_CHARS + " characters");
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException e) {
+            return new ImportRecord(line, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return new ImportRecord(line, Map.of(), "Expected a JSON object");
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        node.fields().forEachRemaining(field -> {
+            JsonNode value = field.getValue();
+            if (value.isArray()) {
+                StringJoiner joined = new StringJoiner(LIST_SEPARATOR);
+                value.forEach(element -> joined.add(element.asText()));
+                fields.put(field.getKey(), joined.toString());
+            } else if (!value.isNull()) {
+                fields.put(field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+            }
+        });
+        return new ImportRecord(line, fields, null);
+    }
+
+    private ImportRecord readCsvRecord() throws IOException {
+        if (header == null) {
+            CsvRow names = readCsvRow();
+            if (names == null) {
+                return null;
+            }
+            if (names.error() != null) {
+                throw new IllegalArgumentException("Unreadable CSV header: " + names.error());
+            }
+            header = names.values().stream().map(String::trim).toList();
+        }
+
+        CsvRow row;
+        do {
+            row = readCsvRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.error() == null && row.values().size() == 1 && row.values().get(0).isEmpty());
+
+        if (row.error() != null) {
+            return new ImportRecord(row.line(), Map.of(), row.error());
+        }
+        if (row.values().size() != header.size()) {
+            return new ImportRecord(row.line(), Map.of(),
+                    "Expected " + header.size() + " columns but found " + row.values().size());
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String value = row.values().get(i);
+            if (!value.isEmpty()) {
+                fields.put(header.get(i), value);
+            }
+        }
+        return new ImportRecord(row.line(), fields, null);
+    }
+
+    /**
+     * Read one CSV row, which may span lines inside quoted fields
+     */
+    private CsvRow readCsvRow() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        long startLine = ++line;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean afterQuote = false;
+        int length = 0;
+        String error = null;
+
+        for (; c != -1; c = reader.read()) {
+            if (++length > MAX_RECORD_CHARS && error == null) {
+                error = "Record exceeds " + MAX_RECORD_CHARS + " characters";
+                field.setLength(0);
+            }
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    quoted = false;
+                    afterQuote = true;
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    if (error == null) {
+                        field.append(ch);
+                    }
+                }
+                continue;
+            }
+            if (ch == '"') {
+                if (afterQuote) {
+                    // An escaped quote inside a quoted field
+                    field.append('"');
+                    quoted = true;
+                    afterQuote = false;
+                } else if (field.length() == 0) {
+                    quoted = true;
+                } else if (error == null) {
+                    error = "Unexpected quote in unquoted field " + (values.size() + 1);
+                }
+            } else if (ch == ',') {
+                if (error == null) {
+                    values.add(field.toString());
+                }
+                field.setLength(0);
+                afterQuote = false;
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                if (afterQuote && error == null) {
+                    error = "Unexpected character after closing quote in field " + (values.size() + 1);
+                }
+                if (error == null) {
+                    field.append(ch);
+                }
+            }
+        }
+        if (quoted && error == null) {
+            error = "Unterminated quoted field " + (values.size() + 1);
+        }
+        values.add(field.toString());
+        return new CsvRow(startLine, values, error);
+    }
+
+    private record CsvRow(long line, List<String> values, String error) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Sweep-line overlap detection over a set of half-open [start, end) intervals.
+ * Intervals are visited in start order while two active sets, ordered by end, hold the
+ * intervals still open at the sweep position. Runs in O(n log n + k) for k reported pairs.
+ */
+public final class IntervalSweep {
+
+    /**
+     * Callback receiving each overlapping pair of interval indexes
+     */
+    @FunctionalInterface
+    public interface OverlapListener {
+        void onOverlap(int first, int second);
+    }
+
+    private IntervalSweep() {
+    }
+
+    /**
+     * Report every overlapping pair of intervals.
+     * Intervals flagged as reference are only paired with non-reference intervals, so
+     * overlaps among already accepted intervals are never reported.
+     */
+    public static void findOverlaps(long[] starts, long[] ends, boolean[] reference, OverlapListener listener) {
+        int count = starts.length;
+        if (ends.length != count || reference.length != count) {
+            throw new IllegalArgumentException("Interval arrays must have the same length");
+        }
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> starts[i]).thenComparingInt(i -> i));
+
+        Comparator<Integer> byEnd = Comparator.comparingLong(i -> ends[i]);
+        PriorityQueue<Integer> activeCandidates = new PriorityQueue<>(byEnd);
+        PriorityQueue<Integer> activeReferences = new PriorityQueue<>(byEnd);
+
+        for (int current : order) {
+            long start = starts[current];
+            evictClosed(activeCandidates, ends, start);
+            evictClosed(activeReferences, ends, start);
+
+            report(current, activeCandidates, starts, ends, listener);
+            if (!reference[current]) {
+                report(current, activeReferences, starts, ends, listener);
+                activeCandidates.add(current);
+            } else {
+                activeReferences.add(current);
+            }
+        }
+    }
+
+    private static void evictClosed(PriorityQueue<Integer> active, long[] ends, long position) {
+        while (!active.isEmpty() && ends[active.peek()] <= position) {
+            active.poll();
+        }
+    }
+
+    private static void report(int current, PriorityQueue<Integer> active, long[] starts, long[] ends,
+                               OverlapListener listener) {
+        for (int other : active) {
+            // Active intervals are still open at this start; zero-length intervals need the full check
+            if (starts[other] < ends[current] && starts[current] < ends[other]) {
+                listener.onOverlap(other, current);
+            }
+        }
+    }
+}
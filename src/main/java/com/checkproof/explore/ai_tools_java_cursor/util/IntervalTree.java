@@ -0,0 +1,228 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Augmented interval tree over half-open [start, end) intervals.
+ * Nodes are ordered by (start, id) and balanced as a treap; every node also carries the
+ * maximum end of its subtree so overlap queries can prune whole branches.
+ * Insert and remove run in O(log n) expected time, overlap queries in O(log n + k).
+ * Instances are not thread-safe; callers are expected to guard access.
+ */
+public class IntervalTree {
+
+    /**
+     * Callback receiving each interval reported by a query
+     */
+    @FunctionalInterface
+    public interface IntervalVisitor {
+        void visit(long id, long start, long end);
+    }
+
+    private static final class Node {
+        private final long id;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long id, long start, long end, int priority) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    private Node root;
+    private int size;
+    private int seed = 0x2545F491;
+
+    /**
+     * Insert an interval. The (start, id) pair identifies the interval for later removal.
+     */
+    public void insert(long id, long start, long end) {
+        if (end < start) {
+            throw new IllegalArgumentException("Interval end cannot be before start");
+        }
+        root = insert(root, new Node(id, start, end, nextPriority()));
+        size++;
+    }
+
+    /**
+     * Remove the interval previously inserted with the given id and start
+     */
+    public boolean remove(long id, long start) {
+        int before = size;
+        root = remove(root, id, start);
+        return size < before;
+    }
+
+    /**
+     * Check whether any interval overlaps [start, end), ignoring the interval with excludeId
+     */
+    public boolean anyOverlap(long start, long end, Long excludeId) {
+        return anyOverlap(root, start, end, excludeId);
+    }
+
+    /**
+     * Visit every interval overlapping [start, end) in ascending (start, id) order
+     */
+    public void forEachOverlapping(long start, long end, IntervalVisitor visitor) {
+        forEachOverlapping(root, start, end, visitor);
+    }
+
+    /**
+     * Collect the ids of every interval overlapping [start, end) in ascending start order
+     */
+    public List<Long> findOverlappingIds(long start, long end, Long excludeId) {
+        List<Long> ids = new ArrayList<>();
+        forEachOverlapping(start, end, (id, s, e) -> {
+            if (excludeId == null || id != excludeId) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.start, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node remove(Node node, long id, long start) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(start, id, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, id, start);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, id, start);
+        } else {
+            size--;
+            return merge(node.left, node.right);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private boolean anyOverlap(Node node, long start, long end, Long excludeId) {
+        while (node != null && node.maxEnd > start) {
+            if (anyOverlap(node.left, start, end, excludeId)) {
+                return true;
+            }
+            if (node.start >= end) {
+                return false;
+            }
+            if (node.end > start && (excludeId == null || node.id != excludeId)) {
+                return true;
+            }
+            node = node.right;
+        }
+        return false;
+    }
+
+    private void forEachOverlapping(Node node, long start, long end, IntervalVisitor visitor) {
+        while (node != null && node.maxEnd > start) {
+            forEachOverlapping(node.left, start, end, visitor);
+            if (node.start >= end) {
+                return;
+            }
+            if (node.end > start) {
+                visitor.visit(node.id, node.start, node.end);
+            }
+            node = node.right;
+        }
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    private static int compare(long start, long id, Node node) {
+        int cmp = Long.compare(start, node.start);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private int nextPriority() {
+        // xorshift keeps priorities pseudo-random without allocating a Random per tree
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+}
@@ -0,0 +1,236 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Inverted index over documents made of a fixed number of text fields, ranked with BM25F.
+ * Terms are lower-cased runs of letters and digits kept in a sorted dictionary, so every query
+ * term also matches the indexed terms it is a prefix of. A document matches when each query
+ * term matches one of its selected fields; term frequencies of the selected fields are
+ * weighted and length-normalised per field before saturation.
+ * Instances are not thread-safe; callers are expected to guard access.
+ */
+public class InvertedIndex {
+
+    // BM25 term frequency saturation and length normalisation
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    /**
+     * A matching document and its score
+     */
+    public record Hit(long id, double score) {
+    }
+
+    /**
+     * Order of search results: best score first, ties by id
+     */
+    public static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::id);
+
+    private record Document(int[] lengths, Set<String> terms) {
+    }
+
+    private final double[] fieldWeights;
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final long[] totalLengths;
+
+    /**
+     * Create an index whose documents have one field per weight
+     */
+    public InvertedIndex(double... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        this.fieldWeights = fieldWeights.clone();
+        this.totalLengths = new long[fieldWeights.length];
+    }
+
+    /**
+     * Add or replace a document; null fields are empty
+     */
+    public void put(long id, String... fields) {
+        if (fields.length != fieldWeights.length) {
+            throw new IllegalArgumentException("Expected " + fieldWeights.length + " fields but got " + fields.length);
+        }
+        remove(id);
+
+        int[] lengths = new int[fields.length];
+        Map<String, int[]> frequencies = new HashMap<>();
+        for (int field = 0; field < fields.length; field++) {
+            List<String> tokens = tokenize(fields[field]);
+            lengths[field] = tokens.size();
+            totalLengths[field] += tokens.size();
+            for (String token : tokens) {
+                frequencies.computeIfAbsent(token, key -> new int[fields.length])[field]++;
+            }
+        }
+        frequencies.forEach((term, counts) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(id, counts));
+        documents.put(id, new Document(lengths, frequencies.keySet()));
+    }
+
+    /**
+     * Remove a document if it is indexed
+     */
+    public void remove(long id) {
+        Document document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        for (int field = 0; field < totalLengths.length; field++) {
+            totalLengths[field] -= document.lengths()[field];
+        }
+        for (String term : document.terms()) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            termPostings.remove(id);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Find the documents matching every query term in the given fields, or in all fields when
+     * none are given, best first and ties by id. A limit of zero or less returns every match.
+     */
+    public List<Hit> search(String query, int limit, int... fields) {
+        List<String> terms = new ArrayList<>(new HashSet<>(tokenize(query)));
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return List.of();
+        }
+        double[] weights = selectedWeights(fields);
+        double[] averageLengths = new double[weights.length];
+        for (int field = 0; field < weights.length; field++) {
+            averageLengths[field] = Math.max(1.0, (double) totalLengths[field] / documents.size());
+        }
+
+        // Score the rarest term first, so that the candidates only shrink from the smallest set
+        List<Map<Long, Double>> termScores = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Double> scores = scoreTerm(term, weights, averageLengths);
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+            termScores.add(scores);
+        }
+        termScores.sort(Comparator.comparingInt(Map::size));
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        List<Hit> hits = new ArrayList<>();
+        candidates:
+        for (Map.Entry<Long, Double> candidate : termScores.get(0).entrySet()) {
+            double score = candidate.getValue();
+            for (int i = 1; i < termScores.size(); i++) {
+                Double termScore = termScores.get(i).get(candidate.getKey());
+                if (termScore == null) {
+                    continue candidates;
+                }
+                score += termScore;
+            }
+            Hit hit = new Hit(candidate.getKey(), score);
+            if (limit <= 0) {
+                hits.add(hit);
+            } else {
+                top.add(hit);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        if (limit > 0) {
+            hits.addAll(top);
+        }
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Number of distinct terms indexed
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        documents.clear();
+        Arrays.fill(totalLengths, 0);
+    }
+
+    /**
+     * Split text into lower-cased runs of letters and digits
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean inToken = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (inToken && start < 0) {
+                start = i;
+            } else if (!inToken && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * BM25F score of one query term for every document it matches, summed over the indexed
+     * terms it is a prefix of
+     */
+    private Map<Long, Double> scoreTerm(String prefix, double[] weights, double[] averageLengths) {
+        Map<Long, Double> scores = new HashMap<>();
+        int documentCount = documents.size();
+        for (Map.Entry<String, Map<Long, int[]>> entry : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            Map<Long, int[]> termPostings = entry.getValue();
+            int frequency = termPostings.size();
+            double idf = Math.log(1 + (documentCount - frequency + 0.5) / (frequency + 0.5));
+            for (Map.Entry<Long, int[]> posting : termPostings.entrySet()) {
+                int[] counts = posting.getValue();
+                int[] lengths = documents.get(posting.getKey()).lengths();
+                double weighted = 0;
+                for (int field = 0; field < weights.length; field++) {
+                    if (weights[field] > 0 && counts[field] > 0) {
+                        weighted += weights[field] * counts[field]
+                                / (1 - B + B * lengths[field] / averageLengths[field]);
+                    }
+                }
+                if (weighted > 0) {
+                    scores.merge(posting.getKey(), idf * weighted * (K1 + 1) / (weighted + K1), Double::sum);
+                }
+            }
+        }
+        return scores;
+    }
+
+    private double[] selectedWeights(int[] fields) {
+        if (fields.length == 0) {
+            return fieldWeights;
+        }
+        double[] weights = new double[fieldWeights.length];
+        for (int field : fields) {
+            weights[field] = fieldWeights[field];
+        }
+        return weights;
+    }
+}
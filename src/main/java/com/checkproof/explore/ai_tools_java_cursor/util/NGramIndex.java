@@ -0,0 +1,152 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Substring index over one lower-cased text per document, keyed by trigram. A fragment of three
+ * or more characters is looked up by intersecting the posting lists of its trigrams, smallest
+ * first, and the remaining candidates are checked against their text. Texts are padded at the
+ * end, so every character starts a trigram and a shorter fragment is the union of the trigrams
+ * it is a prefix of. Instances are not thread-safe; callers are expected to guard access.
+ */
+public class NGramIndex {
+
+    static final int N = 3;
+
+    // Pads the end of every text; never part of a fragment
+    private static final char END = '\u0003';
+
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+
+    /**
+     * Add or replace the text of a document; a null or empty text removes it
+     */
+    public void put(long id, String text) {
+        remove(id);
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = normalize(text);
+        texts.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Remove a document if it is indexed
+     */
+    public void remove(long id) {
+        String text = texts.remove(id);
+        if (text == null) {
+            return;
+        }
+        for (String gram : grams(text)) {
+            Set<Long> ids = postings.get(gram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Ids of the documents whose text contains the fragment, ignoring case
+     */
+    public Set<Long> search(String fragment) {
+        String normalized = normalize(fragment);
+        if (normalized.isEmpty() || normalized.indexOf(END) >= 0) {
+            return Set.of();
+        }
+        if (normalized.length() < N) {
+            Set<Long> ids = new HashSet<>();
+            postings.subMap(normalized, true, normalized + Character.MAX_VALUE, false).values().forEach(ids::addAll);
+            return ids;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : new HashSet<>(queryGrams(normalized))) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> ids = new HashSet<>();
+        candidates:
+        for (Long candidate : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(candidate)) {
+                    continue candidates;
+                }
+            }
+            // Sharing every trigram does not mean they are adjacent in the text
+            if (normalized.length() == N || texts.get(candidate).contains(normalized)) {
+                ids.add(candidate);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * The lower-cased text of a document, or null when it is not indexed
+     */
+    public String text(long id) {
+        return texts.get(id);
+    }
+
+    public int size() {
+        return texts.size();
+    }
+
+    /**
+     * Number of distinct trigrams indexed
+     */
+    public int gramCount() {
+        return postings.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        texts.clear();
+    }
+
+    /**
+     * Lower-case text the way it is indexed; null is empty
+     */
+    public static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The trigram starting at every character of a text, padded at the end
+     */
+    private static Set<String> grams(String text) {
+        String padded = text + END + END;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(padded.substring(i, i + N));
+        }
+        return grams;
+    }
+
+    private static List<String> queryGrams(String fragment) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + N <= fragment.length(); i++) {
+            grams.add(fragment.substring(i, i + N));
+        }
+        return grams;
+    }
+}
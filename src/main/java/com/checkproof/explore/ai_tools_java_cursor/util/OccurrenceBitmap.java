@@ -0,0 +1,115 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable set of excluded occurrences of a series, one bit per day counted from the series'
+ * first day. A series has at most one occurrence per day, so the day offset identifies an
+ * occurrence and checking an exclusion is a single bit test. Keying by day rather than by
+ * occurrence number keeps exclusions on the same dates when the pattern is edited, and rebase
+ * keeps them when the series start moves.
+ */
+public final class OccurrenceBitmap {
+
+    private static final int WORD_BITS = 64;
+    private static final long[] NO_WORDS = new long[0];
+
+    private final long originEpochDay;
+    private final long[] words;
+
+    private OccurrenceBitmap(long originEpochDay, long[] words) {
+        this.originEpochDay = originEpochDay;
+        this.words = words;
+    }
+
+    public static OccurrenceBitmap empty(LocalDate origin) {
+        return new OccurrenceBitmap(origin.toEpochDay(), NO_WORDS);
+    }
+
+    /**
+     * Decode a bitmap stored by toBytes; null or empty bytes give an empty bitmap
+     */
+    public static OccurrenceBitmap fromBytes(LocalDate origin, byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return empty(origin);
+        }
+        return new OccurrenceBitmap(origin.toEpochDay(), BitSet.valueOf(bytes).toLongArray());
+    }
+
+    /**
+     * Compact encoding without trailing empty bytes; null when nothing is excluded
+     */
+    public byte[] toBytes() {
+        byte[] bytes = BitSet.valueOf(words).toByteArray();
+        return bytes.length == 0 ? null : bytes;
+    }
+
+    public LocalDate origin() {
+        return LocalDate.ofEpochDay(originEpochDay);
+    }
+
+    public boolean contains(LocalDateTime occurrence) {
+        return contains(occurrence.toLocalDate());
+    }
+
+    public boolean contains(LocalDate date) {
+        long offset = date.toEpochDay() - originEpochDay;
+        if (offset < 0 || offset >= (long) words.length * WORD_BITS) {
+            return false;
+        }
+        return (words[(int) (offset / WORD_BITS)] & (1L << (offset % WORD_BITS))) != 0;
+    }
+
+    /**
+     * Copy with the given occurrence excluded
+     */
+    public OccurrenceBitmap with(LocalDateTime occurrence) {
+        long offset = occurrence.toLocalDate().toEpochDay() - originEpochDay;
+        if (offset < 0) {
+            throw new IllegalArgumentException("Occurrence " + occurrence + " is before the series start " + origin());
+        }
+        int word = Math.toIntExact(offset / WORD_BITS);
+        long[] copy = Arrays.copyOf(words, Math.max(words.length, word + 1));
+        copy[word] |= 1L << (offset % WORD_BITS);
+        return new OccurrenceBitmap(originEpochDay, copy);
+    }
+
+    /**
+     * Same excluded dates counted from a new origin; dates before it are dropped
+     */
+    public OccurrenceBitmap rebase(LocalDate newOrigin) {
+        long shift = newOrigin.toEpochDay() - originEpochDay;
+        if (shift == 0) {
+            return this;
+        }
+        BitSet shifted = new BitSet();
+        BitSet bits = BitSet.valueOf(words);
+        for (int offset = bits.nextSetBit(0); offset >= 0; offset = bits.nextSetBit(offset + 1)) {
+            long newOffset = offset - shift;
+            if (newOffset >= 0) {
+                shifted.set(Math.toIntExact(newOffset));
+            }
+        }
+        return new OccurrenceBitmap(newOrigin.toEpochDay(), shifted.toLongArray());
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,108 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Recent total counts of paginated queries, keyed by entity and by a key naming the query and
+ * its parameters. Counts expire after a fixed time and all counts of an entity are dropped when
+ * one of its rows is written in this process, so a cached total is at most that old.
+ */
+@Component
+@Slf4j
+public class PageCountCache {
+
+    private final Map<Class<?>, Map<String, CachedCount>> counts = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntriesPerEntity;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public PageCountCache(@Value("${calendar.pagination.count-cache-ttl:PT30S}") Duration ttl,
+                          @Value("${calendar.pagination.count-cache-max-entries:1000}") int maxEntriesPerEntity) {
+        this(ttl, maxEntriesPerEntity, System::nanoTime);
+    }
+
+    PageCountCache(Duration ttl, int maxEntriesPerEntity, LongSupplier nanoTime) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntriesPerEntity = maxEntriesPerEntity;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Cached count for the key, computing and caching it when missing or expired
+     */
+    public long getOrCount(Class<?> entity, String key, LongSupplier count) {
+        Map<String, CachedCount> entityCounts = counts.computeIfAbsent(entity, e -> new ConcurrentHashMap<>());
+        long now = nanoTime.getAsLong();
+        CachedCount cached = entityCounts.get(key);
+        if (cached != null && now - cached.countedAt() < ttlNanos) {
+            return cached.total();
+        }
+        long total = count.getAsLong();
+        put(entityCounts, key, new CachedCount(total, now));
+        return total;
+    }
+
+    /**
+     * A page whose total comes from the cache; on a miss the page query runs with its count and
+     * the total is cached, on a hit only the slice query runs
+     */
+    public <T> Page<T> getPage(Class<?> entity, String key, Pageable pageable,
+                               Function<Pageable, Page<T>> pageQuery, Function<Pageable, Slice<T>> sliceQuery) {
+        Map<String, CachedCount> entityCounts = counts.computeIfAbsent(entity, e -> new ConcurrentHashMap<>());
+        long now = nanoTime.getAsLong();
+        CachedCount cached = entityCounts.get(key);
+        if (cached != null && now - cached.countedAt() < ttlNanos) {
+            Slice<T> slice = sliceQuery.apply(pageable);
+            // The slice knows whether more rows follow, so a stale total never hides or invents a page
+            long seen = pageable.getOffset() + slice.getNumberOfElements();
+            long total = cached.total();
+            if (slice.hasNext()) {
+                total = Math.max(total, seen + 1);
+            } else {
+                total = slice.hasContent() ? seen : Math.min(total, pageable.getOffset());
+            }
+            return new PageImpl<>(slice.getContent(), pageable, total);
+        }
+        Page<T> page = pageQuery.apply(pageable);
+        put(entityCounts, key, new CachedCount(page.getTotalElements(), now));
+        return page;
+    }
+
+    public void invalidate(Class<?> entity) {
+        Map<String, CachedCount> entityCounts = counts.get(entity);
+        if (entityCounts != null && !entityCounts.isEmpty()) {
+            entityCounts.clear();
+            log.debug("Invalidated cached page counts for {}", entity.getSimpleName());
+        }
+    }
+
+    public int size(Class<?> entity) {
+        Map<String, CachedCount> entityCounts = counts.get(entity);
+        return entityCounts == null ? 0 : entityCounts.size();
+    }
+
+    private void put(Map<String, CachedCount> entityCounts, String key, CachedCount count) {
+        // Keys include free-text parameters, so bound the map rather than let it grow
+        if (entityCounts.size() >= maxEntriesPerEntity && !entityCounts.containsKey(key)) {
+            entityCounts.clear();
+        }
+        entityCounts.put(key, count);
+    }
+
+    private record CachedCount(long total, long countedAt) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener dropping the cached page counts of an entity when one of its rows is written
+ */
+@Component
+@RequiredArgsConstructor
+public class PageCountCacheListener {
+
+    private final PageCountCache pageCountCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void invalidate(Object entity) {
+        pageCountCache.invalidate(entity.getClass());
+    }
+}
@@ -0,0 +1,44 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset page: its sort date and id. Rows are ordered by
+ * (date, id) and the next page seeks past this position, so it costs the same at any depth.
+ * Clients see it only as an opaque URL-safe token.
+ */
+public record PageCursor(LocalDateTime date, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String position = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by encode
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+            return new PageCursor(LocalDateTime.parse(position.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token, e);
+        }
+    }
+
+    public static boolean isValid(String token) {
+        try {
+            decode(token);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
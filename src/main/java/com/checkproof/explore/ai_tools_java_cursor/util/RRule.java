@@ -0,0 +1,413 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed RFC 5545 recurrence rule. Supports FREQ (DAILY to YEARLY), INTERVAL, COUNT, UNTIL,
+ * BYDAY with ordinals, BYMONTHDAY, BYMONTH, BYSETPOS and WKST. Date-times are local; a trailing Z
+ * on UNTIL is accepted and ignored since the calendar stores zone-less times.
+ */
+public final class RRule {
+
+    private static final Pattern BY_DAY = Pattern.compile("([+-]?\\d{1,2})?(MO|TU|WE|TH|FR|SA|SU)");
+    private static final DateTimeFormatter BASIC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final List<String> DAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+
+    private final RecurrencePattern.RecurrenceType frequency;
+    private final int interval;
+    private final int count;
+    private final LocalDateTime until;
+    private final List<WeekdayNum> byDay;
+    private final int[] byMonthDay;
+    private final int[] byMonth;
+    private final int[] bySetPos;
+    private final DayOfWeek weekStart;
+    private final int byDayMask;
+    private final int byMonthMask;
+
+    /**
+     * A BYDAY entry; ordinal 0 means every such weekday in the period
+     */
+    public record WeekdayNum(int ordinal, DayOfWeek dayOfWeek) {
+
+        @Override
+        public String toString() {
+            return (ordinal != 0 ? Integer.toString(ordinal) : "") + DAY_CODES.get(dayOfWeek.ordinal());
+        }
+    }
+
+    private RRule(RecurrencePattern.RecurrenceType frequency, int interval, int count, LocalDateTime until,
+                  List<WeekdayNum> byDay, int[] byMonthDay, int[] byMonth, int[] bySetPos, DayOfWeek weekStart) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = Collections.unmodifiableList(byDay);
+        this.byMonthDay = byMonthDay;
+        this.byMonth = byMonth;
+        this.bySetPos = bySetPos;
+        this.weekStart = weekStart;
+
+        int dayMask = 0;
+        for (WeekdayNum weekdayNum : byDay) {
+            dayMask |= 1 << weekdayNum.dayOfWeek().ordinal();
+        }
+        int monthMask = 0;
+        for (int month : byMonth) {
+            monthMask |= 1 << month;
+        }
+        this.byDayMask = dayMask;
+        this.byMonthMask = monthMask;
+    }
+
+    /**
+     * Parse a rule such as {@code FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1}, with or without
+     * the {@code RRULE:} prefix
+     */
+    public static RRule parse(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("RRULE cannot be empty");
+        }
+        String body = text.trim();
+        if (body.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            body = body.substring(6);
+        }
+
+        RecurrencePattern.RecurrenceType frequency = null;
+        int interval = 1;
+        int count = 0;
+        LocalDateTime until = null;
+        List<WeekdayNum> byDay = List.of();
+        int[] byMonthDay = new int[0];
+        int[] byMonth = new int[0];
+        int[] bySetPos = new int[0];
+        DayOfWeek weekStart = DayOfWeek.MONDAY;
+
+        for (String part : body.split(";")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            int separator = part.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid RRULE part: " + part);
+            }
+            String name = part.substring(0, separator).trim().toUpperCase(Locale.ROOT);
+            String value = part.substring(separator + 1).trim().toUpperCase(Locale.ROOT);
+
+            switch (name) {
+                case "FREQ":
+                    frequency = parseFrequency(value);
+                    break;
+                case "INTERVAL":
+                    interval = parseInt(name, value, 1, Integer.MAX_VALUE);
+                    break;
+                case "COUNT":
+                    count = parseInt(name, value, 1, Integer.MAX_VALUE);
+                    break;
+                case "UNTIL":
+                    until = parseUntil(value);
+                    break;
+                case "BYDAY":
+                    byDay = parseByDay(value);
+                    break;
+                case "BYMONTHDAY":
+                    byMonthDay = parseIntList(name, value, 1, 31, true);
+                    break;
+                case "BYMONTH":
+                    byMonth = parseIntList(name, value, 1, 12, false);
+                    break;
+                case "BYSETPOS":
+                    bySetPos = parseIntList(name, value, 1, 366, true);
+                    break;
+                case "WKST":
+                    weekStart = parseWeekday(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported RRULE part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("RRULE must specify FREQ");
+        }
+        if (count > 0 && until != null) {
+            throw new IllegalArgumentException("RRULE cannot specify both COUNT and UNTIL");
+        }
+        if (frequency == RecurrencePattern.RecurrenceType.WEEKLY && byMonthDay.length > 0) {
+            throw new IllegalArgumentException("BYMONTHDAY is not allowed with FREQ=WEEKLY");
+        }
+        boolean hasOrdinals = byDay.stream().anyMatch(weekdayNum -> weekdayNum.ordinal() != 0);
+        if (hasOrdinals && (frequency == RecurrencePattern.RecurrenceType.DAILY
+                || frequency == RecurrencePattern.RecurrenceType.WEEKLY)) {
+            throw new IllegalArgumentException("BYDAY ordinals are only allowed with FREQ=MONTHLY or FREQ=YEARLY");
+        }
+        if (hasOrdinals && frequency == RecurrencePattern.RecurrenceType.YEARLY && byMonthDay.length > 0) {
+            throw new IllegalArgumentException("BYDAY ordinals cannot be combined with BYMONTHDAY");
+        }
+        if (bySetPos.length > 0 && byDay.isEmpty() && byMonthDay.length == 0 && byMonth.length == 0) {
+            throw new IllegalArgumentException("BYSETPOS requires another BYxxx rule part");
+        }
+
+        return new RRule(frequency, interval, count, until, byDay, byMonthDay, byMonth, bySetPos, weekStart);
+    }
+
+    /**
+     * Parse a comma-separated EXDATE or RDATE list of local date-times, in RFC 5545 basic format
+     * ({@code 20240105T090000}) or ISO format ({@code 2024-01-05T09:00})
+     */
+    public static Set<LocalDateTime> parseDateTimeList(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        Set<LocalDateTime> dateTimes = new LinkedHashSet<>();
+        for (String item : text.split(",")) {
+            if (!item.isBlank()) {
+                dateTimes.add(parseDateTime(item.trim()));
+            }
+        }
+        return Collections.unmodifiableSet(dateTimes);
+    }
+
+    public static LocalDateTime parseDateTime(String value) {
+        String text = value.endsWith("Z") || value.endsWith("z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            return text.indexOf('-') >= 0
+                ? LocalDateTime.parse(text)
+                : LocalDateTime.parse(text, BASIC_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date-time: " + value);
+        }
+    }
+
+    /**
+     * Date-only UNTIL values include the whole day
+     */
+    private static LocalDateTime parseUntil(String value) {
+        if (value.length() == 8) {
+            try {
+                return LocalDate.parse(value, BASIC_DATE).atTime(LocalTime.MAX);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid UNTIL date: " + value);
+            }
+        }
+        return parseDateTime(value);
+    }
+
+    private static RecurrencePattern.RecurrenceType parseFrequency(String value) {
+        try {
+            return RecurrencePattern.RecurrenceType.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported FREQ: " + value);
+        }
+    }
+
+    private static List<WeekdayNum> parseByDay(String value) {
+        List<WeekdayNum> byDay = new ArrayList<>();
+        for (String item : value.split(",")) {
+            Matcher matcher = BY_DAY.matcher(item.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid BYDAY value: " + item);
+            }
+            int ordinal = 0;
+            if (matcher.group(1) != null) {
+                ordinal = Integer.parseInt(matcher.group(1));
+                if (ordinal == 0 || Math.abs(ordinal) > 53) {
+                    throw new IllegalArgumentException("Invalid BYDAY ordinal: " + item);
+                }
+            }
+            byDay.add(new WeekdayNum(ordinal, parseWeekday(matcher.group(2))));
+        }
+        return byDay;
+    }
+
+    private static DayOfWeek parseWeekday(String value) {
+        int index = DAY_CODES.indexOf(value);
+        if (index < 0) {
+            throw new IllegalArgumentException("Invalid weekday: " + value);
+        }
+        return DayOfWeek.of(index + 1);
+    }
+
+    private static int parseInt(String name, String value, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * Parse a list of values whose magnitude lies in [min, max], optionally allowing negatives
+     */
+    private static int[] parseIntList(String name, String value, int min, int max, boolean allowNegative) {
+        String[] items = value.split(",");
+        int[] values = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            String item = items[i].trim();
+            int parsed;
+            try {
+                parsed = Integer.parseInt(item);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + name + " value: " + item);
+            }
+            if ((parsed < 0 && !allowNegative) || Math.abs(parsed) < min || Math.abs(parsed) > max) {
+                throw new IllegalArgumentException("Invalid " + name + " value: " + item);
+            }
+            values[i] = parsed;
+        }
+        return values;
+    }
+
+    public RecurrencePattern.RecurrenceType getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Number of occurrences, or 0 when the rule is not bounded by COUNT
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    public List<WeekdayNum> getByDay() {
+        return byDay;
+    }
+
+    public int[] getByMonthDay() {
+        return byMonthDay.clone();
+    }
+
+    public int[] getByMonth() {
+        return byMonth.clone();
+    }
+
+    public int[] getBySetPos() {
+        return bySetPos.clone();
+    }
+
+    public DayOfWeek getWeekStart() {
+        return weekStart;
+    }
+
+    boolean hasByDay() {
+        return !byDay.isEmpty();
+    }
+
+    boolean hasByMonthDay() {
+        return byMonthDay.length > 0;
+    }
+
+    boolean hasByMonth() {
+        return byMonth.length > 0;
+    }
+
+    boolean hasBySetPos() {
+        return bySetPos.length > 0;
+    }
+
+    /**
+     * Whether BYDAY lists the weekday, ignoring ordinals
+     */
+    boolean includesWeekday(DayOfWeek dayOfWeek) {
+        return (byDayMask & (1 << dayOfWeek.ordinal())) != 0;
+    }
+
+    boolean includesMonth(int month) {
+        return byMonth.length == 0 || (byMonthMask & (1 << month)) != 0;
+    }
+
+    /**
+     * Whether BYMONTHDAY lists the day, counting negative values from the end of the month
+     */
+    boolean includesMonthDay(int dayOfMonth, int lengthOfMonth) {
+        for (int value : byMonthDay) {
+            if (value == dayOfMonth || lengthOfMonth + 1 + value == dayOfMonth) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int[] bySetPosValues() {
+        return bySetPos;
+    }
+
+    int[] byMonthDayValues() {
+        return byMonthDay;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner rule = new StringJoiner(";");
+        rule.add("FREQ=" + frequency);
+        if (interval != 1) {
+            rule.add("INTERVAL=" + interval);
+        }
+        if (count > 0) {
+            rule.add("COUNT=" + count);
+        }
+        if (until != null) {
+            rule.add("UNTIL=" + until.withNano(0).format(BASIC_DATE_TIME));
+        }
+        if (!byDay.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            byDay.forEach(weekdayNum -> days.add(weekdayNum.toString()));
+            rule.add("BYDAY=" + days);
+        }
+        addList(rule, "BYMONTHDAY", byMonthDay);
+        addList(rule, "BYMONTH", byMonth);
+        addList(rule, "BYSETPOS", bySetPos);
+        if (weekStart != DayOfWeek.MONDAY) {
+            rule.add("WKST=" + DAY_CODES.get(weekStart.ordinal()));
+        }
+        return rule.toString();
+    }
+
+    private static void addList(StringJoiner rule, String name, int[] values) {
+        if (values.length > 0) {
+            StringJoiner joined = new StringJoiner(",");
+            Arrays.stream(values).forEach(value -> joined.add(Integer.toString(value)));
+            rule.add(name + "=" + joined);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RRule && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+}
@@ -0,0 +1,301 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Expands an RRULE together with its EXDATE and RDATE sets. Expansion works one period (day,
+ * week, month or year according to FREQ) at a time: the candidate days of the period are built
+ * as a bitset from the BYxxx parts, BYSETPOS selects from that set, and the survivors are
+ * emitted in order. A monthly rule therefore costs a handful of mask operations per month rather
+ * than a step per day.
+ */
+public final class RRuleExpander {
+
+    private RRuleExpander() {
+    }
+
+    /**
+     * Occurrences in [from, to], sorted and without duplicates. DTSTART is always the first
+     * instance and counts towards COUNT; EXDATE removes instances without changing the count and
+     * RDATE adds instances outside of it.
+     */
+    public static List<LocalDateTime> expand(LocalDateTime dtStart, RRule rule, Set<LocalDateTime> exDates,
+                                             Set<LocalDateTime> rDates, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDateTime last = rule.getUntil() != null && rule.getUntil().isBefore(to) ? rule.getUntil() : to;
+        int remaining = rule.getCount() > 0 ? rule.getCount() : Integer.MAX_VALUE;
+
+        if (!dtStart.isAfter(last)) {
+            remaining--;
+            accept(occurrences, dtStart, exDates, from);
+            expandPeriods(dtStart, rule, exDates, from, last, remaining, occurrences);
+        }
+
+        boolean merged = false;
+        for (LocalDateTime rDate : rDates) {
+            if (!rDate.isBefore(from) && !rDate.isAfter(to) && !exDates.contains(rDate)) {
+                occurrences.add(rDate);
+                merged = true;
+            }
+        }
+        if (merged) {
+            return occurrences.stream().distinct().sorted().toList();
+        }
+        return occurrences;
+    }
+
+    private static void expandPeriods(LocalDateTime dtStart, RRule rule, Set<LocalDateTime> exDates,
+                                      LocalDateTime from, LocalDateTime last, int remaining,
+                                      List<LocalDateTime> occurrences) {
+        LocalDate startDate = dtStart.toLocalDate();
+        LocalTime time = dtStart.toLocalTime();
+        BitSet days = new BitSet(366);
+        BitSet selected = new BitSet(366);
+        int[] positions = new int[366];
+
+        // Without COUNT, periods ending before the window cannot contribute and are skipped outright
+        long period = rule.getCount() == 0 ? firstPeriodIndex(startDate, rule, from.toLocalDate()) : 0;
+        while (remaining > 0) {
+            LocalDate periodStart = periodStart(startDate, rule, period++);
+            if (periodStart.atStartOfDay().isAfter(last)) {
+                return;
+            }
+
+            days.clear();
+            fillCandidates(days, periodStart, startDate, rule);
+            if (rule.hasBySetPos()) {
+                applySetPos(days, selected, positions, rule.bySetPosValues());
+            }
+
+            for (int offset = days.nextSetBit(0); offset >= 0; offset = days.nextSetBit(offset + 1)) {
+                LocalDateTime candidate = periodStart.plusDays(offset).atTime(time);
+                if (!candidate.isAfter(dtStart)) {
+                    continue;
+                }
+                if (candidate.isAfter(last)) {
+                    return;
+                }
+                accept(occurrences, candidate, exDates, from);
+                if (--remaining == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static void accept(List<LocalDateTime> occurrences, LocalDateTime occurrence,
+                               Set<LocalDateTime> exDates, LocalDateTime from) {
+        if (!occurrence.isBefore(from) && !exDates.contains(occurrence)) {
+            occurrences.add(occurrence);
+        }
+    }
+
+    /**
+     * First day of the k-th period after the one containing the start date
+     */
+    private static LocalDate periodStart(LocalDate startDate, RRule rule, long k) {
+        long steps = k * rule.getInterval();
+        switch (rule.getFrequency()) {
+            case DAILY:
+                return startDate.plusDays(steps);
+            case WEEKLY:
+                return startDate.with(TemporalAdjusters.previousOrSame(rule.getWeekStart())).plusWeeks(steps);
+            case MONTHLY:
+                return YearMonth.from(startDate).plusMonths(steps).atDay(1);
+            default:
+                return LocalDate.of(Math.toIntExact(startDate.getYear() + steps), 1, 1);
+        }
+    }
+
+    /**
+     * Index of the period containing the given date, or of the last period starting before it
+     */
+    private static long firstPeriodIndex(LocalDate startDate, RRule rule, LocalDate date) {
+        long elapsed;
+        switch (rule.getFrequency()) {
+            case DAILY:
+                elapsed = ChronoUnit.DAYS.between(startDate, date);
+                break;
+            case WEEKLY:
+                elapsed = ChronoUnit.WEEKS.between(
+                    startDate.with(TemporalAdjusters.previousOrSame(rule.getWeekStart())),
+                    date.with(TemporalAdjusters.previousOrSame(rule.getWeekStart())));
+                break;
+            case MONTHLY:
+                elapsed = ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(date));
+                break;
+            default:
+                elapsed = date.getYear() - (long) startDate.getYear();
+        }
+        return Math.max(0, elapsed / rule.getInterval());
+    }
+
+    /**
+     * Set the day offsets (from the period start) of every candidate in the period
+     */
+    private static void fillCandidates(BitSet days, LocalDate periodStart, LocalDate startDate, RRule rule) {
+        switch (rule.getFrequency()) {
+            case DAILY:
+                if (matchesLimits(periodStart, rule)) {
+                    days.set(0);
+                }
+                break;
+            case WEEKLY:
+                for (int offset = 0; offset < 7; offset++) {
+                    DayOfWeek dayOfWeek = rule.getWeekStart().plus(offset);
+                    boolean listed = rule.hasByDay()
+                        ? rule.includesWeekday(dayOfWeek)
+                        : dayOfWeek == startDate.getDayOfWeek();
+                    if (listed && (!rule.hasByMonth() || rule.includesMonth(periodStart.plusDays(offset).getMonthValue()))) {
+                        days.set(offset);
+                    }
+                }
+                break;
+            case MONTHLY:
+                if (rule.includesMonth(periodStart.getMonthValue())) {
+                    setMonthDays(days, 0, monthDays(YearMonth.from(periodStart), rule, startDate.getDayOfMonth()));
+                }
+                break;
+            default:
+                fillYear(days, periodStart.getYear(), startDate, rule);
+        }
+    }
+
+    private static void fillYear(BitSet days, int year, LocalDate startDate, RRule rule) {
+        if (rule.hasByMonth() || rule.hasByMonthDay()) {
+            // Month-wise expansion; BYDAY ordinals are relative to the month
+            for (int month = 1; month <= 12; month++) {
+                if (rule.includesMonth(month)) {
+                    YearMonth yearMonth = YearMonth.of(year, month);
+                    setMonthDays(days, yearMonth.atDay(1).getDayOfYear() - 1,
+                        monthDays(yearMonth, rule, startDate.getDayOfMonth()));
+                }
+            }
+        } else if (rule.hasByDay()) {
+            // BYDAY alone expands over the whole year with ordinals relative to the year
+            int length = Year.of(year).length();
+            DayOfWeek firstDay = LocalDate.of(year, 1, 1).getDayOfWeek();
+            for (RRule.WeekdayNum weekdayNum : rule.getByDay()) {
+                int first = Math.floorMod(weekdayNum.dayOfWeek().getValue() - firstDay.getValue(), 7);
+                setWeekdays(days, 0, first, length, weekdayNum.ordinal());
+            }
+        } else if (startDate.getMonthValue() != 2 || startDate.getDayOfMonth() != 29 || Year.isLeap(year)) {
+            days.set(LocalDate.of(year, startDate.getMonth(), startDate.getDayOfMonth()).getDayOfYear() - 1);
+        }
+    }
+
+    /**
+     * Bitmask of the days of the month (bit 0 is the 1st) selected by BYMONTHDAY and BYDAY. When both
+     * are present BYDAY limits BYMONTHDAY; when neither is, the start date's day is used if it exists.
+     */
+    private static int monthDays(YearMonth yearMonth, RRule rule, int defaultDay) {
+        int length = yearMonth.lengthOfMonth();
+        int byMonthDay = 0;
+        for (int value : rule.byMonthDayValues()) {
+            int day = value > 0 ? value : length + 1 + value;
+            if (day >= 1 && day <= length) {
+                byMonthDay |= 1 << (day - 1);
+            }
+        }
+
+        int byDay = 0;
+        if (rule.hasByDay()) {
+            DayOfWeek firstDay = yearMonth.atDay(1).getDayOfWeek();
+            for (RRule.WeekdayNum weekdayNum : rule.getByDay()) {
+                int first = Math.floorMod(weekdayNum.dayOfWeek().getValue() - firstDay.getValue(), 7);
+                if (weekdayNum.ordinal() == 0) {
+                    for (int offset = first; offset < length; offset += 7) {
+                        byDay |= 1 << offset;
+                    }
+                } else {
+                    int offset = nthWeekdayOffset(first, length, weekdayNum.ordinal());
+                    if (offset >= 0) {
+                        byDay |= 1 << offset;
+                    }
+                }
+            }
+        }
+
+        if (rule.hasByMonthDay() && rule.hasByDay()) {
+            return byMonthDay & byDay;
+        }
+        if (rule.hasByMonthDay()) {
+            return byMonthDay;
+        }
+        if (rule.hasByDay()) {
+            return byDay;
+        }
+        return defaultDay <= length ? 1 << (defaultDay - 1) : 0;
+    }
+
+    /**
+     * Set every matching weekday, or only the ordinal-th one (negative counts from the end), where
+     * first is the offset of the first such weekday in a span of the given length
+     */
+    private static void setWeekdays(BitSet days, int base, int first, int length, int ordinal) {
+        if (ordinal == 0) {
+            for (int offset = first; offset < length; offset += 7) {
+                days.set(base + offset);
+            }
+            return;
+        }
+        int offset = nthWeekdayOffset(first, length, ordinal);
+        if (offset >= 0) {
+            days.set(base + offset);
+        }
+    }
+
+    /**
+     * Offset of the ordinal-th weekday (negative counts from the end), or -1 when the span is too short
+     */
+    private static int nthWeekdayOffset(int first, int length, int ordinal) {
+        int lastOffset = first + (length - 1 - first) / 7 * 7;
+        int offset = ordinal > 0 ? first + 7 * (ordinal - 1) : lastOffset + 7 * (ordinal + 1);
+        return offset >= 0 && offset < length ? offset : -1;
+    }
+
+    private static void setMonthDays(BitSet days, int base, int mask) {
+        for (int remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            days.set(base + Integer.numberOfTrailingZeros(remaining));
+        }
+    }
+
+    /**
+     * Limits applied to a DAILY candidate
+     */
+    private static boolean matchesLimits(LocalDate date, RRule rule) {
+        return rule.includesMonth(date.getMonthValue())
+            && (!rule.hasByMonthDay() || rule.includesMonthDay(date.getDayOfMonth(), date.lengthOfMonth()))
+            && (!rule.hasByDay() || rule.includesWeekday(date.getDayOfWeek()));
+    }
+
+    /**
+     * Keep only the candidates at the BYSETPOS positions of the period's ordered set
+     */
+    private static void applySetPos(BitSet days, BitSet selected, int[] positions, int[] bySetPos) {
+        int size = 0;
+        for (int offset = days.nextSetBit(0); offset >= 0; offset = days.nextSetBit(offset + 1)) {
+            positions[size++] = offset;
+        }
+        selected.clear();
+        for (int position : bySetPos) {
+            int index = position > 0 ? position - 1 : size + position;
+            if (index >= 0 && index < size) {
+                selected.set(positions[index]);
+            }
+        }
+        days.clear();
+        days.or(selected);
+    }
+}
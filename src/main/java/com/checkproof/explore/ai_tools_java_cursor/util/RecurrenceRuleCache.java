@@ -0,0 +1,81 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled recurrence rules keyed by pattern id. Entries are evicted when a pattern is updated
+ * or removed, and are also checked against a fingerprint of every rule input, so that changes
+ * the listener does not see (an edit to daysOfWeek alone leaves the pattern row and its
+ * updatedAt untouched, as do changes made outside this process) still recompile the rule.
+ * Unsaved patterns are compiled on every call.
+ */
+@Component
+@Slf4j
+public class RecurrenceRuleCache {
+
+    private final Map<Long, CachedRule> rules = new ConcurrentHashMap<>();
+
+    public CompiledRecurrenceRule get(RecurrencePattern pattern) {
+        if (pattern == null) {
+            return CompiledRecurrenceRule.DEFAULT_DAILY;
+        }
+        if (pattern.getId() == null) {
+            return CompiledRecurrenceRule.compile(pattern);
+        }
+
+        RuleInputs inputs = RuleInputs.of(pattern);
+        CachedRule cached = rules.get(pattern.getId());
+        if (cached != null && cached.inputs().equals(inputs)) {
+            return cached.rule();
+        }
+
+        CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(pattern);
+        rules.put(pattern.getId(), new CachedRule(inputs, rule));
+        return rule;
+    }
+
+    public void evict(Long patternId) {
+        if (patternId != null && rules.remove(patternId) != null) {
+            log.debug("Evicted compiled recurrence rule for pattern {}", patternId);
+        }
+    }
+
+    public void clear() {
+        rules.clear();
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    private record CachedRule(RuleInputs inputs, CompiledRecurrenceRule rule) {
+    }
+
+    /**
+     * Every pattern field the compiled rule is built from
+     */
+    private record RuleInputs(RecurrencePattern.RecurrenceType type, Integer interval,
+                              LocalDate startDate, LocalDate endDate, Integer maxOccurrences,
+                              Set<DayOfWeek> daysOfWeek, Integer dayOfMonth, Integer weekOfMonth,
+                              Integer monthOfYear, String rrule, String exdates, String rdates) {
+
+        static RuleInputs of(RecurrencePattern pattern) {
+            Set<DayOfWeek> days = pattern.getDaysOfWeek() == null || pattern.getDaysOfWeek().isEmpty()
+                    ? Set.of()
+                    : EnumSet.copyOf(pattern.getDaysOfWeek());
+            return new RuleInputs(pattern.getRecurrenceType(), pattern.getInterval(),
+                    pattern.getStartDate(), pattern.getEndDate(), pattern.getMaxOccurrences(),
+                    days, pattern.getDayOfMonth(), pattern.getWeekOfMonth(),
+                    pattern.getMonthOfYear(), pattern.getRrule(), pattern.getExdates(), pattern.getRdates());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA listener evicting compiled rules when their pattern row changes; edits to the days of
+ * week alone are caught by the rule cache fingerprint
+ */
+@Component
+@RequiredArgsConstructor
+public class RecurrenceRuleCacheListener {
+
+    private final RecurrenceRuleCache ruleCache;
+
+    @PostUpdate
+    @PostRemove
+    void evict(RecurrencePattern pattern) {
+        ruleCache.evict(pattern.getId());
+    }
+}
@@ -2,36 +2,64 @@ package com.checkproof.explore.ai_tools_java_cursor.util;
 
 import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.PrimitiveIterator;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * Utility class for handling recurring task logic and date generation
- * Merged with RecurrenceCalculator functionality to eliminate redundancy
+ * Merged with RecurrenceCalculator functionality to eliminate redundancy.
+ * Patterns are compiled into a CompiledRecurrenceRule once per call and all stepping runs on that rule.
+ * Patterns carrying an RRULE are expanded by RRuleExpander in the windowed streams and in date
+ * generation; the single-step helpers keep working on the basic pattern fields.
  */
 @Component
 @Slf4j
 public class RecurrenceUtil {
 
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final RecurrenceRuleCache ruleCache;
+
+    /**
+     * Standalone instance with its own rule cache
+     */
+    public RecurrenceUtil() {
+        this(new RecurrenceRuleCache());
+    }
+
+    @Autowired
+    public RecurrenceUtil(RecurrenceRuleCache ruleCache) {
+        this.ruleCache = ruleCache;
+    }
+
+    /**
+     * Compiled rule for a pattern, served from the cache when the pattern has been saved
+     */
+    public CompiledRecurrenceRule compile(RecurrencePattern pattern) {
+        return ruleCache.get(pattern);
+    }
+
     /**
      * Generate recurring dates based on a recurrence pattern
      */
     public List<LocalDateTime> generateRecurringDates(LocalDateTime startDate, 
                                                     RecurrencePattern pattern, 
                                                     int numberOfOccurrences) {
-        List<LocalDateTime> dates = new ArrayList<>();
-        LocalDateTime currentDate = startDate;
-
-        for (int i = 0; i < numberOfOccurrences; i++) {
-            dates.add(currentDate);
-            currentDate = getNextOccurrence(currentDate, pattern);
-        }
-
-        return dates;
+        return streamOccurrences(startDate, pattern)
+            .limit(Math.max(numberOfOccurrences, 0))
+            .collect(Collectors.toList());
     }
 
     /**
@@ -40,42 +68,35 @@ public class RecurrenceUtil {
     public List<LocalDateTime> generateRecurringDatesInRange(LocalDateTime startDate, 
                                                            LocalDateTime endDate, 
                                                            RecurrencePattern pattern) {
-        List<LocalDateTime> dates = new ArrayList<>();
-        LocalDateTime currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            dates.add(currentDate);
-            currentDate = getNextOccurrence(currentDate, pattern);
-        }
-
-        return dates;
+        return streamOccurrences(startDate, pattern)
+            .takeWhile(date -> !date.isAfter(endDate))
+            .collect(Collectors.toList());
     }
 
     /**
      * Generate a list of dates for recurring tasks based on pattern (from RecurrenceCalculator)
      */
     public List<LocalDateTime> generateRecurrenceDates(LocalDateTime startDate, RecurrencePattern pattern, int maxOccurrences) {
-        List<LocalDateTime> dates = new ArrayList<>();
-        LocalDateTime currentDate = startDate;
-        int occurrenceCount = 0;
-        
-        LocalDateTime endDate = pattern.getEndDate() != null ? 
-            pattern.getEndDate().atStartOfDay() : 
+        return generateRecurrenceDates(startDate, compile(pattern), maxOccurrences);
+    }
+
+    private List<LocalDateTime> generateRecurrenceDates(LocalDateTime startDate, CompiledRecurrenceRule rule, int maxOccurrences) {
+        LocalDateTime endDate = rule.hasEndDate() ? 
+            rule.endDate().atStartOfDay() : 
             LocalDateTime.now().plusYears(1); // Default to 1 year if no end date
         
-        int maxOccurrencesToGenerate = Math.min(maxOccurrences, 
-            pattern.getMaxOccurrences() != null ? pattern.getMaxOccurrences() : Integer.MAX_VALUE);
+        int maxOccurrencesToGenerate = Math.min(maxOccurrences, rule.maxOccurrences());
         
-        while (currentDate.isBefore(endDate) && occurrenceCount < maxOccurrencesToGenerate) {
-            if (isDateInActivePeriod(currentDate, pattern)) {
-                dates.add(currentDate);
-                occurrenceCount++;
-            }
-            
-            currentDate = getNextOccurrence(currentDate, pattern);
-        }
+        Stream<LocalDateTime> occurrences = rule.hasRRule()
+            ? streamOccurrences(startDate, rule, startDate, endDate)
+            : Stream.iterate(startDate, date -> nextOccurrence(date, rule));
+        List<LocalDateTime> dates = occurrences
+            .takeWhile(date -> date.isBefore(endDate))
+            .filter(rule::isActiveOn)
+            .limit(Math.max(maxOccurrencesToGenerate, 0))
+            .collect(Collectors.toList());
         
-        log.debug("Generated {} recurrence dates for pattern: {}", dates.size(), pattern.getRecurrenceType());
+        log.debug("Generated {} recurrence dates for pattern: {}", dates.size(), rule.type());
         return dates;
     }
 
@@ -83,64 +104,153 @@ public class RecurrenceUtil {
      * Generate multiple occurrences for weekly patterns with multiple days (from RecurrenceCalculator)
      */
     public List<LocalDateTime> generateWeeklyRecurrenceDates(LocalDateTime startDate, RecurrencePattern pattern, int maxOccurrences) {
-        List<LocalDateTime> dates = new ArrayList<>();
-        Set<DayOfWeek> daysOfWeek = pattern.getDaysOfWeek();
+        CompiledRecurrenceRule rule = compile(pattern);
         
-        if (daysOfWeek == null || daysOfWeek.isEmpty()) {
-            return generateRecurrenceDates(startDate, pattern, maxOccurrences);
+        if (!rule.hasDaysOfWeek() || rule.hasRRule()) {
+            return generateRecurrenceDates(startDate, rule, maxOccurrences);
         }
         
-        LocalDateTime currentDate = startDate;
-        int occurrenceCount = 0;
-        
-        LocalDateTime endDate = pattern.getEndDate() != null ? 
-            pattern.getEndDate().atStartOfDay() : 
+        LocalDateTime endDate = rule.hasEndDate() ? 
+            rule.endDate().atStartOfDay() : 
             LocalDateTime.now().plusYears(1);
         
-        int maxOccurrencesToGenerate = Math.min(maxOccurrences, 
-            pattern.getMaxOccurrences() != null ? pattern.getMaxOccurrences() : Integer.MAX_VALUE);
-        
-        while (currentDate.isBefore(endDate) && occurrenceCount < maxOccurrencesToGenerate) {
-            // Add occurrences for each specified day of the week in the current week
-            for (DayOfWeek dayOfWeek : daysOfWeek) {
-                LocalDateTime occurrenceDate = findNextDayOfWeek(currentDate, dayOfWeek);
-                
-                if (occurrenceDate.isBefore(endDate) && occurrenceCount < maxOccurrencesToGenerate) {
-                    if (isDateInActivePeriod(occurrenceDate, pattern)) {
-                        dates.add(occurrenceDate);
-                        occurrenceCount++;
-                    }
-                }
-            }
-            
-            // Move to next week
-            currentDate = currentDate.plusWeeks(pattern.getInterval());
-        }
+        int maxOccurrencesToGenerate = Math.min(maxOccurrences, rule.maxOccurrences());
         
-        log.debug("Generated {} weekly recurrence dates for pattern: {}", dates.size(), pattern.getRecurrenceType());
+        // Each step covers one week; every listed day is expanded from the start of that week
+        List<LocalDateTime> dates = Stream.iterate(startDate, week -> week.plusWeeks(rule.interval()))
+            .takeWhile(week -> week.isBefore(endDate))
+            .flatMap(week -> Arrays.stream(DayOfWeek.values())
+                .filter(rule::includes)
+                .map(dayOfWeek -> findNextDayOfWeek(week, dayOfWeek)))
+            .filter(date -> date.isBefore(endDate) && rule.isActiveOn(date))
+            .limit(Math.max(maxOccurrencesToGenerate, 0))
+            .collect(Collectors.toList());
+        
+        log.debug("Generated {} weekly recurrence dates for pattern: {}", dates.size(), rule.type());
         return dates;
     }
 
     /**
-     * Get the next occurrence date based on recurrence pattern
+     * Lazily expand every occurrence of a series, starting with the start date itself.
+     * The stream is unbounded; callers end it with limit, takeWhile or a windowed variant.
      */
-    public LocalDateTime getNextOccurrence(LocalDateTime currentDate, RecurrencePattern pattern) {
-        if (pattern == null) {
-            return currentDate.plusDays(1); // Default to daily
+    public Stream<LocalDateTime> streamOccurrences(LocalDateTime startDate, RecurrencePattern pattern) {
+        CompiledRecurrenceRule rule = compile(pattern);
+        return Stream.iterate(startDate, date -> nextOccurrence(date, rule));
+    }
+
+    /**
+     * Lazily expand the occurrences falling in [windowStart, windowEnd]. The first occurrence in the
+     * window is located arithmetically where the pattern allows it, so earlier occurrences are never built.
+     */
+    public Stream<LocalDateTime> streamOccurrences(LocalDateTime startDate, RecurrencePattern pattern,
+                                                   LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return streamOccurrences(startDate, compile(pattern), windowStart, windowEnd);
+    }
+
+    /**
+     * Windowed expansion on an already compiled rule
+     */
+    public Stream<LocalDateTime> streamOccurrences(LocalDateTime startDate, CompiledRecurrenceRule rule,
+                                                   LocalDateTime windowStart, LocalDateTime windowEnd) {
+        if (rule.hasRRule()) {
+            return RRuleExpander.expand(startDate, rule.rrule(), rule.exDates(), rule.rDates(), windowStart, windowEnd)
+                .stream();
+        }
+        
+        LocalDateTime first = firstOccurrenceOnOrAfter(windowStart, startDate, rule);
+        return Stream.iterate(first, date -> !date.isAfter(windowEnd), date -> nextOccurrence(date, rule));
+    }
+
+    /**
+     * Iterator over every occurrence of a series, pulled on demand
+     */
+    public Iterator<LocalDateTime> occurrenceIterator(LocalDateTime startDate, RecurrencePattern pattern) {
+        return streamOccurrences(startDate, pattern).iterator();
+    }
+
+    /**
+     * Iterator over the occurrences falling in [windowStart, windowEnd]
+     */
+    public Iterator<LocalDateTime> occurrenceIterator(LocalDateTime startDate, RecurrencePattern pattern,
+                                                      LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return streamOccurrences(startDate, pattern, windowStart, windowEnd).iterator();
+    }
+
+    /**
+     * Occurrences in [windowStart, windowEnd] as minutes since 1970-01-01T00:00 of the local date-time.
+     * Daily and weekly series are stepped in primitive arithmetic without allocating per occurrence;
+     * month and year based series step through LocalDateTime.
+     */
+    public LongStream streamEpochMinutes(LocalDateTime startDate, RecurrencePattern pattern,
+                                         LocalDateTime windowStart, LocalDateTime windowEnd) {
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongUnaryOperator step = epochSecondStep(rule);
+        if (step == null) {
+            return streamOccurrences(startDate, rule, windowStart, windowEnd).mapToLong(RecurrenceUtil::toEpochMinute);
+        }
+        
+        long first = toEpochSecond(firstOccurrenceOnOrAfter(windowStart, startDate, rule));
+        long last = toEpochSecond(windowEnd);
+        return LongStream.iterate(first, second -> second <= last, step)
+            .map(second -> Math.floorDiv(second, 60));
+    }
+
+    /**
+     * Iterator over the epoch-minute values of the occurrences in [windowStart, windowEnd]
+     */
+    public PrimitiveIterator.OfLong epochMinuteIterator(LocalDateTime startDate, RecurrencePattern pattern,
+                                                        LocalDateTime windowStart, LocalDateTime windowEnd) {
+        return streamEpochMinutes(startDate, pattern, windowStart, windowEnd).iterator();
+    }
+
+    /**
+     * Get the first occurrence at or after a specific date
+     */
+    public LocalDateTime getFirstOccurrenceOnOrAfter(LocalDateTime date, 
+                                                   LocalDateTime startDate, 
+                                                   RecurrencePattern pattern) {
+        return firstOccurrenceOnOrAfter(date, startDate, compile(pattern));
+    }
+
+    private static LocalDateTime firstOccurrenceOnOrAfter(LocalDateTime date, LocalDateTime startDate,
+                                                          CompiledRecurrenceRule rule) {
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(firstIndexAfter(occurrences, date, true));
         }
 
-        RecurrencePattern.RecurrenceType type = pattern.getRecurrenceType();
-        int interval = pattern.getInterval();
+        LocalDateTime currentDate = startDate;
+        
+        while (currentDate.isBefore(date)) {
+            currentDate = nextOccurrence(currentDate, rule);
+        }
+        
+        return currentDate;
+    }
 
-        switch (type) {
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(toEpochSecond(dateTime), 60);
+    }
+
+    /**
+     * Get the next occurrence date based on recurrence pattern
+     */
+    public LocalDateTime getNextOccurrence(LocalDateTime currentDate, RecurrencePattern pattern) {
+        // A missing pattern compiles to the default daily rule
+        return nextOccurrence(currentDate, compile(pattern));
+    }
+
+    private static LocalDateTime nextOccurrence(LocalDateTime currentDate, CompiledRecurrenceRule rule) {
+        switch (rule.type()) {
             case DAILY:
-                return currentDate.plusDays(interval);
+                return currentDate.plusDays(rule.interval());
             case WEEKLY:
-                return getNextWeeklyOccurrence(currentDate, pattern);
+                return nextWeeklyOccurrence(currentDate, rule);
             case MONTHLY:
-                return getNextMonthlyOccurrence(currentDate, pattern);
+                return nextMonthlyOccurrence(currentDate, rule);
             case YEARLY:
-                return currentDate.plusYears(interval);
+                return currentDate.plusYears(rule.interval());
             default:
                 return currentDate.plusDays(1);
         }
@@ -156,18 +266,7 @@ public class RecurrenceUtil {
 
         log.debug("Calculating next occurrence for date: {} with pattern: {}", currentDate, pattern.getRecurrenceType());
 
-        switch (pattern.getRecurrenceType()) {
-            case DAILY:
-                return currentDate.plusDays(pattern.getInterval());
-            case WEEKLY:
-                return getNextWeeklyOccurrence(currentDate, pattern);
-            case MONTHLY:
-                return getNextMonthlyOccurrence(currentDate, pattern);
-            case YEARLY:
-                return currentDate.plusYears(pattern.getInterval());
-            default:
-                throw new IllegalArgumentException("Unsupported recurrence type: " + pattern.getRecurrenceType());
-        }
+        return nextOccurrence(currentDate, compile(pattern));
     }
 
     /**
@@ -189,34 +288,22 @@ public class RecurrenceUtil {
     /**
      * Calculate the next weekly occurrence considering specific days of week (from RecurrenceCalculator)
      */
-    private LocalDateTime getNextWeeklyOccurrence(LocalDateTime currentDate, RecurrencePattern pattern) {
-        if (pattern.getDaysOfWeek() == null || pattern.getDaysOfWeek().isEmpty()) {
-            return currentDate.plusWeeks(pattern.getInterval());
+    private static LocalDateTime nextWeeklyOccurrence(LocalDateTime currentDate, CompiledRecurrenceRule rule) {
+        if (!rule.hasDaysOfWeek()) {
+            return currentDate.plusWeeks(rule.interval());
         }
 
-        // Find the next occurrence among the specified days of the week
-        LocalDateTime nextDate = currentDate.plusDays(1); // Start from next day
-        int attempts = 0;
-        int maxAttempts = 7 * pattern.getInterval(); // Maximum attempts to prevent infinite loops
-
-        while (attempts < maxAttempts) {
-            if (pattern.getDaysOfWeek().contains(nextDate.getDayOfWeek())) {
-                return nextDate;
-            }
-            nextDate = nextDate.plusDays(1);
-            attempts++;
-        }
-
-        log.warn("Could not find next weekly occurrence within {} attempts", maxAttempts);
-        return currentDate.plusWeeks(pattern.getInterval());
+        // The next occurrence is the next listed day of the week, found from the bitmask
+        return currentDate.plusDays(rule.daysToNextListedDay(currentDate.getDayOfWeek()));
     }
 
     /**
      * Calculate next occurrence considering specific days of week (from RecurrenceCalculator)
      */
     public LocalDateTime calculateNextOccurrenceWithDaysOfWeek(LocalDateTime currentDate, RecurrencePattern pattern) {
-        if (pattern.getDaysOfWeek() == null || pattern.getDaysOfWeek().isEmpty()) {
-            return getNextOccurrence(currentDate, pattern);
+        CompiledRecurrenceRule rule = compile(pattern);
+        if (!rule.hasDaysOfWeek()) {
+            return nextOccurrence(currentDate, rule);
         }
 
         LocalDateTime nextDate = currentDate;
@@ -224,16 +311,16 @@ public class RecurrenceUtil {
         int maxAttempts = 10; // Prevent infinite loops
 
         while (attempts < maxAttempts) {
-            nextDate = getNextOccurrence(nextDate, pattern);
+            nextDate = nextOccurrence(nextDate, rule);
             
-            if (pattern.getDaysOfWeek().contains(nextDate.getDayOfWeek())) {
+            if (rule.includes(nextDate.getDayOfWeek())) {
                 return nextDate;
             }
             
             attempts++;
         }
 
-        log.warn("Could not find next occurrence within {} attempts for pattern: {}", maxAttempts, pattern.getRecurrenceType());
+        log.warn("Could not find next occurrence within {} attempts for pattern: {}", maxAttempts, rule.type());
         return nextDate;
     }
 
@@ -256,57 +343,46 @@ public class RecurrenceUtil {
      * Calculate the next occurrence for monthly patterns with specific day of month (from RecurrenceCalculator)
      */
     public LocalDateTime getNextMonthlyOccurrence(LocalDateTime currentDate, RecurrencePattern pattern) {
-        if (pattern.getDayOfMonth() != null) {
-            return getNextMonthlyWithDayOfMonth(currentDate, pattern);
-        } else if (pattern.getWeekOfMonth() != null && pattern.getDaysOfWeek() != null && !pattern.getDaysOfWeek().isEmpty()) {
-            return getNextMonthlyWithWeekOfMonth(currentDate, pattern);
+        return nextMonthlyOccurrence(currentDate, compile(pattern));
+    }
+
+    private static LocalDateTime nextMonthlyOccurrence(LocalDateTime currentDate, CompiledRecurrenceRule rule) {
+        if (rule.hasDayOfMonth()) {
+            return nextMonthlyWithDayOfMonth(currentDate, rule);
+        } else if (rule.hasWeekOfMonth() && rule.hasDaysOfWeek()) {
+            return nextMonthlyWithWeekOfMonth(currentDate, rule);
         } else {
-            return currentDate.plusMonths(pattern.getInterval());
+            return currentDate.plusMonths(rule.interval());
         }
     }
 
     /**
      * Calculate next monthly occurrence with specific day of month (from RecurrenceCalculator)
      */
-    private LocalDateTime getNextMonthlyWithDayOfMonth(LocalDateTime currentDate, RecurrencePattern pattern) {
-        LocalDateTime nextDate = currentDate.plusMonths(pattern.getInterval());
+    private static LocalDateTime nextMonthlyWithDayOfMonth(LocalDateTime currentDate, CompiledRecurrenceRule rule) {
+        LocalDateTime nextDate = currentDate.plusMonths(rule.interval());
+        int lengthOfMonth = nextDate.toLocalDate().lengthOfMonth();
         
-        // Try to set the day of month, handling invalid dates
-        try {
-            return nextDate.withDayOfMonth(pattern.getDayOfMonth());
-        } catch (Exception e) {
-            // If the day doesn't exist in the month, use the last day of the month
-            log.debug("Day {} does not exist in month, using last day of month", pattern.getDayOfMonth());
-            return nextDate.withDayOfMonth(nextDate.toLocalDate().lengthOfMonth());
-        }
+        // If the day doesn't exist in the month, use the last day of the month
+        int dayOfMonth = rule.dayOfMonth();
+        return nextDate.withDayOfMonth(dayOfMonth >= 1 && dayOfMonth <= lengthOfMonth ? dayOfMonth : lengthOfMonth);
     }
 
     /**
      * Calculate next monthly occurrence with specific week of month and days of week (from RecurrenceCalculator)
      */
-    private LocalDateTime getNextMonthlyWithWeekOfMonth(LocalDateTime currentDate, RecurrencePattern pattern) {
-        LocalDateTime nextDate = currentDate.plusMonths(pattern.getInterval());
-        
-        if (pattern.getWeekOfMonth() == null || pattern.getDaysOfWeek() == null || pattern.getDaysOfWeek().isEmpty()) {
-            throw new UnsupportedOperationException("Week-of-month and days-of-week must be specified for this recurrence pattern.");
-        }
-        
-        // Calculate the first day of the target month
-        LocalDateTime firstDayOfMonth = nextDate.withDayOfMonth(1);
+    private static LocalDateTime nextMonthlyWithWeekOfMonth(LocalDateTime currentDate, CompiledRecurrenceRule rule) {
+        LocalDateTime nextDate = currentDate.plusMonths(rule.interval());
         
         // Find the first occurrence of any of the specified days of the week in the month
-        LocalDateTime firstOccurrence = firstDayOfMonth;
-        while (!pattern.getDaysOfWeek().contains(firstOccurrence.getDayOfWeek())) {
-            firstOccurrence = firstOccurrence.plusDays(1);
-            
-            // Safety check to prevent infinite loop
-            if (firstOccurrence.getMonth() != firstDayOfMonth.getMonth()) {
-                throw new UnsupportedOperationException("No matching days of week found in the target month.");
-            }
-        }
+        LocalDateTime firstDayOfMonth = nextDate.withDayOfMonth(1);
+        DayOfWeek firstDay = firstDayOfMonth.getDayOfWeek();
+        LocalDateTime firstOccurrence = rule.includes(firstDay)
+            ? firstDayOfMonth
+            : firstDayOfMonth.plusDays(rule.daysToNextListedDay(firstDay));
         
         // Calculate the target week
-        int targetWeek = pattern.getWeekOfMonth();
+        int targetWeek = rule.weekOfMonth();
         LocalDateTime targetDate = firstOccurrence.plusWeeks(targetWeek - 1);
         
         // Ensure the target date is within the same month
@@ -377,12 +453,18 @@ public class RecurrenceUtil {
             return 0;
         }
 
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return (int) firstIndexAfter(occurrences, endDate, false);
+        }
+
         int count = 0;
         LocalDateTime currentDate = startDate;
 
         while (!currentDate.isAfter(endDate)) {
             count++;
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
 
         return count;
@@ -398,10 +480,16 @@ public class RecurrenceUtil {
             return false;
         }
 
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(firstIndexAfter(occurrences, date, true)).equals(date);
+        }
+
         LocalDateTime currentDate = startDate;
         
         while (currentDate.isBefore(date)) {
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
         
         return currentDate.equals(date);
@@ -413,14 +501,26 @@ public class RecurrenceUtil {
     public LocalDateTime getNthOccurrence(LocalDateTime startDate, 
                                         RecurrencePattern pattern, 
                                         int n) {
+        return getNthOccurrence(startDate, compile(pattern), n);
+    }
+
+    /**
+     * Nth occurrence on an already compiled rule
+     */
+    public LocalDateTime getNthOccurrence(LocalDateTime startDate, CompiledRecurrenceRule rule, int n) {
         if (n <= 0) {
             throw new IllegalArgumentException("Occurrence number must be positive");
         }
 
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(n - 1L);
+        }
+
         LocalDateTime currentDate = startDate;
         
         for (int i = 1; i < n; i++) {
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
         
         return currentDate;
@@ -436,12 +536,18 @@ public class RecurrenceUtil {
             return null;
         }
 
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(firstIndexAfter(occurrences, date, false) - 1);
+        }
+
         LocalDateTime currentDate = startDate;
         LocalDateTime lastOccurrence = startDate;
         
         while (!currentDate.isAfter(date)) {
             lastOccurrence = currentDate;
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
         
         return lastOccurrence;
@@ -453,10 +559,16 @@ public class RecurrenceUtil {
     public LocalDateTime getFirstOccurrenceAfter(LocalDateTime date, 
                                                LocalDateTime startDate, 
                                                RecurrencePattern pattern) {
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(firstIndexAfter(occurrences, date, false));
+        }
+
         LocalDateTime currentDate = startDate;
         
         while (!currentDate.isAfter(date)) {
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
         
         return currentDate;
@@ -472,10 +584,16 @@ public class RecurrenceUtil {
             return startDate;
         }
 
+        CompiledRecurrenceRule rule = compile(pattern);
+        LongFunction<LocalDateTime> occurrences = closedForm(startDate, rule);
+        if (occurrences != null) {
+            return occurrences.apply(skipCount);
+        }
+
         LocalDateTime currentDate = startDate;
         
         for (int i = 0; i < skipCount; i++) {
-            currentDate = getNextOccurrence(currentDate, pattern);
+            currentDate = nextOccurrence(currentDate, rule);
         }
         
         return currentDate;
@@ -535,14 +653,10 @@ public class RecurrenceUtil {
      * Calculate the duration between consecutive occurrences
      */
     public Duration getIntervalDuration(RecurrencePattern pattern) {
-        if (pattern == null) {
-            return Duration.ofDays(1);
-        }
+        CompiledRecurrenceRule rule = compile(pattern);
+        int interval = rule.interval();
 
-        RecurrencePattern.RecurrenceType type = pattern.getRecurrenceType();
-        int interval = pattern.getInterval();
-
-        switch (type) {
+        switch (rule.type()) {
             case DAILY:
                 return Duration.ofDays(interval);
             case WEEKLY:
@@ -572,15 +686,7 @@ public class RecurrenceUtil {
      * Check if a date falls within the recurrence pattern's active period (from RecurrenceCalculator)
      */
     public boolean isDateInActivePeriod(LocalDateTime date, RecurrencePattern pattern) {
-        if (pattern.getStartDate() != null && date.toLocalDate().isBefore(pattern.getStartDate())) {
-            return false;
-        }
-        
-        if (pattern.getEndDate() != null && date.toLocalDate().isAfter(pattern.getEndDate())) {
-            return false;
-        }
-        
-        return true;
+        return compile(pattern).isActiveOn(date);
     }
 
     /**
@@ -598,6 +704,221 @@ public class RecurrenceUtil {
         return current;
     }
 
+    /**
+     * Closed form of the occurrence sequence produced by repeatedly applying getNextOccurrence:
+     * maps k to the k-th occurrence (0 being the start date) without walking the series.
+     * Returns null for patterns whose step is not a fixed calendar rule, which keep using iteration.
+     */
+    private static LongFunction<LocalDateTime> closedForm(LocalDateTime startDate, CompiledRecurrenceRule rule) {
+        if (!rule.isSteppable()) {
+            return null;
+        }
+
+        long interval = rule.interval();
+
+        switch (rule.type()) {
+            case DAILY:
+                return k -> startDate.plusDays(k * interval);
+            case WEEKLY:
+                return rule.hasDaysOfWeek()
+                    ? weeklyWithDaysOfWeek(startDate, rule)
+                    : k -> startDate.plusWeeks(k * interval);
+            case MONTHLY:
+                if (rule.hasDayOfMonth()) {
+                    return monthlyWithDayOfMonth(startDate, rule.dayOfMonth(), interval);
+                }
+                if (rule.hasWeekOfMonth() && rule.hasDaysOfWeek()) {
+                    return monthlyWithWeekOfMonth(startDate, rule, interval);
+                }
+                return k -> monthlyByMonths(startDate, interval, k);
+            case YEARLY:
+                return k -> yearlyByYears(startDate, interval, k);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Weekly steps land on the next listed day after the current one, whatever the interval,
+     * so after the start date the series is every listed weekday
+     */
+    private static LongFunction<LocalDateTime> weeklyWithDaysOfWeek(LocalDateTime startDate, CompiledRecurrenceRule rule) {
+        int[] offsets = new int[7];
+        int perWeek = 0;
+        for (int day = 1; day <= 7; day++) {
+            if (rule.includes(startDate.getDayOfWeek().plus(day))) {
+                offsets[perWeek++] = day;
+            }
+        }
+        int daysPerWeek = perWeek;
+        return k -> {
+            if (k == 0) {
+                return startDate;
+            }
+            long index = k - 1;
+            return startDate.plusDays(index / daysPerWeek * 7 + offsets[(int) (index % daysPerWeek)]);
+        };
+    }
+
+    /**
+     * Every step after the start lands on the requested day, or on the last day of shorter months
+     */
+    private static LongFunction<LocalDateTime> monthlyWithDayOfMonth(LocalDateTime startDate, int dayOfMonth, long interval) {
+        YearMonth startMonth = YearMonth.from(startDate);
+        return k -> {
+            if (k == 0) {
+                return startDate;
+            }
+            YearMonth month = startMonth.plusMonths(k * interval);
+            int length = month.lengthOfMonth();
+            int day = dayOfMonth >= 1 && dayOfMonth <= length ? dayOfMonth : length;
+            return LocalDateTime.of(month.atDay(day), startDate.toLocalTime());
+        };
+    }
+
+    /**
+     * Every step after the start lands on the nth listed weekday of its month. Weeks beyond the
+     * fourth may not exist in every month and make the iterative rule throw, so they keep iterating.
+     */
+    private static LongFunction<LocalDateTime> monthlyWithWeekOfMonth(LocalDateTime startDate,
+                                                                      CompiledRecurrenceRule rule, long interval) {
+        int weekOfMonth = rule.weekOfMonth();
+        if (weekOfMonth < 1 || weekOfMonth > 4) {
+            return null;
+        }
+        YearMonth startMonth = YearMonth.from(startDate);
+        return k -> {
+            if (k == 0) {
+                return startDate;
+            }
+            YearMonth month = startMonth.plusMonths(k * interval);
+            DayOfWeek firstDay = month.atDay(1).getDayOfWeek();
+            int firstMatch = rule.includes(firstDay) ? 0 : rule.daysToNextListedDay(firstDay);
+            return LocalDateTime.of(month.atDay(1 + firstMatch + 7 * (weekOfMonth - 1)), startDate.toLocalTime());
+        };
+    }
+
+    /**
+     * plusMonths clamps to the month length and the clamped day sticks, so the k-th occurrence
+     * keeps the smallest month length seen so far. The months visited repeat their month-of-year
+     * every 12 / gcd(interval, 12) steps, and leap years repeat every 400 years, which bounds the scan.
+     */
+    private static LocalDateTime monthlyByMonths(LocalDateTime startDate, long interval, long k) {
+        YearMonth startMonth = YearMonth.from(startDate);
+        YearMonth month = startMonth.plusMonths(k * interval);
+        int day = startDate.getDayOfMonth();
+
+        if (day > 28 && k > 0) {
+            long period = 12 / gcd(interval, 12);
+            long firstFebruary = -1;
+            for (long j = 1; j <= Math.min(k, period); j++) {
+                YearMonth visited = startMonth.plusMonths(j * interval);
+                day = Math.min(day, visited.lengthOfMonth());
+                if (visited.getMonth() == Month.FEBRUARY && firstFebruary < 0) {
+                    firstFebruary = j;
+                }
+            }
+            if (day > 28 && firstFebruary > 0) {
+                long yearStep = interval * period / 12;
+                long firstYear = startMonth.plusMonths(firstFebruary * interval).getYear();
+                long visits = Math.min((k - firstFebruary) / period, 400);
+                for (long t = 1; t <= visits && day > 28; t++) {
+                    if (!Year.isLeap(firstYear + t * yearStep)) {
+                        day = 28;
+                    }
+                }
+            }
+        }
+        return LocalDateTime.of(month.atDay(day), startDate.toLocalTime());
+    }
+
+    /**
+     * plusYears only clamps February 29th, which then stays on the 28th
+     */
+    private static LocalDateTime yearlyByYears(LocalDateTime startDate, long interval, long k) {
+        int day = startDate.getDayOfMonth();
+        if (startDate.getMonth() == Month.FEBRUARY && day == 29) {
+            for (long j = 1; j <= Math.min(k, 400) && day == 29; j++) {
+                if (!Year.isLeap(startDate.getYear() + j * interval)) {
+                    day = 28;
+                }
+            }
+        }
+        return LocalDateTime.of(LocalDate.of(Math.toIntExact(startDate.getYear() + k * interval),
+            startDate.getMonth(), day), startDate.toLocalTime());
+    }
+
+    /**
+     * Step from one occurrence to the next in epoch seconds for series that never depend on month
+     * or year lengths, or null when the step needs calendar arithmetic
+     */
+    private static LongUnaryOperator epochSecondStep(CompiledRecurrenceRule rule) {
+        if (!rule.isSteppable() || rule.hasRRule()) {
+            return null;
+        }
+
+        long interval = rule.interval();
+        switch (rule.type()) {
+            case DAILY:
+                return second -> second + interval * SECONDS_PER_DAY;
+            case WEEKLY:
+                if (!rule.hasDaysOfWeek()) {
+                    return second -> second + interval * 7 * SECONDS_PER_DAY;
+                }
+                // Seconds to the next listed weekday, indexed by ISO day of week - 1
+                long[] gaps = new long[7];
+                for (DayOfWeek from : DayOfWeek.values()) {
+                    gaps[from.ordinal()] = rule.daysToNextListedDay(from) * SECONDS_PER_DAY;
+                }
+                // 1970-01-01 was a Thursday
+                return second -> second + gaps[(int) Math.floorMod(Math.floorDiv(second, SECONDS_PER_DAY) + 3, 7)];
+            default:
+                return null;
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Smallest k with occurrence k after the date (or at it when inclusive), using an exponential
+     * search for an upper bound followed by a binary search
+     */
+    private static long firstIndexAfter(LongFunction<LocalDateTime> occurrences, LocalDateTime date, boolean inclusive) {
+        if (isPast(occurrences.apply(0), date, inclusive)) {
+            return 0;
+        }
+        long low = 0;
+        long high = 1;
+        while (!isPast(occurrences.apply(high), date, inclusive)) {
+            low = high;
+            high *= 2;
+        }
+        while (high - low > 1) {
+            long middle = (low + high) >>> 1;
+            if (isPast(occurrences.apply(middle), date, inclusive)) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+
+    private static boolean isPast(LocalDateTime occurrence, LocalDateTime date, boolean inclusive) {
+        return inclusive ? !occurrence.isBefore(date) : occurrence.isAfter(date);
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
     /**
      * Validate recurrence pattern (from RecurrenceCalculator)
      */
@@ -623,6 +944,16 @@ public class RecurrenceUtil {
             throw new IllegalArgumentException("Max occurrences must be at least 1");
         }
         
+        if (pattern.getRrule() != null) {
+            RRule rrule = RRule.parse(pattern.getRrule());
+            if (rrule.getFrequency() != pattern.getRecurrenceType()) {
+                throw new IllegalArgumentException("RRULE frequency " + rrule.getFrequency()
+                    + " does not match recurrence type " + pattern.getRecurrenceType());
+            }
+        }
+        RRule.parseDateTimeList(pattern.getExdates());
+        RRule.parseDateTimeList(pattern.getRdates());
+        
         // Validate weekly patterns with days of week
         if (pattern.getRecurrenceType() == RecurrencePattern.RecurrenceType.WEEKLY && 
             (pattern.getDaysOfWeek() == null || pattern.getDaysOfWeek().isEmpty())) {
@@ -0,0 +1,246 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Expands many recurring series over one calendar window. Each series is expanded on its own
+ * into a sorted list of occurrences, and the lists are combined with a k-way merge. Large
+ * windows fan the series out over a dedicated fork-join pool whose parallelism is configured
+ * separately from the request threads, so an organisation-wide view cannot take over the
+ * common pool.
+ */
+@Component
+@Slf4j
+public class RecurrenceWindowExpander {
+
+    // Leaves per worker, so that uneven series still balance across the pool
+    private static final int LEAVES_PER_WORKER = 4;
+
+    private final RecurrenceUtil recurrenceUtil;
+    private final int parallelism;
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    @Autowired
+    public RecurrenceWindowExpander(RecurrenceUtil recurrenceUtil,
+                                    @Value("${calendar.recurrence.expansion-parallelism:0}") int parallelism,
+                                    @Value("${calendar.recurrence.parallel-threshold:64}") int parallelThreshold) {
+        this.recurrenceUtil = recurrenceUtil;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+        this.pool = new ForkJoinPool(this.parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("recurrence-expansion-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * A series to expand. The rule is compiled beforehand so that workers never touch JPA
+     * entities; occurrences excluded by the exception bitmap, and those in the stored range
+     * [materializedFrom, materializedUntil), are left out.
+     */
+    public record Series(Long seriesId, LocalDateTime startDate, CompiledRecurrenceRule rule,
+                         OccurrenceBitmap exceptions, LocalDateTime materializedFrom,
+                         LocalDateTime materializedUntil) {
+
+        public Series(Long seriesId, LocalDateTime startDate, CompiledRecurrenceRule rule) {
+            this(seriesId, startDate, rule, OccurrenceBitmap.empty(startDate.toLocalDate()), null, null);
+        }
+
+        public boolean isMaterialized() {
+            return materializedFrom != null && materializedUntil != null;
+        }
+
+        /**
+         * The same series with every occurrence of its rule, including those stored as rows
+         */
+        public Series withoutStoredRange() {
+            return isMaterialized() ? new Series(seriesId, startDate, rule, exceptions, null, null) : this;
+        }
+    }
+
+    public record Occurrence(Long seriesId, LocalDateTime startDate) {
+    }
+
+    /**
+     * Occurrences of every series in [windowStart, windowEnd], ordered by start date and then
+     * by the position of their series in the input
+     */
+    public List<Occurrence> expandWindow(List<Series> series, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<List<Occurrence>> runs = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            runs.add(List.of());
+        }
+
+        if (series.size() < parallelThreshold || parallelism == 1) {
+            for (int i = 0; i < series.size(); i++) {
+                runs.set(i, expandRun(series.get(i), windowStart, windowEnd));
+            }
+        } else {
+            int leafSize = Math.max(1, series.size() / (parallelism * LEAVES_PER_WORKER));
+            log.debug("Expanding {} series in parallel, {} per task", series.size(), leafSize);
+            pool.invoke(new ExpandTask(series, runs, windowStart, windowEnd, 0, series.size(), leafSize));
+        }
+
+        return mergeSorted(runs, Comparator.comparing(Occurrence::startDate));
+    }
+
+    /**
+     * Occurrences of one series in [windowStart, windowEnd], bounded by the rule's end date and
+     * maximum number of occurrences. The stored range is not expanded.
+     */
+    public List<LocalDateTime> expand(Series series, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        if (!series.isMaterialized()) {
+            return expandRange(series, windowStart, windowEnd);
+        }
+
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        if (series.materializedFrom().isAfter(windowStart)) {
+            LocalDateTime beforeStored = series.materializedFrom().minusNanos(1);
+            occurrences.addAll(expandRange(series, windowStart, beforeStored.isBefore(windowEnd) ? beforeStored : windowEnd));
+        }
+        if (!series.materializedUntil().isAfter(windowEnd)) {
+            LocalDateTime afterStored = series.materializedUntil();
+            occurrences.addAll(expandRange(series, afterStored.isAfter(windowStart) ? afterStored : windowStart, windowEnd));
+        }
+        return occurrences;
+    }
+
+    private List<LocalDateTime> expandRange(Series series, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        CompiledRecurrenceRule rule = series.rule();
+        LocalDateTime lastStart = windowEnd;
+        // An RRULE applies its own COUNT while expanding
+        if (!rule.hasRRule() && rule.maxOccurrences() != Integer.MAX_VALUE) {
+            LocalDateTime lastOccurrence = recurrenceUtil.getNthOccurrence(series.startDate(), rule, rule.maxOccurrences());
+            lastStart = lastOccurrence.isBefore(lastStart) ? lastOccurrence : lastStart;
+        }
+        if (rule.hasEndDate()) {
+            LocalDateTime seriesEnd = rule.endDate().atTime(LocalTime.MAX);
+            lastStart = seriesEnd.isBefore(lastStart) ? seriesEnd : lastStart;
+        }
+        if (lastStart.isBefore(windowStart)) {
+            return List.of();
+        }
+
+        OccurrenceBitmap exceptions = series.exceptions();
+        return recurrenceUtil.streamOccurrences(series.startDate(), rule, windowStart, lastStart)
+            .filter(rule::isActiveOn)
+            .filter(occurrence -> !exceptions.contains(occurrence))
+            .toList();
+    }
+
+    private List<Occurrence> expandRun(Series series, LocalDateTime windowStart, LocalDateTime windowEnd) {
+        List<LocalDateTime> starts = expand(series, windowStart, windowEnd);
+        List<Occurrence> run = new ArrayList<>(starts.size());
+        for (LocalDateTime start : starts) {
+            run.add(new Occurrence(series.seriesId(), start));
+        }
+        return run;
+    }
+
+    /**
+     * Merge lists that are each sorted by the given order. A heap holds the head of every list,
+     * so n elements over k lists cost O(n log k); ties keep the order of the lists.
+     */
+    public static <T> List<T> mergeSorted(List<List<T>> runs, Comparator<? super T> order) {
+        int total = 0;
+        int nonEmpty = 0;
+        for (List<T> run : runs) {
+            total += run.size();
+            nonEmpty += run.isEmpty() ? 0 : 1;
+        }
+        if (nonEmpty == 0) {
+            return List.of();
+        }
+
+        List<T> merged = new ArrayList<>(total);
+        if (nonEmpty == 1) {
+            runs.forEach(merged::addAll);
+            return merged;
+        }
+
+        // Each cursor is {run, position}
+        PriorityQueue<int[]> heads = new PriorityQueue<>(nonEmpty, (a, b) -> {
+            int compared = order.compare(runs.get(a[0]).get(a[1]), runs.get(b[0]).get(b[1]));
+            return compared != 0 ? compared : Integer.compare(a[0], b[0]);
+        });
+        for (int i = 0; i < runs.size(); i++) {
+            if (!runs.get(i).isEmpty()) {
+                heads.add(new int[] {i, 0});
+            }
+        }
+        while (!heads.isEmpty()) {
+            int[] cursor = heads.poll();
+            List<T> run = runs.get(cursor[0]);
+            merged.add(run.get(cursor[1]));
+            if (++cursor[1] < run.size()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Expands a range of the series, splitting it in halves down to the leaf size
+     */
+    private class ExpandTask extends RecursiveAction {
+
+        private final List<Series> series;
+        private final List<List<Occurrence>> runs;
+        private final LocalDateTime windowStart;
+        private final LocalDateTime windowEnd;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+
+        ExpandTask(List<Series> series, List<List<Occurrence>> runs, LocalDateTime windowStart,
+                   LocalDateTime windowEnd, int from, int to, int leafSize) {
+            this.series = series;
+            this.runs = runs;
+            this.windowStart = windowStart;
+            this.windowEnd = windowEnd;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    // Each index is written by exactly one leaf; invoke() publishes the writes
+                    runs.set(i, expandRun(series.get(i), windowStart, windowEnd));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ExpandTask(series, runs, windowStart, windowEnd, from, middle, leafSize),
+                new ExpandTask(series, runs, windowStart, windowEnd, middle, to, leafSize));
+        }
+    }
+}
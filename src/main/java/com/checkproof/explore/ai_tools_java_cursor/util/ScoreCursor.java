@@ -0,0 +1,44 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last hit of a keyset page over ranked search results: its score and id.
+ * Hits are ordered by {@link InvertedIndex#RANKING} and the next page starts after this
+ * position. Clients see it only as an opaque URL-safe token.
+ */
+public record ScoreCursor(double score, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static ScoreCursor of(InvertedIndex.Hit hit) {
+        return new ScoreCursor(hit.score(), hit.id());
+    }
+
+    /**
+     * The position as a hit, to search for among ranked hits
+     */
+    public InvertedIndex.Hit toHit() {
+        return new InvertedIndex.Hit(id, score);
+    }
+
+    public String encode() {
+        String position = Double.toString(score) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by encode
+     */
+    public static ScoreCursor decode(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(SEPARATOR);
+            return new ScoreCursor(Double.parseDouble(position.substring(0, Math.max(separator, 0))),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid search cursor: " + token, e);
+        }
+    }
+}
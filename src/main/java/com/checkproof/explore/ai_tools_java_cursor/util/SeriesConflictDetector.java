@@ -0,0 +1,293 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the first time two recurring series overlap without expanding them. Regular series
+ * (daily, weekly, or weekly on listed days) are split into residue classes that repeat with a
+ * fixed period; two classes can only meet at differences that are multiples of the gcd of their
+ * periods, and the first meeting is solved with a modular inverse over the LCM cycle. Other
+ * rules fall back to expanding both series over a bounded horizon. Occurrences stored as rows
+ * are occurrences of the rule like any other, so the stored range of a series is ignored.
+ */
+@Component
+@Slf4j
+public class SeriesConflictDetector {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    // Collisions skipped because one side is an exception, per pair of classes
+    private static final int MAX_EXCEPTION_SKIPS = 1_000;
+
+    private final RecurrenceWindowExpander recurrenceWindowExpander;
+    private final RecurrenceUtil recurrenceUtil;
+    private final int fallbackHorizonDays;
+
+    @Autowired
+    public SeriesConflictDetector(RecurrenceWindowExpander recurrenceWindowExpander, RecurrenceUtil recurrenceUtil,
+                                  @Value("${calendar.recurrence.conflict-horizon-days:366}") int fallbackHorizonDays) {
+        this.recurrenceWindowExpander = recurrenceWindowExpander;
+        this.recurrenceUtil = recurrenceUtil;
+        this.fallbackHorizonDays = fallbackHorizonDays;
+    }
+
+    /**
+     * Start of the first occurrence of a that overlaps an occurrence of b, or null when they never
+     * overlap. Occurrences last for the given durations and intervals are half-open. When either
+     * rule is irregular only the fallback horizon after the later series start is searched.
+     */
+    public LocalDateTime firstConflict(RecurrenceWindowExpander.Series a, Duration durationA,
+                                       RecurrenceWindowExpander.Series b, Duration durationB) {
+        a = a.withoutStoredRange();
+        b = b.withoutStoredRange();
+        long da = Math.max(1, durationA.getSeconds());
+        long db = Math.max(1, durationB.getSeconds());
+        List<PeriodicClass> classesA = periodicClasses(a);
+        List<PeriodicClass> classesB = periodicClasses(b);
+        if (classesA == null || classesB == null) {
+            LocalDateTime from = later(a.startDate(), b.startDate());
+            return firstConflictByExpansion(a, durationA, b, durationB, from.plusDays(fallbackHorizonDays));
+        }
+
+        long first = Long.MAX_VALUE;
+        for (PeriodicClass classA : classesA) {
+            for (PeriodicClass classB : classesB) {
+                first = Math.min(first, firstCollision(a, classA, da, b, classB, db));
+            }
+        }
+        return first == Long.MAX_VALUE ? null : toLocalDateTime(first);
+    }
+
+    /**
+     * Reference search: expand both series up to the given date and sweep them in order
+     */
+    public LocalDateTime firstConflictByExpansion(RecurrenceWindowExpander.Series a, Duration durationA,
+                                                  RecurrenceWindowExpander.Series b, Duration durationB,
+                                                  LocalDateTime until) {
+        a = a.withoutStoredRange();
+        b = b.withoutStoredRange();
+        LocalDateTime from = later(a.startDate(), b.startDate()).minus(durationA.compareTo(durationB) > 0 ? durationA : durationB);
+        List<LocalDateTime> startsA = recurrenceWindowExpander.expand(a, from, until);
+        List<LocalDateTime> startsB = recurrenceWindowExpander.expand(b, from, until);
+
+        int j = 0;
+        for (LocalDateTime startA : startsA) {
+            LocalDateTime endA = startA.plus(durationA);
+            // Occurrences of b ending by the start of this one cannot overlap it or any later one
+            while (j < startsB.size() && !startsB.get(j).plus(durationB).isAfter(startA)) {
+                j++;
+            }
+            if (j < startsB.size() && startsB.get(j).isBefore(endA)) {
+                return startA;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A set of occurrences anchor + k * period for k >= 0, or only the anchor when the period is zero
+     */
+    private record PeriodicClass(long anchor, long period, long last) {
+    }
+
+    /**
+     * Split a series into periodic classes, or null when its rule is not periodic in time
+     */
+    private List<PeriodicClass> periodicClasses(RecurrenceWindowExpander.Series series) {
+        CompiledRecurrenceRule rule = series.rule();
+        if (!rule.isSteppable() || rule.hasRRule()
+            || rule.startEpochDay() > series.startDate().toLocalDate().toEpochDay()) {
+            return null;
+        }
+
+        long start = toEpochSecond(series.startDate());
+        long last = lastStart(series);
+        List<PeriodicClass> classes = new ArrayList<>();
+        switch (rule.type()) {
+            case DAILY:
+                classes.add(new PeriodicClass(start, rule.interval() * SECONDS_PER_DAY, last));
+                return classes;
+            case WEEKLY:
+                if (!rule.hasDaysOfWeek()) {
+                    classes.add(new PeriodicClass(start, rule.interval() * SECONDS_PER_WEEK, last));
+                    return classes;
+                }
+                // The start date itself, then every listed weekday after it
+                classes.add(new PeriodicClass(start, 0, last));
+                for (int day = 1; day <= 7; day++) {
+                    if (rule.includes(series.startDate().getDayOfWeek().plus(day))) {
+                        classes.add(new PeriodicClass(start + day * SECONDS_PER_DAY, SECONDS_PER_WEEK, last));
+                    }
+                }
+                return classes;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Latest possible occurrence start from the end date and maximum number of occurrences
+     */
+    private long lastStart(RecurrenceWindowExpander.Series series) {
+        CompiledRecurrenceRule rule = series.rule();
+        long last = Long.MAX_VALUE;
+        if (rule.hasEndDate()) {
+            last = (rule.endEpochDay() + 1) * SECONDS_PER_DAY - 1;
+        }
+        if (rule.maxOccurrences() != Integer.MAX_VALUE) {
+            last = Math.min(last, toEpochSecond(
+                recurrenceUtil.getNthOccurrence(series.startDate(), rule, rule.maxOccurrences())));
+        }
+        return last;
+    }
+
+    /**
+     * Earliest start of an occurrence of class a overlapping one of class b, or Long.MAX_VALUE.
+     * Occurrence a_i = alpha + i * pa meets b_j = beta + j * pb when a_i - b_j lies in (-da, db).
+     * The difference is always congruent to alpha - beta modulo g = gcd(pa, pb), so only the few
+     * values in that range with the right residue need solving, each by a modular inverse.
+     */
+    private long firstCollision(RecurrenceWindowExpander.Series a, PeriodicClass classA, long da,
+                                RecurrenceWindowExpander.Series b, PeriodicClass classB, long db) {
+        if (classA.period() == 0 && classB.period() == 0) {
+            long difference = classA.anchor() - classB.anchor();
+            return difference > -da && difference < db && isIncluded(a, classA.anchor()) && isIncluded(b, classB.anchor())
+                ? classA.anchor() : Long.MAX_VALUE;
+        }
+        if (classA.period() == 0) {
+            return firstAgainstSingle(a, classA, da, b, classB, db) >= 0 ? classA.anchor() : Long.MAX_VALUE;
+        }
+        if (classB.period() == 0) {
+            return firstMeetingSingle(a, classA, da, b, classB, db);
+        }
+
+        long pa = classA.period();
+        long pb = classB.period();
+        long g = gcd(pa, pb);
+        long c = classA.anchor() - classB.anchor();
+        long cycle = pb / g;
+        long inverse = modInverse((pa / g) % cycle, cycle);
+
+        long first = Long.MAX_VALUE;
+        // Smallest value above -da congruent to c modulo g, then every g up to db
+        for (long v = -da + 1 + Math.floorMod(c - (-da + 1), g); v < db; v += g) {
+            long w = v - c;
+            long i = Math.floorMod(Math.floorMod(w / g, cycle) * inverse, cycle);
+            // j = (i * pa - w) / pb must not be negative
+            long minimum = Math.max(0, Math.floorDiv(w + pa - 1, pa));
+            if (i < minimum) {
+                i += Math.floorDiv(minimum - i + cycle - 1, cycle) * cycle;
+            }
+            for (int skips = 0; skips < MAX_EXCEPTION_SKIPS; skips++, i += cycle) {
+                long startA = classA.anchor() + i * pa;
+                long startB = startA - v;
+                if (startA > classA.last() || startB > classB.last() || startA >= first) {
+                    break;
+                }
+                if (isIncluded(a, startA) && isIncluded(b, startB)) {
+                    first = startA;
+                    break;
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * First occurrence of the periodic class a overlapping the single occurrence of class b
+     */
+    private long firstMeetingSingle(RecurrenceWindowExpander.Series a, PeriodicClass classA, long da,
+                                    RecurrenceWindowExpander.Series b, PeriodicClass single, long db) {
+        if (!isIncluded(b, single.anchor())) {
+            return Long.MAX_VALUE;
+        }
+        // a_i overlaps when single - da < a_i < single + db
+        long i = Math.max(0, Math.floorDiv(single.anchor() - da - classA.anchor(), classA.period()) + 1);
+        for (long startA = classA.anchor() + i * classA.period();
+             startA < single.anchor() + db && startA <= classA.last();
+             startA += classA.period()) {
+            if (isIncluded(a, startA)) {
+                return startA;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Start of an occurrence of the periodic class b overlapping the single occurrence of class a, or -1
+     */
+    private long firstAgainstSingle(RecurrenceWindowExpander.Series a, PeriodicClass single, long da,
+                                    RecurrenceWindowExpander.Series b, PeriodicClass classB, long db) {
+        if (!isIncluded(a, single.anchor())) {
+            return -1;
+        }
+        long j = Math.max(0, Math.floorDiv(single.anchor() - db - classB.anchor(), classB.period()) + 1);
+        for (long startB = classB.anchor() + j * classB.period();
+             startB < single.anchor() + da && startB <= classB.last();
+             startB += classB.period()) {
+            if (isIncluded(b, startB)) {
+                return startB;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isIncluded(RecurrenceWindowExpander.Series series, long epochSecond) {
+        LocalDateTime occurrence = toLocalDateTime(epochSecond);
+        return series.rule().isActiveOn(occurrence) && !series.exceptions().contains(occurrence);
+    }
+
+    private static long gcd(long x, long y) {
+        while (y != 0) {
+            long remainder = x % y;
+            x = y;
+            y = remainder;
+        }
+        return x;
+    }
+
+    /**
+     * Inverse of x modulo m for coprime x and m, by the extended Euclidean algorithm
+     */
+    private static long modInverse(long x, long m) {
+        if (m == 1) {
+            return 0;
+        }
+        long oldR = x;
+        long r = m;
+        long oldS = 1;
+        long s = 0;
+        while (r != 0) {
+            long quotient = oldR / r;
+            long nextR = oldR - quotient * r;
+            oldR = r;
+            r = nextR;
+            long nextS = oldS - quotient * s;
+            oldS = s;
+            s = nextS;
+        }
+        return Math.floorMod(oldS, m);
+    }
+
+    private static LocalDateTime later(LocalDateTime x, LocalDateTime y) {
+        return x.isAfter(y) ? x : y;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
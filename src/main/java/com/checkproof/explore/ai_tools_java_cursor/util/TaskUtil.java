@@ -0,0 +1,53 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidTaskException;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Task rules shared by the task service and the bulk import, so that an imported task is
+ * held to the same checks as one created through the API
+ */
+@Component
+public class TaskUtil {
+
+    /**
+     * Check the fields every stored task needs, throwing InvalidTaskException for the first one missing or invalid
+     */
+    public void validateTask(Task task) {
+        if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
+            throw new InvalidTaskException("title", "Task title is required");
+        }
+
+        if (task.getStartDate() == null) {
+            throw new InvalidTaskException("startDate", "Task start date is required");
+        }
+
+        if (task.getEndDate() != null && task.getEndDate().isBefore(task.getStartDate())) {
+            throw new InvalidTaskException("endDate", "Task end date cannot be before start date");
+        }
+
+        if (task.getStartDate().isBefore(LocalDateTime.now().minusDays(1))) {
+            throw new InvalidTaskException("startDate", "Task start date cannot be in the past");
+        }
+    }
+
+    /**
+     * Ids of the task's stored participants
+     */
+    public Set<Long> participantIdsOf(Task task) {
+        if (task.getParticipants() == null) {
+            return Set.of();
+        }
+        return task.getParticipants().stream()
+                .map(Participant::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -14,6 +14,11 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface BusinessHours {
     
+    int DEFAULT_START_HOUR = 9;
+    int DEFAULT_START_MINUTE = 0;
+    int DEFAULT_END_HOUR = 17;
+    int DEFAULT_END_MINUTE = 0;
+    
     String message() default "Time must be within business hours (9:00 AM - 5:00 PM)";
     
     Class<?>[] groups() default {};
@@ -23,22 +28,22 @@ public @interface BusinessHours {
     /**
      * Start hour of business hours (24-hour format)
      */
-    int startHour() default 9;
+    int startHour() default DEFAULT_START_HOUR;
     
     /**
      * Start minute of business hours
      */
-    int startMinute() default 0;
+    int startMinute() default DEFAULT_START_MINUTE;
     
     /**
      * End hour of business hours (24-hour format)
      */
-    int endHour() default 17;
+    int endHour() default DEFAULT_END_HOUR;
     
     /**
      * End minute of business hours
      */
-    int endMinute() default 0;
+    int endMinute() default DEFAULT_END_MINUTE;
     
     /**
      * Whether to allow times exactly at the start time
@@ -2,6 +2,7 @@ package com.checkproof.explore.ai_tools_java_cursor.validation;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
 import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidTaskException;
+import com.checkproof.explore.ai_tools_java_cursor.util.RRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
@@ -131,6 +132,16 @@ public class TaskValidator implements Validator {
                         "Recurrence interval cannot exceed 100");
             }
 
+            if (pattern.getRrule() != null) {
+                try {
+                    RRule.parse(pattern.getRrule());
+                    RRule.parseDateTimeList(pattern.getExdates());
+                    RRule.parseDateTimeList(pattern.getRdates());
+                } catch (IllegalArgumentException e) {
+                    addError(errors, "recurrencePattern.rrule", "task.recurrence.rrule.invalid", e.getMessage());
+                }
+            }
+
             // Validate end date for recurring tasks
             if (taskDto.getEndDate() != null && taskDto.getStartDate() != null) {
                 long daysBetween = java.time.Duration.between(taskDto.getStartDate(), taskDto.getEndDate()).toDays();
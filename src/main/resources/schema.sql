@@ -6,10 +6,20 @@ DROP TABLE IF EXISTS tasks;
 DROP TABLE IF EXISTS events;
 DROP TABLE IF EXISTS participants;
 DROP TABLE IF EXISTS recurrence_patterns;
+DROP SEQUENCE IF EXISTS tasks_seq;
+DROP SEQUENCE IF EXISTS events_seq;
+DROP SEQUENCE IF EXISTS participants_seq;
+DROP SEQUENCE IF EXISTS recurrence_patterns_seq;
+
+-- Ids are allocated in blocks of INCREMENT BY so that inserts can be batched
+CREATE SEQUENCE IF NOT EXISTS recurrence_patterns_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS participants_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS events_seq START WITH 1 INCREMENT BY 50;
 
 -- Create tables in correct order
 CREATE TABLE IF NOT EXISTS recurrence_patterns (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     recurrence_type VARCHAR(255) NOT NULL,
     interval_value INTEGER NOT NULL DEFAULT 1,
     start_date DATE NOT NULL,
@@ -18,6 +28,9 @@ CREATE TABLE IF NOT EXISTS recurrence_patterns (
     day_of_month INTEGER,
     week_of_month INTEGER,
     month_of_year INTEGER,
+    rrule VARCHAR(500),
+    exdates VARCHAR(4000),
+    rdates VARCHAR(4000),
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP
 );
@@ -30,7 +43,7 @@ CREATE TABLE IF NOT EXISTS recurrence_pattern_days_of_week (
 );
 
 CREATE TABLE IF NOT EXISTS participants (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     email VARCHAR(255),
     phone_number VARCHAR(20),
@@ -43,7 +56,7 @@ CREATE TABLE IF NOT EXISTS participants (
 );
 
 CREATE TABLE IF NOT EXISTS tasks (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     description TEXT,
     start_date TIMESTAMP NOT NULL,
@@ -51,13 +64,22 @@ CREATE TABLE IF NOT EXISTS tasks (
     priority VARCHAR(255) NOT NULL DEFAULT 'MEDIUM',
     status VARCHAR(255) NOT NULL DEFAULT 'PENDING',
     recurrence_pattern_id BIGINT,
+    series_master BOOLEAN NOT NULL DEFAULT FALSE,
+    materialized BOOLEAN NOT NULL DEFAULT FALSE,
+    series_id BIGINT,
+    original_start_date TIMESTAMP,
+    materialized_from TIMESTAMP,
+    materialized_until TIMESTAMP,
+    exception_days VARBINARY(8192),
     created_at TIMESTAMP NOT NULL,
     updated_at TIMESTAMP,
-    FOREIGN KEY (recurrence_pattern_id) REFERENCES recurrence_patterns(id)
+    FOREIGN KEY (recurrence_pattern_id) REFERENCES recurrence_patterns(id),
+    FOREIGN KEY (series_id) REFERENCES tasks(id),
+    UNIQUE (series_id, original_start_date)
 );
 
 CREATE TABLE IF NOT EXISTS events (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     description TEXT,
     event_date TIMESTAMP NOT NULL,
@@ -81,4 +103,15 @@ CREATE TABLE IF NOT EXISTS event_participants (
     PRIMARY KEY (event_id, participant_id),
     FOREIGN KEY (event_id) REFERENCES events(id),
     FOREIGN KEY (participant_id) REFERENCES participants(id)
-);
\ No newline at end of file
+);
+
+-- Indexes for calendar and status queries; date predicates are half-open ranges on the raw columns
+CREATE INDEX IF NOT EXISTS idx_events_event_date ON events (event_date);
+CREATE INDEX IF NOT EXISTS idx_events_category_event_date ON events (category, event_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_series_master_start_date ON tasks (series_master, start_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_start_date ON tasks (start_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_start_date ON tasks (status, start_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_end_date_status ON tasks (end_date, status);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority_status_start_date ON tasks (priority, status, start_date);
+CREATE INDEX IF NOT EXISTS idx_task_participants_participant ON task_participants (participant_id, task_id);
+CREATE INDEX IF NOT EXISTS idx_event_participants_participant ON event_participants (participant_id, event_id);
\ No newline at end of file
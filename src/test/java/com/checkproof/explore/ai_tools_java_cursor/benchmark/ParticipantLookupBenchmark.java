@@ -0,0 +1,90 @@
+package com.checkproof.explore.ai_tools_java_cursor.benchmark;
+
+import com.checkproof.explore.ai_tools_java_cursor.util.NGramIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looking up participant names by a typed fragment with the trigram index versus the
+ * lower-cased substring scan a LIKE '%fragment%' query performs, as the number of participants
+ * grows. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.checkproof.explore.ai_tools_java_cursor.benchmark.ParticipantLookupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticipantLookupBenchmark {
+
+    private static final String[] FIRST = {"Alice", "Bob", "Carol", "Dan", "Erin", "Frank", "Grace", "Heidi",
+            "Ivan", "Judy", "Mallory", "Niaj", "Olivia", "Peggy", "Rupert", "Sybil", "Trent", "Victor", "Walter"};
+    private static final String[] LAST = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller",
+            "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas", "Taylor"};
+
+    @Param({"10000", "100000"})
+    private int participants;
+
+    @Param({"ohnso", "z0"})
+    private String fragment;
+
+    private NGramIndex index;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NGramIndex();
+        names = new String[participants];
+        for (int id = 0; id < participants; id++) {
+            // A handful of names carry a rare token, like a typed id
+            names[id] = FIRST[random.nextInt(FIRST.length)] + " " + LAST[random.nextInt(LAST.length)]
+                    + (id % 1000 == 0 ? " z" + id : "");
+            index.put(id, names[id]);
+        }
+    }
+
+    @Benchmark
+    public Set<Long> ngramIndex() {
+        return index.search(fragment);
+    }
+
+    @Benchmark
+    public List<Integer> substringScan() {
+        String lower = fragment.toLowerCase(Locale.ROOT);
+        List<Integer> matches = new ArrayList<>();
+        for (int id = 0; id < participants; id++) {
+            if (names[id].toLowerCase(Locale.ROOT).contains(lower)) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ParticipantLookupBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
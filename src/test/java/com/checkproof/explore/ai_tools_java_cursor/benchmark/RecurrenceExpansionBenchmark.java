@@ -0,0 +1,116 @@
+package com.checkproof.explore.ai_tools_java_cursor.benchmark;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.util.RRule;
+import com.checkproof.explore.ai_tools_java_cursor.util.RRuleExpander;
+import com.checkproof.explore.ai_tools_java_cursor.util.RecurrenceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expanding one year of a series with the RRULE engine versus the RecurrenceUtil loops, and a
+ * rule the loops cannot express (last work day of the month) versus filtering every day.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.checkproof.explore.ai_tools_java_cursor.benchmark.RecurrenceExpansionBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceExpansionBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2024, 12, 31, 23, 59);
+
+    private RecurrenceUtil recurrenceUtil;
+    private RecurrencePattern weeklyPattern;
+    private RecurrencePattern monthlyByWeekPattern;
+    private RRule weeklyRule;
+    private RRule monthlyByWeekRule;
+    private RRule lastWorkDayRule;
+
+    @Setup
+    public void setUp() {
+        recurrenceUtil = new RecurrenceUtil();
+        weeklyPattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                .daysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY))
+                .build();
+        monthlyByWeekPattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY)
+                .weekOfMonth(2)
+                .daysOfWeek(Set.of(DayOfWeek.TUESDAY))
+                .build();
+        weeklyRule = RRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR");
+        monthlyByWeekRule = RRule.parse("FREQ=MONTHLY;BYDAY=2TU");
+        lastWorkDayRule = RRule.parse("FREQ=MONTHLY;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1");
+    }
+
+    @Benchmark
+    public List<LocalDateTime> weeklyLoop() {
+        return recurrenceUtil.generateRecurringDatesInRange(START, END, weeklyPattern);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> weeklyRRule() {
+        return RRuleExpander.expand(START, weeklyRule, Set.of(), Set.of(), START, END);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> monthlyByWeekLoop() {
+        return recurrenceUtil.generateRecurringDatesInRange(LocalDateTime.of(2024, 1, 9, 9, 0), END, monthlyByWeekPattern);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> monthlyByWeekRRule() {
+        return RRuleExpander.expand(LocalDateTime.of(2024, 1, 9, 9, 0), monthlyByWeekRule, Set.of(), Set.of(), START, END);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> lastWorkDayDayByDay() {
+        List<LocalDateTime> dates = new ArrayList<>();
+        for (LocalDate day = START.toLocalDate(); !day.isAfter(END.toLocalDate()); day = day.plusDays(1)) {
+            LocalDate last = day.withDayOfMonth(day.lengthOfMonth());
+            while (last.getDayOfWeek() == DayOfWeek.SATURDAY || last.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                last = last.minusDays(1);
+            }
+            if (day.equals(last)) {
+                dates.add(day.atTime(START.toLocalTime()));
+            }
+        }
+        return dates;
+    }
+
+    @Benchmark
+    public List<LocalDateTime> lastWorkDayRRule() {
+        return RRuleExpander.expand(LocalDateTime.of(2024, 1, 31, 9, 0), lastWorkDayRule, Set.of(), Set.of(), START, END);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RecurrenceExpansionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.checkproof.explore.ai_tools_java_cursor.benchmark;
+
+import com.checkproof.explore.ai_tools_java_cursor.AiToolsJavaCursorApplication;
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creating a 100-occurrence series with two participants (101 task rows and 202 participant
+ * rows) with JDBC batching off (batchSize 1) and on. Run with {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.checkproof.explore.ai_tools_java_cursor.benchmark.SeriesInsertBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SeriesInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private ParticipantRepository participantRepository;
+    private int series;
+
+    @Setup
+    public void setUp() {
+        // Command line arguments, so that they override application.properties
+        context = new SpringApplicationBuilder(AiToolsJavaCursorApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:seriesinsert" + batchSize,
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.session_factory.statement_inspector=" + CountingInspector.class.getName(),
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=OFF",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+                "--logging.level.org.springframework.web=WARN",
+                "--logging.level.org.hibernate.tool.schema=WARN",
+                "--calendar.scheduling.enabled=false",
+                "--calendar.recurrence.materialize-horizon-days=120",
+                "--server.port=0");
+        taskService = context.getBean(TaskService.class);
+        participantRepository = context.getBean(ParticipantRepository.class);
+        CountingInspector.STATEMENTS.set(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        // In-memory H2 has no network latency, so the round trips saved are reported as well
+        System.out.printf("%nbatchSize %d: %d statements prepared per series%n",
+                batchSize, CountingInspector.STATEMENTS.get() / Math.max(series, 1));
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDto> createHundredOccurrenceSeries() {
+        // Fresh participants for every series, so that series never overlap
+        int n = series++;
+        TaskDto base = TaskDto.builder()
+                .title("Series " + n)
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(LocalDate.now().plusDays(1).atTime(9, 0))
+                .endDate(LocalDate.now().plusDays(1).atTime(9, 15))
+                .participants(Set.of(participant("a" + n), participant("b" + n)))
+                .build();
+        RecurrencePattern daily = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .maxOccurrences(100)
+                .daysOfWeek(new HashSet<>())
+                .build();
+        return taskService.createRecurringTasks(base, daily);
+    }
+
+    private ParticipantDto participant(String name) {
+        return ParticipantDto.fromEntity(participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build()));
+    }
+
+    /**
+     * Counts every SQL statement Hibernate prepares
+     */
+    public static class CountingInspector implements StatementInspector {
+
+        static final AtomicLong STATEMENTS = new AtomicLong();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.incrementAndGet();
+            return sql;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SeriesInsertBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
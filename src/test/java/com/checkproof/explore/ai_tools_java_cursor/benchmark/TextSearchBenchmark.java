@@ -0,0 +1,93 @@
+package com.checkproof.explore.ai_tools_java_cursor.benchmark;
+
+import com.checkproof.explore.ai_tools_java_cursor.util.InvertedIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching event names and descriptions for a rare term with the inverted index versus the
+ * lower-cased substring scan a LIKE '%term%' query performs, as the number of events grows.
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.checkproof.explore.ai_tools_java_cursor.benchmark.TextSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSearchBenchmark {
+
+    private static final String[] WORDS = {"team", "sync", "review", "planning", "budget", "client", "demo",
+            "retro", "design", "hiring", "roadmap", "launch", "weekly", "quarterly", "offsite", "training"};
+
+    @Param({"10000", "100000"})
+    private int events;
+
+    private InvertedIndex index;
+    private String[] names;
+    private String[] descriptions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new InvertedIndex(2.0, 1.0);
+        names = new String[events];
+        descriptions = new String[events];
+        for (int id = 0; id < events; id++) {
+            names[id] = phrase(random, 3) + (id % 1000 == 0 ? " escalation" : "");
+            descriptions[id] = phrase(random, 20);
+            index.put(id, names[id], descriptions[id]);
+        }
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> invertedIndex() {
+        return index.search("escal", 0);
+    }
+
+    @Benchmark
+    public List<Integer> substringScan() {
+        List<Integer> matches = new ArrayList<>();
+        for (int id = 0; id < events; id++) {
+            if (names[id].toLowerCase(Locale.ROOT).contains("escal")
+                    || descriptions[id].toLowerCase(Locale.ROOT).contains("escal")) {
+                matches.add(id);
+            }
+        }
+        return matches;
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            phrase.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return phrase.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TextSearchBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,71 @@
+package com.checkproof.explore.ai_tools_java_cursor.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedStorageAccess Tests")
+class BoundedStorageAccessTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should evict the least recently used entry when full")
+    void put_EvictsLeastRecentlyUsed() {
+        BoundedStorageAccess storage = new BoundedStorageAccess("participants", 2, Duration.ofMinutes(10), clock::get);
+        storage.putIntoCache(1L, "alice", null);
+        storage.putIntoCache(2L, "bob", null);
+        // Reading alice makes bob the least recently used
+        assertEquals("alice", storage.getFromCache(1L, null));
+
+        storage.putIntoCache(3L, "carol", null);
+
+        assertEquals(2, storage.size());
+        assertTrue(storage.contains(1L));
+        assertFalse(storage.contains(2L));
+        assertEquals("carol", storage.getFromCache(3L, null));
+        assertEquals(1, storage.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Should expire entries a fixed time after they were stored")
+    void get_ExpiresEntries() {
+        BoundedStorageAccess storage = new BoundedStorageAccess("patterns", 10, Duration.ofSeconds(30), clock::get);
+        storage.putIntoCache("key", "value", null);
+
+        clock.set(Duration.ofSeconds(29).toNanos());
+        assertEquals("value", storage.getFromCache("key", null));
+
+        clock.set(Duration.ofSeconds(30).toNanos());
+        assertNull(storage.getFromCache("key", null));
+        assertEquals(0, storage.size());
+        assertEquals(1, storage.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Should evict single entries and whole regions")
+    void evictData() {
+        BoundedStorageAccess storage = new BoundedStorageAccess("participants", 10, Duration.ofMinutes(10), clock::get);
+        storage.putIntoCache(1L, "alice", null);
+        storage.putIntoCache(2L, "bob", null);
+
+        storage.evictData(1L);
+        assertFalse(storage.contains(1L));
+        assertTrue(storage.contains(2L));
+
+        storage.evictData();
+        assertEquals(0, storage.size());
+        // Explicit evictions are not counted as capacity or age evictions
+        assertEquals(0, storage.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Should reject regions that cannot hold an entry")
+    void factory_RejectsEmptyRegions() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedRegionFactory(0, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.FreeSlotDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.ParticipantNotFoundException;
+import com.checkproof.explore.ai_tools_java_cursor.service.AvailabilityService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailabilityControllerTest {
+
+    @Mock
+    private AvailabilityService availabilityService;
+
+    @InjectMocks
+    private AvailabilityController availabilityController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(availabilityController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void findFreeSlots_ShouldReturnSlots() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 12, 16, 9, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 12, 20, 17, 0);
+        List<FreeSlotDto> slots = List.of(
+            new FreeSlotDto(LocalDateTime.of(2024, 12, 16, 10, 0), LocalDateTime.of(2024, 12, 16, 10, 30)),
+            new FreeSlotDto(LocalDateTime.of(2024, 12, 16, 10, 30), LocalDateTime.of(2024, 12, 16, 11, 0))
+        );
+
+        when(availabilityService.findFreeSlots(Set.of(1L, 2L), from, to, 30, 2, true)).thenReturn(slots);
+
+        // When & Then
+        mockMvc.perform(get("/api/availability/free-slots")
+                .param("participantIds", "1", "2")
+                .param("durationMinutes", "30")
+                .param("from", "2024-12-16T09:00:00")
+                .param("to", "2024-12-20T17:00:00")
+                .param("limit", "2")
+                .param("businessHoursOnly", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].startTime").exists())
+                .andExpect(jsonPath("$[1].endTime").exists());
+
+        verify(availabilityService).findFreeSlots(Set.of(1L, 2L), from, to, 30, 2, true);
+    }
+
+    @Test
+    void findFreeSlots_ShouldApplyDefaults() throws Exception {
+        // Given
+        when(availabilityService.findFreeSlots(anySet(), isNull(), isNull(), eq(60), eq(5), eq(false)))
+                .thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/availability/free-slots")
+                .param("participantIds", "1")
+                .param("durationMinutes", "60"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        verify(availabilityService).findFreeSlots(Set.of(1L), null, null, 60, 5, false);
+    }
+
+    @Test
+    void findFreeSlots_WithInvalidRequest_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(availabilityService.findFreeSlots(anySet(), any(), any(), anyInt(), anyInt(), anyBoolean()))
+                .thenThrow(new IllegalArgumentException("Duration must be positive"));
+
+        // When & Then
+        mockMvc.perform(get("/api/availability/free-slots")
+                .param("participantIds", "1")
+                .param("durationMinutes", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void findFreeSlots_WithUnknownParticipant_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(availabilityService.findFreeSlots(anySet(), any(), any(), anyInt(), anyInt(), anyBoolean()))
+                .thenThrow(new ParticipantNotFoundException("Participants not found with IDs: [2]"));
+
+        // When & Then
+        mockMvc.perform(get("/api/availability/free-slots")
+                .param("participantIds", "1", "2")
+                .param("durationMinutes", "30"))
+                .andExpect(status().isNotFound());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.CacheRegionStatisticsDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.CacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheControllerTest {
+
+    @Mock
+    private CacheService cacheService;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(cacheController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void getStatistics_ShouldReturnRegions() throws Exception {
+        // Given
+        when(cacheService.getRegionStatistics()).thenReturn(List.of(CacheRegionStatisticsDto.builder()
+                .region("com.example.Participant")
+                .hits(3)
+                .misses(1)
+                .puts(1)
+                .size(1)
+                .hitRatio(0.75)
+                .build()));
+
+        // When & Then
+        mockMvc.perform(get("/api/cache/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].region").value("com.example.Participant"))
+                .andExpect(jsonPath("$[0].hits").value(3))
+                .andExpect(jsonPath("$[0].misses").value(1))
+                .andExpect(jsonPath("$[0].hitRatio").value(0.75));
+    }
+
+    @Test
+    void evictAll_ShouldClearCache() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/cache"))
+                .andExpect(status().isNoContent());
+        verify(cacheService).evictAll();
+    }
+}
@@ -1,11 +1,16 @@
 package com.checkproof.explore.ai_tools_java_cursor.controller;
 
+import com.checkproof.explore.ai_tools_java_cursor.dto.CandidateConflictResult;
 import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventStatisticsResponse;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidEventException;
 import com.checkproof.explore.ai_tools_java_cursor.model.Event;
 import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
 import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.util.PageCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.Matchers.hasItems;
@@ -256,6 +262,35 @@ class EventControllerTest {
         verify(eventService).getAllEvents(any(PaginationRequestDto.class));
     }
 
+    @Test
+    void getAllEvents_WithCursor_ShouldReturnNextCursor() throws Exception {
+        // Given
+        String cursor = new PageCursor(LocalDateTime.of(2024, 12, 1, 10, 0), 7L).encode();
+        PaginatedResponseDto<EventDto> response = PaginatedResponseDto.fromCursor(
+            List.of(createSampleEventDto(8L, "Event 8")), 1, "next", true, -1);
+
+        when(eventService.getAllEvents(argThat(request -> cursor.equals(request.getCursor())))).thenReturn(response);
+
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("cursor", cursor)
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(8))
+                .andExpect(jsonPath("$.pagination.nextCursor").value("next"))
+                .andExpect(jsonPath("$.pagination.totalElements").value(-1));
+    }
+
+    @Test
+    void getAllEvents_WithInvalidCursor_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/events")
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(eventService, never()).getAllEvents(any(PaginationRequestDto.class));
+    }
+
     @Test
     void getEventById_ShouldReturnEvent() throws Exception {
         // Given
@@ -481,6 +516,53 @@ class EventControllerTest {
         verify(eventService).findConflictingEvents(any(EventDto.class));
     }
 
+    @Test
+    void checkConflictsBatch_ShouldReturnPerCandidateResults() throws Exception {
+        // Given
+        List<EventDto> candidates = Arrays.asList(
+            createSampleEventDto(null, "Candidate A"),
+            createSampleEventDto(null, "Candidate B")
+        );
+        List<CandidateConflictResult> results = Arrays.asList(
+            new CandidateConflictResult(0, "Candidate A", true,
+                List.of(createSampleEventDto(1L, "Conflicting Event")), List.of(1)),
+            new CandidateConflictResult(1, "Candidate B", true, List.of(), List.of(0))
+        );
+
+        when(eventService.checkConflictsBatch(anyList())).thenReturn(results);
+
+        // When & Then
+        mockMvc.perform(post("/api/events/check-conflicts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(candidates)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.totalCandidates").value(2))
+                .andExpect(jsonPath("$.conflictingCandidates").value(2))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].conflictingEvents[0].name").value("Conflicting Event"))
+                .andExpect(jsonPath("$.results[0].conflictingCandidates[0]").value(1))
+                .andExpect(jsonPath("$.results[1].conflictingCandidates[0]").value(0));
+
+        verify(eventService).checkConflictsBatch(anyList());
+        verify(eventService, never()).hasTimeConflict(any(EventDto.class));
+    }
+
+    @Test
+    void checkConflictsBatch_WithoutEventDate_ShouldReturnBadRequest() throws Exception {
+        // Given
+        EventDto undated = createSampleEventDto(null, "Undated");
+        undated.setEventDate(null);
+        when(eventService.checkConflictsBatch(anyList()))
+                .thenThrow(new InvalidEventException("Event date is required for candidate 0"));
+
+        // When & Then
+        mockMvc.perform(post("/api/events/check-conflicts/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(undated))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void checkTimeSlotAvailability_ShouldReturnAvailabilityResponse() throws Exception {
         // Given
@@ -508,11 +590,7 @@ class EventControllerTest {
     @Test
     void getEventStatistics_ShouldReturnStatistics() throws Exception {
         // Given
-        when(eventService.getUpcomingEventCount()).thenReturn(5L);
-        when(eventService.getTodayEventCount()).thenReturn(2L);
-        when(eventService.getEventCountByCategory(Event.EventCategory.MEETING)).thenReturn(10L);
-        when(eventService.getEventCountByCategory(Event.EventCategory.CONFERENCE)).thenReturn(3L);
-        when(eventService.getEventCountByCategory(Event.EventCategory.WORKSHOP)).thenReturn(1L);
+        when(eventService.getEventStatistics()).thenReturn(new EventStatisticsResponse(5L, 2L, 10L, 3L, 1L));
 
         // When & Then
         mockMvc.perform(get("/api/events/statistics"))
@@ -524,11 +602,39 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.conferenceEvents").value(3))
                 .andExpect(jsonPath("$.workshopEvents").value(1));
 
-        verify(eventService).getUpcomingEventCount();
-        verify(eventService).getTodayEventCount();
-        verify(eventService).getEventCountByCategory(Event.EventCategory.MEETING);
-        verify(eventService).getEventCountByCategory(Event.EventCategory.CONFERENCE);
-        verify(eventService).getEventCountByCategory(Event.EventCategory.WORKSHOP);
+        // All figures come from one grouped query rather than a count per figure
+        verify(eventService).getEventStatistics();
+        verify(eventService, never()).getUpcomingEventCount();
+        verify(eventService, never()).getEventCountByCategory(any());
+    }
+
+    @Test
+    void getEventStatisticsBreakdown_ShouldReturnGroups() throws Exception {
+        // Given
+        List<StatisticsGroupDto> groups = List.of(
+                new StatisticsGroupDto("MEETING", 10L, Map.of("upcoming", 4L, "today", 1L)),
+                new StatisticsGroupDto("WORKSHOP", 1L, Map.of("upcoming", 0L, "today", 0L)));
+        when(eventService.getEventStatisticsBreakdown("category")).thenReturn(groups);
+
+        // When & Then
+        mockMvc.perform(get("/api/events/statistics/breakdown").param("by", "category"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].key").value("MEETING"))
+                .andExpect(jsonPath("$[0].count").value(10))
+                .andExpect(jsonPath("$[0].measures.upcoming").value(4))
+                .andExpect(jsonPath("$[1].measures.today").value(0));
+    }
+
+    @Test
+    void getEventStatisticsBreakdown_WithUnknownDimension_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(eventService.getEventStatisticsBreakdown("colour"))
+                .thenThrow(new IllegalArgumentException("Unknown statistics dimension: colour"));
+
+        // When & Then
+        mockMvc.perform(get("/api/events/statistics/breakdown").param("by", "colour"))
+                .andExpect(status().isBadRequest());
     }
 
     // Helper methods
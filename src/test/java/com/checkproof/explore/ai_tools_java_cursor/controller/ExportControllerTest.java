@@ -0,0 +1,89 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.service.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    @Mock
+    private ExportService exportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(exportController).build();
+    }
+
+    @Test
+    void exportEvents_ShouldStreamNdjson() throws Exception {
+        // Given
+        when(exportService.exportEvents(isNull(), isNull(), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/export/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void exportTasks_WithDateRange_ShouldPassRange() throws Exception {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+        when(exportService.exportTasks(eq(from), eq(to), any(OutputStream.class))).thenReturn(0L);
+
+        // When & Then
+        MvcResult result = mockMvc.perform(get("/api/export/tasks")
+                .param("from", "2025-01-01T00:00:00")
+                .param("to", "2025-02-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        verify(exportService).exportTasks(eq(from), eq(to), any(OutputStream.class));
+    }
+
+    @Test
+    void exportEvents_WithInvertedRange_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/export/events")
+                .param("from", "2025-02-01T00:00:00")
+                .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportService);
+    }
+}
@@ -0,0 +1,101 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportResultDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.ImportService;
+import com.checkproof.explore.ai_tools_java_cursor.util.ImportRecordReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.Reader;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportControllerTest {
+
+    @Mock
+    private ImportService importService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(importController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void importEvents_ShouldReturnResult() throws Exception {
+        // Given
+        ImportResultDto result = new ImportResultDto();
+        result.setRowsRead(2);
+        result.setImported(1);
+        result.setBatches(1);
+        result.reject(2, "Event conflicts with existing events", 10);
+        when(importService.importEvents(any(Reader.class), eq(ImportRecordReader.Format.NDJSON))).thenReturn(result);
+
+        // When & Then
+        mockMvc.perform(post("/api/import/events")
+                .contentType("application/x-ndjson")
+                .content("{\"name\":\"A\"}\n{\"name\":\"B\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Event conflicts with existing events"));
+    }
+
+    @Test
+    void importParticipants_WithCsv_ShouldUseCsvFormat() throws Exception {
+        // Given
+        when(importService.importParticipants(any(Reader.class), eq(ImportRecordReader.Format.CSV)))
+                .thenReturn(new ImportResultDto());
+
+        // When & Then
+        mockMvc.perform(post("/api/import/participants")
+                .contentType("text/csv;charset=UTF-8")
+                .content("name,email\nAlice,alice@example.com\n"))
+                .andExpect(status().isOk());
+
+        verify(importService).importParticipants(any(Reader.class), eq(ImportRecordReader.Format.CSV));
+    }
+
+    @Test
+    void importTasks_WithUnreadableHeader_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(importService.importTasks(any(Reader.class), eq(ImportRecordReader.Format.CSV)))
+                .thenThrow(new IllegalArgumentException("Unreadable CSV header"));
+
+        // When & Then
+        mockMvc.perform(post("/api/import/tasks")
+                .contentType("text/csv")
+                .content("\"title\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importEvents_WithJsonBody_ShouldReturnUnsupportedMediaType() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/import/events")
+                .contentType("application/json")
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(importService);
+    }
+}
@@ -0,0 +1,118 @@
+package com.checkproof.explore.ai_tools_java_cursor.controller;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.service.ParticipantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipantControllerTest {
+
+    @Mock
+    private ParticipantService participantService;
+
+    @InjectMocks
+    private ParticipantController participantController;
+
+    private MockMvc mockMvc;
+
+    private ParticipantDto alice;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(participantController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter())
+                .build();
+        alice = ParticipantDto.builder()
+                .id(1L)
+                .name("Alice Johnson")
+                .email("alice@example.com")
+                .phoneNumber("555-0142")
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void typeahead_ShouldReturnSuggestions() throws Exception {
+        // Given
+        when(participantService.typeahead("ali", 5, false)).thenReturn(List.of(alice));
+
+        // When & Then
+        mockMvc.perform(get("/api/participants/typeahead")
+                        .param("q", "ali")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].name").value("Alice Johnson"));
+    }
+
+    @Test
+    void typeahead_ShouldDefaultLimitAndActiveOnly() throws Exception {
+        // Given
+        when(participantService.typeahead("jo", 10, false)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/participants/typeahead").param("q", "jo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        verify(participantService).typeahead("jo", 10, false);
+    }
+
+    @Test
+    void typeahead_ShouldRejectLimitOutOfRange() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/participants/typeahead").param("q", "a").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/participants/typeahead").param("q", "a").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(participantService);
+    }
+
+    @Test
+    void searchParticipants_ShouldSearchByName() throws Exception {
+        // Given
+        when(participantService.searchByName("john")).thenReturn(List.of(alice));
+
+        // When & Then
+        mockMvc.perform(get("/api/participants/search").param("name", "john"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].email").value("alice@example.com"));
+    }
+
+    @Test
+    void searchParticipants_ShouldSearchByPhoneAndBio() throws Exception {
+        // Given
+        when(participantService.searchByPhoneNumber("0142")).thenReturn(List.of(alice));
+        when(participantService.searchByBio("design")).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/api/participants/search").param("phone", "0142"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].phoneNumber").value("555-0142"));
+        mockMvc.perform(get("/api/participants/search").param("bio", "design"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    void searchParticipants_WithoutTerm_ShouldReturnBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/participants/search").param("name", " "))
+                .andExpect(status().isBadRequest());
+        verify(participantService, never()).searchByName(anyString());
+    }
+}
@@ -2,6 +2,7 @@ package com.checkproof.explore.ai_tools_java_cursor.controller;
 
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
 import com.checkproof.explore.ai_tools_java_cursor.dto.TaskStatisticsDto;
 import com.checkproof.explore.ai_tools_java_cursor.model.Task;
@@ -21,6 +22,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -342,6 +344,35 @@ class TaskControllerTest {
         verify(taskService).getTaskStatistics();
     }
 
+    @Test
+    void getTaskStatisticsBreakdown_ShouldReturnGroups() throws Exception {
+        // Given
+        List<StatisticsGroupDto> groups = List.of(
+                new StatisticsGroupDto("HIGH", 7L, Map.of("overdue", 2L, "upcoming", 3L)),
+                new StatisticsGroupDto("LOW", 1L, Map.of("overdue", 0L, "upcoming", 1L)));
+        when(taskService.getTaskStatisticsBreakdown("priority")).thenReturn(groups);
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/statistics/breakdown").param("by", "priority"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].key").value("HIGH"))
+                .andExpect(jsonPath("$[0].count").value(7))
+                .andExpect(jsonPath("$[0].measures.overdue").value(2))
+                .andExpect(jsonPath("$[1].measures.upcoming").value(1));
+    }
+
+    @Test
+    void getTaskStatisticsBreakdown_WithUnknownDimension_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(taskService.getTaskStatisticsBreakdown("colour"))
+                .thenThrow(new IllegalArgumentException("Unknown statistics dimension: colour"));
+
+        // When & Then
+        mockMvc.perform(get("/api/tasks/statistics/breakdown").param("by", "colour"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateTaskStatus_ShouldReturnUpdatedTask() throws Exception {
         // Given
@@ -439,6 +470,86 @@ class TaskControllerTest {
     }
 
     // Helper methods
+    @Test
+    void createTaskSeries_ShouldReturnCreatedSeries() throws Exception {
+        // Given
+        TaskDto taskDto = createSampleTaskDto(null, "Daily Standup");
+        TaskDto createdSeries = createSampleTaskDto(1L, "Daily Standup");
+        createdSeries.setSeriesMaster(true);
+
+        when(taskService.createTaskSeries(any(TaskDto.class))).thenReturn(createdSeries);
+
+        // When & Then
+        mockMvc.perform(post("/api/tasks/series")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskDto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.seriesMaster").value(true));
+
+        verify(taskService).createTaskSeries(any(TaskDto.class));
+    }
+
+    @Test
+    void updateSeriesOccurrence_ShouldReturnOverride() throws Exception {
+        // Given
+        Long seriesId = 1L;
+        LocalDateTime originalStartDate = LocalDateTime.of(2024, 12, 17, 10, 0);
+        TaskDto taskDto = createSampleTaskDto(null, "Moved Standup");
+        TaskDto override = createSampleTaskDto(5L, "Moved Standup");
+        override.setSeriesId(seriesId);
+        override.setOriginalStartDate(originalStartDate);
+
+        when(taskService.updateSeriesOccurrence(eq(seriesId), eq(originalStartDate), any(TaskDto.class)))
+                .thenReturn(override);
+
+        // When & Then
+        mockMvc.perform(put("/api/tasks/series/{seriesId}/occurrences", seriesId)
+                .param("originalStartDate", "2024-12-17T10:00:00")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.seriesId").value(seriesId));
+
+        verify(taskService).updateSeriesOccurrence(eq(seriesId), eq(originalStartDate), any(TaskDto.class));
+    }
+
+    @Test
+    void updateSeriesOccurrenceStatus_ShouldReturnOverride() throws Exception {
+        // Given
+        Long seriesId = 1L;
+        LocalDateTime originalStartDate = LocalDateTime.of(2024, 12, 17, 10, 0);
+        TaskDto override = createSampleTaskDto(5L, "Daily Standup");
+        override.setStatus(Task.TaskStatus.CANCELLED);
+
+        when(taskService.updateSeriesOccurrenceStatus(seriesId, originalStartDate, Task.TaskStatus.CANCELLED))
+                .thenReturn(override);
+
+        // When & Then
+        mockMvc.perform(patch("/api/tasks/series/{seriesId}/occurrences/status/{status}", seriesId, "CANCELLED")
+                .param("originalStartDate", "2024-12-17T10:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+
+        verify(taskService).updateSeriesOccurrenceStatus(seriesId, originalStartDate, Task.TaskStatus.CANCELLED);
+    }
+
+    @Test
+    void cancelSeriesOccurrence_ShouldReturnNoContent() throws Exception {
+        // Given
+        Long seriesId = 1L;
+        LocalDateTime originalStartDate = LocalDateTime.of(2024, 12, 17, 10, 0);
+
+        // When & Then
+        mockMvc.perform(delete("/api/tasks/series/{seriesId}/occurrences", seriesId)
+                .param("originalStartDate", "2024-12-17T10:00:00"))
+                .andExpect(status().isNoContent());
+
+        verify(taskService).cancelSeriesOccurrence(seriesId, originalStartDate);
+    }
+
     private TaskDto createSampleTaskDto(Long id, String title) {
         return TaskDto.builder()
                 .id(id)
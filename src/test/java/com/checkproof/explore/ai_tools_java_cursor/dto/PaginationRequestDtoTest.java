@@ -0,0 +1,51 @@
+package com.checkproof.explore.ai_tools_java_cursor.dto;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto.CountStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PaginationRequestDto Tests")
+class PaginationRequestDtoTest {
+
+    @Test
+    @DisplayName("Should count exactly in page mode and not at all in keyset mode by default")
+    void getEffectiveCountStrategy_Defaults() {
+        PaginationRequestDto paged = PaginationRequestDto.of(0, 20);
+        PaginationRequestDto keyset = PaginationRequestDto.of(0, 20);
+        keyset.setCursor("");
+
+        assertEquals(CountStrategy.EXACT, paged.getEffectiveCountStrategy());
+        assertEquals(CountStrategy.NONE, keyset.getEffectiveCountStrategy());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("Should map includeTotal onto a count strategy")
+    void getEffectiveCountStrategy_IncludeTotal() {
+        PaginationRequestDto request = PaginationRequestDto.of(0, 20);
+
+        request.setIncludeTotal(false);
+        assertEquals(CountStrategy.NONE, request.getEffectiveCountStrategy());
+
+        request.setCursor("");
+        request.setIncludeTotal(true);
+        assertEquals(CountStrategy.EXACT, request.getEffectiveCountStrategy());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("Should let countStrategy win over includeTotal")
+    void getEffectiveCountStrategy_CountStrategyWins() {
+        PaginationRequestDto request = PaginationRequestDto.of(0, 20);
+        request.setIncludeTotal(true);
+        request.setCountStrategy(CountStrategy.CACHED);
+
+        assertEquals(CountStrategy.CACHED, request.getEffectiveCountStrategy());
+
+        request.setIncludeTotal(false);
+        request.setCountStrategy(CountStrategy.EXACT);
+        assertEquals(CountStrategy.EXACT, request.getEffectiveCountStrategy());
+    }
+}
@@ -0,0 +1,136 @@
+package com.checkproof.explore.ai_tools_java_cursor.index;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskTimelineIndex Tests")
+class TaskTimelineIndexTest {
+
+    private static final LocalDateTime NINE = LocalDateTime.of(2025, 3, 10, 9, 0);
+    private static final Long ALICE = 1L;
+    private static final Long BOB = 2L;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskTimelineIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskTimelineIndex(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should find an inserted task only in its participants' timelines")
+    void put_Insert() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE.plusMinutes(30), NINE.plusMinutes(45), null));
+        assertTrue(index.hasOverlap(List.of(BOB, ALICE), NINE.minusMinutes(30), NINE.plusMinutes(1), null));
+        assertFalse(index.hasOverlap(List.of(BOB), NINE, NINE.plusHours(1), null));
+        assertFalse(index.hasOverlap(List.of(), NINE, NINE.plusHours(1), null));
+    }
+
+    @Test
+    @DisplayName("Should treat slots as half-open, so adjacent tasks do not conflict")
+    void hasOverlap_AdjacentIntervals() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+
+        assertFalse(index.hasOverlap(List.of(ALICE), NINE.plusHours(1), NINE.plusHours(2), null));
+        assertFalse(index.hasOverlap(List.of(ALICE), NINE.minusHours(1), NINE, null));
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE.plusMinutes(59), NINE.plusHours(2), null));
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE.minusHours(1), NINE.plusMinutes(1), null));
+    }
+
+    @Test
+    @DisplayName("Should give a task without an end date a one-hour slot")
+    void put_WithoutEndDate() {
+        index.put(10L, NINE, null, Task.TaskStatus.PENDING, List.of(ALICE));
+
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE.plusMinutes(59), NINE.plusHours(2), null));
+        assertFalse(index.hasOverlap(List.of(ALICE), NINE.plusHours(1), NINE.plusHours(2), null));
+    }
+
+    @Test
+    @DisplayName("Should replace the slot and participants of a task put again")
+    void put_Update() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+
+        index.put(10L, NINE.plusHours(3), NINE.plusHours(4), Task.TaskStatus.IN_PROGRESS, List.of(BOB));
+
+        assertFalse(index.hasOverlap(List.of(ALICE), NINE, NINE.plusHours(5), null));
+        assertFalse(index.hasOverlap(List.of(BOB), NINE, NINE.plusHours(1), null));
+        assertTrue(index.hasOverlap(List.of(BOB), NINE.plusHours(3), NINE.plusHours(4), null));
+    }
+
+    @Test
+    @DisplayName("Should drop a task when it is cancelled or removed")
+    void remove_AndCancel() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+        index.put(11L, NINE.plusHours(2), NINE.plusHours(3), Task.TaskStatus.PENDING, List.of(ALICE, BOB));
+
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.CANCELLED, List.of(ALICE));
+        index.remove(11L);
+        index.remove(99L);
+
+        assertFalse(index.hasOverlap(List.of(ALICE, BOB), NINE, NINE.plusHours(3), null));
+    }
+
+    @Test
+    @DisplayName("Should ignore the excluded task but still report others")
+    void hasOverlap_ExcludeTaskId() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+
+        assertFalse(index.hasOverlap(List.of(ALICE), NINE, NINE.plusMinutes(30), 10L));
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE, NINE.plusMinutes(30), 11L));
+
+        index.put(11L, NINE.plusMinutes(30), NINE.plusMinutes(90), Task.TaskStatus.PENDING, List.of(ALICE));
+        assertTrue(index.hasOverlap(List.of(ALICE), NINE, NINE.plusMinutes(45), 10L));
+        assertFalse(index.hasOverlapExcluding(List.of(ALICE), NINE, NINE.plusMinutes(45), Set.of(10L, 11L)));
+        assertTrue(index.hasOverlapExcluding(List.of(ALICE), NINE, NINE.plusMinutes(45), Set.of(11L)));
+    }
+
+    @Test
+    @DisplayName("Should rebuild from one slot per task and participant")
+    void rebuild_FromSlots() {
+        index.put(99L, NINE, NINE.plusHours(8), Task.TaskStatus.PENDING, List.of(BOB));
+        when(taskRepository.findActiveTaskSlots()).thenReturn(List.of(
+                new TaskSlot(10L, ALICE, NINE, NINE.plusHours(1)),
+                new TaskSlot(10L, BOB, NINE, NINE.plusHours(1))));
+
+        index.rebuild();
+
+        assertFalse(index.hasOverlap(List.of(BOB), NINE.plusHours(2), NINE.plusHours(3), null));
+        assertTrue(index.hasOverlap(List.of(BOB), NINE, NINE.plusMinutes(15), null));
+        index.remove(10L);
+        assertFalse(index.hasOverlap(List.of(ALICE, BOB), NINE, NINE.plusHours(1), null));
+    }
+
+    @Test
+    @DisplayName("Should visit the slots of one participant overlapping a window")
+    void forEachOverlapping_VisitsParticipantSlots() {
+        index.put(10L, NINE, NINE.plusHours(1), Task.TaskStatus.PENDING, List.of(ALICE));
+        index.put(11L, NINE.plusHours(1), NINE.plusHours(2), Task.TaskStatus.PENDING, List.of(ALICE));
+        index.put(12L, NINE, NINE.plusHours(2), Task.TaskStatus.PENDING, List.of(BOB));
+
+        List<Long> visited = new ArrayList<>();
+        index.forEachOverlapping(ALICE, NINE.plusMinutes(30), NINE.plusHours(1), (taskId, start, end) -> visited.add(taskId));
+
+        assertEquals(List.of(10L), visited);
+    }
+}
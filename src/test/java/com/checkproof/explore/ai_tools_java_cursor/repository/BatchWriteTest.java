@@ -0,0 +1,103 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements prepared while a series stores its occurrences, which are sent as
+ * JDBC batches rather than one round trip per row.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batchwrite",
+        "calendar.scheduling.enabled=false",
+        "calendar.recurrence.materialize-horizon-days=120",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Batch Write Tests")
+class BatchWriteTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll().stream()
+                .filter(task -> !task.isSeriesMaster())
+                .collect(Collectors.toList()));
+        taskRepository.deleteAll();
+        participantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Storing 100 occurrences with participants should batch the inserts")
+    void recurringTasks_BatchedInserts() {
+        Participant alice = participant("alice");
+        Participant bob = participant("bob");
+        TaskDto base = TaskDto.builder()
+                .title("Stand-up")
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(LocalDate.now().plusDays(1).atTime(9, 0))
+                .endDate(LocalDate.now().plusDays(1).atTime(9, 15))
+                .participants(Set.of(ParticipantDto.fromEntity(alice), ParticipantDto.fromEntity(bob)))
+                .build();
+        RecurrencePattern daily = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .maxOccurrences(100)
+                .daysOfWeek(new HashSet<>())
+                .build();
+
+        QueryPlanTest.CapturingInspector.clear();
+        List<TaskDto> created = taskService.createRecurringTasks(base, daily);
+        List<String> statements = QueryPlanTest.CapturingInspector.drain();
+
+        assertEquals(100, created.size());
+        assertEquals(100, created.stream().map(TaskDto::getId).distinct().count());
+        long taskInserts = count(statements, "insert into tasks");
+        long participantInserts = count(statements, "insert into task_participants");
+        // 101 task rows and 202 participant rows, 50 to a batch
+        assertTrue(taskInserts >= 1 && taskInserts <= 3, () -> taskInserts + " task inserts prepared");
+        assertTrue(participantInserts >= 1 && participantInserts <= 5, () -> participantInserts + " participant inserts prepared");
+        assertTrue(statements.size() < 20, () -> statements.size() + " statements prepared");
+        // Each participant is on the master and on every occurrence
+        assertEquals(101, taskRepository.findTasksByParticipantId(alice.getId()).size());
+        assertEquals(101, taskRepository.findTasksByParticipantId(bob.getId()).size());
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private static long count(List<String> statements, String sql) {
+        return statements.stream()
+                .filter(statement -> statement.toLowerCase().contains(sql))
+                .count();
+    }
+}
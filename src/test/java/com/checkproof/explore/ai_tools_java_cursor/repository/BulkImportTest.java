@@ -0,0 +1,196 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportResultDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.ImportRowErrorDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.ImportService;
+import com.checkproof.explore.ai_tools_java_cursor.util.ImportRecordReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Imports small files in batches of two rows, so that conflicts are checked both within a batch
+ * and against rows committed by earlier batches.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkimport",
+        "calendar.scheduling.enabled=false",
+        "calendar.import.batch-size=2"
+})
+@DisplayName("Repository Bulk Import Tests")
+class BulkImportTest {
+
+    private static final LocalDateTime DAY = LocalDate.now().plusDays(10).atStartOfDay();
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @MockitoSpyBean
+    private TaskTimelineIndex taskTimelineIndex;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        participantRepository.deleteAll();
+        eventConflictIndex.rebuild();
+        taskTimelineIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should import participants and reject emails already in use")
+    void importParticipants_DuplicateEmails() {
+        participant("taken");
+
+        ImportResultDto result = importService.importParticipants(new StringReader(
+                "name,email,type\n"
+                        + "Alice,alice@example.com,individual\n"
+                        + "Bob,taken@example.com,\n"
+                        + "Carol,carol@example.com,TEAM\n"
+                        + "Alice Again,alice@example.com,\n"
+                        + "Dave,,unknown\n"), ImportRecordReader.Format.CSV);
+
+        assertEquals(5, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(3, result.getRejected());
+        assertEquals(List.of(3L, 5L, 6L), lines(result));
+        assertEquals(2, result.getBatches());
+        assertTrue(participantRepository.existsByEmail("carol@example.com"));
+        assertEquals(Participant.ParticipantType.TEAM,
+                participantRepository.findByEmail("carol@example.com").orElseThrow().getType());
+    }
+
+    @Test
+    @DisplayName("Should reject events conflicting with stored events, earlier rows and earlier batches")
+    void importEvents_Conflicts() {
+        Participant alice = participant("alice");
+        eventRepository.save(Event.builder().name("Stored").eventDate(DAY.withHour(8)).durationMinutes(30).build());
+        eventConflictIndex.rebuild();
+
+        ImportResultDto result = importService.importEvents(new StringReader(
+                event("A", DAY.withHour(9), 60, "[" + alice.getId() + "]") + "\n"
+                        + event("B", DAY.withHour(9).withMinute(30), 30, "[]") + "\n"
+                        + event("C", DAY.withHour(10), 30, "[]") + "\n"
+                        + event("D", DAY.withHour(8).withMinute(15), 30, "[]") + "\n"
+                        + "{\"name\":\"E\"\n"
+                        + event("F", DAY.withHour(12), 30, "[999999]") + "\n"
+                        + event("G", DAY.withHour(10).withMinute(15), 30, "[]") + "\n"),
+                ImportRecordReader.Format.NDJSON);
+
+        assertEquals(7, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(2L, 4L, 5L, 6L, 7L), lines(result));
+        assertEquals("Event conflicts with the event on line 1", result.getErrors().get(0).getMessage());
+        assertEquals("Event conflicts with existing events", result.getErrors().get(1).getMessage());
+        // G conflicts with C, which an earlier batch committed
+        assertEquals("Event conflicts with existing events", result.getErrors().get(4).getMessage());
+        assertEquals(3, eventRepository.count());
+        assertEquals(1, eventRepository.findEventsByParticipantId(alice.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Should reject events lasting longer than a day")
+    void importEvents_LongerThanADay() {
+        // Would start before the free-slot lookback of a search at noon and still run into it
+        ImportResultDto result = importService.importEvents(new StringReader(
+                event("Offsite", DAY.minusDays(1).withHour(9), 1620, "[]") + "\n"
+                        + event("Workshop", DAY.withHour(9), 1440, "[]") + "\n"),
+                ImportRecordReader.Format.NDJSON);
+
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(1L), lines(result));
+        assertEquals("Event duration cannot exceed 24 hours", result.getErrors().get(0).getMessage());
+        assertEquals(List.of("Workshop"), eventRepository.findAll().stream().map(Event::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should reject tasks overlapping earlier rows only when they share a participant")
+    void importTasks_Overlaps() {
+        Participant alice = participant("alice");
+        Participant bob = participant("bob");
+
+        ImportResultDto result = importService.importTasks(new StringReader(
+                "title,startDate,endDate,priority,participantIds\n"
+                        + "Write," + DAY.withHour(9) + "," + DAY.withHour(10) + ",HIGH," + alice.getId() + "\n"
+                        + "Review," + DAY.withHour(9).withMinute(30) + "," + DAY.withHour(10) + ",," + bob.getId() + "\n"
+                        + "Pair," + DAY.withHour(9).withMinute(45) + ",,," + alice.getId() + ";" + bob.getId() + "\n"
+                        + "Ship,not-a-date,,,\n"
+                        + "," + DAY.withHour(11) + ",,,\n"), ImportRecordReader.Format.CSV);
+
+        assertEquals(5, result.getRowsRead());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(4L, 5L, 6L), lines(result));
+        assertEquals("Task overlaps with existing tasks for the same participants", result.getErrors().get(0).getMessage());
+        assertEquals("Invalid startDate: not-a-date", result.getErrors().get(1).getMessage());
+        assertEquals(2, taskRepository.count());
+        assertTrue(taskTimelineIndex.hasOverlap(List.of(alice.getId()), DAY.withHour(9), DAY.withHour(9).plusMinutes(5), null));
+    }
+
+    @Test
+    @DisplayName("Should report the rows of a batch that fails unexpectedly and import the next batches")
+    void importTasks_BatchFailure() {
+        Participant alice = participant("alice");
+        doThrow(new IllegalStateException("Timeline unavailable"))
+                .when(taskTimelineIndex).hasOverlap(any(), eq(DAY.withHour(14)), any(), any());
+
+        ImportResultDto result = importService.importTasks(new StringReader(
+                "title,startDate,endDate,participantIds\n"
+                        + "Write," + DAY.withHour(9) + "," + DAY.withHour(10) + "," + alice.getId() + "\n"
+                        + "Review," + DAY.withHour(14) + "," + DAY.withHour(15) + "," + alice.getId() + "\n"
+                        + "Ship," + DAY.withHour(16) + "," + DAY.withHour(17) + "," + alice.getId() + "\n"), ImportRecordReader.Format.CSV);
+
+        assertEquals(3, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(2L, 3L), lines(result));
+        assertEquals("Batch failed: Timeline unavailable", result.getErrors().get(0).getMessage());
+        assertEquals(2, result.getBatches());
+        assertEquals(List.of("Ship"), taskRepository.findAll().stream().map(Task::getTitle).collect(Collectors.toList()));
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private static String event(String name, LocalDateTime date, int duration, String participantIds) {
+        return "{\"name\":\"" + name + "\",\"eventDate\":\"" + date + "\",\"durationMinutes\":" + duration
+                + ",\"category\":\"meeting\",\"participantIds\":" + participantIds + "}";
+    }
+
+    private static List<Long> lines(ImportResultDto result) {
+        return result.getErrors().stream().map(ImportRowErrorDto::getLine).collect(Collectors.toList());
+    }
+}
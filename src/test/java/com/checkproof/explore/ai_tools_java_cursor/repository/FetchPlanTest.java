@@ -0,0 +1,163 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements sent while listing and mapping events and tasks with participants
+ * and recurrence patterns, which must not grow with the number of rows listed.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetchplan",
+        "calendar.scheduling.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Fetch Plan Tests")
+class FetchPlanTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int participantCount;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        participantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Listing a page of events should not load participants per event")
+    void eventPage_ConstantStatements() {
+        seedEvents(3);
+        int few = statementsFor(() -> eventService.getAllEvents(PaginationRequestDto.of(0, 50)));
+        seedEvents(30);
+        int many = statementsFor(() -> assertEquals(33,
+                eventService.getAllEvents(PaginationRequestDto.of(0, 50)).getContent().size()));
+
+        assertEquals(few, many);
+        // The page and one batch of participants
+        assertEquals(2, few);
+        assertEquals(few, statementsFor(() -> eventService.getAllEvents(cursorPage(50))));
+    }
+
+    @Test
+    @DisplayName("Listing a page of tasks should not load participants or patterns per task")
+    void taskPage_ConstantStatements() {
+        seedTasks(3);
+        int few = statementsFor(() -> taskService.getAllTasks(PaginationRequestDto.of(0, 50)));
+        seedTasks(30);
+        int many = statementsFor(() -> assertEquals(33,
+                taskService.getAllTasks(PaginationRequestDto.of(0, 50)).getContent().size()));
+
+        assertEquals(few, many);
+        // The page, one batch of participants and one of recurrence patterns
+        assertEquals(3, few);
+        assertEquals(few, statementsFor(() -> taskService.getAllTasks(cursorPage(50))));
+    }
+
+    @Test
+    @DisplayName("Unpaginated lists should fetch participants in a fixed number of statements")
+    void unpagedLists_SingleStatement() {
+        seedEvents(20);
+        seedTasks(20);
+
+        // The event rows, then the participant rows of all of them
+        assertEquals(2, statementsFor(() -> assertEquals(20,
+                eventService.getEventsForMonth(START.getYear(), START.getMonthValue()).size())));
+        assertEquals(2, statementsFor(() -> assertEquals(20, eventService.searchEventsByName("Event").size())));
+        int tasks = statementsFor(() -> assertEquals(20,
+                taskService.findTasksByDateRange(START, START.plusMonths(1)).size()));
+        // The task rows with participants and patterns, then the weekdays of every pattern at once
+        assertEquals(2, tasks);
+    }
+
+    private int statementsFor(Runnable listing) {
+        // Start from a cold second-level cache, so that the fetch plan itself is counted
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        QueryPlanTest.CapturingInspector.clear();
+        listing.run();
+        return QueryPlanTest.CapturingInspector.drain().size();
+    }
+
+    private void seedEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .eventDate(START.plusHours(i))
+                    .durationMinutes(30)
+                    .participants(Set.of(participant(), participant()))
+                    .build());
+        }
+    }
+
+    private void seedTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Task " + i)
+                    .startDate(START.plusHours(i))
+                    .endDate(START.plusHours(i).plusMinutes(30))
+                    .recurrencePattern(RecurrencePattern.builder()
+                            .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                            .startDate(LocalDate.of(2025, 3, 3))
+                            .daysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                            .build())
+                    .participants(Set.of(participant(), participant()))
+                    .build());
+        }
+    }
+
+    private Participant participant() {
+        int n = participantCount++;
+        return participantRepository.save(Participant.builder()
+                .name("Participant " + n)
+                .email("participant" + n + "@example.com")
+                .build());
+    }
+
+    private static PaginationRequestDto cursorPage(int size) {
+        PaginationRequestDto request = PaginationRequestDto.of(0, size);
+        request.setCursor("");
+        return request;
+    }
+}
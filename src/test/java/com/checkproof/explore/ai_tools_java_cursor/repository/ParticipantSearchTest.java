@@ -0,0 +1,124 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantSearchIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.service.ParticipantService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Looks participants up through the service while they are written, so that the trigram index
+ * is checked against the LIKE queries it replaces after each commit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:participantsearch",
+        "calendar.scheduling.enabled=false"
+})
+@DisplayName("Repository Participant Search Tests")
+class ParticipantSearchTest {
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantSearchIndex participantSearchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return the same participants in the same order as the LIKE queries")
+    void search_MatchesLikeQueries() {
+        participant("Alice Johnson", "555-0142", "Product designer");
+        participant("bob johnston", "555-0199", "Design systems and research");
+        participant("Carol Jo", null, null);
+        participant("Dan", "555-7142", "Backend");
+
+        for (String name : List.of("john", "JO", "a", "ce jo", "zzz")) {
+            assertEquals(ids(participantRepository.findByNameContainingIgnoreCase(name)),
+                    dtoIds(participantService.searchByName(name)), name);
+        }
+        for (String phone : List.of("142", "555-0", "9")) {
+            assertEquals(ids(participantRepository.findByPhoneNumberContaining(phone)),
+                    dtoIds(participantService.searchByPhoneNumber(phone)), phone);
+        }
+        for (String bio : List.of("design", "RESEARCH", "end")) {
+            assertEquals(ids(participantRepository.findByBioContainingIgnoreCase(bio)),
+                    dtoIds(participantService.searchByBio(bio)), bio);
+        }
+    }
+
+    @Test
+    @DisplayName("Should rank name prefixes first and leave out inactive participants")
+    void typeahead_Ranked() {
+        Participant jordan = participant("Jordan Lee", null, null);
+        Participant ajo = participant("Ajo Banks", null, null);
+        Participant mary = participant("Mary Jones", null, null);
+        Participant sam = participant("Sam Ojo", null, "Joined in spring");
+        Participant inactive = participant("Jo Inactive", null, null);
+        inactive.setIsActive(false);
+        participantRepository.save(inactive);
+
+        assertEquals(List.of(jordan.getId(), mary.getId(), ajo.getId(), sam.getId()),
+                dtoIds(participantService.typeahead("jo", 10, false)));
+        assertEquals(List.of(inactive.getId(), jordan.getId()),
+                dtoIds(participantService.typeahead("Jo", 2, true)));
+        assertTrue(participantService.typeahead("  ", 10, true).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should follow renames and deletes, but not rolled back writes")
+    void index_KeptInSync() {
+        Participant alice = participant("Alice", "555-0100", null);
+
+        alice.setName("Alicia");
+        participantRepository.save(alice);
+        assertEquals(List.of("Alicia"), participantService.typeahead("alic", 5, false).stream()
+                .map(ParticipantDto::getName).collect(Collectors.toList()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            participantRepository.save(Participant.builder().name("Alison").email("alison@example.com").build());
+            status.setRollbackOnly();
+        });
+        assertEquals(1, participantService.typeahead("ali", 5, true).size());
+
+        participantRepository.delete(alice);
+        assertTrue(participantService.searchByPhoneNumber("0100").isEmpty());
+        assertEquals(0, participantSearchIndex.size());
+    }
+
+    private Participant participant(String name, String phoneNumber, String bio) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name.toLowerCase().replace(' ', '.') + "@example.com")
+                .phoneNumber(phoneNumber)
+                .bio(bio)
+                .build());
+    }
+
+    private static List<Long> ids(List<Participant> participants) {
+        return participants.stream().map(Participant::getId).collect(Collectors.toList());
+    }
+
+    private static List<Long> dtoIds(List<ParticipantDto> participants) {
+        return participants.stream().map(ParticipantDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,209 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs H2 EXPLAIN on the SQL Hibernate generates for each calendar and status query and fails
+ * when any table is read with a full scan instead of an index lookup.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:queryplan",
+        "calendar.scheduling.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Query Plan Tests")
+class QueryPlanTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 2, 1, 0, 0);
+    private static final PageRequest PAGE = PageRequest.of(1, 10);
+    private static final Limit LIMIT = Limit.of(11);
+
+    // A table scan, or a walk over a whole index without a lookup condition
+    private static final Pattern FULL_SCAN = Pattern.compile("/\\* PUBLIC\\.[\\w.]+ \\*/");
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("Event calendar queries should use indexes")
+    void eventCalendarQueries() {
+        assertIndexed(() -> eventRepository.findEventsByDateRange(FROM, TO));
+        assertIndexed(() -> eventRepository.findEventsByDateRange(FROM, TO, PAGE));
+        assertIndexed(() -> eventRepository.findUpcomingEvents(FROM, TO));
+        assertIndexed(() -> eventRepository.findUpcomingEvents(FROM, TO, PAGE));
+        assertIndexed(() -> eventRepository.findTodaysEvents(FROM, FROM.plusDays(1)));
+        assertIndexed(() -> eventRepository.findPastEvents(FROM));
+        assertIndexed(() -> eventRepository.countUpcomingEvents(FROM, TO));
+        assertIndexed(() -> eventRepository.countEventsByDateRange(FROM, TO));
+        assertIndexed(() -> eventRepository.findEventRowsByDateRange(FROM, TO));
+        assertIndexed(() -> eventRepository.findUpcomingEventRows(FROM, TO, LIMIT));
+        assertIndexed(() -> eventRepository.findPastEventRows(FROM, LIMIT));
+    }
+
+    @Test
+    @DisplayName("Event category and participant queries should use indexes")
+    void eventCategoryAndParticipantQueries() {
+        assertIndexed(() -> eventRepository.findByCategoryOrderByEventDateAsc(Event.EventCategory.MEETING));
+        assertIndexed(() -> eventRepository.findByCategoryOrderByEventDateAsc(Event.EventCategory.MEETING, PAGE));
+        assertIndexed(() -> eventRepository.countByCategory(Event.EventCategory.MEETING));
+        assertIndexed(() -> eventRepository.findEventsByParticipantId(1L));
+        assertIndexed(() -> eventRepository.findParticipantEventSlots(List.of(1L, 2L), FROM, TO));
+        assertIndexed(() -> eventRepository.findParticipantRowsByEventIds(List.of(1L, 2L)));
+    }
+
+    @Test
+    @DisplayName("Task calendar queries should use indexes")
+    void taskCalendarQueries() {
+        assertIndexed(() -> taskRepository.findTasksByDateRange(FROM, TO));
+        assertIndexed(() -> taskRepository.findTasksByDateRange(FROM, TO, PAGE));
+        assertIndexed(() -> taskRepository.findUpcomingTasks(FROM, TO));
+        assertIndexed(() -> taskRepository.findUpcomingTasks(FROM, TO, PAGE));
+        assertIndexed(() -> taskRepository.countUpcomingTasks(FROM, TO));
+        assertIndexed(() -> taskRepository.findTasksByDateRange(FROM, TO, Sort.by("startDate", "id"), Limit.of(10)));
+        assertIndexed(() -> taskRepository.countTasksByDateRange(FROM, TO));
+        assertIndexed(() -> taskRepository.findUpcomingTasks(FROM, TO, Sort.by("startDate", "id"), Limit.of(10)));
+        assertIndexed(() -> taskRepository.countUpcomingTasksExcludingMasters(FROM, TO));
+        assertIndexed(() -> taskRepository.findSeriesMastersInWindow(FROM.toLocalDate(), TO));
+        assertIndexed(() -> taskRepository.findSeriesMastersToMaterialize(LocalDate.of(2025, 1, 1), TO, PAGE));
+    }
+
+    @Test
+    @DisplayName("Task status queries should use indexes")
+    void taskStatusQueries() {
+        assertIndexed(() -> taskRepository.findByStatusOrderByStartDateAsc(Task.TaskStatus.PENDING));
+        assertIndexed(() -> taskRepository.findByPriorityOrderByStartDateAsc(Task.Priority.HIGH));
+        assertIndexed(() -> taskRepository.findByPriorityAndStatusOrderByStartDateAsc(Task.Priority.HIGH, Task.TaskStatus.PENDING));
+        assertIndexed(() -> taskRepository.findByPriorityAndStatusOrderByStartDateAsc(Task.Priority.HIGH, Task.TaskStatus.PENDING, PAGE));
+        assertIndexed(() -> taskRepository.countByStatus(Task.TaskStatus.PENDING));
+        assertIndexed(() -> taskRepository.countByPriority(Task.Priority.HIGH));
+        assertIndexed(() -> taskRepository.findOverdueTasks(FROM));
+        assertIndexed(() -> taskRepository.findOverdueTasks(FROM, PAGE));
+        assertIndexed(() -> taskRepository.countOverdueTasks(FROM));
+    }
+
+    @Test
+    @DisplayName("Task participant and series queries should use indexes")
+    void taskParticipantAndSeriesQueries() {
+        assertIndexed(() -> taskRepository.findTasksByParticipantId(1L));
+        assertIndexed(() -> taskRepository.findTasksByParticipantId(1L, PAGE));
+        assertIndexed(() -> taskRepository.findActiveSeriesMastersByParticipantIds(List.of(1L, 2L)));
+        assertIndexed(() -> taskRepository.findBySeriesIdIn(List.of(1L, 2L)));
+        assertIndexed(() -> taskRepository.findBySeriesIdAndOriginalStartDate(1L, FROM));
+    }
+
+    @Test
+    @DisplayName("Keyset page queries should seek with indexes")
+    void keysetPageQueries() {
+        assertIndexed(() -> eventRepository.findEventPageAfter(FROM, 1L, LIMIT));
+        assertIndexed(() -> eventRepository.findEventPageByDateRange(FROM, TO, LIMIT));
+        assertIndexed(() -> eventRepository.findEventPageByDateRangeAfter(FROM, 1L, TO, LIMIT));
+        assertIndexed(() -> eventRepository.findEventPageByCategory(Event.EventCategory.MEETING, LIMIT));
+        assertIndexed(() -> eventRepository.findEventPageByCategoryAfter(Event.EventCategory.MEETING, FROM, 1L, LIMIT));
+        assertIndexed(() -> taskRepository.findTaskPageAfter(FROM, 1L, LIMIT));
+    }
+
+    @Test
+    @DisplayName("Slice queries should use indexes")
+    void sliceQueries() {
+        assertIndexed(() -> eventRepository.findUpcomingEventSlice(FROM, TO, PAGE));
+        assertIndexed(() -> eventRepository.findEventSliceByDateRange(FROM, TO, PAGE));
+        assertIndexed(() -> eventRepository.findEventSliceByCategory(Event.EventCategory.MEETING, PAGE));
+        assertIndexed(() -> taskRepository.findTaskSliceByDateRange(FROM, TO, PAGE));
+        assertIndexed(() -> taskRepository.findUpcomingTaskSlice(FROM, TO, PAGE));
+    }
+
+    /**
+     * Run the query and check the plan of every statement it sent
+     */
+    private void assertIndexed(Runnable query) {
+        CapturingInspector.clear();
+        query.run();
+        List<String> statements = CapturingInspector.drain();
+
+        assertFalse(statements.isEmpty(), "query should have sent at least one statement");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(FULL_SCAN.matcher(plan).find(), () -> "full scan in plan:\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            // The plan is chosen when the statement is prepared, so the bound values do not matter
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not explain " + sql, e);
+        }
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares
+     */
+    public static class CapturingInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static List<String> drain() {
+            synchronized (STATEMENTS) {
+                List<String> statements = new ArrayList<>(STATEMENTS);
+                STATEMENTS.clear();
+                return statements;
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.CacheRegionStatisticsDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.CacheService;
+import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads participants, recurrence patterns and membership sets in separate transactions and
+ * counts the statements sent, so that cache hits and the invalidation of every write are
+ * checked against what the database holds.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:secondlevelcache",
+        "calendar.scheduling.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Second-Level Cache Tests")
+class SecondLevelCacheTest {
+
+    private static final LocalDateTime DAY = LocalDate.now().plusDays(5).atStartOfDay();
+    private static final String PARTICIPANT_REGION = Participant.class.getName();
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private RecurrencePatternRepository recurrencePatternRepository;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @Autowired
+    private TaskTimelineIndex taskTimelineIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        participantRepository.deleteAll();
+        eventConflictIndex.rebuild();
+        taskTimelineIndex.rebuild();
+        cacheService.evictAll();
+    }
+
+    @Test
+    @DisplayName("Should read a participant from the cache and see committed updates only")
+    void participant_CachedAndUpdated() {
+        Participant alice = participant("alice");
+        long hits = region(PARTICIPANT_REGION).getHits();
+
+        assertEquals(0, statementsFor(() -> participantRepository.findById(alice.getId())).size());
+        assertTrue(region(PARTICIPANT_REGION).getHits() > hits);
+
+        alice.setName("Alice Cooper");
+        participantRepository.save(alice);
+        transactionTemplate.executeWithoutResult(status -> {
+            participantRepository.findById(alice.getId()).orElseThrow().setName("Rolled back");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("Alice Cooper", participantRepository.findById(alice.getId()).orElseThrow().getName());
+        participantRepository.deleteById(alice.getId());
+        assertTrue(participantRepository.findById(alice.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should check that a participant exists without a query")
+    void getEventsByParticipant_ParticipantFromCache() {
+        Participant alice = participant("alice");
+
+        List<String> statements = statementsFor(() -> eventService.getEventsByParticipant(alice.getId()));
+
+        // Only the events of the participant are queried
+        assertEquals(1, statements.size(), statements::toString);
+        assertFalse(statements.get(0).toLowerCase().contains("from participants"), statements.get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep event membership sets in step with added and removed participants")
+    void membership_Invalidated() {
+        Participant alice = participant("alice");
+        Participant bob = participant("bob");
+        Event event = eventRepository.save(Event.builder()
+                .name("Planning")
+                .eventDate(DAY.withHour(9))
+                .durationMinutes(30)
+                .participants(new HashSet<>(Set.of(alice)))
+                .build());
+        assertEquals(Set.of("alice"), participantNames(event.getId()));
+
+        eventService.addParticipantToEvent(event.getId(), bob.getId());
+        assertEquals(Set.of("alice", "bob"), participantNames(event.getId()));
+        // The membership set and both participants now come from the cache
+        assertEquals(1, statementsFor(() -> participantNames(event.getId())).size());
+
+        eventService.removeParticipantFromEvent(event.getId(), alice.getId());
+        assertEquals(Set.of("bob"), participantNames(event.getId()));
+        assertTrue(region(Event.class.getName() + ".participants").getPuts() > 0);
+    }
+
+    @Test
+    @DisplayName("Should cache recurrence patterns with their weekdays and follow changes to them")
+    void recurrencePattern_DaysOfWeekInvalidated() {
+        Task task = taskRepository.save(Task.builder()
+                .title("Stand-up")
+                .startDate(DAY.withHour(9))
+                .endDate(DAY.withHour(9).plusMinutes(15))
+                .recurrencePattern(RecurrencePattern.builder()
+                        .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                        .startDate(DAY.toLocalDate())
+                        .daysOfWeek(EnumSet.of(DayOfWeek.MONDAY))
+                        .build())
+                .build());
+        Long patternId = task.getRecurrencePattern().getId();
+        assertEquals(Set.of(DayOfWeek.MONDAY), daysOfWeek(patternId));
+        assertEquals(0, statementsFor(() -> daysOfWeek(patternId)).size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            RecurrencePattern pattern = taskRepository.findById(task.getId()).orElseThrow().getRecurrencePattern();
+            pattern.getDaysOfWeek().add(DayOfWeek.FRIDAY);
+            pattern.setInterval(2);
+        });
+
+        assertEquals(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), daysOfWeek(patternId));
+        assertEquals(Integer.valueOf(2), transactionTemplate.execute(status ->
+                taskRepository.findById(task.getId()).orElseThrow().getRecurrencePattern().getInterval()));
+    }
+
+    @Test
+    @DisplayName("Should report statistics for each cached region")
+    void statistics_PerRegion() {
+        participant("alice");
+        List<String> regions = cacheService.getRegionStatistics().stream()
+                .map(CacheRegionStatisticsDto::getRegion)
+                .collect(Collectors.toList());
+
+        assertTrue(regions.contains(PARTICIPANT_REGION), regions::toString);
+        assertTrue(regions.contains(RecurrencePattern.class.getName()), regions::toString);
+        assertTrue(regions.contains(RecurrencePattern.class.getName() + ".daysOfWeek"), regions::toString);
+        assertTrue(regions.contains(Task.class.getName() + ".participants"), regions::toString);
+        assertTrue(region(PARTICIPANT_REGION).getSize() >= 1);
+    }
+
+    private Set<String> participantNames(Long eventId) {
+        return transactionTemplate.execute(status -> eventRepository.findById(eventId).orElseThrow()
+                .getParticipants().stream()
+                .map(Participant::getName)
+                .collect(Collectors.toSet()));
+    }
+
+    private Set<DayOfWeek> daysOfWeek(Long patternId) {
+        return transactionTemplate.execute(status ->
+                EnumSet.copyOf(recurrencePatternRepository.findById(patternId).orElseThrow().getDaysOfWeek()));
+    }
+
+    private CacheRegionStatisticsDto region(String name) {
+        return cacheService.getRegionStatistics().stream()
+                .filter(region -> region.getRegion().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No cache region " + name));
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private <T> List<String> statementsFor(Supplier<T> read) {
+        QueryPlanTest.CapturingInspector.clear();
+        read.get();
+        return QueryPlanTest.CapturingInspector.drain();
+    }
+}
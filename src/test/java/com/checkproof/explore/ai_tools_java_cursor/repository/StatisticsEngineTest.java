@@ -0,0 +1,236 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventStatisticsResponse;
+import com.checkproof.explore.ai_tools_java_cursor.dto.StatisticsGroupDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskStatisticsDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Computes the task and event statistics with the grouped statistics engine and checks them,
+ * and the number of statements sent, against the per-figure count queries they replace.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statisticsengine",
+        "calendar.scheduling.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Statistics Engine Tests")
+class StatisticsEngineTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @Autowired
+    private TaskTimelineIndex taskTimelineIndex;
+
+    private Participant alice;
+    private Participant team;
+
+    @BeforeEach
+    void setUp() {
+        alice = participant("alice", Participant.ParticipantType.INDIVIDUAL);
+        team = participant("team", Participant.ParticipantType.TEAM);
+
+        // Overdue, overdue but completed, upcoming, upcoming beyond a week, and cancelled
+        task("late", Task.TaskStatus.PENDING, Task.Priority.HIGH, NOW.minusDays(3), Set.of(alice, team));
+        task("done", Task.TaskStatus.COMPLETED, Task.Priority.HIGH, NOW.minusDays(2), Set.of(alice));
+        task("soon", Task.TaskStatus.IN_PROGRESS, Task.Priority.LOW, NOW.plusDays(2), Set.of(team));
+        task("later", Task.TaskStatus.PENDING, Task.Priority.MEDIUM, NOW.plusDays(40), Set.of());
+        task("dropped", Task.TaskStatus.CANCELLED, Task.Priority.LOW, NOW.minusDays(1), Set.of());
+        task("paused", Task.TaskStatus.ON_HOLD, Task.Priority.URGENT, NOW.plusDays(1), Set.of(alice));
+
+        event("stand-up", Event.EventCategory.MEETING, NOW.plusHours(1), Set.of(alice, team));
+        event("review", Event.EventCategory.MEETING, NOW.plusDays(3), Set.of(alice));
+        event("summit", Event.EventCategory.CONFERENCE, NOW.plusDays(20), Set.of(team));
+        event("retro", Event.EventCategory.MEETING, NOW.minusDays(10), Set.of());
+        event("hands-on", Event.EventCategory.WORKSHOP, NOW.plusDays(6), Set.of(alice));
+        event("party", Event.EventCategory.SOCIAL, NOW.plusDays(2), Set.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        participantRepository.deleteAll();
+        eventConflictIndex.rebuild();
+        taskTimelineIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should compute the task statistics in one statement matching the count queries")
+    void taskStatistics_OneStatement() {
+        TaskStatisticsDto statistics = taskService.getTaskStatistics();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertEquals(taskRepository.count(), statistics.getTotalTasks());
+        assertEquals(taskRepository.countByStatus(Task.TaskStatus.PENDING), statistics.getPendingTasks());
+        assertEquals(taskRepository.countByStatus(Task.TaskStatus.IN_PROGRESS), statistics.getInProgressTasks());
+        assertEquals(taskRepository.countByStatus(Task.TaskStatus.COMPLETED), statistics.getCompletedTasks());
+        assertEquals(taskRepository.countByStatus(Task.TaskStatus.CANCELLED), statistics.getCancelledTasks());
+        assertEquals(taskRepository.countOverdueTasks(now), statistics.getOverdueTasks());
+        assertEquals(taskRepository.countUpcomingTasks(now, now.plusDays(7)), statistics.getUpcomingTasks());
+        assertEquals(6, statistics.getTotalTasks());
+        assertEquals(1, statistics.getOverdueTasks());
+        assertEquals(2, statistics.getUpcomingTasks());
+
+        assertEquals(1, statementsFor(taskService::getTaskStatistics).size());
+    }
+
+    @Test
+    @DisplayName("Should compute the event statistics in one statement matching the count queries")
+    void eventStatistics_OneStatement() {
+        EventStatisticsResponse statistics = eventService.getEventStatistics();
+
+        assertEquals(eventService.getUpcomingEventCount(), statistics.getUpcomingEvents());
+        assertEquals(eventService.getTodayEventCount(), statistics.getTodayEvents());
+        assertEquals(eventService.getEventCountByCategory(Event.EventCategory.MEETING), statistics.getMeetingEvents());
+        assertEquals(eventService.getEventCountByCategory(Event.EventCategory.CONFERENCE), statistics.getConferenceEvents());
+        assertEquals(eventService.getEventCountByCategory(Event.EventCategory.WORKSHOP), statistics.getWorkshopEvents());
+        assertEquals(4, statistics.getUpcomingEvents());
+        assertEquals(3, statistics.getMeetingEvents());
+
+        assertEquals(1, statementsFor(eventService::getEventStatistics).size());
+    }
+
+    @Test
+    @DisplayName("Should break tasks down by priority in declaration order")
+    void taskBreakdown_ByPriority() {
+        List<StatisticsGroupDto> groups = taskService.getTaskStatisticsBreakdown("priority");
+
+        assertEquals(List.of("LOW", "MEDIUM", "HIGH", "URGENT"), keys(groups));
+        StatisticsGroupDto high = groups.get(2);
+        assertEquals(2, high.getCount());
+        assertEquals(Map.of("overdue", 1L, "upcoming", 0L), high.getMeasures());
+        assertEquals(1L, groups.get(0).getMeasures().get("upcoming"));
+    }
+
+    @Test
+    @DisplayName("Should break tasks down by month of their start date")
+    void taskBreakdown_ByMonth() {
+        List<StatisticsGroupDto> groups = taskService.getTaskStatisticsBreakdown("month");
+
+        Map<String, Long> expected = taskRepository.findAll().stream()
+                .collect(Collectors.groupingBy(task -> YearMonth.from(task.getStartDate()).toString(),
+                        Collectors.counting()));
+        assertEquals(expected, groups.stream()
+                .collect(Collectors.toMap(StatisticsGroupDto::getKey, StatisticsGroupDto::getCount)));
+        assertEquals(expected.keySet().stream().sorted().toList(), keys(groups));
+    }
+
+    @Test
+    @DisplayName("Should count a task once per participant type, and tasks without participants in a null group")
+    void taskBreakdown_ByParticipantType() {
+        List<StatisticsGroupDto> groups = taskService.getTaskStatisticsBreakdown("participantType");
+
+        assertEquals(Arrays.asList("INDIVIDUAL", "TEAM", null), keys(groups));
+        // late has both participants but is counted once in each group
+        assertEquals(3, groups.get(0).getCount());
+        assertEquals(1L, groups.get(0).getMeasures().get("overdue"));
+        assertEquals(2, groups.get(1).getCount());
+        assertEquals(1L, groups.get(1).getMeasures().get("overdue"));
+        assertEquals(2, groups.get(2).getCount());
+    }
+
+    @Test
+    @DisplayName("Should break events down by category and participant type in one statement each")
+    void eventBreakdown_ByCategoryAndParticipantType() {
+        List<StatisticsGroupDto> byCategory = eventService.getEventStatisticsBreakdown("category");
+        assertEquals(List.of("MEETING", "CONFERENCE", "WORKSHOP", "SOCIAL"), keys(byCategory));
+        assertEquals(2L, byCategory.get(0).getMeasures().get("upcoming"));
+
+        List<StatisticsGroupDto> byType = eventService.getEventStatisticsBreakdown("participantType");
+        assertEquals(3, byType.get(0).getCount());
+        assertEquals(2, byType.get(1).getCount());
+
+        assertEquals(1, statementsFor(() -> eventService.getEventStatisticsBreakdown("month")).size());
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown dimension")
+    void breakdown_UnknownDimension() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskStatisticsBreakdown("category"));
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventStatisticsBreakdown("priority"));
+    }
+
+    private List<String> keys(List<StatisticsGroupDto> groups) {
+        return groups.stream().map(StatisticsGroupDto::getKey).collect(Collectors.toList());
+    }
+
+    private Participant participant(String name, Participant.ParticipantType type) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .type(type)
+                .build());
+    }
+
+    private void task(String title, Task.TaskStatus status, Task.Priority priority, LocalDateTime start,
+                      Set<Participant> participants) {
+        taskRepository.save(Task.builder()
+                .title(title)
+                .status(status)
+                .priority(priority)
+                .startDate(start)
+                .endDate(start.plusHours(1))
+                .participants(new HashSet<>(participants))
+                .build());
+    }
+
+    private void event(String name, Event.EventCategory category, LocalDateTime date, Set<Participant> participants) {
+        eventRepository.save(Event.builder()
+                .name(name)
+                .category(category)
+                .eventDate(date)
+                .durationMinutes(30)
+                .participants(new HashSet<>(participants))
+                .build());
+    }
+
+    private <T> List<String> statementsFor(Supplier<T> read) {
+        QueryPlanTest.CapturingInspector.clear();
+        read.get();
+        return QueryPlanTest.CapturingInspector.drain();
+    }
+}
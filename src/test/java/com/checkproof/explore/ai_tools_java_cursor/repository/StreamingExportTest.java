@@ -0,0 +1,138 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.ExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exports more rows than fit in one chunk and counts the statements sent, which grow with the
+ * number of chunks rather than the number of rows.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:streamingexport",
+        "calendar.scheduling.enabled=false",
+        "calendar.export.chunk-size=20",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Streaming Export Tests")
+class StreamingExportTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        participantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should stream every event in date order with its participants")
+    void exportEvents_AllRowsInOrder() throws Exception {
+        Participant alice = participant("alice");
+        // Saved in reverse, so that date order differs from id order
+        for (int i = 49; i >= 0; i--) {
+            eventRepository.save(Event.builder()
+                    .name("Event " + i)
+                    .eventDate(START.plusHours(i))
+                    .durationMinutes(30)
+                    .participants(Set.of(alice))
+                    .build());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        QueryPlanTest.CapturingInspector.clear();
+        long written = exportService.exportEvents(null, null, out);
+        int statements = QueryPlanTest.CapturingInspector.drain().size();
+
+        List<JsonNode> lines = lines(out);
+        assertEquals(50, written);
+        assertEquals(50, lines.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("Event " + i, lines.get(i).get("name").asText());
+            assertEquals(START.plusHours(i), LocalDateTime.parse(lines.get(i).get("eventDate").asText()));
+            assertEquals("alice", lines.get(i).get("participants").get(0).get("name").asText());
+        }
+        // The scroll, then one participant batch for each of the three chunks
+        assertEquals(4, statements);
+    }
+
+    @Test
+    @DisplayName("Should stream only tasks starting in the range")
+    void exportTasks_DateRange() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Task " + i)
+                    .startDate(START.plusDays(i))
+                    .endDate(START.plusDays(i).plusHours(1))
+                    .build());
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exportService.exportTasks(START.plusDays(5), START.plusDays(25), out);
+
+        List<JsonNode> lines = lines(out);
+        assertEquals(20, written);
+        assertEquals("Task 5", lines.get(0).get("title").asText());
+        assertEquals("Task 24", lines.get(19).get("title").asText());
+    }
+
+    @Test
+    @DisplayName("Should write nothing when no rows match")
+    void exportEvents_Empty() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, exportService.exportEvents(START, START.plusDays(1), out));
+        assertEquals(0, out.size());
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws Exception {
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+}
@@ -0,0 +1,152 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.TaskOverlapException;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates, moves and removes tasks through the service and checks the participant overlap
+ * rules answered by the task timeline index.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskoverlap",
+        "calendar.scheduling.enabled=false"
+})
+@DisplayName("Repository Task Overlap Tests")
+class TaskOverlapTest {
+
+    private static final LocalDateTime NINE = LocalDate.now().plusDays(1).atTime(9, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TaskTimelineIndex taskTimelineIndex;
+
+    private Participant alice;
+    private Participant bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = participant("alice");
+        bob = participant("bob");
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll().stream()
+                .filter(task -> !task.isSeriesMaster())
+                .collect(Collectors.toList()));
+        taskRepository.deleteAll();
+        participantRepository.deleteAll();
+        taskTimelineIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should reject an overlapping task for a shared participant only")
+    void createTask_Overlap() {
+        taskService.createTask(task("Planning", NINE, 60, alice));
+
+        assertThrows(TaskOverlapException.class, () -> taskService.createTask(task("Review", NINE.plusMinutes(30), 60, alice)));
+        assertThrows(TaskOverlapException.class, () -> taskService.createTask(task("Review", NINE.plusMinutes(30), 60, bob, alice)));
+        assertNotNull(taskService.createTask(task("Review", NINE.plusMinutes(30), 60, bob)).getId());
+    }
+
+    @Test
+    @DisplayName("Should accept tasks that only touch at their ends")
+    void createTask_AdjacentIntervals() {
+        taskService.createTask(task("Planning", NINE, 60, alice));
+
+        assertNotNull(taskService.createTask(task("Review", NINE.plusHours(1), 60, alice)).getId());
+        assertNotNull(taskService.createTask(task("Prep", NINE.minusHours(1), 60, alice)).getId());
+        assertEquals(3, taskRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should not count a task against itself when it is moved")
+    void updateTask_ExcludesItself() {
+        TaskDto planning = taskService.createTask(task("Planning", NINE, 60, alice));
+        taskService.createTask(task("Review", NINE.plusHours(2), 60, alice));
+
+        TaskDto moved = taskService.updateTask(planning.getId(), task("Planning", NINE.plusMinutes(30), 60, alice));
+        assertEquals(NINE.plusMinutes(30), moved.getStartDate());
+
+        // Its old slot is free once the move commits, and the other task still blocks
+        assertNotNull(taskService.createTask(task("Stand-up", NINE, 30, alice)).getId());
+        assertThrows(TaskOverlapException.class,
+                () -> taskService.updateTask(planning.getId(), task("Planning", NINE.plusMinutes(90), 60, alice)));
+    }
+
+    @Test
+    @DisplayName("Should not count a stored occurrence against itself when it is moved")
+    void updateSeriesOccurrence_ExcludesItself() {
+        RecurrencePattern daily = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(1)
+                .daysOfWeek(new HashSet<>())
+                .build();
+        Long seriesId = taskService.createRecurringTasks(task("Stand-up", NINE, 30, alice), daily).get(0).getSeriesId();
+
+        TaskDto moved = taskService.updateSeriesOccurrence(seriesId, NINE.plusDays(1),
+                task("Stand-up", NINE.plusDays(1).plusMinutes(15), 30, alice));
+        assertEquals(NINE.plusDays(1).plusMinutes(15), moved.getStartDate());
+        assertThrows(TaskOverlapException.class, () -> taskService.updateSeriesOccurrence(seriesId, NINE.plusDays(1),
+                task("Stand-up", NINE.plusDays(2).plusMinutes(15), 30, alice)));
+    }
+
+    @Test
+    @DisplayName("Should free the slot of a cancelled or deleted task")
+    void cancelAndDelete_FreeSlot() {
+        TaskDto planning = taskService.createTask(task("Planning", NINE, 60, alice));
+        TaskDto review = taskService.createTask(task("Review", NINE.plusHours(2), 60, alice));
+
+        taskService.updateTaskStatus(planning.getId(), Task.TaskStatus.CANCELLED);
+        taskService.deleteTask(review.getId());
+
+        assertNotNull(taskService.createTask(task("Stand-up", NINE, 60, alice)).getId());
+        assertNotNull(taskService.createTask(task("Retro", NINE.plusHours(2), 60, alice)).getId());
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private static TaskDto task(String title, LocalDateTime start, int minutes, Participant... participants) {
+        return TaskDto.builder()
+                .title(title)
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(start)
+                .endDate(start.plusMinutes(minutes))
+                .participants(Set.of(participants).stream().map(ParticipantDto::fromEntity).collect(Collectors.toSet()))
+                .build();
+    }
+}
@@ -0,0 +1,267 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.ParticipantDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.RecurrencePatternDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.TaskOverlapException;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Creates and edits recurring task series whose first occurrences are stored as rows, and checks
+ * the overlap rules and reads inside that stored range.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:taskseries",
+        "calendar.scheduling.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.checkproof.explore.ai_tools_java_cursor.repository.QueryPlanTest$CapturingInspector"
+})
+@DisplayName("Repository Task Series Tests")
+class TaskSeriesTest {
+
+    private static final LocalDateTime DAY = LocalDate.now().plusDays(1).atTime(9, 0);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private TaskTimelineIndex taskTimelineIndex;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll(taskRepository.findAll().stream()
+                .filter(task -> !task.isSeriesMaster())
+                .collect(Collectors.toList()));
+        taskRepository.deleteAll();
+        participantRepository.deleteAll();
+        taskTimelineIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should reject a series overlapping another one inside their stored occurrences")
+    void createRecurringTasks_OverlapInsideStoredRange() {
+        Participant alice = participant("alice");
+        // Every 4 days for three weeks, all of it stored as rows
+        RecurrencePattern everyFourDays = daily(4);
+        everyFourDays.setEndDate(DAY.toLocalDate().plusDays(20));
+        List<TaskDto> first = taskService.createRecurringTasks(base("Review", DAY, alice), everyFourDays);
+        assertEquals(6, first.size());
+
+        // Every 6 days from two days later: the first occurrences miss, the third meets day 8
+        TaskDto second = base("Sync", DAY.plusDays(2), alice);
+        TaskOverlapException error = assertThrows(TaskOverlapException.class,
+                () -> taskService.createRecurringTasks(second, daily(6)));
+        assertTrue(error.getMessage().contains(DAY.plusDays(8).toString()), error::getMessage);
+        assertEquals(1, taskRepository.findAll().stream().filter(Task::isSeriesMaster).count());
+    }
+
+    @Test
+    @DisplayName("Should replace the stored occurrences of a series when its rule is edited, keeping overrides")
+    void updateTask_MasterPatternReplacesStoredOccurrences() {
+        Participant alice = participant("alice");
+        List<TaskDto> created = taskService.createRecurringTasks(base("Stand-up", DAY, alice), daily(1));
+        Long seriesId = created.get(0).getSeriesId();
+        // Day 2 is moved to the afternoon before the series changes
+        TaskDto moved = base("Stand-up (moved)", DAY.plusDays(2).withHour(14), alice);
+        taskService.updateSeriesOccurrence(seriesId, DAY.plusDays(2), moved);
+
+        TaskDto master = base("Stand-up", DAY, alice);
+        RecurrencePattern everyOtherDay = daily(2);
+        everyOtherDay.setStartDate(DAY.toLocalDate());
+        master.setRecurrencePattern(RecurrencePatternDto.fromEntity(everyOtherDay));
+        TaskDto updated = taskService.updateTask(seriesId, master);
+        assertTrue(updated.isSeriesMaster());
+
+        List<LocalDateTime> starts = taskService.findTasksByDateRange(DAY, DAY.plusDays(7)).stream()
+                .map(TaskDto::getStartDate)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of(DAY, DAY.plusDays(2).withHour(14), DAY.plusDays(4), DAY.plusDays(6)), starts);
+
+        // Rows for the new rule cover the same stored range, so nothing is left to expand
+        Task stored = taskRepository.findById(seriesId).orElseThrow();
+        assertEquals(DAY, stored.getMaterializedFrom());
+        assertNotNull(stored.getMaterializedUntil());
+        assertFalse(taskRepository.findBySeriesIdAndOriginalStartDate(seriesId, DAY.plusDays(1)).isPresent());
+        assertTrue(taskRepository.findBySeriesIdAndOriginalStartDate(seriesId, DAY.plusDays(4)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should keep a series created without stored occurrences virtual")
+    void createTaskSeries_StaysVirtual() {
+        Participant alice = participant("alice");
+        TaskDto series = base("Stand-up", DAY, alice);
+        RecurrencePattern everyDay = daily(1);
+        everyDay.setStartDate(DAY.toLocalDate());
+        series.setRecurrencePattern(RecurrencePatternDto.fromEntity(everyDay));
+        Long seriesId = taskService.createTaskSeries(series).getId();
+
+        assertEquals(0, taskService.materializeSeries(10));
+        // Editing the master does not start storing its occurrences either
+        series.setTitle("Daily stand-up");
+        taskService.updateTask(seriesId, series);
+        assertEquals(0, taskService.materializeSeries(10));
+
+        Task master = taskRepository.findById(seriesId).orElseThrow();
+        assertFalse(master.isMaterialized());
+        assertNull(master.getMaterializedUntil());
+        assertTrue(taskRepository.findBySeriesIdIn(List.of(seriesId)).isEmpty());
+        assertEquals(3, taskService.findTasksByDateRange(DAY, DAY.plusDays(3).minusMinutes(1)).size());
+    }
+
+    @Test
+    @DisplayName("Should page stored rows merged with series occurrences from a bounded row query")
+    void findTasksByDateRange_PagesMergedSeries() {
+        Participant alice = participant("alice");
+        taskService.createRecurringTasks(base("Stand-up", DAY, alice), daily(1));
+        // Past the stored range, so the five stand-ups in the window are expanded
+        LocalDateTime from = DAY.plusDays(120);
+        LocalDateTime to = from.plusDays(5).minusMinutes(1);
+        for (int i = 0; i < 10; i++) {
+            taskRepository.save(Task.builder()
+                    .title("Single " + i)
+                    .priority(Task.Priority.MEDIUM)
+                    .status(Task.TaskStatus.PENDING)
+                    .startDate(from.plusDays(i / 2).plusHours(2 + i % 2))
+                    .endDate(from.plusDays(i / 2).plusHours(2 + i % 2).plusMinutes(30))
+                    .build());
+        }
+        List<String> expected = taskService.findTasksByDateRange(from, to).stream()
+                .map(task -> task.getStartDate() + " " + task.getTitle())
+                .collect(Collectors.toList());
+        assertEquals(15, expected.size());
+
+        List<String> paged = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            PaginatedResponseDto<TaskDto> response = taskService.findTasksByDateRange(from, to, PaginationRequestDto.of(page, 4));
+            assertEquals(15, response.getPagination().getTotalElements());
+            response.getContent().forEach(task -> paged.add(task.getStartDate() + " " + task.getTitle()));
+        }
+        assertEquals(expected, paged);
+
+        PaginationRequestDto uncounted = PaginationRequestDto.of(2, 4);
+        uncounted.setCountStrategy(PaginationRequestDto.CountStrategy.NONE);
+        PaginatedResponseDto<TaskDto> slice = taskService.findTasksByDateRange(from, to, uncounted);
+        assertEquals(-1, slice.getPagination().getTotalElements());
+        assertTrue(slice.getPagination().isHasNext());
+        assertEquals(expected.subList(8, 12), slice.getContent().stream()
+                .map(task -> task.getStartDate() + " " + task.getTitle())
+                .collect(Collectors.toList()));
+        uncounted.setPage(3);
+        assertFalse(taskService.findTasksByDateRange(from, to, uncounted).getPagination().isHasNext());
+
+        // The first page reads at most size + 1 stored rows
+        QueryPlanTest.CapturingInspector.clear();
+        taskService.findTasksByDateRange(from, to, PaginationRequestDto.of(0, 4));
+        assertTrue(QueryPlanTest.CapturingInspector.drain().stream()
+                .anyMatch(sql -> sql.contains("series_master=false") && sql.contains("fetch first")));
+    }
+
+    @Test
+    @DisplayName("Should order stored rows without an end date the same in the database and in memory")
+    void findTasksByDateRange_SortsNullEndDatesLow() {
+        taskService.createRecurringTasks(base("Stand-up", DAY, participant("alice")), daily(1));
+        LocalDateTime from = DAY.plusDays(120);
+        LocalDateTime to = from.plusDays(5).minusMinutes(1);
+        for (int i = 0; i < 4; i++) {
+            taskRepository.save(single("Single " + i, from.plusDays(i).withHour(14), from.plusDays(i).withHour(14).plusMinutes(30)));
+        }
+        taskRepository.save(single("Open A", from.plusDays(1).withHour(12), null));
+        taskRepository.save(single("Open B", from.plusDays(2).withHour(12), null));
+
+        PaginationRequestDto ascending = PaginationRequestDto.of(0, 3, "endDate", "ASC");
+        QueryPlanTest.CapturingInspector.clear();
+        assertEquals(List.of("Open A", "Open B", "Stand-up"), titles(taskService.findTasksByDateRange(from, to, ascending)));
+        // Checked in the query comment: the dialect leaves out null precedence it already applies
+        assertTrue(QueryPlanTest.CapturingInspector.drain().stream().anyMatch(sql -> sql.contains("t.endDate asc NULLS FIRST")));
+
+        PaginationRequestDto descending = PaginationRequestDto.of(0, 3, "endDate", "DESC");
+        assertEquals(List.of("Stand-up", "Single 3", "Stand-up"), titles(taskService.findTasksByDateRange(from, to, descending)));
+        descending.setPage(3);
+        QueryPlanTest.CapturingInspector.clear();
+        assertEquals(List.of("Open B", "Open A"), titles(taskService.findTasksByDateRange(from, to, descending)));
+        assertTrue(QueryPlanTest.CapturingInspector.drain().stream().anyMatch(sql -> sql.contains("t.endDate desc NULLS LAST")));
+    }
+
+    @Test
+    @DisplayName("Should only load series masters whose pattern can still recur in the window")
+    void findSeriesMastersInWindow_SkipsEndedSeries() {
+        RecurrencePattern ended = daily(1);
+        ended.setEndDate(DAY.toLocalDate().plusDays(3));
+        taskService.createRecurringTasks(base("Ended", DAY, participant("alice")), ended);
+        taskService.createRecurringTasks(base("Open", DAY, participant("bob")), daily(7));
+
+        LocalDateTime from = DAY.plusDays(10);
+        assertEquals(List.of("Open"), taskRepository.findSeriesMastersInWindow(from.toLocalDate(), from.plusDays(7)).stream()
+                .map(Task::getTitle)
+                .collect(Collectors.toList()));
+        assertEquals(2, taskRepository.findSeriesMastersInWindow(DAY.toLocalDate().plusDays(3), from).size());
+    }
+
+    private Participant participant(String name) {
+        return participantRepository.save(Participant.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .build());
+    }
+
+    private static TaskDto base(String title, LocalDateTime start, Participant... participants) {
+        return TaskDto.builder()
+                .title(title)
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(start)
+                .endDate(start.plusMinutes(30))
+                .participants(Set.of(participants).stream().map(ParticipantDto::fromEntity).collect(Collectors.toSet()))
+                .build();
+    }
+
+    private static Task single(String title, LocalDateTime start, LocalDateTime end) {
+        return Task.builder()
+                .title(title)
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(start)
+                .endDate(end)
+                .build();
+    }
+
+    private static List<String> titles(PaginatedResponseDto<TaskDto> page) {
+        return page.getContent().stream().map(TaskDto::getTitle).collect(Collectors.toList());
+    }
+
+    private static RecurrencePattern daily(int interval) {
+        return RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(interval)
+                .daysOfWeek(new HashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.checkproof.explore.ai_tools_java_cursor.repository;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.EventDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginatedResponseDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.PaginationRequestDto;
+import com.checkproof.explore.ai_tools_java_cursor.dto.TaskDto;
+import com.checkproof.explore.ai_tools_java_cursor.index.EventConflictIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.index.TextSearchIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.service.EventService;
+import com.checkproof.explore.ai_tools_java_cursor.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Searches events and tasks through the services while they are written, so that the text
+ * search index is checked against what the database holds after each commit.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:textsearch",
+        "calendar.scheduling.enabled=false"
+})
+@DisplayName("Repository Text Search Tests")
+class TextSearchTest {
+
+    private static final LocalDateTime DAY = LocalDate.now().plusDays(3).atStartOfDay();
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TextSearchIndex textSearchIndex;
+
+    @Autowired
+    private EventConflictIndex eventConflictIndex;
+
+    @Autowired
+    private TaskTimelineIndex taskTimelineIndex;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        eventRepository.deleteAll();
+        eventConflictIndex.rebuild();
+        taskTimelineIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should follow event creates, renames and deletes")
+    void events_KeptInSync() {
+        EventDto standup = eventService.createEvent(event("Daily standup", "Team sync", 9));
+        EventDto review = eventService.createEvent(event("Sprint review", "Demo for the team", 11));
+
+        assertEquals(List.of(standup.getId()), ids(eventService.searchEventsByName("stand")));
+        assertEquals(List.of(review.getId()), ids(eventService.searchEventsByDescription("demo team")));
+
+        review.setName("Sprint standup");
+        eventService.updateEvent(review.getId(), review);
+        assertEquals(2, eventService.searchEventsByName("standup").size());
+        assertTrue(eventService.searchEventsByName("review").isEmpty());
+
+        eventService.deleteEvent(standup.getId());
+        assertEquals(List.of(review.getId()), ids(eventService.searchEventsByName("standup")));
+        assertEquals(1, textSearchIndex.eventCount());
+    }
+
+    @Test
+    @DisplayName("Should page events by relevance with the total from the index")
+    void searchEvents_RankedPages() {
+        eventService.createEvent(event("Planning planning", null, 8));
+        for (int i = 0; i < 4; i++) {
+            eventService.createEvent(event("Planning session with the wider group " + i, null, 10 + i));
+        }
+        eventService.createEvent(event("Retro", "Planning notes", 16));
+
+        PaginatedResponseDto<EventDto> first = eventService.searchEvents("plan", PaginationRequestDto.of(0, 2));
+        PaginatedResponseDto<EventDto> last = eventService.searchEvents("plan", PaginationRequestDto.of(2, 2));
+
+        assertEquals(5, first.getPagination().getTotalElements());
+        assertEquals("Planning planning", first.getContent().get(0).getName());
+        assertEquals(1, last.getContent().size());
+        assertFalse(last.getContent().get(0).getName().equals("Retro"));
+    }
+
+    @Test
+    @DisplayName("Should page the same ranking with a cursor as with offsets")
+    void searchEvents_CursorPagesFollowRanking() {
+        eventService.createEvent(event("Planning planning", null, 8));
+        for (int i = 0; i < 4; i++) {
+            eventService.createEvent(event("Planning session with the wider group " + i, null, 10 + i));
+        }
+        eventService.createEvent(event("Sprint plan", null, 15));
+        eventService.createEvent(event("Retro", "Planning notes", 16));
+
+        List<String> byOffset = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            eventService.searchEvents("plan", PaginationRequestDto.of(page, 2)).getContent()
+                    .forEach(event -> byOffset.add(event.getName()));
+        }
+
+        List<String> byCursor = new ArrayList<>();
+        PaginationRequestDto request = PaginationRequestDto.of(0, 2);
+        request.setCursor("");
+        PaginatedResponseDto<EventDto> page;
+        do {
+            page = eventService.searchEvents("plan", request);
+            assertEquals(6, page.getPagination().getTotalElements());
+            page.getContent().forEach(event -> byCursor.add(event.getName()));
+            request.setCursor(page.getPagination().getNextCursor());
+        } while (page.getPagination().isHasNext());
+
+        assertEquals(6, byOffset.size());
+        assertEquals(byOffset, byCursor);
+        assertFalse(byCursor.contains("Retro"));
+    }
+
+    @Test
+    @DisplayName("Should follow task creates and title changes")
+    void tasks_KeptInSync() {
+        TaskDto task = taskService.createTask(TaskDto.builder()
+                .title("Write release notes")
+                .description("For the spring release")
+                .priority(Task.Priority.MEDIUM)
+                .status(Task.TaskStatus.PENDING)
+                .startDate(DAY.withHour(9))
+                .endDate(DAY.withHour(10))
+                .build());
+
+        assertEquals(List.of(task.getId()), taskService.searchTasksByTitle("release").stream()
+                .map(TaskDto::getId).collect(Collectors.toList()));
+        assertTrue(taskService.searchTasksByTitle("spring").isEmpty());
+
+        task.setTitle("Publish changelog");
+        taskService.updateTask(task.getId(), task);
+        assertTrue(taskService.searchTasksByTitle("release").isEmpty());
+        assertEquals(1, taskService.searchTasksByTitle("changelog").size());
+    }
+
+    private static EventDto event(String name, String description, int hour) {
+        return EventDto.builder()
+                .name(name)
+                .description(description)
+                .eventDate(DAY.withHour(hour))
+                .durationMinutes(30)
+                .category(Event.EventCategory.MEETING)
+                .build();
+    }
+
+    private static List<Long> ids(List<EventDto> events) {
+        return events.stream().map(EventDto::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,185 @@
+package com.checkproof.explore.ai_tools_java_cursor.service.impl;
+
+import com.checkproof.explore.ai_tools_java_cursor.dto.FreeSlotDto;
+import com.checkproof.explore.ai_tools_java_cursor.exception.ParticipantNotFoundException;
+import com.checkproof.explore.ai_tools_java_cursor.index.ParticipantEventSlot;
+import com.checkproof.explore.ai_tools_java_cursor.index.TaskTimelineIndex;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import com.checkproof.explore.ai_tools_java_cursor.repository.EventRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.ParticipantRepository;
+import com.checkproof.explore.ai_tools_java_cursor.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Availability Service Tests")
+class AvailabilityServiceImplTest {
+
+    // A Monday
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 1, 6, 0, 0);
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskTimelineIndex taskTimelineIndex;
+    private AvailabilityServiceImpl availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        taskTimelineIndex = new TaskTimelineIndex(taskRepository);
+        availabilityService = new AvailabilityServiceImpl(participantRepository, eventRepository, taskTimelineIndex);
+        ReflectionTestUtils.setField(availabilityService, "slotMinutes", 15);
+        ReflectionTestUtils.setField(availabilityService, "maxHorizonDays", 90);
+    }
+
+    @Test
+    @DisplayName("Should reject searches without participants, duration, limit or a valid window")
+    void findFreeSlots_RejectsInvalidRequests() {
+        LocalDateTime from = DAY.withHour(9);
+        LocalDateTime to = DAY.withHour(17);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(), from, to, 30, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(null, from, to, 30, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L), from, to, 0, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L), from, to, 30, 0, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L), to, from, 30, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L), from, from, 30, 5, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L), from, from.plusDays(91), 30, 5, false));
+
+        verifyNoInteractions(participantRepository, eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown participants")
+    void findFreeSlots_UnknownParticipant() {
+        participants(1L);
+
+        ParticipantNotFoundException error = assertThrows(ParticipantNotFoundException.class,
+                () -> availabilityService.findFreeSlots(Set.of(1L, 2L), DAY.withHour(9), DAY.withHour(12), 30, 5, false));
+        assertTrue(error.getMessage().contains("2"), error::getMessage);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Should return the slots left free by every participant's tasks and events")
+    void findFreeSlots_SkipsTasksAndEvents() {
+        participants(1L, 2L);
+        task(10L, DAY.withHour(9), DAY.withHour(10), 1L);
+        when(eventRepository.findParticipantEventSlots(anyCollection(), any(), any()))
+                .thenReturn(List.of(new ParticipantEventSlot(2L, DAY.withHour(10).withMinute(30), 30)));
+
+        List<FreeSlotDto> slots = availabilityService.findFreeSlots(
+                Set.of(1L, 2L), DAY.withHour(9), DAY.withHour(12), 30, 5, false);
+
+        assertEquals(List.of(
+                slot(DAY.withHour(10), 30),
+                slot(DAY.withHour(11), 30),
+                slot(DAY.withHour(11).withMinute(30), 30)), slots);
+    }
+
+    @Test
+    @DisplayName("Should align slots to the grid, keep them apart and stop at the limit")
+    void findFreeSlots_AlignsAndLimits() {
+        participants(1L);
+
+        List<FreeSlotDto> slots = availabilityService.findFreeSlots(
+                Set.of(1L), DAY.withHour(9).withMinute(7), DAY.withHour(12), 20, 2, false);
+
+        // 20 minutes take two 15-minute slots, so the next search starts half an hour later
+        assertEquals(List.of(
+                slot(DAY.withHour(9).withMinute(15), 20),
+                slot(DAY.withHour(9).withMinute(45), 20)), slots);
+    }
+
+    @Test
+    @DisplayName("Should treat busy time as half-open and round partial slots outwards")
+    void findFreeSlots_BusyBoundaries() {
+        participants(1L);
+        // Ends exactly at the window start and blocks nothing
+        task(10L, DAY.withHour(8), DAY.withHour(9), 1L);
+        // Started before the window and runs into it
+        when(eventRepository.findParticipantEventSlots(anyCollection(), any(), any()))
+                .thenReturn(List.of(new ParticipantEventSlot(1L, DAY.withHour(9).withMinute(20), 20)));
+
+        List<FreeSlotDto> slots = availabilityService.findFreeSlots(
+                Set.of(1L), DAY.withHour(9), DAY.withHour(10), 15, 5, false);
+
+        // 9:20-9:40 covers the 9:15 and 9:30 slots
+        assertEquals(List.of(
+                slot(DAY.withHour(9), 15),
+                slot(DAY.withHour(9).withMinute(45), 15)), slots);
+    }
+
+    @Test
+    @DisplayName("Should look back a full event length for events running into the window")
+    void findFreeSlots_EventFromPreviousDay() {
+        participants(1L);
+        // Started 23 hours before the window and lasts the longest an event may
+        when(eventRepository.findParticipantEventSlots(anyCollection(), any(), any()))
+                .thenReturn(List.of(new ParticipantEventSlot(1L, DAY.withHour(9).minusHours(23), 1440)));
+
+        List<FreeSlotDto> slots = availabilityService.findFreeSlots(
+                Set.of(1L), DAY.withHour(9), DAY.withHour(12), 60, 1, false);
+
+        assertEquals(List.of(slot(DAY.withHour(10), 60)), slots);
+        verify(eventRepository).findParticipantEventSlots(Set.of(1L), DAY.withHour(9).minusDays(1), DAY.withHour(12));
+    }
+
+    @Test
+    @DisplayName("Should only return slots inside business hours when asked to")
+    void findFreeSlots_BusinessHoursOnly() {
+        participants(1L);
+        LocalDateTime from = DAY.withHour(16).withMinute(30);
+        LocalDateTime to = DAY.plusDays(1).withHour(12);
+
+        List<FreeSlotDto> anyTime = availabilityService.findFreeSlots(Set.of(1L), from, to, 60, 1, false);
+        List<FreeSlotDto> businessHours = availabilityService.findFreeSlots(Set.of(1L), from, to, 60, 1, true);
+
+        assertEquals(List.of(slot(from, 60)), anyTime);
+        assertEquals(List.of(slot(DAY.plusDays(1).withHour(9), 60)), businessHours);
+    }
+
+    private void participants(Long... ids) {
+        List<Participant> found = Arrays.stream(ids)
+                .map(id -> Participant.builder().id(id).name("p" + id).email("p" + id + "@example.com").build())
+                .collect(Collectors.toList());
+        when(participantRepository.findAllById(anyIterable())).thenReturn(found);
+    }
+
+    private void task(Long id, LocalDateTime start, LocalDateTime end, Long... participantIds) {
+        taskTimelineIndex.put(id, start, end, Task.TaskStatus.PENDING, List.of(participantIds));
+    }
+
+    private static FreeSlotDto slot(LocalDateTime start, int durationMinutes) {
+        return new FreeSlotDto(start, start.plusMinutes(durationMinutes));
+    }
+}
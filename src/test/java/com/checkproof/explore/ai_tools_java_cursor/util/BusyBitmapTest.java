@@ -0,0 +1,100 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BusyBitmap Tests")
+class BusyBitmapTest {
+
+    @Test
+    @DisplayName("Should mark ranges spanning several words")
+    void markBusy_AcrossWords() {
+        BusyBitmap bitmap = new BusyBitmap(200);
+
+        bitmap.markBusy(60, 130);
+
+        assertFalse(bitmap.isBusy(59));
+        assertTrue(bitmap.isBusy(60));
+        assertTrue(bitmap.isBusy(64));
+        assertTrue(bitmap.isBusy(129));
+        assertFalse(bitmap.isBusy(130));
+    }
+
+    @Test
+    @DisplayName("Should clamp ranges to the bitmap")
+    void markBusy_Clamped() {
+        BusyBitmap bitmap = new BusyBitmap(96);
+
+        bitmap.markBusy(-10, 2);
+        bitmap.markBusy(94, 500);
+
+        assertTrue(bitmap.isBusy(0));
+        assertFalse(bitmap.isBusy(2));
+        assertTrue(bitmap.isBusy(95));
+        assertEquals(2, bitmap.nextFreeSlot(0));
+        assertEquals(94, bitmap.nextBusySlot(2));
+    }
+
+    @Test
+    @DisplayName("Should combine participants with OR and find shared free runs")
+    void or_SharedFreeRun() {
+        BusyBitmap alice = new BusyBitmap(96);
+        BusyBitmap bob = new BusyBitmap(96);
+        alice.markBusy(0, 36);
+        bob.markBusy(40, 44);
+
+        alice.or(bob);
+
+        assertEquals(36, alice.nextFreeRun(0, 4));
+        assertEquals(44, alice.nextFreeRun(0, 5));
+        assertEquals(-1, alice.nextFreeRun(0, 53));
+    }
+
+    @Test
+    @DisplayName("Should not report a run past the end of the bitmap")
+    void nextFreeRun_AtEnd() {
+        BusyBitmap bitmap = new BusyBitmap(70);
+        bitmap.markBusy(0, 66);
+
+        assertEquals(66, bitmap.nextFreeRun(0, 4));
+        assertEquals(-1, bitmap.nextFreeRun(0, 5));
+    }
+
+    @Test
+    @DisplayName("Should match a boolean array on random ranges")
+    void nextFreeRun_MatchesBooleanArray() {
+        Random random = new Random(11);
+        int slotCount = 1_000;
+        BusyBitmap bitmap = new BusyBitmap(slotCount);
+        boolean[] busy = new boolean[slotCount];
+        for (int i = 0; i < 60; i++) {
+            int from = random.nextInt(slotCount);
+            int to = from + random.nextInt(30);
+            bitmap.markBusy(from, to);
+            for (int slot = from; slot < Math.min(to, slotCount); slot++) {
+                busy[slot] = true;
+            }
+        }
+
+        for (int runLength = 1; runLength <= 40; runLength++) {
+            for (int from = 0; from < slotCount; from += 37) {
+                assertEquals(firstFreeRun(busy, from, runLength), bitmap.nextFreeRun(from, runLength));
+            }
+        }
+    }
+
+    private static int firstFreeRun(boolean[] busy, int from, int runLength) {
+        int run = 0;
+        for (int slot = from; slot < busy.length; slot++) {
+            run = busy[slot] ? 0 : run + 1;
+            if (run == runLength) {
+                return slot - runLength + 1;
+            }
+        }
+        return -1;
+    }
+}
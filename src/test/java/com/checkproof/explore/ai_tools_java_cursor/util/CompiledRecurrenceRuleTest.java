@@ -0,0 +1,89 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompiledRecurrenceRule Tests")
+class CompiledRecurrenceRuleTest {
+
+    @Test
+    @DisplayName("Should compile pattern fields into primitives")
+    void compile_CopiesFields() {
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY)
+                .interval(2)
+                .daysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY))
+                .weekOfMonth(3)
+                .startDate(LocalDate.of(2024, 1, 1))
+                .maxOccurrences(10)
+                .build();
+
+        CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(pattern);
+
+        assertEquals(RecurrencePattern.RecurrenceType.MONTHLY, rule.type());
+        assertEquals(2, rule.interval());
+        assertEquals(0b1000001, rule.daysOfWeekMask());
+        assertFalse(rule.hasDayOfMonth());
+        assertEquals(3, rule.weekOfMonth());
+        assertFalse(rule.hasEndDate());
+        assertNull(rule.endDate());
+        assertEquals(10, rule.maxOccurrences());
+        assertTrue(rule.isSteppable());
+    }
+
+    @Test
+    @DisplayName("Should compile a missing pattern to the default daily rule")
+    void compile_NullPattern() {
+        assertSame(CompiledRecurrenceRule.DEFAULT_DAILY, CompiledRecurrenceRule.compile(null));
+    }
+
+    @Test
+    @DisplayName("Should find the next listed weekday for every day and mask")
+    void daysToNextListedDay_MatchesScan() {
+        for (int mask = 1; mask < 128; mask++) {
+            Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if ((mask & (1 << day.ordinal())) != 0) {
+                    days.add(day);
+                }
+            }
+            CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(RecurrencePattern.builder()
+                    .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                    .daysOfWeek(days)
+                    .build());
+
+            for (DayOfWeek from : DayOfWeek.values()) {
+                int expected = 1;
+                while (!days.contains(from.plus(expected))) {
+                    expected++;
+                }
+                assertEquals(expected, rule.daysToNextListedDay(from), days + " from " + from);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat the active period as inclusive whole days")
+    void isActiveOn_InclusiveDays() {
+        CompiledRecurrenceRule rule = CompiledRecurrenceRule.compile(RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .startDate(LocalDate.of(2024, 3, 1))
+                .endDate(LocalDate.of(2024, 3, 31))
+                .build());
+
+        assertFalse(rule.isActiveOn(LocalDate.of(2024, 2, 29).atTime(LocalTime.MAX)));
+        assertTrue(rule.isActiveOn(LocalDateTime.of(2024, 3, 1, 0, 0)));
+        assertTrue(rule.isActiveOn(LocalDate.of(2024, 3, 31).atTime(LocalTime.MAX)));
+        assertFalse(rule.isActiveOn(LocalDateTime.of(2024, 4, 1, 0, 0)));
+    }
+}
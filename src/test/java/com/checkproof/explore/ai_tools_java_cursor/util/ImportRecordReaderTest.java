@@ -0,0 +1,106 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImportRecordReader Tests")
+class ImportRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should read one record per NDJSON line, joining arrays and skipping blank lines")
+    void ndjson_Records() {
+        List<ImportRecordReader.ImportRecord> records = read(ImportRecordReader.Format.NDJSON,
+                "{\"name\":\"Stand-up\",\"durationMinutes\":15,\"participantIds\":[1,2]}\n"
+                        + "\n"
+                        + "{\"name\":\"Review\",\"description\":null}\n");
+
+        assertEquals(2, records.size());
+        assertEquals(1, records.get(0).line());
+        assertEquals(Map.of("name", "Stand-up", "durationMinutes", "15", "participantIds", "1;2"),
+                records.get(0).fields());
+        assertEquals(3, records.get(1).line());
+        assertEquals(Map.of("name", "Review"), records.get(1).fields());
+    }
+
+    @Test
+    @DisplayName("Should report malformed NDJSON lines and carry on")
+    void ndjson_Malformed() {
+        List<ImportRecordReader.ImportRecord> records = read(ImportRecordReader.Format.NDJSON,
+                "{\"name\":\n[1,2]\n{\"name\":\"Ok\"}");
+
+        assertEquals(3, records.size());
+        assertFalse(records.get(0).isValid());
+        assertTrue(records.get(0).error().startsWith("Malformed JSON"));
+        assertEquals("Expected a JSON object", records.get(1).error());
+        assertTrue(records.get(2).isValid());
+        assertEquals(3, records.get(2).line());
+    }
+
+    @Test
+    @DisplayName("Should read CSV rows by header with quoted commas, quotes and line breaks")
+    void csv_QuotedFields() {
+        List<ImportRecordReader.ImportRecord> records = read(ImportRecordReader.Format.CSV,
+                "name,description,participantIds\r\n"
+                        + "Planning,\"Agenda, notes\",1;2\r\n"
+                        + "Retro,\"Say \"\"hi\"\"\nthen go\",\r\n");
+
+        assertEquals(2, records.size());
+        assertEquals(2, records.get(0).line());
+        assertEquals(Map.of("name", "Planning", "description", "Agenda, notes", "participantIds", "1;2"),
+                records.get(0).fields());
+        assertEquals(3, records.get(1).line());
+        assertEquals(Map.of("name", "Retro", "description", "Say \"hi\"\nthen go"), records.get(1).fields());
+    }
+
+    @Test
+    @DisplayName("Should report CSV rows with the wrong number of columns and keep line numbers")
+    void csv_ColumnCount() {
+        List<ImportRecordReader.ImportRecord> records = read(ImportRecordReader.Format.CSV,
+                "name,email\nAlice\nBob,bob@example.com\n");
+
+        assertEquals(2, records.size());
+        assertEquals("Expected 2 columns but found 1", records.get(0).error());
+        assertEquals(3, records.get(1).line());
+        assertEquals("bob@example.com", records.get(1).fields().get("email"));
+    }
+
+    @Test
+    @DisplayName("Should bound a CSV record left open by a missing quote")
+    void csv_Unterminated() {
+        String open = "name\n\"" + "x".repeat(ImportRecordReader.MAX_RECORD_CHARS + 10) + "\n";
+
+        List<ImportRecordReader.ImportRecord> records = read(ImportRecordReader.Format.CSV, open);
+
+        assertEquals(1, records.size());
+        assertTrue(records.get(0).error().startsWith("Record exceeds"));
+        assertThrows(IllegalArgumentException.class,
+                () -> read(ImportRecordReader.Format.CSV, "\"name\nAlice\n"));
+    }
+
+    @Test
+    @DisplayName("Should map supported media types to formats")
+    void format_FromMediaType() {
+        assertEquals(ImportRecordReader.Format.NDJSON, ImportRecordReader.Format.fromMediaType("application/x-ndjson"));
+        assertEquals(ImportRecordReader.Format.NDJSON, ImportRecordReader.Format.fromMediaType("application/jsonl"));
+        assertEquals(ImportRecordReader.Format.CSV, ImportRecordReader.Format.fromMediaType("text/csv; charset=UTF-8"));
+        assertNull(ImportRecordReader.Format.fromMediaType("application/json"));
+        assertNull(ImportRecordReader.Format.fromMediaType(null));
+    }
+
+    private List<ImportRecordReader.ImportRecord> read(ImportRecordReader.Format format, String body) {
+        ImportRecordReader reader = new ImportRecordReader(new StringReader(body), format, objectMapper);
+        List<ImportRecordReader.ImportRecord> records = new ArrayList<>();
+        reader.forEachRemaining(records::add);
+        return records;
+    }
+}
@@ -0,0 +1,82 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalSweep Tests")
+class IntervalSweepTest {
+
+    @Test
+    @DisplayName("Should report overlapping candidates and ignore adjacent ones")
+    void findOverlaps_Candidates() {
+        long[] starts = {0, 30, 60};
+        long[] ends = {60, 90, 120};
+
+        Set<List<Integer>> pairs = collect(starts, ends, new boolean[3]);
+
+        assertEquals(Set.of(List.of(0, 1), List.of(1, 2)), pairs);
+    }
+
+    @Test
+    @DisplayName("Should not pair reference intervals with each other")
+    void findOverlaps_ReferencesNotPaired() {
+        long[] starts = {0, 0, 10};
+        long[] ends = {100, 100, 20};
+        boolean[] reference = {true, true, false};
+
+        Set<List<Integer>> pairs = collect(starts, ends, reference);
+
+        assertEquals(Set.of(List.of(0, 2), List.of(1, 2)), pairs);
+    }
+
+    @Test
+    @DisplayName("Should treat zero-length intervals like the interval tree")
+    void findOverlaps_ZeroLength() {
+        long[] starts = {0, 50, 100};
+        long[] ends = {100, 50, 100};
+
+        Set<List<Integer>> pairs = collect(starts, ends, new boolean[3]);
+
+        assertEquals(Set.of(List.of(0, 1)), pairs);
+    }
+
+    @Test
+    @DisplayName("Should match brute force pairwise comparison on random intervals")
+    void findOverlaps_MatchesBruteForce() {
+        Random random = new Random(7);
+        int count = 1_000;
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        boolean[] reference = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = random.nextInt(50_000);
+            ends[i] = starts[i] + random.nextInt(400);
+            reference[i] = random.nextBoolean();
+        }
+
+        Set<List<Integer>> expected = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                if ((!reference[i] || !reference[j]) && starts[i] < ends[j] && starts[j] < ends[i]) {
+                    expected.add(List.of(i, j));
+                }
+            }
+        }
+
+        assertEquals(expected, collect(starts, ends, reference));
+    }
+
+    private static Set<List<Integer>> collect(long[] starts, long[] ends, boolean[] reference) {
+        Set<List<Integer>> pairs = new HashSet<>();
+        IntervalSweep.findOverlaps(starts, ends, reference,
+                (first, second) -> assertTrue(pairs.add(List.of(Math.min(first, second), Math.max(first, second)))));
+        return pairs;
+    }
+}
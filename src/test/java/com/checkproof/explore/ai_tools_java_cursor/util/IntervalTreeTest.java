@@ -0,0 +1,111 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntervalTree Tests")
+class IntervalTreeTest {
+
+    private IntervalTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new IntervalTree();
+    }
+
+    @Test
+    @DisplayName("Should detect overlap with interval starting before the query")
+    void anyOverlap_IntervalStartingEarlier() {
+        tree.insert(1L, 0, 120);
+
+        assertTrue(tree.anyOverlap(60, 90, null));
+        assertTrue(tree.anyOverlap(100, 200, null));
+    }
+
+    @Test
+    @DisplayName("Should treat intervals as half-open")
+    void anyOverlap_AdjacentIntervals() {
+        tree.insert(1L, 0, 60);
+
+        assertFalse(tree.anyOverlap(60, 120, null));
+        assertFalse(tree.anyOverlap(-60, 0, null));
+    }
+
+    @Test
+    @DisplayName("Should ignore excluded interval")
+    void anyOverlap_ExcludedId() {
+        tree.insert(1L, 0, 60);
+
+        assertFalse(tree.anyOverlap(10, 20, 1L));
+
+        tree.insert(2L, 15, 30);
+        assertTrue(tree.anyOverlap(10, 20, 1L));
+    }
+
+    @Test
+    @DisplayName("Should return overlapping ids in start order")
+    void findOverlappingIds_Ordered() {
+        tree.insert(3L, 50, 70);
+        tree.insert(1L, 0, 100);
+        tree.insert(2L, 20, 40);
+        tree.insert(4L, 200, 300);
+
+        assertEquals(List.of(1L, 2L, 3L), tree.findOverlappingIds(30, 60, null));
+    }
+
+    @Test
+    @DisplayName("Should remove intervals")
+    void remove_Interval() {
+        tree.insert(1L, 0, 60);
+        tree.insert(2L, 0, 30);
+
+        assertTrue(tree.remove(1L, 0));
+        assertFalse(tree.remove(1L, 0));
+        assertEquals(1, tree.size());
+        assertFalse(tree.anyOverlap(40, 50, null));
+        assertTrue(tree.anyOverlap(10, 20, null));
+    }
+
+    @Test
+    @DisplayName("Should match brute force overlap search on random intervals")
+    void findOverlappingIds_MatchesBruteForce() {
+        Random random = new Random(42);
+        Map<Long, long[]> intervals = new HashMap<>();
+
+        for (long id = 0; id < 2_000; id++) {
+            long start = random.nextInt(100_000);
+            long end = start + random.nextInt(500);
+            tree.insert(id, start, end);
+            intervals.put(id, new long[]{start, end});
+        }
+        for (long id = 0; id < 2_000; id += 3) {
+            tree.remove(id, intervals.remove(id)[0]);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            long start = random.nextInt(100_000);
+            long end = start + random.nextInt(1_000);
+
+            List<Long> expected = new ArrayList<>();
+            intervals.entrySet().stream()
+                    .filter(e -> e.getValue()[0] < end && e.getValue()[1] > start)
+                    .sorted((a, b) -> a.getValue()[0] != b.getValue()[0]
+                            ? Long.compare(a.getValue()[0], b.getValue()[0])
+                            : Long.compare(a.getKey(), b.getKey()))
+                    .forEach(e -> expected.add(e.getKey()));
+
+            assertEquals(expected, tree.findOverlappingIds(start, end, null));
+            assertEquals(!expected.isEmpty(), tree.anyOverlap(start, end, null));
+        }
+        assertEquals(intervals.size(), tree.size());
+    }
+}
@@ -0,0 +1,151 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InvertedIndex Tests")
+class InvertedIndexTest {
+
+    private static final int TITLE = 0;
+    private static final int DESCRIPTION = 1;
+
+    @Test
+    @DisplayName("Should split text into lower-cased letter and digit runs")
+    void tokenize() {
+        assertEquals(List.of("q3", "planning", "café", "2025"), InvertedIndex.tokenize("Q3 Planning — Café, 2025!"));
+        assertEquals(List.of(), InvertedIndex.tokenize("  --  "));
+        assertEquals(List.of(), InvertedIndex.tokenize(null));
+    }
+
+    @Test
+    @DisplayName("Should require every query term and match terms by prefix")
+    void search_AllTermsByPrefix() {
+        InvertedIndex index = new InvertedIndex(2.0, 1.0);
+        index.put(1, "Team meeting", "Weekly sync");
+        index.put(2, "Team lunch", null);
+        index.put(3, "Board meetings", "Quarterly team review");
+
+        assertEquals(List.of(1L, 3L), ids(index.search("meet", 0)));
+        assertEquals(List.of(1L, 3L), sorted(index.search("team meet", 0)));
+        assertEquals(List.of(), ids(index.search("team dinner", 0)));
+        assertEquals(List.of(), ids(index.search("  ", 0)));
+    }
+
+    @Test
+    @DisplayName("Should only search the requested fields")
+    void search_Fields() {
+        InvertedIndex index = new InvertedIndex(2.0, 1.0);
+        index.put(1, "Team meeting", "Weekly sync");
+        index.put(2, "Retro", "Team feedback");
+
+        assertEquals(List.of(1L), ids(index.search("team", 0, TITLE)));
+        assertEquals(List.of(2L), ids(index.search("team", 0, DESCRIPTION)));
+        assertEquals(2, index.search("team", 0).size());
+    }
+
+    @Test
+    @DisplayName("Should rank rare terms, title matches and short documents higher")
+    void search_Ranking() {
+        InvertedIndex index = new InvertedIndex(2.0, 1.0);
+        index.put(1, "Planning", "budget review for the whole department and every team in it");
+        index.put(2, "Budget", null);
+        index.put(3, "Planning", "budget");
+        for (int i = 10; i < 30; i++) {
+            index.put(i, "Planning session " + i, null);
+        }
+
+        List<InvertedIndex.Hit> hits = index.search("budget", 0);
+        // Title beats description; a short description beats a long one
+        assertEquals(List.of(2L, 3L, 1L), ids(hits));
+        // "budget" is in 3 documents, "planning" in 22, so it weighs more
+        double rare = index.search("budget", 0).get(0).score();
+        double common = index.search("planning", 0).get(0).score();
+        assertTrue(rare > common);
+    }
+
+    @Test
+    @DisplayName("Should return the best hits up to the limit, ties by id")
+    void search_Limit() {
+        InvertedIndex index = new InvertedIndex(1.0);
+        for (int i = 1; i <= 10; i++) {
+            index.put(i, "standup");
+        }
+        index.put(11, "standup standup");
+
+        assertEquals(List.of(11L, 1L, 2L), ids(index.search("standup", 3)));
+    }
+
+    @Test
+    @DisplayName("Should replace and remove documents")
+    void putAndRemove() {
+        InvertedIndex index = new InvertedIndex(2.0, 1.0);
+        index.put(1, "Team meeting", null);
+        index.put(1, "Retro", null);
+
+        assertEquals(List.of(), ids(index.search("meeting", 0)));
+        assertEquals(List.of(1L), ids(index.search("retro", 0)));
+        assertEquals(1, index.termCount());
+
+        index.remove(1);
+        index.remove(42);
+        assertEquals(0, index.size());
+        assertEquals(0, index.termCount());
+        assertEquals(List.of(), ids(index.search("retro", 0)));
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on random documents")
+    void search_MatchesScan() {
+        Random random = new Random(7);
+        String[] words = {"alpha", "alpine", "beta", "gamma", "gambit", "delta", "echo"};
+        InvertedIndex index = new InvertedIndex(2.0, 1.0);
+        String[][] documents = new String[300][];
+        for (int id = 0; id < documents.length; id++) {
+            documents[id] = new String[]{phrase(random, words), phrase(random, words)};
+            index.put(id, documents[id]);
+        }
+        for (int id = 0; id < documents.length; id += 3) {
+            index.remove(id);
+            documents[id] = null;
+        }
+
+        for (String query : List.of("al", "gam be", "delta echo", "alpine")) {
+            List<Long> expected = new ArrayList<>();
+            for (int id = 0; id < documents.length; id++) {
+                if (documents[id] != null && matches(documents[id][TITLE], query)) {
+                    expected.add((long) id);
+                }
+            }
+            assertEquals(expected, sorted(index.search(query, 0, TITLE)), query);
+        }
+    }
+
+    private static boolean matches(String text, String query) {
+        List<String> tokens = InvertedIndex.tokenize(text);
+        return InvertedIndex.tokenize(query).stream()
+                .allMatch(term -> tokens.stream().anyMatch(token -> token.startsWith(term)));
+    }
+
+    private static String phrase(Random random, String[] words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0, n = 1 + random.nextInt(4); i < n; i++) {
+            phrase.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return phrase.toString();
+    }
+
+    private static List<Long> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::id).collect(Collectors.toList());
+    }
+
+    private static List<Long> sorted(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::id).sorted().collect(Collectors.toList());
+    }
+}
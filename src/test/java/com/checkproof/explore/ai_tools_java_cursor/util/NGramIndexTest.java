@@ -0,0 +1,111 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NGramIndex Tests")
+class NGramIndexTest {
+
+    @Test
+    @DisplayName("Should find substrings anywhere in the text, ignoring case")
+    void search_Substrings() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Alice Johnson");
+        index.put(2, "Bob Johnston");
+        index.put(3, "Carol");
+
+        assertEquals(Set.of(1L, 2L), index.search("JOHNS"));
+        assertEquals(Set.of(2L), index.search("ohnst"));
+        assertEquals(Set.of(1L), index.search("ce jo"));
+        assertEquals(Set.of(), index.search("johnsons"));
+        assertEquals(Set.of(), index.search(""));
+        assertEquals(Set.of(), index.search(null));
+    }
+
+    @Test
+    @DisplayName("Should find fragments shorter than a trigram, including at the end of the text")
+    void search_ShortFragments() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "555-0142");
+        index.put(2, "555-0199");
+        index.put(3, "x");
+
+        assertEquals(Set.of(1L), index.search("42"));
+        assertEquals(Set.of(1L, 2L), index.search("5"));
+        assertEquals(Set.of(3L), index.search("X"));
+        assertEquals(Set.of(2L), index.search("99"));
+    }
+
+    @Test
+    @DisplayName("Should reject candidates whose trigrams are not adjacent")
+    void search_VerifiesCandidates() {
+        NGramIndex index = new NGramIndex();
+        // Holds "abc" and "bcd" but not "abcd"
+        index.put(1, "abc bcd");
+        index.put(2, "xabcdx");
+
+        assertEquals(Set.of(2L), index.search("abcd"));
+    }
+
+    @Test
+    @DisplayName("Should replace and remove documents")
+    void putAndRemove() {
+        NGramIndex index = new NGramIndex();
+        index.put(1, "Planning");
+        index.put(1, "Review");
+        assertEquals(Set.of(), index.search("plan"));
+        assertEquals(Set.of(1L), index.search("view"));
+        assertEquals("review", index.text(1));
+
+        index.put(2, null);
+        assertEquals(1, index.size());
+
+        index.remove(1);
+        assertEquals(0, index.size());
+        assertEquals(0, index.gramCount());
+        assertNull(index.text(1));
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on random texts")
+    void search_MatchesScan() {
+        Random random = new Random(11);
+        NGramIndex index = new NGramIndex();
+        String[] texts = new String[500];
+        for (int id = 0; id < texts.length; id++) {
+            texts[id] = text(random, 4 + random.nextInt(20));
+            index.put(id, texts[id]);
+        }
+        for (int id = 0; id < texts.length; id += 4) {
+            index.remove(id);
+            texts[id] = null;
+        }
+
+        for (String fragment : List.of("a", "Bc", "abA", "cab", "abcab", "bacaba", "dd")) {
+            Set<Long> expected = new TreeSet<>();
+            for (int id = 0; id < texts.length; id++) {
+                if (texts[id] != null && texts[id].toLowerCase(Locale.ROOT).contains(fragment.toLowerCase(Locale.ROOT))) {
+                    expected.add((long) id);
+                }
+            }
+            assertEquals(expected, new TreeSet<>(index.search(fragment)), fragment);
+        }
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(3));
+            text.append(random.nextBoolean() ? Character.toUpperCase(c) : c);
+        }
+        return text.toString();
+    }
+}
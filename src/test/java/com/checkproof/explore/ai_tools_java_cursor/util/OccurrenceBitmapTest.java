@@ -0,0 +1,81 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OccurrenceBitmap Tests")
+class OccurrenceBitmapTest {
+
+    private static final LocalDate ORIGIN = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Should contain only excluded days")
+    void with_ExcludesDay() {
+        OccurrenceBitmap bitmap = OccurrenceBitmap.empty(ORIGIN)
+                .with(LocalDateTime.of(2025, 1, 3, 9, 0))
+                .with(LocalDateTime.of(2025, 6, 30, 9, 0));
+
+        assertTrue(bitmap.contains(LocalDateTime.of(2025, 1, 3, 9, 0)));
+        assertTrue(bitmap.contains(LocalDate.of(2025, 6, 30)));
+        assertFalse(bitmap.contains(LocalDate.of(2025, 1, 2)));
+        assertFalse(bitmap.contains(LocalDate.of(2024, 12, 31)));
+        assertFalse(bitmap.contains(LocalDate.of(2030, 1, 1)));
+        assertEquals(2, bitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("Should leave the original bitmap unchanged")
+    void with_IsImmutable() {
+        OccurrenceBitmap empty = OccurrenceBitmap.empty(ORIGIN);
+
+        empty.with(LocalDateTime.of(2025, 1, 3, 9, 0));
+
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject days before the origin")
+    void with_BeforeOrigin() {
+        OccurrenceBitmap bitmap = OccurrenceBitmap.empty(ORIGIN);
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.with(LocalDateTime.of(2024, 12, 31, 9, 0)));
+    }
+
+    @Test
+    @DisplayName("Should round-trip through bytes")
+    void toBytes_RoundTrip() {
+        OccurrenceBitmap bitmap = OccurrenceBitmap.empty(ORIGIN)
+                .with(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .with(LocalDateTime.of(2027, 3, 15, 9, 0));
+
+        OccurrenceBitmap decoded = OccurrenceBitmap.fromBytes(ORIGIN, bitmap.toBytes());
+
+        assertTrue(decoded.contains(LocalDate.of(2025, 1, 1)));
+        assertTrue(decoded.contains(LocalDate.of(2027, 3, 15)));
+        assertEquals(2, decoded.cardinality());
+        assertNull(OccurrenceBitmap.empty(ORIGIN).toBytes());
+        assertTrue(OccurrenceBitmap.fromBytes(ORIGIN, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep excluded dates when the origin moves")
+    void rebase_KeepsDates() {
+        OccurrenceBitmap bitmap = OccurrenceBitmap.empty(ORIGIN)
+                .with(LocalDateTime.of(2025, 1, 2, 9, 0))
+                .with(LocalDateTime.of(2025, 1, 20, 9, 0));
+
+        OccurrenceBitmap later = bitmap.rebase(LocalDate.of(2025, 1, 10));
+        OccurrenceBitmap earlier = bitmap.rebase(LocalDate.of(2024, 12, 1));
+
+        assertFalse(later.contains(LocalDate.of(2025, 1, 2)));
+        assertTrue(later.contains(LocalDate.of(2025, 1, 20)));
+        assertEquals(1, later.cardinality());
+        assertTrue(earlier.contains(LocalDate.of(2025, 1, 2)));
+        assertTrue(earlier.contains(LocalDate.of(2025, 1, 20)));
+    }
+}
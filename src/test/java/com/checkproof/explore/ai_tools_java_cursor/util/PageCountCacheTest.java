@@ -0,0 +1,106 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.Event;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PageCountCache Tests")
+class PageCountCacheTest {
+
+    private AtomicLong clock;
+    private PageCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        cache = new PageCountCache(Duration.ofSeconds(30), 3, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should count once until the entry expires")
+    void getOrCount_ExpiresAfterTtl() {
+        AtomicInteger counts = new AtomicInteger();
+
+        assertEquals(42, cache.getOrCount(Event.class, "all", () -> { counts.incrementAndGet(); return 42; }));
+        assertEquals(42, cache.getOrCount(Event.class, "all", () -> counts.incrementAndGet()));
+        assertEquals(1, counts.get());
+
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertEquals(2, cache.getOrCount(Event.class, "all", () -> counts.incrementAndGet()));
+    }
+
+    @Test
+    @DisplayName("Should drop only the counts of the written entity")
+    void invalidate_DropsEntityCounts() {
+        cache.getOrCount(Event.class, "all", () -> 10);
+        cache.getOrCount(Task.class, "all", () -> 20);
+
+        cache.invalidate(Event.class);
+
+        assertEquals(0, cache.size(Event.class));
+        assertEquals(11, cache.getOrCount(Event.class, "all", () -> 11));
+        assertEquals(20, cache.getOrCount(Task.class, "all", () -> 21));
+    }
+
+    @Test
+    @DisplayName("Should stay bounded per entity")
+    void getOrCount_Bounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.getOrCount(Event.class, "name:" + i, () -> 1);
+        }
+
+        assertTrue(cache.size(Event.class) <= 3);
+    }
+
+    @Test
+    @DisplayName("Should run the page query on a miss and only the slice query on a hit")
+    void getPage_UsesSliceOnHit() {
+        Pageable pageable = PageRequest.of(0, 2);
+        AtomicInteger pageQueries = new AtomicInteger();
+        AtomicInteger sliceQueries = new AtomicInteger();
+
+        Page<String> first = cache.getPage(Event.class, "all", pageable,
+                p -> { pageQueries.incrementAndGet(); return new PageImpl<>(List.of("a", "b"), p, 10); },
+                p -> { sliceQueries.incrementAndGet(); return new SliceImpl<>(List.of("a", "b"), p, true); });
+        Page<String> second = cache.getPage(Event.class, "all", pageable,
+                p -> { pageQueries.incrementAndGet(); return new PageImpl<>(List.of("a", "b"), p, 10); },
+                p -> { sliceQueries.incrementAndGet(); return new SliceImpl<>(List.of("a", "b"), p, true); });
+
+        assertEquals(10, first.getTotalElements());
+        assertEquals(10, second.getTotalElements());
+        assertEquals(1, pageQueries.get());
+        assertEquals(1, sliceQueries.get());
+    }
+
+    @Test
+    @DisplayName("Should correct a stale total from what the slice saw")
+    void getPage_CorrectsStaleTotal() {
+        cache.getOrCount(Event.class, "all", () -> 3);
+
+        Page<String> grown = cache.getPage(Event.class, "all", PageRequest.of(1, 2),
+                p -> fail("page query should not run on a hit"),
+                p -> new SliceImpl<>(List.of("c", "d"), p, true));
+        Page<String> shrunk = cache.getPage(Event.class, "all", PageRequest.of(0, 2),
+                p -> fail("page query should not run on a hit"),
+                p -> new SliceImpl<>(List.of("a"), p, false));
+
+        assertEquals(5, grown.getTotalElements());
+        assertTrue(grown.hasNext());
+        assertEquals(1, shrunk.getTotalElements());
+        assertFalse(shrunk.hasNext());
+    }
+}
@@ -0,0 +1,33 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PageCursor Tests")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through an opaque token")
+    void encode_RoundTrip() {
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2025, 3, 14, 9, 30, 15, 500_000_000), 42L);
+
+        String token = cursor.encode();
+
+        assertFalse(token.contains("2025"));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, PageCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens it did not produce")
+    void decode_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("%%%"));
+        assertFalse(PageCursor.isValid(""));
+        assertTrue(PageCursor.isValid(new PageCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 1L).encode()));
+    }
+}
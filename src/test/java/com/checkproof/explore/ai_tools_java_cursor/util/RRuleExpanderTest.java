@@ -0,0 +1,143 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Expansion checked against the examples of RFC 5545 section 3.8.5.3
+ */
+@DisplayName("RRuleExpander Tests")
+class RRuleExpanderTest {
+
+    private static final LocalDateTime HORIZON = LocalDateTime.of(2010, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("Daily for 10 occurrences")
+    void daily_Count() {
+        List<LocalDateTime> occurrences = expand("19970902T090000", "FREQ=DAILY;COUNT=10");
+
+        assertEquals(10, occurrences.size());
+        assertEquals(at("19970902T090000"), occurrences.get(0));
+        assertEquals(at("19970911T090000"), occurrences.get(9));
+    }
+
+    @Test
+    @DisplayName("Every other week on Monday, Wednesday and Friday until December 24, 1997")
+    void weekly_IntervalUntilWeekStart() {
+        List<LocalDateTime> occurrences = expand("19970901T090000",
+                "FREQ=WEEKLY;INTERVAL=2;UNTIL=19971224T000000Z;WKST=SU;BYDAY=MO,WE,FR");
+
+        assertEquals(25, occurrences.size());
+        assertEquals(dates("19970901T090000", "19970903T090000", "19970905T090000", "19970915T090000",
+                "19970917T090000", "19970919T090000"), occurrences.subList(0, 6));
+        assertEquals(at("19971222T090000"), occurrences.get(24));
+    }
+
+    @Test
+    @DisplayName("Monthly on the first Friday for 10 occurrences")
+    void monthly_OrdinalWeekday() {
+        assertEquals(dates("19970905T090000", "19971003T090000", "19971107T090000", "19971205T090000",
+                        "19980102T090000", "19980206T090000", "19980306T090000", "19980403T090000",
+                        "19980501T090000", "19980605T090000"),
+                expand("19970905T090000", "FREQ=MONTHLY;COUNT=10;BYDAY=1FR"));
+    }
+
+    @Test
+    @DisplayName("Monthly on the second-to-last Monday for 6 months")
+    void monthly_NegativeOrdinal() {
+        assertEquals(dates("19970922T090000", "19971020T090000", "19971117T090000", "19971222T090000",
+                        "19980119T090000", "19980216T090000"),
+                expand("19970922T090000", "FREQ=MONTHLY;COUNT=6;BYDAY=-2MO"));
+    }
+
+    @Test
+    @DisplayName("Last work day of the month")
+    void monthly_SetPos() {
+        assertEquals(dates("19970930T090000", "19971031T090000", "19971128T090000", "19971231T090000",
+                        "19980130T090000", "19980227T090000", "19980331T090000"),
+                expand("19970930T090000", "FREQ=MONTHLY;COUNT=7;BYDAY=MO,TU,WE,TH,FR;BYSETPOS=-1"));
+    }
+
+    @Test
+    @DisplayName("Every Friday the 13th, excluding the start date")
+    void monthly_ByDayLimitsByMonthDay() {
+        List<LocalDateTime> occurrences = RRuleExpander.expand(at("19970902T090000"),
+                RRule.parse("FREQ=MONTHLY;BYDAY=FR;BYMONTHDAY=13"), Set.of(at("19970902T090000")), Set.of(),
+                at("19970902T090000"), at("20001231T000000"));
+
+        assertEquals(dates("19980213T090000", "19980313T090000", "19981113T090000", "19990813T090000",
+                "20001013T090000"), occurrences);
+    }
+
+    @Test
+    @DisplayName("Invalid dates such as February 30th are skipped")
+    void monthly_SkipsInvalidDates() {
+        assertEquals(dates("20070115T090000", "20070130T090000", "20070215T090000", "20070315T090000",
+                        "20070330T090000"),
+                expand("20070115T090000", "FREQ=MONTHLY;BYMONTHDAY=15,30;COUNT=5"));
+    }
+
+    @Test
+    @DisplayName("Yearly in June and July for 10 occurrences")
+    void yearly_ByMonth() {
+        List<LocalDateTime> occurrences = expand("19970610T090000", "FREQ=YEARLY;COUNT=10;BYMONTH=6,7");
+
+        assertEquals(10, occurrences.size());
+        assertEquals(dates("19970610T090000", "19970710T090000", "19980610T090000"), occurrences.subList(0, 3));
+        assertEquals(at("20010710T090000"), occurrences.get(9));
+    }
+
+    @Test
+    @DisplayName("Monday of week 20 by ordinal within the year")
+    void yearly_OrdinalWithinYear() {
+        assertEquals(dates("19970519T090000", "19980518T090000", "19990517T090000"),
+                expand("19970519T090000", "FREQ=YEARLY;COUNT=3;BYDAY=20MO"));
+    }
+
+    @Test
+    @DisplayName("U.S. Presidential Election day")
+    void yearly_ElectionDay() {
+        assertEquals(dates("19961105T090000", "20001107T090000", "20041102T090000", "20081104T090000"),
+                expand("19961105T090000", "FREQ=YEARLY;INTERVAL=4;BYMONTH=11;BYDAY=TU;BYMONTHDAY=2,3,4,5,6,7,8"));
+    }
+
+    @Test
+    @DisplayName("Window and RDATE are applied after COUNT")
+    void window_WithRDates() {
+        LocalDateTime extra = at("19970920T120000");
+        List<LocalDateTime> occurrences = RRuleExpander.expand(at("19970902T090000"), RRule.parse("FREQ=DAILY;COUNT=30"),
+                Set.of(at("19970921T090000")), Set.of(extra), at("19970920T000000"), at("19970922T235959"));
+
+        assertEquals(List.of(at("19970920T090000"), extra, at("19970922T090000")), occurrences);
+    }
+
+    @Test
+    @DisplayName("Should jump straight to a far window when COUNT is not used")
+    void window_FarFromStart() {
+        List<LocalDateTime> occurrences = RRuleExpander.expand(at("20000103T090000"),
+                RRule.parse("FREQ=WEEKLY;BYDAY=MO,TH"), Set.of(), Set.of(),
+                at("20240101T000000"), at("20240114T235959"));
+
+        assertEquals(dates("20240101T090000", "20240104T090000", "20240108T090000", "20240111T090000"), occurrences);
+    }
+
+    private static List<LocalDateTime> expand(String dtStart, String rule) {
+        return RRuleExpander.expand(at(dtStart), RRule.parse(rule), Set.of(), Set.of(), at(dtStart), HORIZON);
+    }
+
+    private static LocalDateTime at(String value) {
+        return RRule.parseDateTime(value);
+    }
+
+    private static List<LocalDateTime> dates(String... values) {
+        return Stream.of(values).map(RRuleExpanderTest::at).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,71 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RRule Tests")
+class RRuleTest {
+
+    @Test
+    @DisplayName("Should parse every supported rule part")
+    void parse_AllParts() {
+        RRule rule = RRule.parse("RRULE:FREQ=MONTHLY;INTERVAL=2;COUNT=10;BYDAY=1MO,-1FR,WE;BYMONTHDAY=1,-1;BYMONTH=3,9;BYSETPOS=-1;WKST=SU");
+
+        assertEquals(RecurrencePattern.RecurrenceType.MONTHLY, rule.getFrequency());
+        assertEquals(2, rule.getInterval());
+        assertEquals(10, rule.getCount());
+        assertEquals(List.of(new RRule.WeekdayNum(1, DayOfWeek.MONDAY), new RRule.WeekdayNum(-1, DayOfWeek.FRIDAY),
+                new RRule.WeekdayNum(0, DayOfWeek.WEDNESDAY)), rule.getByDay());
+        assertArrayEquals(new int[]{1, -1}, rule.getByMonthDay());
+        assertArrayEquals(new int[]{3, 9}, rule.getByMonth());
+        assertArrayEquals(new int[]{-1}, rule.getBySetPos());
+        assertEquals(DayOfWeek.SUNDAY, rule.getWeekStart());
+    }
+
+    @Test
+    @DisplayName("Should round-trip through its canonical text")
+    void toString_RoundTrips() {
+        RRule rule = RRule.parse("freq=weekly;until=19971224T000000Z;byday=MO,WE,FR;interval=2");
+
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;UNTIL=19971224T000000;BYDAY=MO,WE,FR", rule.toString());
+        assertEquals(rule, RRule.parse(rule.toString()));
+    }
+
+    @Test
+    @DisplayName("Should treat a date-only UNTIL as the whole day")
+    void parse_DateOnlyUntil() {
+        RRule rule = RRule.parse("FREQ=DAILY;UNTIL=20240131");
+
+        assertEquals(LocalDateTime.of(2024, 1, 31, 23, 59, 59, 999_999_999), rule.getUntil());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or unsupported rules")
+    void parse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("INTERVAL=2"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=HOURLY"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20240101"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=WEEKLY;BYDAY=2MO"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=WEEKLY;BYMONTHDAY=1"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=MONTHLY;BYMONTHDAY=32"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=MONTHLY;BYSETPOS=1"));
+        assertThrows(IllegalArgumentException.class, () -> RRule.parse("FREQ=DAILY;BYHOUR=9"));
+    }
+
+    @Test
+    @DisplayName("Should parse date lists in basic and ISO format")
+    void parseDateTimeList() {
+        assertEquals(List.of(LocalDateTime.of(2024, 1, 5, 9, 0), LocalDateTime.of(2024, 1, 12, 9, 30)),
+                List.copyOf(RRule.parseDateTimeList("20240105T090000, 2024-01-12T09:30")));
+        assertTrue(RRule.parseDateTimeList(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> RRule.parseDateTimeList("20240105"));
+    }
+}
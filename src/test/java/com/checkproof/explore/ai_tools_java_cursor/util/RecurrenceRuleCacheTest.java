@@ -0,0 +1,85 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecurrenceRuleCache Tests")
+class RecurrenceRuleCacheTest {
+
+    private RecurrenceRuleCache ruleCache;
+    private RecurrencePattern pattern;
+
+    @BeforeEach
+    void setUp() {
+        ruleCache = new RecurrenceRuleCache();
+        pattern = RecurrencePattern.builder()
+                .id(1L)
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(2)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should reuse the compiled rule of a saved pattern")
+    void get_ReusesRule() {
+        CompiledRecurrenceRule rule = ruleCache.get(pattern);
+
+        assertSame(rule, ruleCache.get(pattern));
+        assertEquals(1, ruleCache.size());
+    }
+
+    @Test
+    @DisplayName("Should not cache unsaved patterns")
+    void get_UnsavedPattern() {
+        pattern.setId(null);
+
+        assertEquals(ruleCache.get(pattern), ruleCache.get(pattern));
+        assertEquals(0, ruleCache.size());
+    }
+
+    @Test
+    @DisplayName("Should recompile after eviction")
+    void evict_Recompiles() {
+        ruleCache.get(pattern);
+        pattern.setInterval(3);
+
+        ruleCache.evict(1L);
+
+        assertEquals(3, ruleCache.get(pattern).interval());
+    }
+
+    @Test
+    @DisplayName("Should recompile when the pattern was updated elsewhere")
+    void get_StaleUpdatedAt() {
+        ruleCache.get(pattern);
+        pattern.setInterval(3);
+        pattern.setUpdatedAt(LocalDateTime.now().plusMinutes(1));
+
+        assertEquals(3, ruleCache.get(pattern).interval());
+    }
+
+    @Test
+    @DisplayName("Should recompile when only the days of week changed")
+    void get_DaysOfWeekChanged() {
+        pattern.setRecurrenceType(RecurrencePattern.RecurrenceType.WEEKLY);
+        pattern.setDaysOfWeek(new HashSet<>(Set.of(DayOfWeek.MONDAY)));
+        assertFalse(ruleCache.get(pattern).includes(DayOfWeek.FRIDAY));
+
+        // The element collection changes without touching the pattern row or its updatedAt
+        pattern.getDaysOfWeek().add(DayOfWeek.FRIDAY);
+
+        CompiledRecurrenceRule rule = ruleCache.get(pattern);
+        assertTrue(rule.includes(DayOfWeek.MONDAY));
+        assertTrue(rule.includes(DayOfWeek.FRIDAY));
+        assertSame(rule, ruleCache.get(pattern));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Differential tests comparing the closed-form occurrence arithmetic with the
+ * original loops built on getNextOccurrence
+ */
+@DisplayName("RecurrenceUtil Closed Form Tests")
+class RecurrenceUtilClosedFormTest {
+
+    private RecurrenceUtil recurrenceUtil;
+    private Random random;
+
+    @BeforeEach
+    void setUp() {
+        recurrenceUtil = new RecurrenceUtil();
+        random = new Random(2024);
+    }
+
+    @Test
+    @DisplayName("Should match iteration for daily patterns")
+    void daily_MatchesIteration() {
+        for (int i = 0; i < 200; i++) {
+            assertMatchesIteration(pattern(RecurrencePattern.RecurrenceType.DAILY), randomStart(), 400);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration for weekly patterns with and without days of week")
+    void weekly_MatchesIteration() {
+        for (int i = 0; i < 200; i++) {
+            RecurrencePattern pattern = pattern(RecurrencePattern.RecurrenceType.WEEKLY);
+            if (random.nextBoolean()) {
+                pattern.setDaysOfWeek(randomDaysOfWeek());
+            }
+            assertMatchesIteration(pattern, randomStart(), 1_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration for monthly patterns with day of month clamping")
+    void monthlyDayOfMonth_MatchesIteration() {
+        for (int i = 0; i < 300; i++) {
+            RecurrencePattern pattern = pattern(RecurrencePattern.RecurrenceType.MONTHLY);
+            pattern.setDayOfMonth(random.nextInt(34) - 1);
+            assertMatchesIteration(pattern, randomStart(), 4_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration for monthly patterns by week of month")
+    void monthlyWeekOfMonth_MatchesIteration() {
+        for (int i = 0; i < 300; i++) {
+            RecurrencePattern pattern = pattern(RecurrencePattern.RecurrenceType.MONTHLY);
+            pattern.setWeekOfMonth(1 + random.nextInt(4));
+            pattern.setDaysOfWeek(randomDaysOfWeek());
+            assertMatchesIteration(pattern, randomStart(), 4_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration for plain monthly patterns with sticky month-end clamping")
+    void monthlyPlain_MatchesIteration() {
+        int[] intervals = {1, 2, 3, 4, 6, 11, 12, 24, 48};
+        for (int i = 0; i < 300; i++) {
+            RecurrencePattern pattern = pattern(RecurrencePattern.RecurrenceType.MONTHLY);
+            pattern.setInterval(intervals[random.nextInt(intervals.length)]);
+            LocalDateTime start = randomStart().withDayOfMonth(1).plusMonths(1).minusDays(1 + random.nextInt(3));
+            assertMatchesIteration(pattern, start, 40_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration for yearly patterns including February 29th")
+    void yearly_MatchesIteration() {
+        for (int i = 0; i < 200; i++) {
+            RecurrencePattern pattern = pattern(RecurrencePattern.RecurrenceType.YEARLY);
+            pattern.setInterval(1 + random.nextInt(8));
+            LocalDateTime start = random.nextBoolean()
+                    ? LocalDateTime.of(2000 + 4 * random.nextInt(25), 2, 29, 9, 30)
+                    : randomStart();
+            assertMatchesIteration(pattern, start, 80_000);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match iteration when no pattern is given")
+    void nullPattern_MatchesIteration() {
+        for (int i = 0; i < 50; i++) {
+            assertMatchesIteration(null, randomStart(), 300);
+        }
+    }
+
+    private void assertMatchesIteration(RecurrencePattern pattern, LocalDateTime start, int horizonDays) {
+        for (int q = 0; q < 5; q++) {
+            LocalDateTime date = start.plusDays(random.nextInt(horizonDays) - horizonDays / 10)
+                    .plusMinutes(random.nextInt(3) == 0 ? 0 : random.nextInt(1_440));
+            int n = 1 + random.nextInt(200);
+            String context = pattern + " start=" + start + " date=" + date + " n=" + n;
+
+            assertEquals(iterateNth(start, pattern, n), recurrenceUtil.getNthOccurrence(start, pattern, n), context);
+            assertEquals(iterateNth(start, pattern, n + 1), recurrenceUtil.skipOccurrences(start, pattern, n), context);
+            assertEquals(iterateCount(start, date, pattern),
+                    recurrenceUtil.calculateOccurrences(start, date, pattern), context);
+            assertEquals(iterateLastBefore(date, start, pattern),
+                    recurrenceUtil.getLastOccurrenceBefore(date, start, pattern), context);
+            assertEquals(iterateFirstAfter(date, start, pattern),
+                    recurrenceUtil.getFirstOccurrenceAfter(date, start, pattern), context);
+
+            LocalDateTime occurrence = iterateNth(start, pattern, n);
+            assertTrue(recurrenceUtil.isValidOccurrence(occurrence, start, pattern), context);
+            assertEquals(iterateIsValid(date, start, pattern),
+                    recurrenceUtil.isValidOccurrence(date, start, pattern), context);
+        }
+    }
+
+    private LocalDateTime iterateNth(LocalDateTime start, RecurrencePattern pattern, int n) {
+        LocalDateTime current = start;
+        for (int i = 1; i < n; i++) {
+            current = recurrenceUtil.getNextOccurrence(current, pattern);
+        }
+        return current;
+    }
+
+    private int iterateCount(LocalDateTime start, LocalDateTime end, RecurrencePattern pattern) {
+        int count = 0;
+        for (LocalDateTime current = start; !current.isAfter(end); current = recurrenceUtil.getNextOccurrence(current, pattern)) {
+            count++;
+        }
+        return count;
+    }
+
+    private LocalDateTime iterateLastBefore(LocalDateTime date, LocalDateTime start, RecurrencePattern pattern) {
+        if (date.isBefore(start)) {
+            return null;
+        }
+        LocalDateTime last = start;
+        for (LocalDateTime current = start; !current.isAfter(date); current = recurrenceUtil.getNextOccurrence(current, pattern)) {
+            last = current;
+        }
+        return last;
+    }
+
+    private LocalDateTime iterateFirstAfter(LocalDateTime date, LocalDateTime start, RecurrencePattern pattern) {
+        LocalDateTime current = start;
+        while (!current.isAfter(date)) {
+            current = recurrenceUtil.getNextOccurrence(current, pattern);
+        }
+        return current;
+    }
+
+    private boolean iterateIsValid(LocalDateTime date, LocalDateTime start, RecurrencePattern pattern) {
+        if (date.isBefore(start)) {
+            return false;
+        }
+        LocalDateTime current = start;
+        while (current.isBefore(date)) {
+            current = recurrenceUtil.getNextOccurrence(current, pattern);
+        }
+        return current.equals(date);
+    }
+
+    private RecurrencePattern pattern(RecurrencePattern.RecurrenceType type) {
+        return RecurrencePattern.builder()
+                .recurrenceType(type)
+                .interval(1 + random.nextInt(5))
+                .build();
+    }
+
+    private LocalDateTime randomStart() {
+        return LocalDateTime.of(2015, 1, 1, 0, 0)
+                .plusDays(random.nextInt(5_000))
+                .withHour(random.nextInt(24))
+                .withMinute(15 * random.nextInt(4));
+    }
+
+    private Set<DayOfWeek> randomDaysOfWeek() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        while (days.isEmpty()) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextInt(3) == 0) {
+                    days.add(day);
+                }
+            }
+        }
+        return days;
+    }
+}
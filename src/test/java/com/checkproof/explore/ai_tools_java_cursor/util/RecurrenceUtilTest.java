@@ -10,6 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -508,4 +509,75 @@ class RecurrenceUtilTest {
         assertThrows(IllegalArgumentException.class, () -> 
             recurrenceUtil.validateRecurrencePattern(pattern));
     }
+
+    @Test
+    @DisplayName("Should stream occurrences lazily without a horizon")
+    void streamOccurrences_Unbounded() {
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(1)
+                .build();
+
+        List<LocalDateTime> dates = recurrenceUtil.streamOccurrences(baseDate, pattern)
+                .skip(10_000)
+                .limit(2)
+                .toList();
+
+        assertEquals(List.of(baseDate.plusDays(10_000), baseDate.plusDays(10_001)), dates);
+    }
+
+    @Test
+    @DisplayName("Should seek to the window when streaming a long-running series")
+    void streamOccurrences_Window() {
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                .interval(1)
+                .daysOfWeek(new HashSet<>(Arrays.asList(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY)))
+                .build();
+        LocalDateTime seriesStart = baseDate.minusYears(5);
+        LocalDateTime windowStart = LocalDateTime.of(2024, 3, 4, 0, 0);
+        LocalDateTime windowEnd = LocalDateTime.of(2024, 3, 10, 23, 59);
+
+        List<LocalDateTime> dates = recurrenceUtil.streamOccurrences(seriesStart, pattern, windowStart, windowEnd).toList();
+
+        assertEquals(List.of(LocalDateTime.of(2024, 3, 5, 10, 0), LocalDateTime.of(2024, 3, 7, 10, 0)), dates);
+    }
+
+    @Test
+    @DisplayName("Should yield epoch minutes matching the streamed occurrences")
+    void streamEpochMinutes_MatchesOccurrences() {
+        LocalDateTime windowStart = LocalDateTime.of(2024, 2, 1, 0, 0);
+        LocalDateTime windowEnd = LocalDateTime.of(2024, 8, 1, 0, 0);
+        List<RecurrencePattern> patterns = List.of(
+                RecurrencePattern.builder().recurrenceType(RecurrencePattern.RecurrenceType.DAILY).interval(3).build(),
+                RecurrencePattern.builder().recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY).interval(2).build(),
+                RecurrencePattern.builder().recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY).interval(1)
+                        .daysOfWeek(new HashSet<>(Arrays.asList(DayOfWeek.MONDAY, DayOfWeek.SATURDAY))).build(),
+                RecurrencePattern.builder().recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY).interval(1)
+                        .dayOfMonth(31).build());
+
+        for (RecurrencePattern pattern : patterns) {
+            long[] expected = recurrenceUtil.streamOccurrences(baseDate, pattern, windowStart, windowEnd)
+                    .mapToLong(RecurrenceUtil::toEpochMinute)
+                    .toArray();
+
+            assertTrue(expected.length > 0);
+            assertArrayEquals(expected, recurrenceUtil.streamEpochMinutes(baseDate, pattern, windowStart, windowEnd).toArray());
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow early termination of the occurrence iterator")
+    void occurrenceIterator_EarlyTermination() {
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY)
+                .interval(1)
+                .build();
+
+        Iterator<LocalDateTime> iterator = recurrenceUtil.occurrenceIterator(baseDate, pattern);
+
+        assertEquals(baseDate, iterator.next());
+        assertEquals(baseDate.plusMonths(1), iterator.next());
+        assertTrue(iterator.hasNext());
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecurrenceWindowExpander Tests")
+class RecurrenceWindowExpanderTest {
+
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2025, 12, 31, 23, 59);
+
+    private RecurrenceUtil recurrenceUtil;
+    private RecurrenceWindowExpander parallelExpander;
+    private RecurrenceWindowExpander serialExpander;
+
+    @BeforeEach
+    void setUp() {
+        recurrenceUtil = new RecurrenceUtil();
+        parallelExpander = new RecurrenceWindowExpander(recurrenceUtil, 4, 1);
+        serialExpander = new RecurrenceWindowExpander(recurrenceUtil, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelExpander.shutdown();
+        serialExpander.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should merge sorted lists into one sorted list")
+    void mergeSorted() {
+        List<List<Integer>> runs = List.of(List.of(1, 4, 7), List.of(), List.of(2, 5, 8), List.of(3, 6, 9, 10));
+
+        List<Integer> merged = RecurrenceWindowExpander.mergeSorted(runs, Comparator.naturalOrder());
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), merged);
+    }
+
+    @Test
+    @DisplayName("Should keep list order for equal elements")
+    void mergeSorted_Ties() {
+        List<List<String>> runs = List.of(List.of("a1", "b1"), List.of("a2", "b2"));
+
+        List<String> merged = RecurrenceWindowExpander.mergeSorted(runs, Comparator.comparing(s -> s.charAt(0)));
+
+        assertEquals(List.of("a1", "a2", "b1", "b2"), merged);
+    }
+
+    @Test
+    @DisplayName("Should return an empty list when there is nothing to merge")
+    void mergeSorted_Empty() {
+        assertTrue(RecurrenceWindowExpander.mergeSorted(List.of(List.of(), List.of()), Comparator.<Integer>naturalOrder()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expand a window in parallel exactly as serially")
+    void expandWindow_ParallelMatchesSerial() {
+        List<RecurrenceWindowExpander.Series> series = randomSeries(500, new Random(42));
+
+        List<RecurrenceWindowExpander.Occurrence> parallel = parallelExpander.expandWindow(series, WINDOW_START, WINDOW_END);
+        List<RecurrenceWindowExpander.Occurrence> serial = serialExpander.expandWindow(series, WINDOW_START, WINDOW_END);
+
+        assertFalse(serial.isEmpty());
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    @DisplayName("Should return every occurrence of every series ordered by start date")
+    void expandWindow_MatchesPerSeriesExpansion() {
+        List<RecurrenceWindowExpander.Series> series = randomSeries(50, new Random(7));
+
+        List<RecurrenceWindowExpander.Occurrence> merged = parallelExpander.expandWindow(series, WINDOW_START, WINDOW_END);
+
+        List<RecurrenceWindowExpander.Occurrence> expected = new ArrayList<>();
+        for (RecurrenceWindowExpander.Series s : series) {
+            serialExpander.expand(s, WINDOW_START, WINDOW_END)
+                    .forEach(start -> expected.add(new RecurrenceWindowExpander.Occurrence(s.seriesId(), start)));
+        }
+        expected.sort(Comparator.comparing(RecurrenceWindowExpander.Occurrence::startDate));
+
+        assertEquals(expected, merged);
+    }
+
+    @Test
+    @DisplayName("Should bound a series by its maximum occurrences and skip its exceptions")
+    void expand_BoundsAndSkips() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(1)
+                .maxOccurrences(5)
+                .build();
+        RecurrenceWindowExpander.Series series = new RecurrenceWindowExpander.Series(1L, start,
+                recurrenceUtil.compile(pattern), OccurrenceBitmap.empty(start.toLocalDate()).with(start.plusDays(2)),
+                null, null);
+
+        List<LocalDateTime> occurrences = serialExpander.expand(series, WINDOW_START, WINDOW_END);
+
+        assertEquals(List.of(start, start.plusDays(1), start.plusDays(3), start.plusDays(4)), occurrences);
+    }
+
+    @Test
+    @DisplayName("Should not expand occurrences stored as rows")
+    void expand_SkipsMaterializedRange() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(1)
+                .build();
+        RecurrenceWindowExpander.Series series = new RecurrenceWindowExpander.Series(1L, start,
+                recurrenceUtil.compile(pattern), OccurrenceBitmap.empty(start.toLocalDate()),
+                start.plusDays(2), start.plusDays(4));
+
+        List<LocalDateTime> occurrences = serialExpander.expand(series, start, start.plusDays(5));
+
+        assertEquals(List.of(start, start.plusDays(1), start.plusDays(4), start.plusDays(5)), occurrences);
+        assertTrue(serialExpander.expand(series, start.plusDays(2), start.plusDays(3)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for a series ending before the window")
+    void expand_SeriesEndedBeforeWindow() {
+        RecurrencePattern pattern = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                .interval(1)
+                .endDate(LocalDate.of(2024, 6, 30))
+                .build();
+        RecurrenceWindowExpander.Series series = new RecurrenceWindowExpander.Series(1L,
+                LocalDateTime.of(2024, 1, 1, 9, 0), recurrenceUtil.compile(pattern));
+
+        assertTrue(serialExpander.expand(series, WINDOW_START, WINDOW_END).isEmpty());
+    }
+
+    private List<RecurrenceWindowExpander.Series> randomSeries(int count, Random random) {
+        RecurrencePattern.RecurrenceType[] types = RecurrencePattern.RecurrenceType.values();
+        List<RecurrenceWindowExpander.Series> series = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecurrencePattern.RecurrenceType type = types[random.nextInt(types.length)];
+            RecurrencePattern.RecurrencePatternBuilder pattern = RecurrencePattern.builder()
+                    .recurrenceType(type)
+                    .interval(1 + random.nextInt(3));
+            if (type == RecurrencePattern.RecurrenceType.WEEKLY && random.nextBoolean()) {
+                pattern.daysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.of(1 + random.nextInt(7))));
+            }
+            if (random.nextInt(4) == 0) {
+                pattern.maxOccurrences(1 + random.nextInt(200));
+            }
+            LocalDateTime start = LocalDateTime.of(2024, 1, 1, 8, 0)
+                    .plusDays(random.nextInt(600))
+                    .plusMinutes(15L * random.nextInt(40));
+            series.add(new RecurrenceWindowExpander.Series((long) i, start,
+                    recurrenceUtil.compile(pattern.build())));
+        }
+        return series;
+    }
+}
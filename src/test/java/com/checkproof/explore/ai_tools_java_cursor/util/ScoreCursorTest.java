@@ -0,0 +1,42 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ScoreCursor Tests")
+class ScoreCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip the exact score through an opaque token")
+    void encode_RoundTrip() {
+        ScoreCursor cursor = new ScoreCursor(0.1 + 0.2, 42L);
+
+        String token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, ScoreCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens it did not produce")
+    void decode_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> ScoreCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> ScoreCursor.decode("%%%"));
+    }
+
+    @Test
+    @DisplayName("Should locate its hit among hits in ranking order")
+    void toHit_RankingPosition() {
+        List<InvertedIndex.Hit> hits = List.of(
+                new InvertedIndex.Hit(7, 3.0), new InvertedIndex.Hit(2, 1.5), new InvertedIndex.Hit(5, 1.5));
+
+        ScoreCursor cursor = ScoreCursor.of(hits.get(1));
+
+        assertEquals(1, Collections.binarySearch(hits, cursor.toHit(), InvertedIndex.RANKING));
+    }
+}
@@ -0,0 +1,223 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.model.RecurrencePattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SeriesConflictDetector Tests")
+class SeriesConflictDetectorTest {
+
+    private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    private RecurrenceUtil recurrenceUtil;
+    private RecurrenceWindowExpander expander;
+    private SeriesConflictDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        recurrenceUtil = new RecurrenceUtil();
+        expander = new RecurrenceWindowExpander(recurrenceUtil, 1, 64);
+        detector = new SeriesConflictDetector(expander, recurrenceUtil, 366);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expander.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should find the first meeting of two daily series on the LCM cycle")
+    void firstConflict_DailySeries() {
+        // Every 4 days from Monday and every 6 days from Wednesday meet every 12 days from 2025-01-14
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, daily(4));
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(2), daily(6));
+
+        LocalDateTime conflict = detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1));
+
+        assertEquals(LocalDateTime.of(2025, 1, 14, 9, 0), conflict);
+    }
+
+    @Test
+    @DisplayName("Should never report a conflict between series whose residues cannot meet")
+    void firstConflict_NeverMeets() {
+        // Both every 2 days, one day apart: the difference is always odd
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, daily(2));
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(1), daily(2));
+
+        assertNull(detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should not report a conflict between disjoint weekday masks")
+    void firstConflict_DisjointWeekdays() {
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, weekly(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(1), weekly(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY));
+
+        assertNull(detector.firstConflict(a, Duration.ofHours(2), b, Duration.ofHours(2)));
+    }
+
+    @Test
+    @DisplayName("Should only report overlapping times of day on shared weekdays")
+    void firstConflict_SharedWeekdayDifferentTimes() {
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, weekly(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(4).plusHours(1), weekly(DayOfWeek.FRIDAY));
+
+        assertNull(detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+        assertEquals(LocalDateTime.of(2025, 1, 10, 9, 0),
+                detector.firstConflict(a, Duration.ofMinutes(90), b, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should skip meetings on exceptions of either series")
+    void firstConflict_SkipsExceptions() {
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(2), daily(6));
+        RecurrenceWindowExpander.Series a = new RecurrenceWindowExpander.Series(1L, MONDAY_9AM,
+                recurrenceUtil.compile(daily(4)),
+                OccurrenceBitmap.empty(MONDAY_9AM.toLocalDate()).with(LocalDateTime.of(2025, 1, 14, 9, 0)),
+                null, null);
+
+        LocalDateTime conflict = detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1));
+
+        assertEquals(LocalDateTime.of(2025, 1, 26, 9, 0), conflict);
+    }
+
+    @Test
+    @DisplayName("Should respect the end of a series")
+    void firstConflict_SeriesEnds() {
+        RecurrencePattern ending = daily(4);
+        ending.setEndDate(LocalDate.of(2025, 1, 13));
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, ending);
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(2), daily(6));
+
+        assertNull(detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should fall back to expansion for monthly series")
+    void firstConflict_MonthlyFallback() {
+        RecurrencePattern monthly = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY)
+                .interval(1)
+                .build();
+        RecurrenceWindowExpander.Series a = series(MONDAY_9AM, monthly);
+        RecurrenceWindowExpander.Series b = series(MONDAY_9AM.plusDays(1), weekly(DayOfWeek.TUESDAY));
+
+        // The first 6th of a month falling on a Tuesday
+        assertEquals(LocalDateTime.of(2025, 5, 6, 9, 0),
+                detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should find conflicts inside the stored range of materialized series")
+    void firstConflict_MaterializedSeries() {
+        // Both series are stored as rows until April, and a ends before then
+        RecurrencePattern ending = daily(4);
+        ending.setEndDate(LocalDate.of(2025, 1, 31));
+        LocalDateTime storedUntil = LocalDateTime.of(2025, 4, 6, 0, 0);
+        RecurrenceWindowExpander.Series a = materialized(MONDAY_9AM, ending, storedUntil);
+        RecurrenceWindowExpander.Series b = materialized(MONDAY_9AM.plusDays(2), daily(6), storedUntil);
+
+        LocalDateTime expected = LocalDateTime.of(2025, 1, 14, 9, 0);
+        assertEquals(expected, detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+        assertEquals(expected, detector.firstConflictByExpansion(a, Duration.ofHours(1), b, Duration.ofHours(1),
+                LocalDateTime.of(2026, 1, 1, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Should expand the stored range of materialized series in the fallback")
+    void firstConflict_MaterializedMonthlyFallback() {
+        RecurrencePattern monthly = RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.MONTHLY)
+                .interval(1)
+                .build();
+        LocalDateTime storedUntil = LocalDateTime.of(2025, 6, 1, 0, 0);
+        RecurrenceWindowExpander.Series a = materialized(MONDAY_9AM, monthly, storedUntil);
+        RecurrenceWindowExpander.Series b = materialized(MONDAY_9AM.plusDays(1), weekly(DayOfWeek.TUESDAY), storedUntil);
+
+        assertEquals(LocalDateTime.of(2025, 5, 6, 9, 0),
+                detector.firstConflict(a, Duration.ofHours(1), b, Duration.ofHours(1)));
+    }
+
+    @Test
+    @DisplayName("Should agree with expansion on random regular series")
+    void firstConflict_MatchesExpansion() {
+        Random random = new Random(2025);
+        LocalDateTime until = LocalDateTime.of(2028, 1, 1, 0, 0);
+        int conflicts = 0;
+        for (int round = 0; round < 400; round++) {
+            RecurrenceWindowExpander.Series a = randomSeries(random);
+            RecurrenceWindowExpander.Series b = randomSeries(random);
+            Duration durationA = Duration.ofMinutes(15L * (1 + random.nextInt(16)));
+            Duration durationB = Duration.ofMinutes(15L * (1 + random.nextInt(16)));
+
+            LocalDateTime expected = detector.firstConflictByExpansion(a, durationA, b, durationB, until);
+            LocalDateTime actual = detector.firstConflict(a, durationA, b, durationB);
+
+            assertEquals(expected, actual, () -> "a=" + a + " b=" + b + " durations " + durationA + ", " + durationB);
+            conflicts += expected != null ? 1 : 0;
+        }
+        assertTrue(conflicts > 50, "random series should collide often enough to exercise the solver");
+    }
+
+    private RecurrenceWindowExpander.Series randomSeries(Random random) {
+        RecurrencePattern pattern;
+        switch (random.nextInt(3)) {
+            case 0:
+                pattern = daily(1 + random.nextInt(9));
+                break;
+            case 1:
+                pattern = RecurrencePattern.builder()
+                        .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                        .interval(1 + random.nextInt(3))
+                        .build();
+                break;
+            default:
+                pattern = weekly(DayOfWeek.of(1 + random.nextInt(7)), DayOfWeek.of(1 + random.nextInt(7)));
+        }
+        // Every series ends before the expansion bound so that both searches are exact
+        pattern.setEndDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(700)));
+        if (random.nextInt(4) == 0) {
+            pattern.setMaxOccurrences(1 + random.nextInt(60));
+        }
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 6, 0)
+                .plusDays(random.nextInt(90))
+                .plusMinutes(30L * random.nextInt(24));
+        return series(start, pattern);
+    }
+
+    private RecurrenceWindowExpander.Series series(LocalDateTime start, RecurrencePattern pattern) {
+        return new RecurrenceWindowExpander.Series(1L, start, recurrenceUtil.compile(pattern));
+    }
+
+    private RecurrenceWindowExpander.Series materialized(LocalDateTime start, RecurrencePattern pattern,
+                                                         LocalDateTime storedUntil) {
+        return new RecurrenceWindowExpander.Series(1L, start, recurrenceUtil.compile(pattern),
+                OccurrenceBitmap.empty(start.toLocalDate()), start, storedUntil);
+    }
+
+    private static RecurrencePattern daily(int interval) {
+        return RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.DAILY)
+                .interval(interval)
+                .build();
+    }
+
+    private static RecurrencePattern weekly(DayOfWeek first, DayOfWeek... rest) {
+        return RecurrencePattern.builder()
+                .recurrenceType(RecurrencePattern.RecurrenceType.WEEKLY)
+                .interval(1)
+                .daysOfWeek(EnumSet.of(first, rest))
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.checkproof.explore.ai_tools_java_cursor.util;
+
+import com.checkproof.explore.ai_tools_java_cursor.exception.InvalidTaskException;
+import com.checkproof.explore.ai_tools_java_cursor.model.Participant;
+import com.checkproof.explore.ai_tools_java_cursor.model.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TaskUtil Tests")
+class TaskUtilTest {
+
+    private static final LocalDateTime TOMORROW = LocalDateTime.now().plusDays(1);
+
+    private final TaskUtil taskUtil = new TaskUtil();
+
+    @Test
+    @DisplayName("Should accept a task with a title and a valid date range")
+    void validateTask_Valid() {
+        assertDoesNotThrow(() -> taskUtil.validateTask(task("Plan", TOMORROW, TOMORROW.plusHours(1))));
+        assertDoesNotThrow(() -> taskUtil.validateTask(task("Plan", TOMORROW, null)));
+    }
+
+    @Test
+    @DisplayName("Should reject a missing title or start, an end before the start and a past start")
+    void validateTask_Invalid() {
+        assertThrows(InvalidTaskException.class, () -> taskUtil.validateTask(task(" ", TOMORROW, null)));
+        assertThrows(InvalidTaskException.class, () -> taskUtil.validateTask(task("Plan", null, null)));
+        assertThrows(InvalidTaskException.class, () -> taskUtil.validateTask(task("Plan", TOMORROW, TOMORROW.minusMinutes(1))));
+        assertThrows(InvalidTaskException.class, () -> taskUtil.validateTask(task("Plan", TOMORROW.minusDays(3), null)));
+    }
+
+    @Test
+    @DisplayName("Should collect the ids of stored participants only")
+    void participantIdsOf() {
+        Task task = task("Plan", TOMORROW, null);
+        assertEquals(Set.of(), taskUtil.participantIdsOf(task));
+
+        task.setParticipants(new HashSet<>(Set.of(
+                Participant.builder().id(1L).name("alice").build(),
+                Participant.builder().id(2L).name("bob").build(),
+                Participant.builder().name("new").build())));
+        assertEquals(Set.of(1L, 2L), taskUtil.participantIdsOf(task));
+    }
+
+    private static Task task(String title, LocalDateTime start, LocalDateTime end) {
+        Task task = Task.builder()
+                .title(title)
+                .startDate(start)
+                .endDate(end)
+                .build();
+        task.setParticipants(null);
+        return task;
+    }
+}